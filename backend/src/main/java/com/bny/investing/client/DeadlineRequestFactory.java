@@ -0,0 +1,43 @@
+package com.bny.investing.client;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+// Bounds each call's read timeout by what is left of the caller's RequestDeadline, so an LFD call never
+// outlives the request that made it. Calls made without a deadline keep the configured maximum.
+public class DeadlineRequestFactory implements ClientHttpRequestFactory {
+
+    private final HttpClient httpClient;
+    private final Executor executor;
+    private final Duration maxReadTimeout;
+
+    public DeadlineRequestFactory(HttpClient httpClient, Executor executor, Duration maxReadTimeout) {
+        this.httpClient = httpClient;
+        this.executor = executor;
+        this.maxReadTimeout = maxReadTimeout;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient, executor);
+        factory.setReadTimeout(readTimeout());
+        return factory.createRequest(uri, httpMethod);
+    }
+
+    Duration readTimeout() {
+        Long remainingMs = RequestDeadline.remainingMillis();
+        if (remainingMs == null) {
+            return maxReadTimeout;
+        }
+        Duration remaining = Duration.ofMillis(Math.max(remainingMs, 1));
+        return remaining.compareTo(maxReadTimeout) < 0 ? remaining : maxReadTimeout;
+    }
+}
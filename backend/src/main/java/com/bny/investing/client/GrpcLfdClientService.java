@@ -0,0 +1,385 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.dto.LfdAccountSummariesResponse;
+import com.bny.investing.client.dto.LfdAssetAllocationDto;
+import com.bny.investing.client.dto.LfdConsolidatedHoldingsResponse;
+import com.bny.investing.client.dto.LfdHoldingsResponse;
+import com.bny.investing.client.dto.LfdPortfolioSummaryResponse;
+import com.bny.investing.client.resilience.LfdResilience;
+import com.bny.investing.dto.AccountDto;
+import com.bny.investing.dto.AdvisorSummaryDto;
+import com.bny.investing.dto.ClientDto;
+import com.bny.investing.dto.ConsolidatedHoldingsResponseDto;
+import com.bny.investing.dto.HoldingsQuery;
+import com.bny.investing.dto.HoldingsResponseDto;
+import com.bny.investing.exception.BusinessException;
+import com.bny.investing.exception.ResourceNotFoundException;
+import com.bny.shared.dto.request.HoldingsRequest;
+import com.bny.shared.dto.response.HoldingDto;
+import com.bny.shared.dto.response.HoldingGroupDto;
+import com.bny.shared.dto.response.PortfolioSummaryDto;
+import com.bny.shared.grpc.Account;
+import com.bny.shared.grpc.AccountRequest;
+import com.bny.shared.grpc.AdvisorClientsRequest;
+import com.bny.shared.grpc.AdvisorRequest;
+import com.bny.shared.grpc.AdvisorSummary;
+import com.bny.shared.grpc.CancelRequestMessage;
+import com.bny.shared.grpc.ClientRequest;
+import com.bny.shared.grpc.ConsolidatedHoldings;
+import com.bny.shared.grpc.HoldingsChunk;
+import com.bny.shared.grpc.LfdGrpcHeaders;
+import com.bny.shared.grpc.LfdInternalGrpc;
+import com.bny.shared.grpc.LfdProtoMapper;
+import com.bny.shared.grpc.PortfolioSummary;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.AbstractStub;
+import io.grpc.stub.MetadataUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.bny.shared.grpc.LfdProtoMapper.decimal;
+import static com.bny.shared.grpc.LfdProtoMapper.nullIfEmpty;
+
+@Slf4j
+@Service
+@ConditionalOnExpression("'${app.mock.enabled:true}' == 'false' and '${lfd.client.type:rest}' == 'grpc'")
+@RequiredArgsConstructor
+public class GrpcLfdClientService implements LfdClientService {
+
+    private final ManagedChannel lfdGrpcChannel;
+    private final LfdResilience resilience;
+    private final LfdPayloadMapper payloadMapper;
+
+    @Value("${lfd.api.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${lfd.grpc.call-timeout-ms:30000}")
+    private long callTimeoutMs;
+
+    @Override
+    public List<ClientDto> getAdvisorClients(String advisorId) {
+        Metadata metadata = metadata(advisorId);
+        AdvisorClientsRequest request = AdvisorClientsRequest.newBuilder()
+            .setAdvisorId(advisorId)
+            .setPageSize(maxPageSize)
+            .build();
+
+        List<ClientDto> clients = await("advisor-clients", "Failed to retrieve clients for advisor: " + advisorId, () -> {
+            List<ClientDto> received = new ArrayList<>();
+            blockingStub(metadata).streamAdvisorClients(request).forEachRemaining(client ->
+                received.add(payloadMapper.transformToBackendClientDto(LfdProtoMapper.fromProto(client))));
+            return received;
+        });
+        log.info("Received {} clients from LFD API for advisor: {}", clients.size(), advisorId);
+        return clients;
+    }
+
+    @Override
+    public ClientDto getClientById(String clientId) {
+        Metadata metadata = metadata("advisor-id-placeholder");
+
+        return await("client", "Client not found: " + clientId, () -> payloadMapper.transformToBackendClientDto(
+            LfdProtoMapper.fromProto(blockingStub(metadata).getClient(clientRequest(clientId)))));
+    }
+
+    @Override
+    public List<AccountDto> getClientAccounts(String clientId) {
+        Metadata metadata = metadata("advisor-id-placeholder");
+
+        List<AccountDto> accounts = await("client-accounts", "Client not found: " + clientId, () -> {
+            List<AccountDto> received = new ArrayList<>();
+            blockingStub(metadata).streamClientAccounts(clientRequest(clientId))
+                .forEachRemaining(account -> received.add(toAccountDto(account)));
+            return received;
+        });
+        log.info("Received {} accounts from LFD API for client: {}", accounts.size(), clientId);
+        return accounts;
+    }
+
+    @Override
+    public AccountDto getAccountInfo(String accountId) {
+        Metadata metadata = metadata("advisor-id-placeholder");
+
+        return await("account", "Account not found: " + accountId, () -> toAccountDto(
+            blockingStub(metadata).getAccount(AccountRequest.newBuilder().setAccountId(accountId).build())));
+    }
+
+    @Override
+    public HoldingsResponseDto getAccountHoldings(String accountId, Pageable pageable) {
+        return getAccountHoldings(accountId, pageable, HoldingsQuery.builder().build());
+    }
+
+    @Override
+    public HoldingsResponseDto getAccountHoldings(String accountId, Pageable pageable, HoldingsQuery query) {
+        Metadata metadata = metadata("advisor-id-placeholder");
+        com.bny.shared.grpc.HoldingsQuery request = toHoldingsQuery(payloadMapper.toHoldingsRequest(accountId, pageable, query));
+        AccountRequest accountRequest = AccountRequest.newBuilder().setAccountId(accountId).build();
+
+        return await("holdings", "Account not found: " + accountId, () -> {
+            LfdInternalGrpc.LfdInternalFutureStub futureStub = stub(LfdInternalGrpc.newFutureStub(lfdGrpcChannel), metadata);
+            ListenableFuture<Account> account = futureStub.getAccount(accountRequest);
+            ListenableFuture<PortfolioSummary> summary = futureStub.getPortfolioSummary(accountRequest);
+
+            LfdHoldingsResponse holdings = collectHoldings(blockingStub(metadata).streamHoldings(request));
+
+            return payloadMapper.transformToHoldingsResponseDto(holdings, pageable,
+                toAccountDto(join(account)), payloadMapper.transformToPortfolioSummaryDto(toLfdSummary(join(summary))));
+        });
+    }
+
+    @Override
+    public PortfolioSummaryDto getPortfolioSummary(String accountId) {
+        Metadata metadata = metadata("advisor-id-placeholder");
+
+        return await("portfolio-summary", "Account not found: " + accountId, () -> payloadMapper.transformToPortfolioSummaryDto(
+            toLfdSummary(blockingStub(metadata).getPortfolioSummary(AccountRequest.newBuilder().setAccountId(accountId).build()))));
+    }
+
+    @Override
+    public ConsolidatedHoldingsResponseDto getConsolidatedHoldings(String clientId) {
+        Metadata metadata = metadata(payloadMapper.createHeaders("advisor-id-placeholder", LfdPayloadMapper.BULK));
+
+        return await("consolidated-holdings", "Client not found: " + clientId, () -> {
+            ConsolidatedHoldings body = blockingStub(metadata)
+                .getConsolidatedHoldings(clientRequest(clientId));
+
+            return payloadMapper.transformToConsolidatedHoldingsDto(clientId, LfdConsolidatedHoldingsResponse.builder()
+                .clientId(nullIfEmpty(body.getClientId()))
+                .accountCount(body.getAccountCount())
+                .totalMarketValue(decimal(body.getTotalMarketValue()))
+                .totalCostBasis(decimal(body.getTotalCostBasis()))
+                .totalUnrealizedGainLoss(decimal(body.getTotalUnrealizedGainLoss()))
+                .holdings(body.getHoldingsList().stream().map(LfdProtoMapper::fromProto).collect(Collectors.toList()))
+                .build());
+        });
+    }
+
+    @Override
+    public AdvisorSummaryDto getAdvisorSummary(String advisorId) {
+        Metadata metadata = metadata(advisorId);
+
+        return await("advisor-summary", "Failed to retrieve summary for advisor: " + advisorId, () -> {
+            AdvisorSummary body = blockingStub(metadata)
+                .getAdvisorSummary(AdvisorRequest.newBuilder().setAdvisorId(advisorId).build());
+
+            return payloadMapper.transformToAdvisorSummaryDto(advisorId, LfdAccountSummariesResponse.builder()
+                .advisorId(nullIfEmpty(body.getAdvisorId()))
+                .clientCount(body.getClientCount())
+                .accountCount(body.getAccountCount())
+                .holdingsCount(body.getHoldingsCount())
+                .totalMarketValue(decimal(body.getTotalMarketValue()))
+                .totalCostBasis(decimal(body.getTotalCostBasis()))
+                .totalUnrealizedGainLoss(decimal(body.getTotalUnrealizedGainLoss()))
+                .totalUnrealizedGainLossPercent(decimal(body.getTotalUnrealizedGainLossPercent()))
+                .accounts(body.getAccountsList().stream().map(LfdProtoMapper::fromProto).collect(Collectors.toList()))
+                .build());
+        });
+    }
+
+    @Override
+    public void cancelRequest(String requestId) {
+        try {
+            Metadata metadata = metadata("advisor-id-placeholder");
+            resilience.call("cancel", false, () -> translate(() -> blockingStub(metadata)
+                .cancelRequest(CancelRequestMessage.newBuilder().setRequestId(requestId).build()), "Request not found: " + requestId));
+            log.debug("Cancelled LFD request: {}", requestId);
+        } catch (Exception e) {
+            log.warn("Failed to cancel LFD request {}: {}", requestId, e.getMessage());
+        }
+    }
+
+    private Metadata metadata(String advisorId) {
+        return metadata(payloadMapper.createHeaders(advisorId));
+    }
+
+    private Metadata metadata(HttpHeaders headers) {
+        Metadata metadata = new Metadata();
+        metadata.put(LfdGrpcHeaders.USER_ID, headers.getFirst("X-User-ID"));
+        metadata.put(LfdGrpcHeaders.ADVISOR_ID, headers.getFirst("X-Advisor-ID"));
+        metadata.put(LfdGrpcHeaders.REQUEST_ID, headers.getFirst("X-Request-ID"));
+        metadata.put(LfdGrpcHeaders.TIMESTAMP, headers.getFirst("X-Timestamp"));
+        if (headers.containsKey(LfdPayloadMapper.WORKLOAD_HEADER)) {
+            metadata.put(LfdGrpcHeaders.WORKLOAD_CLASS, headers.getFirst(LfdPayloadMapper.WORKLOAD_HEADER));
+        }
+        return metadata;
+    }
+
+    private LfdInternalGrpc.LfdInternalBlockingStub blockingStub(Metadata metadata) {
+        return stub(LfdInternalGrpc.newBlockingStub(lfdGrpcChannel), metadata);
+    }
+
+    private <S extends AbstractStub<S>> S stub(S stub, Metadata metadata) {
+        String attemptId = InFlightRequestTracker.trackedRequestId();
+        if (attemptId != null && !attemptId.equals(metadata.get(LfdGrpcHeaders.REQUEST_ID))) {
+            Metadata attempt = new Metadata();
+            attempt.merge(metadata);
+            attempt.discardAll(LfdGrpcHeaders.REQUEST_ID);
+            attempt.put(LfdGrpcHeaders.REQUEST_ID, attemptId);
+            metadata = attempt;
+        }
+        Long remainingMs = RequestDeadline.remainingMillis();
+        long timeoutMs = remainingMs != null ? Math.max(Math.min(remainingMs, callTimeoutMs), 1) : callTimeoutMs;
+        return stub
+            .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadata))
+            .withDeadlineAfter(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private <T> T await(String endpoint, String notFoundMessage, Supplier<T> call) {
+        try {
+            return resilience.call(endpoint, true, () -> translate(() -> {
+                Context.CancellableContext scope = Context.current().withCancellation();
+                try {
+                    return scope.call(call::get);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    scope.cancel(null);
+                }
+            }, notFoundMessage), this::cancelRequest);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error calling LFD API for {}: {}", endpoint, e.getMessage(), e);
+            throw new ResourceNotFoundException(notFoundMessage);
+        }
+    }
+
+    private <T> T translate(Supplier<T> call, String notFoundMessage) {
+        try {
+            return call.get();
+        } catch (StatusRuntimeException e) {
+            switch (e.getStatus().getCode()) {
+                case NOT_FOUND, INVALID_ARGUMENT, UNAUTHENTICATED, PERMISSION_DENIED, FAILED_PRECONDITION -> {
+                    log.error("Error calling LFD API: {}", e.getStatus());
+                    throw new ResourceNotFoundException(notFoundMessage + " - gRPC " + e.getStatus().getCode());
+                }
+                case DEADLINE_EXCEEDED -> throw new BusinessException("Request deadline exceeded waiting for LFD API",
+                    HttpStatus.GATEWAY_TIMEOUT, "DEADLINE_EXCEEDED");
+                case UNAVAILABLE -> throw unavailable(e);
+                default -> throw new ResourceAccessException("gRPC error calling LFD API: " + e.getStatus());
+            }
+        }
+    }
+
+    // A load-shed call carries retry-after in its trailers; surface it the way the REST transport does
+    private RuntimeException unavailable(StatusRuntimeException e) {
+        String retryAfter = e.getTrailers() != null ? e.getTrailers().get(LfdGrpcHeaders.RETRY_AFTER) : null;
+        if (retryAfter == null) {
+            return new ResourceAccessException("gRPC error calling LFD API: " + e.getStatus());
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return HttpServerErrorException.create("LFD API shed the call: " + e.getStatus().getDescription(),
+            HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", headers, null, null);
+    }
+
+        private <T> T join(ListenableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted waiting for LFD API");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ResourceAccessException("gRPC error calling LFD API: " + e.getCause());
+        }
+    }
+
+    private com.bny.shared.grpc.HoldingsQuery toHoldingsQuery(HoldingsRequest request) {
+        com.bny.shared.grpc.HoldingsQuery.Builder builder = com.bny.shared.grpc.HoldingsQuery.newBuilder()
+            .setAccountId(request.getAccountId())
+            .setPageOffset(request.getPageOffset())
+            .setPageSize(request.getPageSize());
+        if (request.getAssetClasses() != null) {
+            builder.addAllAssetClasses(request.getAssetClasses());
+        }
+        if (request.getSortField() != null) {
+            builder.setSortField(request.getSortField());
+        }
+        if (request.getSortDirection() != null) {
+            builder.setSortDirection(request.getSortDirection());
+        }
+        if (request.getGroupBy() != null) {
+            builder.setGroupBy(request.getGroupBy());
+        }
+        return builder.build();
+    }
+
+    private LfdHoldingsResponse collectHoldings(Iterator<HoldingsChunk> chunks) {
+        LfdHoldingsResponse response = new LfdHoldingsResponse();
+        List<HoldingDto> holdings = new ArrayList<>();
+        List<HoldingGroupDto> groups = new ArrayList<>();
+        boolean grouped = false;
+        while (chunks.hasNext()) {
+            HoldingsChunk chunk = chunks.next();
+            switch (chunk.getPayloadCase()) {
+                case HEADER -> {
+                    response.setTotalCount(chunk.getHeader().getTotalCount());
+                    response.setPageOffset(chunk.getHeader().getPageOffset());
+                    response.setPageSize(chunk.getHeader().getPageSize());
+                    grouped = chunk.getHeader().getGrouped();
+                }
+                case HOLDING -> holdings.add(LfdProtoMapper.fromProto(chunk.getHolding()));
+                case GROUP -> groups.add(LfdProtoMapper.fromProto(chunk.getGroup()));
+                default -> log.warn("Ignoring empty holdings chunk");
+            }
+        }
+        response.setHoldings(holdings);
+        response.setGroups(grouped ? groups : null);
+        return response;
+    }
+
+    private static ClientRequest clientRequest(String clientId) {
+        return ClientRequest.newBuilder().setClientId(clientId).build();
+    }
+
+    private AccountDto toAccountDto(Account account) {
+        return payloadMapper.transformToBackendAccountDto(LfdProtoMapper.fromProto(account));
+    }
+
+    private LfdPortfolioSummaryResponse toLfdSummary(PortfolioSummary summary) {
+        return LfdPortfolioSummaryResponse.builder()
+            .accountId(nullIfEmpty(summary.getAccountId()))
+            .totalMarketValue(decimal(summary.getTotalMarketValue()))
+            .totalCostBasis(decimal(summary.getTotalCostBasis()))
+            .totalUnrealizedGainLoss(decimal(summary.getTotalUnrealizedGainLoss()))
+            .totalUnrealizedGainLossPercent(decimal(summary.getTotalUnrealizedGainLossPercent()))
+            .portfolioBeta(decimal(summary.getPortfolioBeta()))
+            .annualDividendYield(decimal(summary.getAnnualDividendYield()))
+            .holdingsCount(summary.getHoldingsCount())
+            .assetAllocation(summary.getAssetAllocationList().stream()
+                .map(allocation -> LfdAssetAllocationDto.builder()
+                    .assetClass(nullIfEmpty(allocation.getAssetClass()))
+                    .marketValue(decimal(allocation.getMarketValue()))
+                    .percentage(decimal(allocation.getPercentage()))
+                    .holdingsCount(allocation.getHoldingsCount())
+                    .build())
+                .collect(Collectors.toList()))
+            .build();
+    }
+}
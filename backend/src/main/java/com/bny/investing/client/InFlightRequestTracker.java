@@ -0,0 +1,186 @@
+package com.bny.investing.client;
+
+import com.bny.investing.exception.BusinessException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class InFlightRequestTracker {
+
+    public static final String SESSION_HEADER = "X-Session-ID";
+
+    private static final ThreadLocal<String> CURRENT_REQUEST_ID = new ThreadLocal<>();
+    private static final ThreadLocal<InFlightRequest> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private final Map<String, InFlightRequest> inFlight = new ConcurrentHashMap<>();
+
+    public static String currentRequestId() {
+        String requestId = CURRENT_REQUEST_ID.get();
+        return requestId != null ? requestId : UUID.randomUUID().toString();
+    }
+
+    public static String trackedRequestId() {
+        return CURRENT_REQUEST_ID.get();
+    }
+
+    public static void bindRequestId(String requestId) {
+        if (requestId != null) {
+            CURRENT_REQUEST_ID.set(requestId);
+        }
+    }
+
+    public static void unbindRequestId() {
+        CURRENT_REQUEST_ID.remove();
+    }
+
+    // A newer call for the same view from the same browser session supersedes the older one, whatever it was
+    // for: the user has moved on. Calls without a session header supersede nothing, but every call is tracked
+    // so that a client that goes away cancels it
+    public <T> T track(String view, String subject, Supplier<T> call, Consumer<String> remoteCancel) {
+        InFlightRequest request = new InFlightRequest(UUID.randomUUID().toString(), Thread.currentThread(), remoteCancel);
+        HttpServletRequest servletRequest = currentServletRequest();
+        String session = servletRequest != null ? servletRequest.getHeader(SESSION_HEADER) : null;
+        String key = session != null && !session.isBlank()
+            ? view + ":" + session
+            : view + ":" + request.requestId;
+
+        InFlightRequest superseded = inFlight.put(key, request);
+        if (superseded != null) {
+            log.debug("Cancelling superseded request {} for {} {}", superseded.requestId, key, subject);
+            superseded.cancel(Cancellation.SUPERSEDED);
+        }
+        if (servletRequest != null && servletRequest.isAsyncStarted()) {
+            servletRequest.getAsyncContext().addListener(new CancelOnDisconnect(request));
+        }
+
+        CURRENT_REQUEST_ID.set(request.requestId);
+        CURRENT_REQUEST.set(request);
+        try {
+            T result = call.get();
+            request.finish();
+            if (request.cancellation != null) {
+                throw cancelled(request.cancellation, view, subject);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            request.finish();
+            if (request.cancellation != null) {
+                throw cancelled(request.cancellation, view, subject);
+            }
+            throw e;
+        } finally {
+            CURRENT_REQUEST_ID.remove();
+            CURRENT_REQUEST.remove();
+            inFlight.remove(key, request);
+            if (request.cancellation != null) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    // Called when writing to the client fails: the LFD call behind the current request has no one to answer
+    public static void clientDisconnected() {
+        InFlightRequest request = CURRENT_REQUEST.get();
+        if (request != null) {
+            log.debug("Client went away, cancelling request {}", request.requestId);
+            request.cancel(Cancellation.DISCONNECTED);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static HttpServletRequest currentServletRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+            ? attributes.getRequest()
+            : null;
+    }
+
+    private BusinessException cancelled(Cancellation cancellation, String view, String subject) {
+        return cancellation == Cancellation.SUPERSEDED
+            ? new BusinessException("Request superseded by a newer " + view + " request for " + subject,
+                HttpStatus.CONFLICT, "REQUEST_SUPERSEDED")
+            : new BusinessException("Client disconnected before the " + view + " request for " + subject + " finished",
+                HttpStatus.BAD_REQUEST, "CLIENT_DISCONNECTED");
+    }
+
+    private enum Cancellation {
+        SUPERSEDED, DISCONNECTED
+    }
+
+    // An async request that errors or times out has lost its client
+    private static class CancelOnDisconnect implements AsyncListener {
+        private final InFlightRequest request;
+
+        private CancelOnDisconnect(InFlightRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            request.cancel(Cancellation.DISCONNECTED);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            request.cancel(Cancellation.DISCONNECTED);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            request.cancel(Cancellation.DISCONNECTED);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    private static class InFlightRequest {
+        private final String requestId;
+        private final Thread thread;
+        private final Consumer<String> remoteCancel;
+        private boolean finished;
+        private volatile Cancellation cancellation;
+
+        private InFlightRequest(String requestId, Thread thread, Consumer<String> remoteCancel) {
+            this.requestId = requestId;
+            this.thread = thread;
+            this.remoteCancel = remoteCancel;
+        }
+
+        private void cancel(Cancellation reason) {
+            synchronized (this) {
+                if (finished || cancellation != null) {
+                    return;
+                }
+                cancellation = reason;
+                if (thread != Thread.currentThread()) {
+                    thread.interrupt();
+                }
+            }
+            if (remoteCancel != null) {
+                CompletableFuture.runAsync(() -> remoteCancel.accept(requestId));
+            }
+        }
+
+        private synchronized void finish() {
+            finished = true;
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.bny.investing.client;
 
+import com.bny.investing.client.dto.LfdChangeBatch;
 import com.bny.investing.dto.AccountDto;
+import com.bny.investing.dto.AdvisorSummaryDto;
 import com.bny.investing.dto.ClientDto;
+import com.bny.investing.dto.ConsolidatedHoldingsResponseDto;
+import com.bny.investing.dto.HoldingDto;
+import com.bny.investing.dto.HoldingsQuery;
 import com.bny.investing.dto.HoldingsResponseDto;
 import com.bny.shared.dto.response.PortfolioSummaryDto;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface LfdClientService {
     List<ClientDto> getAdvisorClients(String advisorId);
@@ -14,5 +20,35 @@ public interface LfdClientService {
     List<AccountDto> getClientAccounts(String clientId);
     AccountDto getAccountInfo(String accountId);
     HoldingsResponseDto getAccountHoldings(String accountId, Pageable pageable);
+    HoldingsResponseDto getAccountHoldings(String accountId, Pageable pageable, HoldingsQuery query);
+    
+    // Hands each page row to the consumer and returns everything else with an empty holdings list
+    default HoldingsResponseDto streamAccountHoldings(String accountId, Pageable pageable, HoldingsQuery query,
+            Consumer<HoldingDto> rows) {
+        HoldingsResponseDto response = getAccountHoldings(accountId, pageable, query);
+        if (response.getHoldings() != null) {
+            response.getHoldings().forEach(rows);
+        }
+        response.setHoldings(List.of());
+        return response;
+    }
+    
+    // Body already rendered by LFD in the public response shape, or null when the caller has to map it itself
+    default byte[] getAdvisorClientsPassThrough(String advisorId, int page, int size) {
+        return null;
+    }
+    
+    default byte[] getConsolidatedHoldingsPassThrough(String clientId) {
+        return null;
+    }
+    
+    // Next page of LFD's change feed after the cursor (from its head when null), or null when there is no feed
+    default LfdChangeBatch getChanges(String cursor, int limit) {
+        return null;
+    }
+    
     PortfolioSummaryDto getPortfolioSummary(String accountId);
+    ConsolidatedHoldingsResponseDto getConsolidatedHoldings(String clientId);
+    AdvisorSummaryDto getAdvisorSummary(String advisorId);
+    void cancelRequest(String requestId);
 }
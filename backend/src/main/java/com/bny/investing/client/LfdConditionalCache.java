@@ -0,0 +1,63 @@
+package com.bny.investing.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class LfdConditionalCache {
+
+    private final Map<String, Entry<?>> entries;
+
+    public LfdConditionalCache(@Value("${lfd.client.conditional-cache.max-entries:1000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<?>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public <T> Entry<T> get(String key, Class<T> type) {
+        Entry<?> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null || !type.isInstance(entry.body)) {
+            return null;
+        }
+        return new Entry<>(entry.etag, type.cast(entry.body));
+    }
+
+    public void put(String key, String etag, Object body) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(etag, body));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public static final class Entry<T> {
+        private final String etag;
+        private final T body;
+
+        public Entry(String etag, T body) {
+            this.etag = etag;
+            this.body = body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public T getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.dto.LfdHoldingsResponse;
+import com.bny.shared.dto.response.HoldingDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+final class LfdHoldingsStreamReader {
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json()
+        .modulesToInstall(new BlackbirdModule())
+        .build();
+    private static final ObjectReader HOLDING_READER = OBJECT_MAPPER.readerFor(HoldingDto.class);
+
+    private LfdHoldingsStreamReader() {
+    }
+
+    // Each element of "holdings" is handed on as soon as it is parsed; the remaining fields form the returned trailer
+    static LfdHoldingsResponse read(InputStream body, Consumer<HoldingDto> rows) throws IOException {
+        try (JsonParser parser = OBJECT_MAPPER.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected LFD holdings stream: " + parser.currentToken());
+            }
+            ObjectNode trailer = OBJECT_MAPPER.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && field.equals("holdings")) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        rows.accept(HOLDING_READER.readValue(parser));
+                    }
+                } else {
+                    trailer.set(field, parser.readValueAsTree());
+                }
+            }
+            return OBJECT_MAPPER.treeToValue(trailer, LfdHoldingsResponse.class);
+        }
+    }
+}
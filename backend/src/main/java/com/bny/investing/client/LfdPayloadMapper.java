@@ -0,0 +1,329 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.dto.LfdAccountSummariesResponse;
+import com.bny.investing.client.dto.LfdConsolidatedHoldingsResponse;
+import com.bny.investing.client.dto.LfdHoldingsResponse;
+import com.bny.investing.client.dto.LfdPortfolioSummaryResponse;
+import com.bny.investing.dto.AccountDto;
+import com.bny.investing.dto.AdvisorSummaryDto;
+import com.bny.investing.dto.ClientDto;
+import com.bny.investing.dto.ConsolidatedHoldingsResponseDto;
+import com.bny.investing.dto.HoldingDto;
+import com.bny.investing.dto.HoldingGroupDto;
+import com.bny.investing.dto.HoldingsQuery;
+import com.bny.investing.dto.HoldingsResponseDto;
+import com.bny.investing.exception.BusinessException;
+import com.bny.investing.model.ActivityStatus;
+import com.bny.investing.model.RiskProfile;
+import com.bny.shared.dto.request.HoldingsRequest;
+import com.bny.shared.dto.response.PortfolioSummaryDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class LfdPayloadMapper {
+    
+    public static final String WORKLOAD_HEADER = "X-Workload-Class";
+    public static final String BULK = "bulk";
+    public static final String BACKGROUND = "background";
+    
+    // Bulk and background calls are admitted by LFD only within what is left after its interactive reserve
+    public HttpHeaders createHeaders(String advisorId, String workloadClass) {
+        HttpHeaders headers = createHeaders(advisorId);
+        headers.set(WORKLOAD_HEADER, workloadClass);
+        return headers;
+    }
+    
+    public HttpHeaders createHeaders(String advisorId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-User-ID", "integration-test-user");
+        headers.set("X-Advisor-ID", advisorId);
+        headers.set("X-Request-ID", InFlightRequestTracker.currentRequestId());
+        headers.set("X-Timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        Long remainingMs = RequestDeadline.remainingMillis();
+        if (remainingMs != null) {
+            if (remainingMs <= 0) {
+                throw new BusinessException("Request deadline exceeded before calling LFD API",
+                    HttpStatus.GATEWAY_TIMEOUT, "DEADLINE_EXCEEDED");
+            }
+            RequestDeadline.stamp(headers, remainingMs);
+        }
+        return headers;
+    }
+    
+    public List<ClientDto> transformToBackendClientDtos(List<com.bny.shared.dto.response.ClientDto> sharedClients) {
+        if (sharedClients == null) {
+            return List.of();
+        }
+        
+        return sharedClients.stream()
+            .map(this::transformToBackendClientDto)
+            .collect(Collectors.toList());
+    }
+    
+    public ClientDto transformToBackendClientDto(com.bny.shared.dto.response.ClientDto sharedClient) {
+        List<AccountDto> backendAccounts = new ArrayList<>();
+        if (sharedClient.getAccounts() != null) {
+            backendAccounts = sharedClient.getAccounts().stream()
+                .map(this::transformToBackendAccountDto)
+                .collect(Collectors.toList());
+        }
+        
+        return ClientDto.builder()
+            .clientId(sharedClient.getClientId())
+            .clientName(sharedClient.getClientName())
+            .advisorId(sharedClient.getAdvisorId())
+            .advisorName(sharedClient.getAdvisorName())
+            .totalMarketValue(sharedClient.getTotalMarketValue())
+            .taxId(sharedClient.getTaxId())
+            .riskProfile(parseRiskProfile(sharedClient.getRiskProfile()))
+            .activityStatus(parseActivityStatus(sharedClient.getActivityStatus()))
+            .lastAccessed(sharedClient.getLastAccessed())
+            .lastUpdated(sharedClient.getLastUpdated())
+            .accounts(backendAccounts)
+            .build();
+    }
+    
+    public AccountDto transformToBackendAccountDto(com.bny.shared.dto.response.AccountDto sharedAccount) {
+        return AccountDto.builder()
+            .accountId(sharedAccount.getAccountId())
+            .accountNumber(sharedAccount.getAccountNumber())
+            .accountType(parseAccountType(sharedAccount.getAccountType()))
+            .clientId(sharedAccount.getClientId())
+            .clientName(sharedAccount.getClientName())
+            .marketValue(sharedAccount.getMarketValue())
+            .cashBalance(sharedAccount.getCashBalance())
+            .ytdPerformance(sharedAccount.getYtdPerformance())
+            .lastActivity(sharedAccount.getLastUpdated())
+            .build();
+    }
+    
+    private RiskProfile parseRiskProfile(String riskProfileStr) {
+        if (riskProfileStr == null) {
+            return null;
+        }
+        try {
+            return RiskProfile.valueOf(riskProfileStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid risk profile value: {}", riskProfileStr);
+            return null;
+        }
+    }
+    
+    private ActivityStatus parseActivityStatus(String activityStatusStr) {
+        if (activityStatusStr == null) {
+            return null;
+        }
+        try {
+            return ActivityStatus.valueOf(activityStatusStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid activity status value: {}", activityStatusStr);
+            return null;
+        }
+    }
+    
+    private com.bny.investing.model.AssetClass parseAssetClass(String assetClassStr) {
+        if (assetClassStr == null) {
+            return null;
+        }
+        try {
+            return com.bny.investing.model.AssetClass.valueOf(assetClassStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid asset class value: {}", assetClassStr);
+            return null;
+        }
+    }
+    
+    private com.bny.investing.model.AccountType parseAccountType(com.bny.shared.enums.AccountType accountType) {
+        if (accountType == null) {
+            return null;
+        }
+        try {
+            return com.bny.investing.model.AccountType.valueOf(accountType.name());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid account type value: {}", accountType);
+            return null;
+        }
+    }
+    
+    public HoldingsRequest toHoldingsRequest(String accountId, Pageable pageable, HoldingsQuery query) {
+        HoldingsRequest request = new HoldingsRequest();
+        request.setAccountId(accountId);
+        request.setPageOffset((int) pageable.getOffset());
+        request.setPageSize(pageable.getPageSize());
+        if (query.getAssetClasses() != null && !query.getAssetClasses().isEmpty()) {
+            request.setAssetClasses(query.getAssetClasses().stream()
+                .map(Enum::name)
+                .collect(Collectors.toList()));
+        }
+        if (query.getSortBy() != null) {
+            request.setSortField(query.getSortBy().name());
+        }
+        if (query.getSortDirection() != null) {
+            request.setSortDirection(query.getSortDirection().name());
+        }
+        if (query.getGroupBy() != null) {
+            request.setGroupBy(query.getGroupBy().name());
+        }
+        request.setSince(query.getSince());
+        return request;
+    }
+    
+    public HoldingsResponseDto emptyHoldingsResponse(Pageable pageable) {
+        return HoldingsResponseDto.builder()
+            .holdings(List.of())
+            .page(pageable.getPageNumber())
+            .size(pageable.getPageSize())
+            .totalElements(0)
+            .totalPages(0)
+            .build();
+    }
+    
+    public HoldingsResponseDto transformToHoldingsResponseDto(LfdHoldingsResponse lfdResponse, Pageable pageable,
+            AccountDto accountInfo, PortfolioSummaryDto summary) {
+        List<HoldingDto> backendHoldings = transformToBackendHoldingDtos(lfdResponse.getHoldings());
+        
+        int totalElements = lfdResponse.getTotalCount() != null ? lfdResponse.getTotalCount() : 0;
+        int totalPages = pageable.getPageSize() > 0 
+            ? (int) Math.ceil((double) totalElements / pageable.getPageSize()) 
+            : 0;
+        
+        return HoldingsResponseDto.builder()
+            .accountInfo(accountInfo)
+            .summary(summary)
+            .holdings(backendHoldings)
+            .groups(transformToBackendHoldingGroupDtos(lfdResponse.getGroups()))
+            .page(pageable.getPageNumber())
+            .size(pageable.getPageSize())
+            .totalElements(totalElements)
+            .totalPages(totalPages)
+            .dataVersion(lfdResponse.getDataVersion())
+            .delta(Boolean.TRUE.equals(lfdResponse.getDelta()))
+            .holdingIds(lfdResponse.getHoldingIds())
+            .totalMarketValue(lfdResponse.getTotalMarketValue())
+            .totalCostBasis(lfdResponse.getTotalCostBasis())
+            .build();
+    }
+    
+    public ConsolidatedHoldingsResponseDto transformToConsolidatedHoldingsDto(
+            String clientId, LfdConsolidatedHoldingsResponse body) {
+        if (body == null) {
+            return ConsolidatedHoldingsResponseDto.builder()
+                .clientId(clientId)
+                .holdings(List.of())
+                .build();
+        }
+        
+        return ConsolidatedHoldingsResponseDto.builder()
+            .clientId(clientId)
+            .accountCount(body.getAccountCount() != null ? body.getAccountCount() : 0)
+            .totalMarketValue(body.getTotalMarketValue())
+            .totalCostBasis(body.getTotalCostBasis())
+            .totalUnrealizedGainLoss(body.getTotalUnrealizedGainLoss())
+            .holdings(body.getHoldings() != null ? body.getHoldings() : List.of())
+            .build();
+    }
+    
+    public AdvisorSummaryDto transformToAdvisorSummaryDto(String advisorId, LfdAccountSummariesResponse body) {
+        if (body == null) {
+            return AdvisorSummaryDto.builder()
+                .advisorId(advisorId)
+                .accounts(List.of())
+                .build();
+        }
+        
+        return AdvisorSummaryDto.builder()
+            .advisorId(advisorId)
+            .clientCount(body.getClientCount() != null ? body.getClientCount() : 0)
+            .accountCount(body.getAccountCount() != null ? body.getAccountCount() : 0)
+            .holdingsCount(body.getHoldingsCount() != null ? body.getHoldingsCount() : 0)
+            .totalMarketValue(body.getTotalMarketValue())
+            .totalCostBasis(body.getTotalCostBasis())
+            .totalUnrealizedGainLoss(body.getTotalUnrealizedGainLoss())
+            .totalUnrealizedGainLossPercent(body.getTotalUnrealizedGainLossPercent())
+            .accounts(body.getAccounts() != null ? body.getAccounts() : List.of())
+            .build();
+    }
+    
+    private List<HoldingDto> transformToBackendHoldingDtos(
+            List<com.bny.shared.dto.response.HoldingDto> sharedHoldings) {
+        if (sharedHoldings == null) {
+            return List.of();
+        }
+        
+        return sharedHoldings.stream()
+            .map(this::transformToBackendHoldingDto)
+            .collect(Collectors.toList());
+    }
+    
+    private List<HoldingGroupDto> transformToBackendHoldingGroupDtos(
+            List<com.bny.shared.dto.response.HoldingGroupDto> sharedGroups) {
+        if (sharedGroups == null) {
+            return null;
+        }
+        
+        return sharedGroups.stream()
+            .map(group -> HoldingGroupDto.builder()
+                .groupKey(group.getGroupKey())
+                .holdingsCount(group.getHoldingsCount() != null ? group.getHoldingsCount() : 0)
+                .marketValue(group.getMarketValue())
+                .costBasis(group.getCostBasis())
+                .unrealizedGainLoss(group.getUnrealizedGainLoss())
+                .unrealizedGainLossPercent(group.getUnrealizedGainLossPercent())
+                .weight(group.getWeight())
+                .holdings(transformToBackendHoldingDtos(group.getHoldings()))
+                .build())
+            .collect(Collectors.toList());
+    }
+    
+    public HoldingDto transformToBackendHoldingDto(com.bny.shared.dto.response.HoldingDto sharedHolding) {
+        return HoldingDto.builder()
+            .holdingId(sharedHolding.getHoldingId())
+            .symbol(sharedHolding.getSymbol())
+            .securityName(sharedHolding.getSecurityName())
+            .quantity(sharedHolding.getQuantity())
+            .currentPrice(sharedHolding.getCurrentPrice())
+            .priceChange(sharedHolding.getPriceChange())
+            .priceChangePercent(sharedHolding.getPriceChangePercent())
+            .costBasis(sharedHolding.getCostBasis())
+            .totalCost(sharedHolding.getTotalCost())
+            .marketValue(sharedHolding.getMarketValue())
+            .unrealizedGainLoss(sharedHolding.getUnrealizedGainLoss())
+            .unrealizedGainLossPercent(sharedHolding.getUnrealizedGainLossPercent())
+            .portfolioPercent(sharedHolding.getPortfolioPercent())
+            .sector(sharedHolding.getSector())
+            .assetClass(parseAssetClass(sharedHolding.getAssetClass()))
+            .hasAlerts(sharedHolding.getHasAlerts() != null ? sharedHolding.getHasAlerts() : false)
+            .taxLotCount(sharedHolding.getTaxLotCount() != null ? sharedHolding.getTaxLotCount() : 1)
+            .build();
+    }
+    
+    public PortfolioSummaryDto transformToPortfolioSummaryDto(LfdPortfolioSummaryResponse lfdResponse) {
+        if (lfdResponse == null) {
+            return PortfolioSummaryDto.builder().build();
+        }
+        
+        return PortfolioSummaryDto.builder()
+            .totalMarketValue(lfdResponse.getTotalMarketValue())
+            .totalCostBasis(lfdResponse.getTotalCostBasis())
+            .totalUnrealizedGainLoss(lfdResponse.getTotalUnrealizedGainLoss())
+            .totalUnrealizedGainLossPercent(lfdResponse.getTotalUnrealizedGainLossPercent())
+            .numberOfHoldings(lfdResponse.getHoldingsCount())
+            .portfolioBeta(lfdResponse.getPortfolioBeta())
+            .dividendYield(lfdResponse.getAnnualDividendYield())
+            .asOfDate(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.bny.investing.client;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+public class LfdWireInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private static final Pattern ID_SEGMENT = Pattern.compile("/internal/(accounts|advisors|clients|requests)/[^/]+");
+
+    private final MeterRegistry meterRegistry;
+    private final boolean compressionEnabled;
+    private final boolean smileEnabled;
+
+    public LfdWireInterceptor(MeterRegistry meterRegistry, boolean compressionEnabled, boolean smileEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.compressionEnabled = compressionEnabled;
+        this.smileEnabled = smileEnabled;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (compressionEnabled) {
+            request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+        if (smileEnabled) {
+            request.getHeaders().setAccept(List.of(APPLICATION_SMILE, MediaType.APPLICATION_JSON));
+        }
+        // Hedged attempts share one set of headers; the id bound to the sending thread is the attempt's own
+        String attemptId = InFlightRequestTracker.trackedRequestId();
+        if (attemptId != null) {
+            request.getHeaders().set("X-Request-ID", attemptId);
+        }
+        // Headers can be built well before the call goes out (hedges, retries), so the budget is restamped here
+        Long remainingMs = RequestDeadline.remainingMillis();
+        if (remainingMs != null && request.getHeaders().containsKey(RequestDeadline.TIMEOUT_HEADER)) {
+            RequestDeadline.stamp(request.getHeaders(), Math.max(remainingMs, 0));
+        }
+        String endpoint = request.getMethod().name() + " " + endpoint(request.getURI().getPath());
+        return new MeteredResponse(execution.execute(request, body), endpoint);
+    }
+
+    private static String endpoint(String path) {
+        return ID_SEGMENT.matcher(path).replaceAll("/internal/$1/{id}");
+    }
+
+    private class MeteredResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final String endpoint;
+        private final boolean gzipped;
+        private final HttpHeaders headers;
+        private CountingInputStream wire;
+        private CountingInputStream decoded;
+
+        MeteredResponse(ClientHttpResponse delegate, String endpoint) {
+            this.delegate = delegate;
+            this.endpoint = endpoint;
+            HttpHeaders original = delegate.getHeaders();
+            this.gzipped = "gzip".equalsIgnoreCase(original.getFirst(HttpHeaders.CONTENT_ENCODING));
+            if (gzipped) {
+                headers = new HttpHeaders();
+                headers.putAll(original);
+                headers.remove(HttpHeaders.CONTENT_ENCODING);
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+            } else {
+                headers = original;
+            }
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (decoded == null) {
+                wire = new CountingInputStream(delegate.getBody());
+                decoded = gzipped ? new CountingInputStream(new GZIPInputStream(wire)) : wire;
+            }
+            return decoded;
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (decoded != null) {
+                    drainRemaining();
+                    record();
+                }
+            } finally {
+                delegate.close();
+            }
+        }
+
+        private void drainRemaining() {
+            try {
+                StreamUtils.drain(decoded);
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void record() {
+            MediaType contentType = headers.getContentType();
+            String format = contentType != null ? contentType.getSubtype() : "none";
+            String encoding = gzipped ? "gzip" : "identity";
+            summary("lfd.client.response.wire.bytes", format, encoding).record(wire.count);
+            summary("lfd.client.response.decoded.bytes", format, encoding).record(decoded.count);
+        }
+
+        private DistributionSummary summary(String name, String format, String encoding) {
+            return DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .tag("format", format)
+                .tag("encoding", encoding)
+                .register(meterRegistry);
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -2,15 +2,22 @@ package com.bny.investing.client;
 
 import com.bny.investing.dto.*;
 import com.bny.investing.exception.ResourceNotFoundException;
+import com.bny.shared.dto.response.AccountPositionDto;
+import com.bny.shared.dto.response.AccountSummaryDto;
+import com.bny.shared.dto.response.ConsolidatedHoldingDto;
 import com.bny.shared.dto.response.PortfolioSummaryDto;
 import com.bny.investing.model.AccountType;
 import com.bny.investing.model.AssetClass;
+import com.bny.investing.model.HoldingsGroupField;
+import com.bny.investing.model.HoldingsSortField;
 import com.bny.investing.model.RiskProfile;
+import com.bny.investing.model.SortDirection;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -168,26 +175,100 @@ public class MockLfdClientService implements LfdClientService {
 
     @Override
     public HoldingsResponseDto getAccountHoldings(String accountId, Pageable pageable) {
+        return getAccountHoldings(accountId, pageable, HoldingsQuery.builder().build());
+    }
+    
+    @Override
+    public HoldingsResponseDto getAccountHoldings(String accountId, Pageable pageable, HoldingsQuery query) {
         List<HoldingDto> allHoldings = generateMockHoldings(accountId);
         
-        int start = pageable.getPageNumber() * pageable.getPageSize();
-        int end = Math.min(start + pageable.getPageSize(), allHoldings.size());
-        List<HoldingDto> pagedHoldings = allHoldings.subList(start, end);
+        List<HoldingDto> filteredHoldings = allHoldings.stream()
+                .filter(holding -> query.getAssetClasses() == null || query.getAssetClasses().isEmpty()
+                        || query.getAssetClasses().contains(holding.getAssetClass()))
+                .sorted(holdingsComparator(query))
+                .collect(Collectors.toList());
         
         AccountDto accountInfo = getAccountInfo(accountId);
         PortfolioSummaryDto summary = calculatePortfolioSummary(allHoldings);
         
+        List<HoldingDto> pagedHoldings;
+        List<HoldingGroupDto> groups = null;
+        if (query.getGroupBy() != null) {
+            pagedHoldings = List.of();
+            groups = groupHoldings(filteredHoldings, query.getGroupBy(), pageable, summary.getTotalMarketValue());
+        } else {
+            int start = (int) Math.min(pageable.getOffset(), filteredHoldings.size());
+            int end = Math.min(start + pageable.getPageSize(), filteredHoldings.size());
+            pagedHoldings = filteredHoldings.subList(start, end);
+        }
+        
         return HoldingsResponseDto.builder()
                 .accountInfo(accountInfo)
                 .summary(summary)
                 .holdings(pagedHoldings)
+                .groups(groups)
                 .page(pageable.getPageNumber())
                 .size(pageable.getPageSize())
-                .totalElements(allHoldings.size())
-                .totalPages((int) Math.ceil((double) allHoldings.size() / pageable.getPageSize()))
+                .totalElements(filteredHoldings.size())
+                .totalPages((int) Math.ceil((double) filteredHoldings.size() / pageable.getPageSize()))
                 .build();
     }
     
+    private List<HoldingGroupDto> groupHoldings(List<HoldingDto> holdings, HoldingsGroupField groupBy,
+                                               Pageable pageable, BigDecimal totalMarketValue) {
+        Map<String, List<HoldingDto>> byGroup = holdings.stream()
+                .collect(Collectors.groupingBy(
+                        holding -> groupBy == HoldingsGroupField.SECTOR
+                                ? Objects.toString(holding.getSector(), "Unclassified")
+                                : Objects.toString(holding.getAssetClass(), "Unclassified"),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+        
+        return byGroup.entrySet().stream()
+                .map(entry -> {
+                    List<HoldingDto> rows = entry.getValue();
+                    BigDecimal marketValue = rows.stream().map(HoldingDto::getMarketValue).reduce(BigDecimal.ZERO, BigDecimal::add);
+                    BigDecimal costBasis = rows.stream().map(HoldingDto::getTotalCost).reduce(BigDecimal.ZERO, BigDecimal::add);
+                    BigDecimal gainLoss = marketValue.subtract(costBasis);
+                    int start = (int) Math.min(pageable.getOffset(), rows.size());
+                    int end = Math.min(start + pageable.getPageSize(), rows.size());
+                    return HoldingGroupDto.builder()
+                            .groupKey(entry.getKey())
+                            .holdingsCount(rows.size())
+                            .marketValue(marketValue)
+                            .costBasis(costBasis)
+                            .unrealizedGainLoss(gainLoss)
+                            .unrealizedGainLossPercent(costBasis.signum() > 0
+                                    ? gainLoss.multiply(BigDecimal.valueOf(100)).divide(costBasis, 2, RoundingMode.HALF_UP)
+                                    : BigDecimal.ZERO)
+                            .weight(totalMarketValue.signum() > 0
+                                    ? marketValue.multiply(BigDecimal.valueOf(100)).divide(totalMarketValue, 2, RoundingMode.HALF_UP)
+                                    : BigDecimal.ZERO)
+                            .holdings(rows.subList(start, end))
+                            .build();
+                })
+                .sorted(Comparator.comparing(HoldingGroupDto::getMarketValue).reversed())
+                .collect(Collectors.toList());
+    }
+    
+    private Comparator<HoldingDto> holdingsComparator(HoldingsQuery query) {
+        Comparator<HoldingDto> comparator = switch (query.getSortBy() != null ? query.getSortBy() : HoldingsSortField.MARKET_VALUE) {
+            case SYMBOL -> Comparator.comparing(HoldingDto::getSymbol, Comparator.nullsLast(String::compareToIgnoreCase));
+            case SECURITY_NAME -> Comparator.comparing(HoldingDto::getSecurityName, Comparator.nullsLast(String::compareToIgnoreCase));
+            case SECTOR -> Comparator.comparing(HoldingDto::getSector, Comparator.nullsLast(String::compareToIgnoreCase));
+            case ASSET_CLASS -> Comparator.comparing(HoldingDto::getAssetClass, Comparator.nullsLast(Comparator.naturalOrder()));
+            case QUANTITY -> Comparator.comparing(HoldingDto::getQuantity, Comparator.nullsLast(Comparator.naturalOrder()));
+            case CURRENT_PRICE -> Comparator.comparing(HoldingDto::getCurrentPrice, Comparator.nullsLast(Comparator.naturalOrder()));
+            case PRICE_CHANGE_PERCENT -> Comparator.comparing(HoldingDto::getPriceChangePercent, Comparator.nullsLast(Comparator.naturalOrder()));
+            case COST_BASIS -> Comparator.comparing(HoldingDto::getCostBasis, Comparator.nullsLast(Comparator.naturalOrder()));
+            case TOTAL_COST -> Comparator.comparing(HoldingDto::getTotalCost, Comparator.nullsLast(Comparator.naturalOrder()));
+            case UNREALIZED_GAIN_LOSS -> Comparator.comparing(HoldingDto::getUnrealizedGainLoss, Comparator.nullsLast(Comparator.naturalOrder()));
+            case UNREALIZED_GAIN_LOSS_PERCENT -> Comparator.comparing(HoldingDto::getUnrealizedGainLossPercent, Comparator.nullsLast(Comparator.naturalOrder()));
+            case MARKET_VALUE, PORTFOLIO_PERCENT -> Comparator.comparing(HoldingDto::getMarketValue, Comparator.nullsLast(Comparator.naturalOrder()));
+        };
+        return query.getSortDirection() == SortDirection.ASC ? comparator : comparator.reversed();
+    }
+    
     @Override
     public PortfolioSummaryDto getPortfolioSummary(String accountId) {
         List<HoldingDto> holdings = generateMockHoldings(accountId);
@@ -276,6 +357,123 @@ public class MockLfdClientService implements LfdClientService {
         return holdings;
     }
     
+    @Override
+    public ConsolidatedHoldingsResponseDto getConsolidatedHoldings(String clientId) {
+        Map<String, List<AccountPositionDto>> positionsBySymbol = new LinkedHashMap<>();
+        Map<String, HoldingDto> securities = new HashMap<>();
+        
+        for (AccountDto account : getClientAccounts(clientId)) {
+            for (HoldingDto holding : generateMockHoldings(account.getAccountId())) {
+                securities.putIfAbsent(holding.getSymbol(), holding);
+                positionsBySymbol.computeIfAbsent(holding.getSymbol(), symbol -> new ArrayList<>())
+                        .add(AccountPositionDto.builder()
+                                .accountId(account.getAccountId())
+                                .accountNumber(account.getAccountNumber())
+                                .accountType(account.getAccountType() != null ? account.getAccountType().name() : null)
+                                .quantity(holding.getQuantity())
+                                .costBasis(holding.getTotalCost())
+                                .marketValue(holding.getMarketValue())
+                                .unrealizedGainLoss(holding.getUnrealizedGainLoss())
+                                .build());
+            }
+        }
+        
+        BigDecimal totalMarketValue = positionsBySymbol.values().stream()
+                .flatMap(List::stream)
+                .map(AccountPositionDto::getMarketValue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalCostBasis = positionsBySymbol.values().stream()
+                .flatMap(List::stream)
+                .map(AccountPositionDto::getCostBasis)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        
+        List<ConsolidatedHoldingDto> holdings = positionsBySymbol.entrySet().stream()
+                .map(entry -> {
+                    HoldingDto security = securities.get(entry.getKey());
+                    BigDecimal quantity = entry.getValue().stream().map(AccountPositionDto::getQuantity).reduce(BigDecimal.ZERO, BigDecimal::add);
+                    BigDecimal costBasis = entry.getValue().stream().map(AccountPositionDto::getCostBasis).reduce(BigDecimal.ZERO, BigDecimal::add);
+                    BigDecimal marketValue = entry.getValue().stream().map(AccountPositionDto::getMarketValue).reduce(BigDecimal.ZERO, BigDecimal::add);
+                    BigDecimal gainLoss = marketValue.subtract(costBasis);
+                    return ConsolidatedHoldingDto.builder()
+                            .symbol(entry.getKey())
+                            .securityName(security.getSecurityName())
+                            .assetClass(security.getAssetClass() != null ? security.getAssetClass().name() : null)
+                            .sector(security.getSector())
+                            .currentPrice(security.getCurrentPrice())
+                            .quantity(quantity)
+                            .costBasis(costBasis)
+                            .marketValue(marketValue)
+                            .unrealizedGainLoss(gainLoss)
+                            .unrealizedGainLossPercent(costBasis.signum() > 0
+                                    ? gainLoss.multiply(BigDecimal.valueOf(100)).divide(costBasis, 2, RoundingMode.HALF_UP)
+                                    : BigDecimal.ZERO)
+                            .portfolioPercent(totalMarketValue.signum() > 0
+                                    ? marketValue.multiply(BigDecimal.valueOf(100)).divide(totalMarketValue, 2, RoundingMode.HALF_UP)
+                                    : BigDecimal.ZERO)
+                            .accounts(entry.getValue())
+                            .build();
+                })
+                .sorted(Comparator.comparing(ConsolidatedHoldingDto::getMarketValue).reversed())
+                .collect(Collectors.toList());
+        
+        return ConsolidatedHoldingsResponseDto.builder()
+                .clientId(clientId)
+                .accountCount(getClientAccounts(clientId).size())
+                .totalMarketValue(totalMarketValue)
+                .totalCostBasis(totalCostBasis)
+                .totalUnrealizedGainLoss(totalMarketValue.subtract(totalCostBasis))
+                .holdings(holdings)
+                .build();
+    }
+    
+    @Override
+    public AdvisorSummaryDto getAdvisorSummary(String advisorId) {
+        List<AccountSummaryDto> accounts = getAdvisorClients(advisorId).stream()
+                .flatMap(client -> Optional.ofNullable(mockAccounts.get(client.getClientId()))
+                        .orElse(List.of()).stream()
+                        .map(account -> {
+                            BigDecimal marketValue = Optional.ofNullable(account.getMarketValue()).orElse(BigDecimal.ZERO);
+                            BigDecimal costBasis = Optional.ofNullable(account.getCostBasis()).orElse(BigDecimal.ZERO);
+                            return AccountSummaryDto.builder()
+                                    .accountId(account.getAccountId())
+                                    .accountNumber(account.getAccountNumber())
+                                    .accountType(account.getAccountType() != null ? account.getAccountType().name() : null)
+                                    .clientId(client.getClientId())
+                                    .clientName(client.getClientName())
+                                    .holdingsCount(generateMockHoldings(account.getAccountId()).size())
+                                    .totalMarketValue(marketValue)
+                                    .totalCostBasis(costBasis)
+                                    .totalUnrealizedGainLoss(marketValue.subtract(costBasis))
+                                    .totalUnrealizedGainLossPercent(costBasis.signum() > 0
+                                            ? marketValue.subtract(costBasis).multiply(BigDecimal.valueOf(100)).divide(costBasis, 2, RoundingMode.HALF_UP)
+                                            : BigDecimal.ZERO)
+                                    .build();
+                        }))
+                .collect(Collectors.toList());
+        
+        BigDecimal totalMarketValue = accounts.stream().map(AccountSummaryDto::getTotalMarketValue).reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalCostBasis = accounts.stream().map(AccountSummaryDto::getTotalCostBasis).reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal gainLoss = totalMarketValue.subtract(totalCostBasis);
+        
+        return AdvisorSummaryDto.builder()
+                .advisorId(advisorId)
+                .clientCount((int) accounts.stream().map(AccountSummaryDto::getClientId).distinct().count())
+                .accountCount(accounts.size())
+                .holdingsCount(accounts.stream().mapToInt(AccountSummaryDto::getHoldingsCount).sum())
+                .totalMarketValue(totalMarketValue)
+                .totalCostBasis(totalCostBasis)
+                .totalUnrealizedGainLoss(gainLoss)
+                .totalUnrealizedGainLossPercent(totalCostBasis.signum() > 0
+                        ? gainLoss.multiply(BigDecimal.valueOf(100)).divide(totalCostBasis, 2, RoundingMode.HALF_UP)
+                        : BigDecimal.ZERO)
+                .accounts(accounts)
+                .build();
+    }
+    
+    @Override
+    public void cancelRequest(String requestId) {
+    }
+    
     @Override
     public AccountDto getAccountInfo(String accountId) {
         return AccountDto.builder()
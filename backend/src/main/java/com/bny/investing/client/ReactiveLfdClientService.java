@@ -0,0 +1,219 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.dto.LfdAccountSummariesResponse;
+import com.bny.investing.client.dto.LfdAdvisorClientsResponse;
+import com.bny.investing.client.dto.LfdConsolidatedHoldingsResponse;
+import com.bny.investing.client.dto.LfdHoldingsResponse;
+import com.bny.investing.client.dto.LfdPortfolioSummaryResponse;
+import com.bny.investing.client.resilience.LfdResilience;
+import com.bny.investing.dto.AccountDto;
+import com.bny.investing.dto.AdvisorSummaryDto;
+import com.bny.investing.dto.ClientDto;
+import com.bny.investing.dto.ConsolidatedHoldingsResponseDto;
+import com.bny.investing.dto.HoldingsQuery;
+import com.bny.investing.dto.HoldingsResponseDto;
+import com.bny.investing.exception.BusinessException;
+import com.bny.investing.exception.ResourceNotFoundException;
+import com.bny.shared.dto.request.HoldingsRequest;
+import com.bny.shared.dto.response.PortfolioSummaryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Non-blocking LFD client for callers that can hand a publisher back to Spring MVC instead of holding a servlet
+// thread per outbound call. It sits next to the synchronous LfdClientService, which keeps serving everything else.
+// Request headers and the deadline are read on the calling thread when a method is called; nothing is sent until
+// the result is subscribed to.
+@Slf4j
+@Service
+@ConditionalOnExpression("'${app.mock.enabled:true}' == 'false' and '${lfd.client.reactive.enabled:false}' == 'true'")
+@RequiredArgsConstructor
+public class ReactiveLfdClientService {
+
+    private final WebClient lfdWebClient;
+    private final LfdResilience resilience;
+    private final LfdPayloadMapper payloadMapper;
+
+    @Value("${lfd.api.max-page-size:100}")
+    private int maxPageSize;
+
+    // LFD returns the clients inside a wrapper, so they are emitted once the whole page has been decoded
+    public Flux<ClientDto> getAdvisorClients(String advisorId) {
+        Outbound outbound = outbound(advisorId);
+        return translated("advisor-clients", "Failed to retrieve clients for advisor: " + advisorId,
+                get("advisor-clients", outbound, LfdAdvisorClientsResponse.class,
+                    "/internal/advisors/{advisorId}/clients?pageOffset=0&pageSize={pageSize}", advisorId, maxPageSize))
+            .flatMapIterable(response -> response.getClients() != null ? response.getClients() : List.of())
+            .map(payloadMapper::transformToBackendClientDto);
+    }
+
+    public Mono<AccountDto> getAccountInfo(String accountId) {
+        return translated("account", "Account not found: " + accountId,
+            accountInfo(accountId, outbound("advisor-id-placeholder")));
+    }
+
+    // The holdings, account and summary legs go out together and the page is built once all three are back;
+    // if one leg fails the others are cancelled
+    public Mono<HoldingsResponseDto> getAccountHoldings(String accountId, Pageable pageable, HoldingsQuery query) {
+        Outbound outbound = outbound("advisor-id-placeholder");
+        HoldingsRequest request = payloadMapper.toHoldingsRequest(accountId, pageable, query);
+
+        Mono<LfdHoldingsResponse> holdings = resilience.callReactive("holdings", true, () -> send(outbound, lfdWebClient.post()
+                .uri("/internal/accounts/{accountId}/holdings", accountId)
+                .bodyValue(request), LfdHoldingsResponse.class));
+
+        return translated("holdings", "Account not found: " + accountId,
+            Mono.zip(holdings, accountInfo(accountId, outbound), portfolioSummary(accountId, outbound))
+                .map(legs -> payloadMapper.transformToHoldingsResponseDto(
+                    legs.getT1(), pageable, legs.getT2(), legs.getT3()))
+                .defaultIfEmpty(payloadMapper.emptyHoldingsResponse(pageable)));
+    }
+
+    public Mono<PortfolioSummaryDto> getPortfolioSummary(String accountId) {
+        return translated("portfolio-summary", "Account not found: " + accountId,
+            portfolioSummary(accountId, outbound("advisor-id-placeholder")));
+    }
+
+    public Mono<ConsolidatedHoldingsResponseDto> getConsolidatedHoldings(String clientId) {
+        return translated("consolidated-holdings", "Client not found: " + clientId,
+            get("consolidated-holdings", outbound("advisor-id-placeholder"), LfdConsolidatedHoldingsResponse.class,
+                    "/internal/clients/{clientId}/holdings/consolidated", clientId)
+                .map(body -> payloadMapper.transformToConsolidatedHoldingsDto(clientId, body))
+                .defaultIfEmpty(payloadMapper.transformToConsolidatedHoldingsDto(clientId, null)));
+    }
+
+    public Mono<AdvisorSummaryDto> getAdvisorSummary(String advisorId) {
+        return translated("advisor-summary", "Failed to retrieve summary for advisor: " + advisorId,
+            get("advisor-summary", outbound(advisorId), LfdAccountSummariesResponse.class,
+                    "/internal/advisors/{advisorId}/summary", advisorId)
+                .map(body -> payloadMapper.transformToAdvisorSummaryDto(advisorId, body))
+                .defaultIfEmpty(payloadMapper.transformToAdvisorSummaryDto(advisorId, null)));
+    }
+
+    // Completes empty when the cancel could not be delivered; the LFD request then runs to its own deadline
+    public Mono<Void> cancelRequest(String requestId) {
+        Outbound outbound = outbound("advisor-id-placeholder");
+        return resilience.callReactive("cancel", false,
+                () -> send(outbound, lfdWebClient.delete().uri("/internal/requests/{requestId}", requestId), Void.class))
+            .doOnSuccess(ignored -> log.debug("Cancelled LFD request: {}", requestId))
+            .onErrorResume(e -> {
+                log.warn("Failed to cancel LFD request {}: {}", requestId, e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private Mono<AccountDto> accountInfo(String accountId, Outbound outbound) {
+        return get("account", outbound, com.bny.shared.dto.response.AccountDto.class,
+                "/internal/accounts/{accountId}", accountId)
+            .map(payloadMapper::transformToBackendAccountDto)
+            .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Account not found: " + accountId)));
+    }
+
+    private Mono<PortfolioSummaryDto> portfolioSummary(String accountId, Outbound outbound) {
+        return get("portfolio-summary", outbound, LfdPortfolioSummaryResponse.class,
+                "/internal/accounts/{accountId}/summary", accountId)
+            .map(payloadMapper::transformToPortfolioSummaryDto)
+            .defaultIfEmpty(payloadMapper.transformToPortfolioSummaryDto(null));
+    }
+
+    private <T> Mono<T> get(String endpoint, Outbound outbound, Class<T> type, String uri, Object... uriVariables) {
+        return resilience.callReactive(endpoint, true, () -> send(outbound, lfdWebClient.get().uri(uri, uriVariables), type));
+    }
+
+    // Attempts can start on a timer thread (retries), so the deadline comes from the call, not the thread; what
+    // is left of it is restamped as each attempt goes out and bounds that attempt
+    private <T> Mono<T> send(Outbound outbound, WebClient.RequestHeadersSpec<?> request, Class<T> type) {
+        Long remainingMs = outbound.remainingMillis();
+        if (remainingMs != null && remainingMs <= 0) {
+            return Mono.error(deadlineExceeded());
+        }
+        Mono<T> call = request
+            .headers(h -> {
+                h.addAll(outbound.headers);
+                if (remainingMs != null) {
+                    RequestDeadline.stamp(h, remainingMs);
+                }
+            })
+            .retrieve()
+            .bodyToMono(type);
+        Mono<T> bounded = remainingMs != null ? call.timeout(Duration.ofMillis(remainingMs)) : call;
+        return bounded.onErrorMap(this::toClientException);
+    }
+
+    // Same exception types RestTemplate raises, so LfdResilience classifies both clients' failures alike
+    private Throwable toClientException(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            if (response.getStatusCode().is4xxClientError()) {
+                return HttpClientErrorException.create(response.getStatusCode(), response.getStatusText(),
+                    response.getHeaders(), response.getResponseBodyAsByteArray(), null);
+            }
+            if (response.getStatusCode().is5xxServerError()) {
+                return HttpServerErrorException.create(response.getStatusCode(), response.getStatusText(),
+                    response.getHeaders(), response.getResponseBodyAsByteArray(), null);
+            }
+        }
+        if (e instanceof WebClientRequestException) {
+            return new ResourceAccessException("I/O error calling LFD API: " + e.getMessage());
+        }
+        if (e instanceof TimeoutException) {
+            return deadlineExceeded();
+        }
+        return e;
+    }
+
+    private static BusinessException deadlineExceeded() {
+        return new BusinessException("Request deadline exceeded waiting for LFD API",
+            HttpStatus.GATEWAY_TIMEOUT, "DEADLINE_EXCEEDED");
+    }
+
+    // What the synchronous client throws for the same failure: business errors as they are, anything else as not found
+    private <T> Mono<T> translated(String endpoint, String notFoundMessage, Mono<T> call) {
+        return call.onErrorMap(e -> !(e instanceof BusinessException), e -> {
+            if (e instanceof HttpClientErrorException http) {
+                log.error("Error calling LFD API for {}: {} - {}", endpoint, http.getStatusCode(), http.getMessage());
+                return new ResourceNotFoundException(notFoundMessage + " - HTTP " + http.getStatusCode());
+            }
+            log.error("Unexpected error calling LFD API for {}: {}", endpoint, e.getMessage(), e);
+            return new ResourceNotFoundException(notFoundMessage);
+        });
+    }
+
+    // Built on the calling thread, where the request id and deadline are bound
+    private Outbound outbound(String advisorId) {
+        Long remainingMs = RequestDeadline.remainingMillis();
+        return new Outbound(payloadMapper.createHeaders(advisorId),
+            remainingMs != null ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMs) : null);
+    }
+
+    private static class Outbound {
+        private final HttpHeaders headers;
+        private final Long deadlineNanos;
+
+        private Outbound(HttpHeaders headers, Long deadlineNanos) {
+            this.headers = headers;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private Long remainingMillis() {
+            return deadlineNanos == null ? null : TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        }
+    }
+}
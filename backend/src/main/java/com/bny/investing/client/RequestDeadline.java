@@ -0,0 +1,32 @@
+package com.bny.investing.client;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.concurrent.TimeUnit;
+
+public class RequestDeadline {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+    // Epoch milliseconds, so LFD can count the time a call spent in transit and queued before it was read
+    public static final String DEADLINE_HEADER = "X-Request-Deadline";
+
+    private static final ThreadLocal<Long> deadlineHolder = new ThreadLocal<>();
+
+    public static void start(long timeoutMs) {
+        deadlineHolder.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+    }
+
+    public static Long remainingMillis() {
+        Long deadline = deadlineHolder.get();
+        return deadline == null ? null : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    public static void stamp(HttpHeaders headers, long remainingMs) {
+        headers.set(TIMEOUT_HEADER, String.valueOf(remainingMs));
+        headers.set(DEADLINE_HEADER, String.valueOf(System.currentTimeMillis() + remainingMs));
+    }
+
+    public static void clear() {
+        deadlineHolder.remove();
+    }
+}
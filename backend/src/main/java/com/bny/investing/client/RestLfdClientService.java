@@ -1,40 +1,62 @@
 package com.bny.investing.client;
 
+import com.bny.investing.client.dto.LfdAccountSummariesResponse;
+import com.bny.investing.client.resilience.LfdResilience;
 import com.bny.investing.client.dto.LfdAdvisorClientsResponse;
+import com.bny.investing.client.dto.LfdChangeBatch;
+import com.bny.investing.client.dto.LfdConsolidatedHoldingsResponse;
 import com.bny.investing.client.dto.LfdHoldingsResponse;
 import com.bny.investing.client.dto.LfdPortfolioSummaryResponse;
 import com.bny.investing.dto.AccountDto;
+import com.bny.investing.dto.AdvisorSummaryDto;
 import com.bny.investing.dto.ClientDto;
+import com.bny.investing.dto.ConsolidatedHoldingsResponseDto;
 import com.bny.investing.dto.HoldingDto;
+import com.bny.investing.dto.HoldingsQuery;
 import com.bny.investing.dto.HoldingsResponseDto;
+import com.bny.investing.exception.BusinessException;
 import com.bny.investing.exception.ResourceNotFoundException;
-import com.bny.investing.model.RiskProfile;
+import com.bny.shared.dto.common.ResponseProfile;
 import com.bny.shared.dto.request.HoldingsRequest;
 import com.bny.shared.dto.response.PortfolioSummaryDto;
+import com.bny.shared.util.batch.BatchLoader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriUtils;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@ConditionalOnProperty(name = "app.mock.enabled", havingValue = "false")
+@ConditionalOnExpression("'${app.mock.enabled:true}' == 'false' and '${lfd.client.type:rest}' == 'rest'")
 @RequiredArgsConstructor
 public class RestLfdClientService implements LfdClientService {
     
     private final RestTemplate restTemplate;
+    private final LfdResilience resilience;
+    private final LfdPayloadMapper payloadMapper;
+    private final LfdConditionalCache conditionalCache;
     
     @Value("${lfd.api.base-url:http://localhost:8081}")
     private String lfdApiBaseUrl;
@@ -42,33 +64,46 @@ public class RestLfdClientService implements LfdClientService {
     @Value("${lfd.api.max-page-size:100}")
     private int maxPageSize;
     
+    @Value("${lfd.client.pass-through.enabled:false}")
+    private boolean passThroughEnabled;
+    
+    @Value("${lfd.client.account-batch.window-ms:0}")
+    private long accountBatchWindowMillis;
+    
+    @Value("${lfd.client.account-batch.max-size:100}")
+    private int accountBatchMaxSize;
+    
+    private volatile BatchLoader<String, com.bny.shared.dto.response.AccountDto> accountLoader;
+    
     @Override
     public List<ClientDto> getAdvisorClients(String advisorId) {
         String url = lfdApiBaseUrl + "/internal/advisors/" + advisorId + "/clients";
         
-        HttpHeaders headers = createHeaders(advisorId);
+        HttpHeaders headers = payloadMapper.createHeaders(advisorId);
         HttpEntity<?> entity = new HttpEntity<>(headers);
         
         log.debug("Calling LFD API: GET {} with headers: {}", url, headers.keySet());
         
         try {
-            ResponseEntity<LfdAdvisorClientsResponse> response = restTemplate.exchange(
+            ResponseEntity<LfdAdvisorClientsResponse> response = callIdempotent("advisor-clients", () -> restTemplate.exchange(
                 url + "?pageOffset=0&pageSize=" + maxPageSize,
                 HttpMethod.GET,
                 entity,
                 LfdAdvisorClientsResponse.class
-            );
+            ));
             
             if (response.getBody() != null && response.getBody().getClients() != null) {
                 log.info("Received {} clients from LFD API for advisor: {}", 
                     response.getBody().getClients().size(), advisorId);
-                return transformToBackendClientDtos(response.getBody().getClients());
+                return payloadMapper.transformToBackendClientDtos(response.getBody().getClients());
             }
             return List.of();
         } catch (HttpClientErrorException e) {
             log.error("HTTP Error calling LFD API for advisor clients: {} - {} - Response Body: {}", 
                 e.getStatusCode(), e.getMessage(), e.getResponseBodyAsString());
             throw new ResourceNotFoundException("Failed to retrieve clients for advisor: " + advisorId + " - HTTP " + e.getStatusCode());
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Unexpected error calling LFD API for advisor clients: {}", e.getMessage(), e);
             throw new ResourceNotFoundException("Failed to retrieve clients for advisor: " + advisorId + " - " + e.getMessage());
@@ -77,38 +112,94 @@ public class RestLfdClientService implements LfdClientService {
     
     @Override
     public ClientDto getClientById(String clientId) {
-        throw new UnsupportedOperationException("getClientById not implemented in RestLfdClientService");
+        String url = lfdApiBaseUrl + "/internal/clients/" + clientId;
+        
+        HttpEntity<?> entity = new HttpEntity<>(payloadMapper.createHeaders("advisor-id-placeholder"));
+        
+        log.debug("Calling LFD API: GET {}", url);
+        
+        try {
+            ResponseEntity<com.bny.shared.dto.response.ClientDto> response = callIdempotent("client",
+                () -> restTemplate.exchange(url, HttpMethod.GET, entity, com.bny.shared.dto.response.ClientDto.class));
+            
+            if (response.getBody() == null) {
+                throw new ResourceNotFoundException("Client not found: " + clientId);
+            }
+            return payloadMapper.transformToBackendClientDto(response.getBody());
+        } catch (HttpClientErrorException e) {
+            log.error("Error calling LFD API for client: {} - {}", e.getStatusCode(), e.getMessage());
+            throw new ResourceNotFoundException("Client not found: " + clientId);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error calling LFD API for client", e);
+            throw new ResourceNotFoundException("Client not found: " + clientId);
+        }
     }
     
     @Override
     public List<AccountDto> getClientAccounts(String clientId) {
-        throw new UnsupportedOperationException("getClientAccounts not implemented in RestLfdClientService");
+        String url = lfdApiBaseUrl + "/internal/clients/" + clientId + "/accounts";
+        
+        HttpEntity<?> entity = new HttpEntity<>(payloadMapper.createHeaders("advisor-id-placeholder"));
+        
+        log.debug("Calling LFD API: GET {}", url);
+        
+        try {
+            ResponseEntity<com.bny.shared.dto.response.AccountDto[]> response = callIdempotent("client-accounts",
+                () -> restTemplate.exchange(url, HttpMethod.GET, entity, com.bny.shared.dto.response.AccountDto[].class));
+            
+            if (response.getBody() == null) {
+                return List.of();
+            }
+            return Arrays.stream(response.getBody())
+                .map(payloadMapper::transformToBackendAccountDto)
+                .toList();
+        } catch (HttpClientErrorException e) {
+            log.error("Error calling LFD API for client accounts: {} - {}", e.getStatusCode(), e.getMessage());
+            throw new ResourceNotFoundException("Client not found: " + clientId);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error calling LFD API for client accounts", e);
+            throw new ResourceNotFoundException("Client not found: " + clientId);
+        }
     }
     
     @Override
     public AccountDto getAccountInfo(String accountId) {
         String url = lfdApiBaseUrl + "/internal/accounts/" + accountId;
         
-        HttpHeaders headers = createHeaders("advisor-id-placeholder");
+        HttpHeaders headers = payloadMapper.createHeaders("advisor-id-placeholder");
         HttpEntity<?> entity = new HttpEntity<>(headers);
         
         log.debug("Calling LFD API: GET {}", url);
         
         try {
-            ResponseEntity<com.bny.shared.dto.response.AccountDto> response = restTemplate.exchange(
+            if (accountBatchWindowMillis > 0) {
+                com.bny.shared.dto.response.AccountDto account = loadBatched(accountId);
+                if (account == null) {
+                    throw new ResourceNotFoundException("Account not found: " + accountId);
+                }
+                return payloadMapper.transformToBackendAccountDto(account);
+            }
+            
+            ResponseEntity<com.bny.shared.dto.response.AccountDto> response = callIdempotent("account", () -> restTemplate.exchange(
                 url,
                 HttpMethod.GET,
                 entity,
                 com.bny.shared.dto.response.AccountDto.class
-            );
+            ));
             
             log.info("Received account info from LFD API for account: {}", accountId);
             
-            return transformToBackendAccountDto(response.getBody());
+            return payloadMapper.transformToBackendAccountDto(response.getBody());
         } catch (HttpClientErrorException e) {
             log.error("Error calling LFD API for account info: {} - {}", 
                 e.getStatusCode(), e.getMessage());
             throw new ResourceNotFoundException("Account not found: " + accountId);
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Unexpected error calling LFD API for account info", e);
             throw new ResourceNotFoundException("Account not found: " + accountId);
@@ -117,239 +208,343 @@ public class RestLfdClientService implements LfdClientService {
     
     @Override
     public HoldingsResponseDto getAccountHoldings(String accountId, Pageable pageable) {
+        return getAccountHoldings(accountId, pageable, HoldingsQuery.builder().build());
+    }
+    
+    @Override
+    public HoldingsResponseDto getAccountHoldings(String accountId, Pageable pageable, HoldingsQuery query) {
         String url = lfdApiBaseUrl + "/internal/accounts/" + accountId + "/holdings";
         
-        HttpHeaders headers = createHeaders("advisor-id-placeholder");
+        HttpHeaders headers = payloadMapper.createHeaders("advisor-id-placeholder");
         
-        HoldingsRequest request = new HoldingsRequest();
-        request.setAccountId(accountId);
-        request.setPageOffset(pageable.getPageNumber());
-        request.setPageSize(pageable.getPageSize());
-        
-        HttpEntity<HoldingsRequest> entity = new HttpEntity<>(request, headers);
+        HoldingsRequest request = payloadMapper.toHoldingsRequest(accountId, pageable, query);
         
         log.debug("Calling LFD API: POST {} with request: {}", url, request);
         
         try {
-            ResponseEntity<LfdHoldingsResponse> response = restTemplate.exchange(
-                url,
-                HttpMethod.POST,
-                entity,
-                LfdHoldingsResponse.class
-            );
+            LfdConditionalCache.Entry<LfdHoldingsResponse> response = exchangeConditionally(
+                "holdings", url, HttpMethod.POST, headers, request, LfdHoldingsResponse.class);
             
             log.info("Received {} holdings from LFD API for account: {}", 
                 response.getBody() != null ? response.getBody().getHoldings().size() : 0, accountId);
             
-            return transformToHoldingsResponseDto(response.getBody(), accountId, pageable);
+            if (response.getBody() == null) {
+                return payloadMapper.emptyHoldingsResponse(pageable);
+            }
+            
+            PortfolioSummaryDto summary = getPortfolioSummary(accountId);
+            AccountDto account = getAccountInfo(accountId);
+            HoldingsResponseDto holdings = payloadMapper.transformToHoldingsResponseDto(response.getBody(), pageable,
+                account, summary);
+            // The account info travels in the same response, so its own row version is part of the tag
+            if (response.getEtag() != null && summary.getVersion() != null) {
+                holdings.setVersion(unquote(response.getEtag()) + "." + summary.getVersion() + "."
+                    + (account.getLastActivity() != null
+                        ? account.getLastActivity().toInstant(ZoneOffset.UTC).toEpochMilli() : 0));
+            }
+            return holdings;
         } catch (HttpClientErrorException e) {
             log.error("Error calling LFD API for holdings: {} - {}", 
                 e.getStatusCode(), e.getMessage());
             throw new ResourceNotFoundException("Account not found: " + accountId);
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Unexpected error calling LFD API for holdings", e);
             throw new ResourceNotFoundException("Account not found: " + accountId);
         }
     }
     
+    @Override
+    public HoldingsResponseDto streamAccountHoldings(String accountId, Pageable pageable, HoldingsQuery query,
+            Consumer<HoldingDto> rows) {
+        String url = lfdApiBaseUrl + "/internal/accounts/" + accountId + "/holdings/stream";
+        
+        HttpHeaders headers = payloadMapper.createHeaders("advisor-id-placeholder", LfdPayloadMapper.BULK);
+        
+        HoldingsRequest request = payloadMapper.toHoldingsRequest(accountId, pageable, query);
+        RequestCallback requestCallback = restTemplate.httpEntityCallback(new HttpEntity<>(request, headers));
+        
+        log.debug("Calling LFD API: POST {} with request: {}", url, request);
+        
+        try {
+            // Never retried: rows already handed to the consumer cannot be taken back
+            LfdHoldingsResponse trailer = resilience.call("holdings-stream", false, () -> restTemplate.execute(
+                url, HttpMethod.POST, requestCallback,
+                response -> LfdHoldingsStreamReader.read(response.getBody(),
+                    holding -> rows.accept(payloadMapper.transformToBackendHoldingDto(holding)))));
+            
+            if (trailer == null) {
+                return payloadMapper.emptyHoldingsResponse(pageable);
+            }
+            
+            return payloadMapper.transformToHoldingsResponseDto(trailer, pageable,
+                getAccountInfo(accountId), getPortfolioSummary(accountId));
+        } catch (HttpClientErrorException e) {
+            log.error("Error calling LFD API for holdings stream: {} - {}", 
+                e.getStatusCode(), e.getMessage());
+            throw new ResourceNotFoundException("Account not found: " + accountId);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error calling LFD API for holdings stream", e);
+            throw new ResourceNotFoundException("Account not found: " + accountId);
+        }
+    }
+    
     @Override
     public PortfolioSummaryDto getPortfolioSummary(String accountId) {
         String url = lfdApiBaseUrl + "/internal/accounts/" + accountId + "/summary";
         
-        HttpHeaders headers = createHeaders("advisor-id-placeholder");
-        HttpEntity<?> entity = new HttpEntity<>(headers);
+        HttpHeaders headers = payloadMapper.createHeaders("advisor-id-placeholder");
         
         log.debug("Calling LFD API: GET {}", url);
         
         try {
-            ResponseEntity<LfdPortfolioSummaryResponse> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                entity,
-                LfdPortfolioSummaryResponse.class
-            );
+            LfdConditionalCache.Entry<LfdPortfolioSummaryResponse> response = exchangeConditionally(
+                "portfolio-summary", url, HttpMethod.GET, headers, null, LfdPortfolioSummaryResponse.class);
             
             log.info("Received portfolio summary from LFD API for account: {}", accountId);
             
-            return transformToPortfolioSummaryDto(response.getBody());
+            PortfolioSummaryDto summary = payloadMapper.transformToPortfolioSummaryDto(response.getBody());
+            if (response.getEtag() != null) {
+                summary.setVersion(unquote(response.getEtag()));
+            }
+            return summary;
         } catch (HttpClientErrorException e) {
             log.error("Error calling LFD API for portfolio summary: {} - {}", 
                 e.getStatusCode(), e.getMessage());
             throw new ResourceNotFoundException("Account not found: " + accountId);
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Unexpected error calling LFD API for portfolio summary", e);
             throw new ResourceNotFoundException("Account not found: " + accountId);
         }
     }
     
-    private HttpHeaders createHeaders(String advisorId) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("X-User-ID", "integration-test-user");
-        headers.set("X-Advisor-ID", advisorId);
-        headers.set("X-Request-ID", UUID.randomUUID().toString());
-        headers.set("X-Timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-        return headers;
-    }
-    
-    private List<ClientDto> transformToBackendClientDtos(List<com.bny.shared.dto.response.ClientDto> sharedClients) {
-        if (sharedClients == null) {
-            return List.of();
-        }
+    @Override
+    public ConsolidatedHoldingsResponseDto getConsolidatedHoldings(String clientId) {
+        String url = lfdApiBaseUrl + "/internal/clients/" + clientId + "/holdings/consolidated";
         
-        return sharedClients.stream()
-            .map(this::transformToBackendClientDto)
-            .collect(Collectors.toList());
-    }
-    
-    private ClientDto transformToBackendClientDto(com.bny.shared.dto.response.ClientDto sharedClient) {
-        List<AccountDto> backendAccounts = new ArrayList<>();
-        if (sharedClient.getAccounts() != null) {
-            backendAccounts = sharedClient.getAccounts().stream()
-                .map(this::transformToBackendAccountDto)
-                .collect(Collectors.toList());
-        }
+        HttpHeaders headers = payloadMapper.createHeaders("advisor-id-placeholder", LfdPayloadMapper.BULK);
+        HttpEntity<?> entity = new HttpEntity<>(headers);
         
-        return ClientDto.builder()
-            .clientId(sharedClient.getClientId())
-            .clientName(sharedClient.getClientName())
-            .advisorId(sharedClient.getAdvisorId())
-            .advisorName(sharedClient.getAdvisorName())
-            .totalMarketValue(sharedClient.getTotalMarketValue())
-            .taxId(sharedClient.getTaxId())
-            .accounts(backendAccounts)
-            .build();
-    }
-    
-    private AccountDto transformToBackendAccountDto(com.bny.shared.dto.response.AccountDto sharedAccount) {
-        return AccountDto.builder()
-            .accountId(sharedAccount.getAccountId())
-            .accountNumber(sharedAccount.getAccountNumber())
-            .accountType(parseAccountType(sharedAccount.getAccountType()))
-            .clientId(sharedAccount.getClientId())
-            .clientName(sharedAccount.getClientName())
-            .marketValue(sharedAccount.getMarketValue())
-            .cashBalance(sharedAccount.getCashBalance())
-            .ytdPerformance(sharedAccount.getYtdPerformance())
-            .lastActivity(sharedAccount.getLastUpdated())
-            .build();
+        log.debug("Calling LFD API: GET {}", url);
+        
+        try {
+            ResponseEntity<LfdConsolidatedHoldingsResponse> response = callIdempotent("consolidated-holdings", () -> restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                entity,
+                LfdConsolidatedHoldingsResponse.class
+            ));
+            
+            LfdConsolidatedHoldingsResponse body = response.getBody();
+            log.info("Received {} consolidated holdings from LFD API for client: {}", 
+                body != null && body.getHoldings() != null ? body.getHoldings().size() : 0, clientId);
+            
+            return payloadMapper.transformToConsolidatedHoldingsDto(clientId, body);
+        } catch (HttpClientErrorException e) {
+            log.error("Error calling LFD API for consolidated holdings: {} - {}", 
+                e.getStatusCode(), e.getMessage());
+            throw new ResourceNotFoundException("Client not found: " + clientId);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error calling LFD API for consolidated holdings", e);
+            throw new ResourceNotFoundException("Client not found: " + clientId);
+        }
     }
     
-    private RiskProfile parseRiskProfile(String riskProfileStr) {
-        if (riskProfileStr == null) {
-            return null;
-        }
+    @Override
+    public AdvisorSummaryDto getAdvisorSummary(String advisorId) {
+        String url = lfdApiBaseUrl + "/internal/advisors/" + advisorId + "/summary";
+        
+        HttpHeaders headers = payloadMapper.createHeaders(advisorId);
+        
+        log.debug("Calling LFD API: GET {}", url);
+        
         try {
-            return RiskProfile.valueOf(riskProfileStr.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid risk profile value: {}", riskProfileStr);
-            return null;
+            LfdConditionalCache.Entry<LfdAccountSummariesResponse> response = exchangeConditionally(
+                "advisor-summary", url, HttpMethod.GET, headers, null, LfdAccountSummariesResponse.class);
+            
+            LfdAccountSummariesResponse body = response.getBody();
+            log.info("Received summaries for {} accounts from LFD API for advisor: {}", 
+                body != null ? body.getAccountCount() : 0, advisorId);
+            
+            return payloadMapper.transformToAdvisorSummaryDto(advisorId, body);
+        } catch (HttpClientErrorException e) {
+            log.error("Error calling LFD API for advisor summary: {} - {}", 
+                e.getStatusCode(), e.getMessage());
+            throw new ResourceNotFoundException("Failed to retrieve summary for advisor: " + advisorId);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error calling LFD API for advisor summary", e);
+            throw new ResourceNotFoundException("Failed to retrieve summary for advisor: " + advisorId);
         }
     }
     
-    private com.bny.investing.model.AssetClass parseAssetClass(String assetClassStr) {
-        if (assetClassStr == null) {
-            return null;
-        }
-        try {
-            return com.bny.investing.model.AssetClass.valueOf(assetClassStr.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid asset class value: {}", assetClassStr);
+    @Override
+    public byte[] getAdvisorClientsPassThrough(String advisorId, int page, int size) {
+        if (!passThroughEnabled) {
             return null;
         }
+        String url = lfdApiBaseUrl + "/internal/advisors/" + advisorId + "/clients?pageOffset=" + (page * size)
+            + "&pageSize=" + size;
+        return forward("advisor-clients", url, payloadMapper.createHeaders(advisorId),
+            "Failed to retrieve clients for advisor: " + advisorId);
     }
     
-    private com.bny.investing.model.AccountType parseAccountType(com.bny.shared.enums.AccountType accountType) {
-        if (accountType == null) {
+    @Override
+    public byte[] getConsolidatedHoldingsPassThrough(String clientId) {
+        if (!passThroughEnabled) {
             return null;
         }
+        String url = lfdApiBaseUrl + "/internal/clients/" + clientId + "/holdings/consolidated";
+        return forward("consolidated-holdings", url, payloadMapper.createHeaders("advisor-id-placeholder", LfdPayloadMapper.BULK),
+            "Client not found: " + clientId);
+    }
+    
+    @Override
+    public LfdChangeBatch getChanges(String cursor, int limit) {
+        // Cursors are built from URL-safe characters only
+        String url = lfdApiBaseUrl + "/internal/changes?limit=" + limit + (cursor != null ? "&cursor=" + cursor : "");
+        
+        HttpHeaders headers = payloadMapper.createHeaders("advisor-id-placeholder", LfdPayloadMapper.BACKGROUND);
+        HttpEntity<?> entity = new HttpEntity<>(headers);
+        
+        ResponseEntity<LfdChangeBatch> response = callIdempotent("changes",
+            () -> restTemplate.exchange(url, HttpMethod.GET, entity, LfdChangeBatch.class));
+        return response.getBody();
+    }
+    
+    @Override
+    public void cancelRequest(String requestId) {
+        String url = lfdApiBaseUrl + "/internal/requests/" + requestId;
+        
+        HttpEntity<?> entity = new HttpEntity<>(payloadMapper.createHeaders("advisor-id-placeholder"));
+        
         try {
-            return com.bny.investing.model.AccountType.valueOf(accountType.name());
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid account type value: {}", accountType);
-            return null;
+            resilience.call("cancel", false, () -> restTemplate.exchange(url, HttpMethod.DELETE, entity, Void.class));
+            log.debug("Cancelled LFD request: {}", requestId);
+        } catch (Exception e) {
+            log.warn("Failed to cancel LFD request {}: {}", requestId, e.getMessage());
         }
     }
     
-    private HoldingsResponseDto transformToHoldingsResponseDto(
-            LfdHoldingsResponse lfdResponse, String accountId, Pageable pageable) {
-        if (lfdResponse == null) {
-            return HoldingsResponseDto.builder()
-                .holdings(List.of())
-                .page(pageable.getPageNumber())
-                .size(pageable.getPageSize())
-                .totalElements(0)
-                .totalPages(0)
-                .build();
+    // A hedged attempt that loses the race is cancelled on the LFD side by its own request id
+    private <T> T callIdempotent(String endpoint, Supplier<T> call) {
+        return resilience.call(endpoint, true, call, this::cancelRequest);
+    }
+    
+    private <T> LfdConditionalCache.Entry<T> exchangeConditionally(String endpoint, String url, HttpMethod method,
+            HttpHeaders headers, Object body, Class<T> responseType) {
+        String key = method + " " + url + (body != null ? " " + body : "");
+        LfdConditionalCache.Entry<T> cached = conditionalCache.get(key, responseType);
+        if (cached != null) {
+            headers.setIfNoneMatch(cached.getEtag());
         }
+        HttpEntity<?> entity = new HttpEntity<>(body, headers);
         
-        AccountDto accountInfo = getAccountInfo(accountId);
-        PortfolioSummaryDto summary = getPortfolioSummary(accountId);
-        
-        List<HoldingDto> backendHoldings = transformToBackendHoldingDtos(lfdResponse.getHoldings());
-        
-        int totalElements = lfdResponse.getTotalCount() != null ? lfdResponse.getTotalCount() : 0;
-        int totalPages = pageable.getPageSize() > 0 
-            ? (int) Math.ceil((double) totalElements / pageable.getPageSize()) 
-            : 0;
-        
-        return HoldingsResponseDto.builder()
-            .accountInfo(accountInfo)
-            .summary(summary)
-            .holdings(backendHoldings)
-            .page(pageable.getPageNumber())
-            .size(pageable.getPageSize())
-            .totalElements(totalElements)
-            .totalPages(totalPages)
-            .build();
+        ResponseEntity<T> response = callIdempotent(endpoint,
+            () -> restTemplate.exchange(url, method, entity, responseType));
+        
+        if (cached != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            log.debug("LFD API {} not modified since {}, reusing cached body", endpoint, cached.getEtag());
+            return cached;
+        }
+        String etag = response.getHeaders().getETag();
+        if (etag != null && response.getBody() != null) {
+            conditionalCache.put(key, etag, response.getBody());
+        }
+        return new LfdConditionalCache.Entry<>(etag, response.getBody());
     }
     
-    private List<HoldingDto> transformToBackendHoldingDtos(
-            List<com.bny.shared.dto.response.HoldingDto> sharedHoldings) {
-        if (sharedHoldings == null) {
-            return List.of();
+    private BatchLoader<String, com.bny.shared.dto.response.AccountDto> accountLoader() {
+        BatchLoader<String, com.bny.shared.dto.response.AccountDto> loader = accountLoader;
+        if (loader == null) {
+            synchronized (this) {
+                loader = accountLoader;
+                if (loader == null) {
+                    loader = new BatchLoader<>(this::getAccountsInfo, accountBatchWindowMillis, accountBatchMaxSize,
+                        new SimpleAsyncTaskExecutor("lfd-account-batch-"));
+                    accountLoader = loader;
+                }
+            }
         }
-        
-        return sharedHoldings.stream()
-            .map(this::transformToBackendHoldingDto)
-            .collect(Collectors.toList());
+        return loader;
     }
     
-    private HoldingDto transformToBackendHoldingDto(com.bny.shared.dto.response.HoldingDto sharedHolding) {
-        return HoldingDto.builder()
-            .symbol(sharedHolding.getSymbol())
-            .securityName(sharedHolding.getSecurityName())
-            .quantity(sharedHolding.getQuantity())
-            .currentPrice(sharedHolding.getCurrentPrice())
-            .priceChange(sharedHolding.getPriceChange())
-            .priceChangePercent(sharedHolding.getPriceChangePercent())
-            .costBasis(sharedHolding.getCostBasis())
-            .totalCost(sharedHolding.getTotalCost())
-            .marketValue(sharedHolding.getMarketValue())
-            .unrealizedGainLoss(sharedHolding.getUnrealizedGainLoss())
-            .unrealizedGainLossPercent(sharedHolding.getUnrealizedGainLossPercent())
-            .portfolioPercent(sharedHolding.getPortfolioPercent())
-            .sector(sharedHolding.getSector())
-            .assetClass(parseAssetClass(sharedHolding.getAssetClass()))
-            .hasAlerts(sharedHolding.getHasAlerts() != null ? sharedHolding.getHasAlerts() : false)
-            .taxLotCount(sharedHolding.getTaxLotCount() != null ? sharedHolding.getTaxLotCount() : 1)
-            .build();
+    // The batch runs on its own thread under its own request ID and without a deadline, so superseding or timing
+    // out the caller that opened it cannot fail the others; each caller only waits as long as its own deadline
+    private com.bny.shared.dto.response.AccountDto loadBatched(String accountId) {
+        Long remainingMs = RequestDeadline.remainingMillis();
+        try {
+            return remainingMs == null
+                ? accountLoader().load(accountId)
+                : accountLoader().load(accountId, Math.max(remainingMs, 0), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessException("Request deadline exceeded waiting for LFD API",
+                HttpStatus.GATEWAY_TIMEOUT, "DEADLINE_EXCEEDED");
+        }
     }
     
-    private PortfolioSummaryDto transformToPortfolioSummaryDto(LfdPortfolioSummaryResponse lfdResponse) {
-        if (lfdResponse == null) {
-            return PortfolioSummaryDto.builder().build();
+    // One GET /internal/accounts?ids=... for every account lookup that arrived in the same batch window
+    private Map<String, com.bny.shared.dto.response.AccountDto> getAccountsInfo(Set<String> accountIds) {
+        URI url = URI.create(lfdApiBaseUrl + "/internal/accounts?ids=" + accountIds.stream()
+            .map(id -> UriUtils.encode(id, StandardCharsets.UTF_8))
+            .collect(Collectors.joining(",")));
+        HttpEntity<?> entity = new HttpEntity<>(payloadMapper.createHeaders("advisor-id-placeholder"));
+        
+        log.debug("Calling LFD API: GET {}", url);
+        
+        ResponseEntity<com.bny.shared.dto.response.AccountDto[]> response = callIdempotent("accounts",
+            () -> restTemplate.exchange(url, HttpMethod.GET, entity, com.bny.shared.dto.response.AccountDto[].class));
+        
+        Map<String, com.bny.shared.dto.response.AccountDto> accounts = new LinkedHashMap<>();
+        if (response.getBody() != null) {
+            for (com.bny.shared.dto.response.AccountDto account : response.getBody()) {
+                accounts.put(account.getAccountId(), account);
+            }
         }
+        log.info("Received account info from LFD API for {} of {} accounts", accounts.size(), accountIds.size());
+        return accounts;
+    }
+    
+    // Returns the body untouched only when LFD echoed the domain profile, i.e. an LFD that predates it falls back
+    private byte[] forward(String endpoint, String url, HttpHeaders headers, String notFoundMessage) {
+        headers.set(ResponseProfile.HEADER, ResponseProfile.DOMAIN);
+        HttpEntity<?> entity = new HttpEntity<>(headers);
+        
+        log.debug("Calling LFD API: GET {} (pass-through)", url);
         
-        return PortfolioSummaryDto.builder()
-            .totalMarketValue(lfdResponse.getTotalMarketValue())
-            .totalCostBasis(lfdResponse.getTotalCostBasis())
-            .totalUnrealizedGainLoss(lfdResponse.getTotalUnrealizedGainLoss())
-            .totalUnrealizedGainLossPercent(lfdResponse.getTotalUnrealizedGainLossPercent())
-            .numberOfHoldings(lfdResponse.getHoldingsCount())
-            .portfolioBeta(lfdResponse.getPortfolioBeta())
-            .dividendYield(lfdResponse.getAnnualDividendYield())
-            .asOfDate(LocalDateTime.now())
-            .build();
+        try {
+            ResponseEntity<byte[]> response = callIdempotent(endpoint,
+                () -> restTemplate.exchange(url, HttpMethod.GET, entity, byte[].class));
+            
+            MediaType contentType = response.getHeaders().getContentType();
+            if (!ResponseProfile.isDomain(response.getHeaders().getFirst(ResponseProfile.HEADER))
+                    || contentType == null || !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                    || response.getBody() == null) {
+                log.debug("LFD API {} did not answer in the domain profile, mapping the response instead", endpoint);
+                return null;
+            }
+            return response.getBody();
+        } catch (HttpClientErrorException e) {
+            log.error("Error calling LFD API for {}: {} - {}", endpoint, e.getStatusCode(), e.getMessage());
+            throw new ResourceNotFoundException(notFoundMessage + " - HTTP " + e.getStatusCode());
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error calling LFD API for {}", endpoint, e);
+            throw new ResourceNotFoundException(notFoundMessage + " - " + e.getMessage());
+        }
+    }
+    
+    private static String unquote(String etag) {
+        String tag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        return tag.replace("\"", "");
     }
 }
@@ -0,0 +1,28 @@
+package com.bny.investing.client.dto;
+
+import com.bny.shared.dto.response.AccountSummaryDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LfdAccountSummariesResponse {
+    private String advisorId;
+    private Integer clientCount;
+    private Integer accountCount;
+    private Integer holdingsCount;
+    private BigDecimal totalMarketValue;
+    private BigDecimal totalCostBasis;
+    private BigDecimal totalUnrealizedGainLoss;
+    private BigDecimal totalUnrealizedGainLossPercent;
+    private List<AccountSummaryDto> accounts;
+    private Integer resultCode;
+    private String errorMessage;
+}
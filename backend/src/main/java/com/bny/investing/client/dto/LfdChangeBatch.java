@@ -0,0 +1,18 @@
+package com.bny.investing.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LfdChangeBatch {
+    private List<LfdChangeEvent> events;
+    private String cursor;
+    private Boolean hasMore;
+}
@@ -0,0 +1,17 @@
+package com.bny.investing.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LfdChangeEvent {
+    private String entity;
+    private String key;
+    private String parentKey;
+    private Long version;
+}
@@ -1,11 +1,13 @@
 package com.bny.investing.client.dto;
 
 import com.bny.shared.dto.response.HoldingDto;
+import com.bny.shared.dto.response.HoldingGroupDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Data
@@ -14,9 +16,15 @@ import java.util.List;
 @AllArgsConstructor
 public class LfdHoldingsResponse {
     private List<HoldingDto> holdings;
+    private List<HoldingGroupDto> groups;
     private Integer totalCount;
     private Integer pageOffset;
     private Integer pageSize;
     private Integer resultCode;
     private String errorMessage;
+    private String dataVersion;
+    private Boolean delta;
+    private List<String> holdingIds;
+    private BigDecimal totalMarketValue;
+    private BigDecimal totalCostBasis;
 }
@@ -0,0 +1,31 @@
+package com.bny.investing.client.resilience;
+
+import java.util.Arrays;
+
+public class LatencyTracker {
+
+    private final long[] samples;
+    private final int minimumSamples;
+    private int index;
+    private int count;
+
+    public LatencyTracker(int windowSize, int minimumSamples) {
+        this.samples = new long[windowSize];
+        this.minimumSamples = minimumSamples;
+    }
+
+    public synchronized void record(long millis) {
+        samples[index] = millis;
+        index = (index + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    public synchronized long percentile(double quantile, long fallback) {
+        if (count < minimumSamples) {
+            return fallback;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return sorted[Math.min(count - 1, (int) Math.ceil(quantile * count) - 1)];
+    }
+}
@@ -0,0 +1,25 @@
+package com.bny.investing.client.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class LfdCircuitHealthIndicator implements HealthIndicator {
+
+    private final LfdResilience resilience;
+
+    @Override
+    public Health health() {
+        Map<String, CircuitBreaker.State> states = resilience.circuitStates();
+        long open = states.values().stream().filter(state -> state == CircuitBreaker.State.OPEN).count();
+        return Health.up()
+                .withDetail("circuits", states)
+                .withDetail("openCircuits", open)
+                .build();
+    }
+}
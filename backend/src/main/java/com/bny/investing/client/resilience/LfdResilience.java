@@ -0,0 +1,335 @@
+package com.bny.investing.client.resilience;
+
+import com.bny.investing.client.InFlightRequestTracker;
+import com.bny.investing.client.RequestDeadline;
+import com.bny.investing.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class LfdResilience {
+
+    private final MeterRegistry meterRegistry;
+    private final int breakerWindowSize;
+    private final int breakerMinimumCalls;
+    private final double breakerFailureRateThreshold;
+    private final long breakerOpenMillis;
+    private final long retryBackoffMillis;
+    private final boolean hedgingEnabled;
+    private final long hedgingMinDelayMillis;
+    private final RetryBudget retryBudget;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Map<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor hedgeExecutor;
+
+    @Autowired
+    public LfdResilience(
+            MeterRegistry meterRegistry,
+            @Value("${lfd.resilience.breaker.window-size:20}") int breakerWindowSize,
+            @Value("${lfd.resilience.breaker.minimum-calls:10}") int breakerMinimumCalls,
+            @Value("${lfd.resilience.breaker.failure-rate-threshold:0.5}") double breakerFailureRateThreshold,
+            @Value("${lfd.resilience.breaker.open-ms:10000}") long breakerOpenMillis,
+            @Value("${lfd.resilience.retry.budget-ratio:0.1}") double retryBudgetRatio,
+            @Value("${lfd.resilience.retry.max-tokens:10}") int retryMaxTokens,
+            @Value("${lfd.resilience.retry.backoff-ms:50}") long retryBackoffMillis,
+            @Value("${lfd.resilience.hedging.enabled:false}") boolean hedgingEnabled,
+            @Value("${lfd.resilience.hedging.min-delay-ms:50}") long hedgingMinDelayMillis,
+            @Value("${lfd.resilience.hedging.max-threads:32}") int hedgingMaxThreads) {
+        this.meterRegistry = meterRegistry;
+        this.breakerWindowSize = breakerWindowSize;
+        this.breakerMinimumCalls = breakerMinimumCalls;
+        this.breakerFailureRateThreshold = breakerFailureRateThreshold;
+        this.breakerOpenMillis = breakerOpenMillis;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.hedgingEnabled = hedgingEnabled;
+        this.hedgingMinDelayMillis = hedgingMinDelayMillis;
+        this.retryBudget = new RetryBudget(retryBudgetRatio, retryMaxTokens);
+        AtomicInteger threadCount = new AtomicInteger();
+        // No queue: an attempt that cannot start right away runs on the caller thread, and a hedge that
+        // cannot start is not sent
+        this.hedgeExecutor = new ThreadPoolExecutor(0, hedgingMaxThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), task -> {
+                    Thread thread = new Thread(task, "lfd-hedge-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Gauge.builder("lfd.client.retry.budget", retryBudget, RetryBudget::getTokens).register(meterRegistry);
+    }
+
+    public <T> T call(String endpoint, boolean idempotent, Supplier<T> call) {
+        return call(endpoint, idempotent, call, null);
+    }
+
+    // remoteCancel receives the X-Request-ID of a hedge attempt that lost the race
+    public <T> T call(String endpoint, boolean idempotent, Supplier<T> call, Consumer<String> remoteCancel) {
+        CircuitBreaker breaker = breaker(endpoint);
+        retryBudget.onRequest();
+        int maxAttempts = idempotent ? 2 : 1;
+        RuntimeException lastFailure = null;
+
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            if (attempt > 0) {
+                if (!retryBudget.tryWithdraw()) {
+                    log.debug("Retry budget exhausted for LFD endpoint {}", endpoint);
+                    break;
+                }
+                meterRegistry.counter("lfd.client.retries", "endpoint", endpoint).increment();
+                pause(retryBackoffMillis);
+            }
+            if (!breaker.tryAcquire()) {
+                meterRegistry.counter("lfd.client.circuit.rejected", "endpoint", endpoint).increment();
+                throw new BusinessException("LFD endpoint " + endpoint + " is temporarily unavailable",
+                        HttpStatus.SERVICE_UNAVAILABLE, "CIRCUIT_OPEN");
+            }
+
+            long start = System.nanoTime();
+            try {
+                T result = hedgingEnabled && idempotent ? hedged(endpoint, call, remoteCancel) : call.get();
+                breaker.onSuccess();
+                record(endpoint, start, "success");
+                return result;
+            } catch (RuntimeException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    breaker.onIgnored();
+                    record(endpoint, start, "cancelled");
+                    throw e;
+                }
+                // A shed response says the server is healthy but busy: retrying at once adds to the overload,
+                // and counting it would open the breaker on a server that is protecting itself
+                if (isShed(e)) {
+                    breaker.onIgnored();
+                    record(endpoint, start, "shed");
+                    throw e;
+                }
+                if (!isFailure(e)) {
+                    breaker.onSuccess();
+                    record(endpoint, start, "client_error");
+                    throw e;
+                }
+                breaker.onFailure();
+                record(endpoint, start, "failure");
+                lastFailure = e;
+            }
+        }
+        throw lastFailure;
+    }
+
+    // Non-blocking counterpart of call for WebClient publishers: the same breaker, retry budget and metrics, with
+    // the retry backoff scheduled instead of slept. Attempts are not hedged; a cancelled subscription is not counted
+    public <T> Mono<T> callReactive(String endpoint, boolean idempotent, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            retryBudget.onRequest();
+            return attemptReactive(endpoint, call, idempotent ? 2 : 1, 0);
+        });
+    }
+
+    public Map<String, CircuitBreaker.State> circuitStates() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        breakers.forEach((endpoint, breaker) -> states.put(endpoint, breaker.getState()));
+        return states;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgeExecutor.shutdownNow();
+    }
+
+    private <T> Mono<T> attemptReactive(String endpoint, Supplier<Mono<T>> call, int maxAttempts, int attempt) {
+        return Mono.defer(() -> {
+            CircuitBreaker breaker = breaker(endpoint);
+            if (!breaker.tryAcquire()) {
+                meterRegistry.counter("lfd.client.circuit.rejected", "endpoint", endpoint).increment();
+                return Mono.error(new BusinessException("LFD endpoint " + endpoint + " is temporarily unavailable",
+                        HttpStatus.SERVICE_UNAVAILABLE, "CIRCUIT_OPEN"));
+            }
+
+            long start = System.nanoTime();
+            return call.get()
+                    .doOnSuccess(result -> {
+                        breaker.onSuccess();
+                        record(endpoint, start, "success");
+                    })
+                    .doOnCancel(() -> {
+                        breaker.onIgnored();
+                        record(endpoint, start, "cancelled");
+                    })
+                    .onErrorResume(RuntimeException.class, e -> {
+                        if (isShed(e)) {
+                            breaker.onIgnored();
+                            record(endpoint, start, "shed");
+                            return Mono.error(e);
+                        }
+                        if (!isFailure(e)) {
+                            breaker.onSuccess();
+                            record(endpoint, start, "client_error");
+                            return Mono.error(e);
+                        }
+                        breaker.onFailure();
+                        record(endpoint, start, "failure");
+                        if (attempt + 1 >= maxAttempts) {
+                            return Mono.error(e);
+                        }
+                        if (!retryBudget.tryWithdraw()) {
+                            log.debug("Retry budget exhausted for LFD endpoint {}", endpoint);
+                            return Mono.error(e);
+                        }
+                        meterRegistry.counter("lfd.client.retries", "endpoint", endpoint).increment();
+                        return Mono.delay(Duration.ofMillis(retryBackoffMillis))
+                                .then(attemptReactive(endpoint, call, maxAttempts, attempt + 1));
+                    });
+        });
+    }
+
+    private <T> T hedged(String endpoint, Supplier<T> call, Consumer<String> remoteCancel) {
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(hedgeExecutor);
+        List<Future<T>> attempts = new ArrayList<>(2);
+        List<String> attemptIds = new ArrayList<>(2);
+        long delay = Math.max(hedgingMinDelayMillis, latency(endpoint).percentile(0.95, hedgingMinDelayMillis));
+        String callerRequestId = InFlightRequestTracker.trackedRequestId();
+        try {
+            String firstId = callerRequestId != null ? callerRequestId : UUID.randomUUID().toString();
+            try {
+                attempts.add(completion.submit(withCallerContext(call, firstId)));
+                attemptIds.add(firstId);
+            } catch (RejectedExecutionException e) {
+                meterRegistry.counter("lfd.client.hedges.rejected", "endpoint", endpoint).increment();
+                return call.get();
+            }
+            Future<T> done = completion.poll(delay, TimeUnit.MILLISECONDS);
+            if (done == null && retryBudget.tryWithdraw()) {
+                String hedgeId = UUID.randomUUID().toString();
+                try {
+                    attempts.add(completion.submit(withCallerContext(call, hedgeId)));
+                    attemptIds.add(hedgeId);
+                    meterRegistry.counter("lfd.client.hedges", "endpoint", endpoint).increment();
+                } catch (RejectedExecutionException e) {
+                    meterRegistry.counter("lfd.client.hedges.rejected", "endpoint", endpoint).increment();
+                }
+            }
+            ExecutionException lastFailure = null;
+            for (int pending = attempts.size(); pending > 0; pending--) {
+                Future<T> next = done != null ? done : completion.take();
+                done = null;
+                try {
+                    return next.get();
+                } catch (ExecutionException e) {
+                    lastFailure = e;
+                }
+            }
+            throw lastFailure.getCause() instanceof RuntimeException runtime
+                    ? runtime
+                    : new ResourceAccessException("LFD call failed: " + lastFailure.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted waiting for LFD endpoint " + endpoint);
+        } finally {
+            for (int i = 0; i < attempts.size(); i++) {
+                Future<T> attempt = attempts.get(i);
+                if (!attempt.isDone()) {
+                    attempt.cancel(true);
+                    if (remoteCancel != null) {
+                        String loserId = attemptIds.get(i);
+                        CompletableFuture.runAsync(() -> remoteCancel.accept(loserId));
+                    }
+                }
+            }
+        }
+    }
+
+    // Each attempt carries its own request id so the server can tell them apart and the loser can be cancelled
+    private <T> Callable<T> withCallerContext(Supplier<T> call, String requestId) {
+        Long remainingMillis = RequestDeadline.remainingMillis();
+        return () -> {
+            InFlightRequestTracker.bindRequestId(requestId);
+            if (remainingMillis != null) {
+                RequestDeadline.start(remainingMillis);
+            }
+            try {
+                return call.get();
+            } finally {
+                InFlightRequestTracker.unbindRequestId();
+                RequestDeadline.clear();
+            }
+        };
+    }
+
+    private boolean isShed(RuntimeException e) {
+        return e instanceof HttpServerErrorException http
+                && http.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE)
+                && http.getResponseHeaders() != null
+                && http.getResponseHeaders().containsKey(HttpHeaders.RETRY_AFTER);
+    }
+
+    private boolean isFailure(RuntimeException e) {
+        return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+    }
+
+    private void record(String endpoint, long startNanos, String outcome) {
+        long elapsed = System.nanoTime() - startNanos;
+        if ("success".equals(outcome)) {
+            latency(endpoint).record(TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        Timer.builder("lfd.client.calls")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private CircuitBreaker breaker(String endpoint) {
+        return breakers.computeIfAbsent(endpoint, key -> {
+            CircuitBreaker breaker = new CircuitBreaker(breakerWindowSize, breakerMinimumCalls,
+                    breakerFailureRateThreshold, breakerOpenMillis);
+            Gauge.builder("lfd.client.circuit.state", breaker, b -> b.getState().ordinal())
+                    .tag("endpoint", key)
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    private LatencyTracker latency(String endpoint) {
+        return latencies.computeIfAbsent(endpoint, key -> new LatencyTracker(200, 20));
+    }
+
+    private void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted before retrying LFD call");
+        }
+    }
+}
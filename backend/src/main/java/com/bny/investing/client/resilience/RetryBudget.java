@@ -0,0 +1,30 @@
+package com.bny.investing.client.resilience;
+
+public class RetryBudget {
+
+    private final double depositPerRequest;
+    private final double maxTokens;
+    private double tokens;
+
+    public RetryBudget(double retryRatio, int maxTokens) {
+        this.depositPerRequest = retryRatio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    public synchronized void onRequest() {
+        tokens = Math.min(maxTokens, tokens + depositPerRequest);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    public synchronized double getTokens() {
+        return tokens;
+    }
+}
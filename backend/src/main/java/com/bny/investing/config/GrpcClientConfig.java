@@ -0,0 +1,27 @@
+package com.bny.investing.config;
+
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnProperty(name = "lfd.client.type", havingValue = "grpc")
+public class GrpcClientConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ManagedChannel lfdGrpcChannel(
+            @Value("${lfd.grpc.target:localhost:9091}") String target,
+            @Value("${lfd.grpc.max-inbound-message-bytes:16777216}") int maxInboundMessageBytes,
+            @Value("${lfd.grpc.keep-alive-time-seconds:30}") long keepAliveTimeSeconds) {
+        return NettyChannelBuilder.forTarget(target)
+            .usePlaintext()
+            .maxInboundMessageSize(maxInboundMessageBytes)
+            .keepAliveTime(keepAliveTimeSeconds, TimeUnit.SECONDS)
+            .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.bny.investing.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // Registered on Boot's ObjectMapper, so MVC responses and the LFD JSON client use generated accessors
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
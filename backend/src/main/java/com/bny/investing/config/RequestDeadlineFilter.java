@@ -0,0 +1,47 @@
+package com.bny.investing.config;
+
+import com.bny.investing.client.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    @Value("${app.request.timeout-ms:30000}")
+    private long defaultTimeoutMs;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestDeadline.start(resolveTimeout(request.getHeader(RequestDeadline.TIMEOUT_HEADER)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    private long resolveTimeout(String header) {
+        if (!StringUtils.hasText(header)) {
+            return defaultTimeoutMs;
+        }
+        try {
+            return Math.min(Long.parseLong(header.trim()), defaultTimeoutMs);
+        } catch (NumberFormatException e) {
+            return defaultTimeoutMs;
+        }
+    }
+}
@@ -1,20 +1,83 @@
 package com.bny.investing.config;
 
+import com.bny.investing.client.DeadlineRequestFactory;
+import com.bny.investing.client.LfdWireInterceptor;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 
 @Configuration
 public class RestClientConfig {
     
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder, MeterRegistry meterRegistry,
+            @Value("${lfd.client.compression.enabled:true}") boolean compressionEnabled,
+            @Value("${lfd.client.encoding:json}") String encoding) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        DeadlineRequestFactory requestFactory = new DeadlineRequestFactory(httpClient,
+            new SimpleAsyncTaskExecutor("lfd-http-"), Duration.ofSeconds(30));
+        
+        boolean smileEnabled = "smile".equalsIgnoreCase(encoding);
+        RestTemplate restTemplate = builder
+            .requestFactory(() -> requestFactory)
+            .additionalInterceptors(new LfdWireInterceptor(meterRegistry, compressionEnabled, smileEnabled))
+            .build();
+        if (smileEnabled) {
+            restTemplate.getMessageConverters().add(0, new MappingJackson2SmileHttpMessageConverter(
+                Jackson2ObjectMapperBuilder.smile().modulesToInstall(new BlackbirdModule()).build()));
+        }
+        return restTemplate;
+    }
+    
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(name = "lfd.client.reactive.enabled", havingValue = "true")
+    public ConnectionProvider lfdConnectionProvider(
+            @Value("${lfd.client.reactive.max-connections:500}") int maxConnections,
+            @Value("${lfd.client.reactive.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${lfd.client.reactive.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs) {
+        return ConnectionProvider.builder("lfd-api")
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(pendingAcquireMaxCount)
+            .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+            .maxIdleTime(Duration.ofSeconds(30))
+            .build();
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "lfd.client.reactive.enabled", havingValue = "true")
+    public WebClient lfdWebClient(WebClient.Builder builder, ConnectionProvider lfdConnectionProvider,
+            @Value("${lfd.api.base-url:http://localhost:8081}") String lfdApiBaseUrl,
+            @Value("${lfd.client.compression.enabled:true}") boolean compressionEnabled) {
+        return lfdWebClient(builder, lfdConnectionProvider, lfdApiBaseUrl, Duration.ofSeconds(30), compressionEnabled);
+    }
+    
+    public static WebClient lfdWebClient(WebClient.Builder builder, ConnectionProvider connectionProvider,
+            String baseUrl, Duration responseTimeout, boolean compressionEnabled) {
+        reactor.netty.http.client.HttpClient httpClient = reactor.netty.http.client.HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5_000)
+            .responseTimeout(responseTimeout)
+            .compress(compressionEnabled);
+        
         return builder
-            .setConnectTimeout(Duration.ofSeconds(5))
-            .setReadTimeout(Duration.ofSeconds(30))
+            .baseUrl(baseUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
             .build();
     }
 }
@@ -1,15 +1,23 @@
 package com.bny.investing.controller;
 
+import com.bny.investing.dto.AccountDto;
+import com.bny.investing.dto.AdvisorSummaryDto;
 import com.bny.investing.dto.ClientDto;
 import com.bny.investing.dto.ClientSearchRequest;
+import com.bny.investing.dto.ConsolidatedHoldingsResponseDto;
+import com.bny.investing.dto.ClientSuggestionDto;
 import com.bny.investing.dto.PaginatedResponse;
 import com.bny.investing.service.ClientService;
+import com.bny.investing.service.HoldingsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
@@ -17,17 +25,41 @@ import org.springframework.web.bind.annotation.*;
 public class ClientController {
 
     private final ClientService clientService;
+    private final HoldingsService holdingsService;
 
     @GetMapping("/advisor/{advisorId}/clients")
-    public ResponseEntity<PaginatedResponse<ClientDto>> getAdvisorClients(
+    public ResponseEntity<?> getAdvisorClients(
             @PathVariable String advisorId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size) {
         
+        byte[] passThrough = clientService.getAdvisorClientsPassThrough(advisorId, page, size);
+        if (passThrough != null) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(passThrough);
+        }
+        
         PaginatedResponse<ClientDto> response = clientService.getAdvisorClients(advisorId, page, size);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/advisor/{advisorId}/summary")
+    public ResponseEntity<AdvisorSummaryDto> getAdvisorSummary(
+            @PathVariable String advisorId) {
+        
+        AdvisorSummaryDto response = clientService.getAdvisorSummary(advisorId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/advisor/{advisorId}/clients/suggest")
+    public ResponseEntity<List<ClientSuggestionDto>> suggestClients(
+            @PathVariable String advisorId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        List<ClientSuggestionDto> response = clientService.suggestClients(advisorId, q, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/clients/search")
     public ResponseEntity<PaginatedResponse<ClientDto>> searchClients(
             @Valid @RequestBody ClientSearchRequest request) {
@@ -35,4 +67,41 @@ public class ClientController {
         PaginatedResponse<ClientDto> response = clientService.searchClients(request);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/clients/{clientId}")
+    public ResponseEntity<ClientDto> getClient(
+            @PathVariable String clientId) {
+        
+        ClientDto response = clientService.getClient(clientId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/clients/{clientId}/accounts")
+    public ResponseEntity<List<AccountDto>> getClientAccounts(
+            @PathVariable String clientId) {
+        
+        List<AccountDto> response = clientService.getClientAccounts(clientId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/accounts/{accountId}")
+    public ResponseEntity<AccountDto> getAccount(
+            @PathVariable String accountId) {
+        
+        AccountDto response = clientService.getAccount(accountId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/clients/{clientId}/holdings/consolidated")
+    public ResponseEntity<?> getConsolidatedHoldings(
+            @PathVariable String clientId) {
+        
+        byte[] passThrough = holdingsService.getConsolidatedHoldingsPassThrough(clientId);
+        if (passThrough != null) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(passThrough);
+        }
+        
+        ConsolidatedHoldingsResponseDto response = holdingsService.getConsolidatedHoldings(clientId);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -1,14 +1,25 @@
 package com.bny.investing.controller;
 
+import com.bny.investing.dto.HoldingsQuery;
 import com.bny.investing.dto.HoldingsResponseDto;
+import com.bny.investing.model.AssetClass;
+import com.bny.investing.model.HoldingsGroupField;
+import com.bny.investing.model.HoldingsSortField;
+import com.bny.investing.model.SortDirection;
 import com.bny.shared.dto.response.PortfolioSummaryDto;
 import com.bny.investing.service.HoldingsService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/accounts")
 @Validated
@@ -21,16 +32,55 @@ public class HoldingsController {
     public ResponseEntity<HoldingsResponseDto> getAccountHoldings(
             @PathVariable String accountId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "50") int size) {
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) List<AssetClass> assetClasses,
+            @RequestParam(defaultValue = "MARKET_VALUE") HoldingsSortField sortBy,
+            @RequestParam(defaultValue = "DESC") SortDirection sortDirection,
+            @RequestParam(required = false) HoldingsGroupField groupBy,
+            @RequestParam(required = false) String since) {
         
         if (size > 1000) {
             size = 1000;
         }
         
+        HoldingsQuery query = HoldingsQuery.builder()
+                .assetClasses(assetClasses)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .groupBy(groupBy)
+                .since(since)
+                .build();
+        
         HoldingsResponseDto response = holdingsService.getAccountHoldings(
-                accountId, PageRequest.of(page, size));
+                accountId, PageRequest.of(page, size), query);
         
-        return ResponseEntity.ok(response);
+        return versioned(response.getVersion()).body(response);
+    }
+    
+    @GetMapping("/{accountId}/holdings/stream")
+    public void streamAccountHoldings(
+            @PathVariable String accountId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) List<AssetClass> assetClasses,
+            @RequestParam(defaultValue = "MARKET_VALUE") HoldingsSortField sortBy,
+            @RequestParam(defaultValue = "DESC") SortDirection sortDirection,
+            @RequestParam(required = false) HoldingsGroupField groupBy,
+            HttpServletResponse response) throws IOException {
+        
+        if (size > 1000) {
+            size = 1000;
+        }
+        
+        HoldingsQuery query = HoldingsQuery.builder()
+                .assetClasses(assetClasses)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .groupBy(groupBy)
+                .build();
+        
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        holdingsService.streamAccountHoldings(accountId, PageRequest.of(page, size), query, response.getOutputStream());
     }
     
     @GetMapping("/{accountId}/holdings/summary")
@@ -39,6 +89,16 @@ public class HoldingsController {
         
         PortfolioSummaryDto response = holdingsService.getPortfolioSummary(accountId);
         
-        return ResponseEntity.ok(response);
+        return versioned(response.getVersion()).body(response);
+    }
+    
+    // A matching If-None-Match on these GETs is turned into a 304 by Spring once the ETag is set
+    private static ResponseEntity.BodyBuilder versioned(String version) {
+        if (version == null) {
+            return ResponseEntity.ok();
+        }
+        return ResponseEntity.ok()
+                .eTag(version)
+                .cacheControl(CacheControl.noCache());
     }
 }
@@ -0,0 +1,64 @@
+package com.bny.investing.controller;
+
+import com.bny.investing.client.ReactiveLfdClientService;
+import com.bny.investing.dto.HoldingsQuery;
+import com.bny.investing.dto.HoldingsResponseDto;
+import com.bny.investing.model.AssetClass;
+import com.bny.investing.model.HoldingsGroupField;
+import com.bny.investing.model.HoldingsSortField;
+import com.bny.investing.model.SortDirection;
+import com.bny.shared.dto.response.PortfolioSummaryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// Same holdings page and summary as HoldingsController, served from the non-blocking client: the servlet thread
+// is released once the LFD calls are sent and the response is written when they complete
+@RestController
+@RequestMapping("/api/v1/reactive/accounts")
+@Validated
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${app.mock.enabled:true}' == 'false' and '${lfd.client.reactive.enabled:false}' == 'true'")
+public class ReactiveHoldingsController {
+
+    private final ReactiveLfdClientService reactiveLfdClientService;
+
+    @GetMapping("/{accountId}/holdings")
+    public Mono<ResponseEntity<HoldingsResponseDto>> getAccountHoldings(
+            @PathVariable String accountId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) List<AssetClass> assetClasses,
+            @RequestParam(defaultValue = "MARKET_VALUE") HoldingsSortField sortBy,
+            @RequestParam(defaultValue = "DESC") SortDirection sortDirection,
+            @RequestParam(required = false) HoldingsGroupField groupBy) {
+
+        if (size > 1000) {
+            size = 1000;
+        }
+
+        HoldingsQuery query = HoldingsQuery.builder()
+                .assetClasses(assetClasses)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .groupBy(groupBy)
+                .build();
+
+        return reactiveLfdClientService.getAccountHoldings(accountId, PageRequest.of(page, size), query)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{accountId}/holdings/summary")
+    public Mono<ResponseEntity<PortfolioSummaryDto>> getPortfolioSummary(
+            @PathVariable String accountId) {
+
+        return reactiveLfdClientService.getPortfolioSummary(accountId)
+                .map(ResponseEntity::ok);
+    }
+}
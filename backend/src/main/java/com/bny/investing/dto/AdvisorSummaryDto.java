@@ -0,0 +1,26 @@
+package com.bny.investing.dto;
+
+import com.bny.shared.dto.response.AccountSummaryDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdvisorSummaryDto {
+    private String advisorId;
+    private int clientCount;
+    private int accountCount;
+    private int holdingsCount;
+    private BigDecimal totalMarketValue;
+    private BigDecimal totalCostBasis;
+    private BigDecimal totalUnrealizedGainLoss;
+    private BigDecimal totalUnrealizedGainLossPercent;
+    private List<AccountSummaryDto> accounts;
+}
@@ -1,5 +1,6 @@
 package com.bny.investing.dto;
 
+import com.bny.investing.model.ActivityStatus;
 import com.bny.investing.model.RiskProfile;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,11 +21,13 @@ public class ClientDto {
     private List<AccountDto> accounts;
     private String taxId;
     private RiskProfile riskProfile;
+    private ActivityStatus activityStatus;
     private BigDecimal totalMarketValue;
     private BigDecimal totalCostBasis;
     private BigDecimal totalUnrealizedGainLoss;
     private BigDecimal ytdPerformance;
     private LocalDateTime lastAccessed;
+    private LocalDateTime lastUpdated;
     private String advisorId;
     private String advisorName;
 }
@@ -0,0 +1,16 @@
+package com.bny.investing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientSuggestionDto {
+    private String clientId;
+    private String clientName;
+    private String accountNumber;
+}
@@ -13,6 +13,7 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @AllArgsConstructor
 public class HoldingDto {
+    private String holdingId;
     private String symbol;
     private String securityName;
     private BigDecimal quantity;
@@ -0,0 +1,24 @@
+package com.bny.investing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldingGroupDto {
+    private String groupKey;
+    private int holdingsCount;
+    private BigDecimal marketValue;
+    private BigDecimal costBasis;
+    private BigDecimal unrealizedGainLoss;
+    private BigDecimal unrealizedGainLossPercent;
+    private BigDecimal weight;
+    private List<HoldingDto> holdings;
+}
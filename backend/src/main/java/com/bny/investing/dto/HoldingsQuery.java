@@ -0,0 +1,30 @@
+package com.bny.investing.dto;
+
+import com.bny.investing.model.AssetClass;
+import com.bny.investing.model.HoldingsGroupField;
+import com.bny.investing.model.HoldingsSortField;
+import com.bny.investing.model.SortDirection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldingsQuery {
+    private List<AssetClass> assetClasses;
+    
+    @Builder.Default
+    private HoldingsSortField sortBy = HoldingsSortField.MARKET_VALUE;
+    
+    @Builder.Default
+    private SortDirection sortDirection = SortDirection.DESC;
+    
+    private HoldingsGroupField groupBy;
+    
+    private String since;
+}
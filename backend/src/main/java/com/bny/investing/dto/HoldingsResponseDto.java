@@ -1,11 +1,13 @@
 package com.bny.investing.dto;
 
 import com.bny.shared.dto.response.PortfolioSummaryDto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Data
@@ -16,8 +18,17 @@ public class HoldingsResponseDto {
     private AccountDto accountInfo;
     private PortfolioSummaryDto summary;
     private List<HoldingDto> holdings;
+    private List<HoldingGroupDto> groups;
     private int page;
     private int size;
     private long totalElements;
     private int totalPages;
+    private String dataVersion;
+    private boolean delta;
+    private List<String> holdingIds;
+    private BigDecimal totalMarketValue;
+    private BigDecimal totalCostBasis;
+
+    @JsonIgnore
+    private String version;
 }
@@ -0,0 +1,399 @@
+package com.bny.investing.index;
+
+import com.bny.investing.dto.AccountDto;
+import com.bny.investing.dto.ClientDto;
+import com.bny.investing.dto.ClientSearchRequest;
+import com.bny.investing.dto.ClientSuggestionDto;
+import com.bny.investing.model.AccountType;
+import com.bny.investing.model.ActivityStatus;
+import com.bny.investing.model.RiskProfile;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class ClientSearchIndex {
+
+    private static final int GRAM = 3;
+
+    private final List<ClientDto> clients = new ArrayList<>();
+    private final Map<String, Integer> slotsByClientId = new HashMap<>();
+    private final Map<String, AccountDto> accountsById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+
+    private final Map<String, BitSet> nameGrams = new HashMap<>();
+    private final Map<String, BitSet> accountNumbers = new HashMap<>();
+    private final Map<String, BitSet> taxIds = new HashMap<>();
+    private final Map<AccountType, BitSet> accountTypes = new EnumMap<>(AccountType.class);
+    private final Map<RiskProfile, BitSet> riskProfiles = new EnumMap<>(RiskProfile.class);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile PrefixTable prefixTable;
+    private volatile long refreshedAt;
+
+    // A client is re-indexed when any of its fields differ from the indexed copy, so edits that leave
+    // lastUpdated alone (or land in the same second) still reach the postings
+    public int refresh(List<ClientDto> book) {
+        lock.writeLock().lock();
+        try {
+            int changed = 0;
+            Set<String> seen = new HashSet<>(book.size() * 2);
+            for (ClientDto client : book) {
+                seen.add(client.getClientId());
+                Integer slot = slotsByClientId.get(client.getClientId());
+                if (slot != null && client.equals(clients.get(slot))) {
+                    continue;
+                }
+                remove(client.getClientId());
+                add(client);
+                changed++;
+            }
+            for (String clientId : new ArrayList<>(slotsByClientId.keySet())) {
+                if (!seen.contains(clientId)) {
+                    remove(clientId);
+                    changed++;
+                }
+            }
+            if (changed > 0) {
+                prefixTable = null;
+            }
+            refreshedAt = System.nanoTime();
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ClientDto> search(ClientSearchRequest request) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) live.clone();
+
+            if (!isBlank(request.getClientName())) {
+                matches.and(nameCandidates(normalize(request.getClientName())));
+            }
+            if (!isBlank(request.getAccountNumber())) {
+                matches.and(accountNumbers.getOrDefault(request.getAccountNumber(), new BitSet()));
+            }
+            if (!isBlank(request.getTaxId())) {
+                matches.and(taxIds.getOrDefault(request.getTaxId(), new BitSet()));
+            }
+            if (request.getAccountTypes() != null && !request.getAccountTypes().isEmpty()) {
+                matches.and(union(accountTypes, request.getAccountTypes()));
+            }
+            if (request.getRiskProfiles() != null && !request.getRiskProfiles().isEmpty()) {
+                matches.and(union(riskProfiles, request.getRiskProfiles()));
+            }
+
+            // Activity buckets move with the clock, so they are derived per query rather than indexed
+            List<ClientDto> result = new ArrayList<>(matches.cardinality());
+            String name = isBlank(request.getClientName()) ? null : normalize(request.getClientName());
+            ActivityStatus activityStatus = request.getActivityStatus();
+            LocalDateTime now = LocalDateTime.now();
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                ClientDto client = clients.get(slot);
+                if (name != null && !normalize(client.getClientName()).contains(name)) {
+                    continue;
+                }
+                if (activityStatus != null && activityStatus != activityStatusOf(client, now)) {
+                    continue;
+                }
+                result.add(client);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ClientSuggestionDto> suggest(String query, int limit) {
+        String prefix = normalize(query).trim();
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            PrefixTable table = prefixTable;
+            if (table == null) {
+                table = buildPrefixTable();
+                prefixTable = table;
+            }
+            List<ClientSuggestionDto> result = new ArrayList<>(limit);
+            Set<Integer> seen = new HashSet<>();
+            for (int i = table.lowerBound(prefix); i < table.keys.length && result.size() < limit; i++) {
+                if (!table.keys[i].startsWith(prefix)) {
+                    break;
+                }
+                if (seen.add(table.slots[i])) {
+                    ClientDto client = clients.get(table.slots[i]);
+                    result.add(ClientSuggestionDto.builder()
+                            .clientId(client.getClientId())
+                            .clientName(client.getClientName())
+                            .accountNumber(table.accountNumbers[i])
+                            .build());
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ClientDto findClient(String clientId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsByClientId.get(clientId);
+            return slot != null ? clients.get(slot) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public AccountDto findAccount(String accountId) {
+        lock.readLock().lock();
+        try {
+            return accountsById.get(accountId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isFresh(long maxAgeNanos) {
+        long at = refreshedAt;
+        return at != 0 && System.nanoTime() - at < maxAgeNanos;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByClientId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private PrefixTable buildPrefixTable() {
+        List<PrefixEntry> entries = new ArrayList<>();
+        for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+            ClientDto client = clients.get(slot);
+            if (client.getClientName() != null) {
+                String name = normalize(client.getClientName());
+                entries.add(new PrefixEntry(name, slot, null));
+                for (int i = 1; i < name.length(); i++) {
+                    if (name.charAt(i - 1) == ' ' && name.charAt(i) != ' ') {
+                        entries.add(new PrefixEntry(name.substring(i), slot, null));
+                    }
+                }
+            }
+            if (client.getAccounts() != null) {
+                for (AccountDto account : client.getAccounts()) {
+                    if (account.getAccountNumber() != null) {
+                        entries.add(new PrefixEntry(normalize(account.getAccountNumber()), slot, account.getAccountNumber()));
+                    }
+                }
+            }
+        }
+        entries.sort(Comparator.comparing((PrefixEntry e) -> e.key).thenComparingInt(e -> e.slot));
+        return new PrefixTable(entries);
+    }
+
+    private BitSet nameCandidates(String name) {
+        if (name.length() < GRAM) {
+            return (BitSet) live.clone();
+        }
+        BitSet candidates = null;
+        for (String gram : grams(name)) {
+            BitSet postings = nameGrams.get(gram);
+            if (postings == null) {
+                return new BitSet();
+            }
+            if (candidates == null) {
+                candidates = (BitSet) postings.clone();
+            } else {
+                candidates.and(postings);
+            }
+        }
+        return candidates;
+    }
+
+    private void add(ClientDto client) {
+        int slot = freeSlots.isEmpty() ? clients.size() : freeSlots.pop();
+        if (slot == clients.size()) {
+            clients.add(client);
+        } else {
+            clients.set(slot, client);
+        }
+        slotsByClientId.put(client.getClientId(), slot);
+        live.set(slot);
+        postings(client, slot, true);
+    }
+
+    private void remove(String clientId) {
+        Integer slot = slotsByClientId.remove(clientId);
+        if (slot == null) {
+            return;
+        }
+        postings(clients.get(slot), slot, false);
+        clients.set(slot, null);
+        live.clear(slot);
+        freeSlots.push(slot);
+    }
+
+    private void postings(ClientDto client, int slot, boolean set) {
+        if (client.getClientName() != null) {
+            for (String gram : grams(normalize(client.getClientName()))) {
+                posting(nameGrams, gram, slot, set);
+            }
+        }
+        if (client.getTaxId() != null) {
+            posting(taxIds, client.getTaxId(), slot, set);
+        }
+        if (client.getRiskProfile() != null) {
+            posting(riskProfiles, client.getRiskProfile(), slot, set);
+        }
+        if (client.getAccounts() != null) {
+            for (AccountDto account : client.getAccounts()) {
+                if (account.getAccountId() != null) {
+                    if (set) {
+                        accountsById.put(account.getAccountId(), account);
+                    } else {
+                        accountsById.remove(account.getAccountId(), account);
+                    }
+                }
+                if (account.getAccountNumber() != null) {
+                    posting(accountNumbers, account.getAccountNumber(), slot, set);
+                }
+                if (account.getAccountType() != null) {
+                    posting(accountTypes, account.getAccountType(), slot, set);
+                }
+            }
+        }
+    }
+
+    private static <K> void posting(Map<K, BitSet> index, K key, int slot, boolean set) {
+        if (set) {
+            index.computeIfAbsent(key, k -> new BitSet()).set(slot);
+            return;
+        }
+        BitSet postings = index.get(key);
+        if (postings != null) {
+            postings.clear(slot);
+            if (postings.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static <K> BitSet union(Map<K, BitSet> index, List<K> keys) {
+        BitSet result = new BitSet();
+        for (K key : keys) {
+            BitSet postings = index.get(key);
+            if (postings != null) {
+                result.or(postings);
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    static ActivityStatus activityStatusOf(ClientDto client, LocalDateTime now) {
+        if (client.getActivityStatus() != null) {
+            return client.getActivityStatus();
+        }
+        LocalDateTime lastActivity = lastActivityOf(client);
+        if (lastActivity == null) {
+            return null;
+        }
+        if (lastActivity.isAfter(now.minusDays(90))) {
+            return ActivityStatus.ACTIVE;
+        }
+        if (lastActivity.isAfter(now.minusDays(365))) {
+            return ActivityStatus.INACTIVE;
+        }
+        return ActivityStatus.DORMANT;
+    }
+
+    private static LocalDateTime lastActivityOf(ClientDto client) {
+        LocalDateTime latest = client.getLastAccessed();
+        if (client.getAccounts() != null) {
+            for (AccountDto account : client.getAccounts()) {
+                if (account.getLastActivity() != null && (latest == null || account.getLastActivity().isAfter(latest))) {
+                    latest = account.getLastActivity();
+                }
+            }
+        }
+        return latest;
+    }
+
+    private static class PrefixEntry {
+        private final String key;
+        private final int slot;
+        private final String accountNumber;
+
+        private PrefixEntry(String key, int slot, String accountNumber) {
+            this.key = key;
+            this.slot = slot;
+            this.accountNumber = accountNumber;
+        }
+    }
+
+    private static class PrefixTable {
+        private final String[] keys;
+        private final int[] slots;
+        private final String[] accountNumbers;
+
+        private PrefixTable(List<PrefixEntry> entries) {
+            keys = new String[entries.size()];
+            slots = new int[entries.size()];
+            accountNumbers = new String[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                keys[i] = entries.get(i).key;
+                slots[i] = entries.get(i).slot;
+                accountNumbers[i] = entries.get(i).accountNumber;
+            }
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
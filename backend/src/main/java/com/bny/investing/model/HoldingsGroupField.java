@@ -0,0 +1,6 @@
+package com.bny.investing.model;
+
+public enum HoldingsGroupField {
+    SECTOR,
+    ASSET_CLASS
+}
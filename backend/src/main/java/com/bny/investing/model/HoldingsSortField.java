@@ -0,0 +1,17 @@
+package com.bny.investing.model;
+
+public enum HoldingsSortField {
+    SYMBOL,
+    SECURITY_NAME,
+    QUANTITY,
+    CURRENT_PRICE,
+    PRICE_CHANGE_PERCENT,
+    COST_BASIS,
+    TOTAL_COST,
+    MARKET_VALUE,
+    UNREALIZED_GAIN_LOSS,
+    UNREALIZED_GAIN_LOSS_PERCENT,
+    PORTFOLIO_PERCENT,
+    SECTOR,
+    ASSET_CLASS
+}
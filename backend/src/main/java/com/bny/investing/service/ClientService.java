@@ -1,27 +1,53 @@
 package com.bny.investing.service;
 
+import com.bny.investing.client.InFlightRequestTracker;
 import com.bny.investing.client.LfdClientService;
+import com.bny.investing.dto.AccountDto;
+import com.bny.investing.dto.AdvisorSummaryDto;
 import com.bny.investing.dto.ClientDto;
 import com.bny.investing.dto.ClientSearchRequest;
+import com.bny.investing.dto.ClientSuggestionDto;
 import com.bny.investing.dto.PaginatedResponse;
+import com.bny.investing.index.ClientSearchIndex;
 import com.bny.investing.model.SortDirection;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ClientService {
 
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final List<String> ADVISOR_CACHES = List.of("clients", "client-search");
+
     private final LfdClientService lfdClientService;
+    private final InFlightRequestTracker requestTracker;
+    private final CacheManager cacheManager;
+    private final Map<String, ClientSearchIndex> searchIndexes = new ConcurrentHashMap<>();
+    private final Map<String, String> advisorsByClientId = new ConcurrentHashMap<>();
+    private final Map<String, String> advisorsByAccountId = new ConcurrentHashMap<>();
+
+    @Value("${app.clients.suggest.max-age-seconds:30}")
+    private long suggestMaxAgeSeconds;
 
     @Cacheable(value = "clients", key = "#advisorId + '_' + #page + '_' + #size")
     public PaginatedResponse<ClientDto> getAdvisorClients(String advisorId, int page, int size) {
         List<ClientDto> allClients = lfdClientService.getAdvisorClients(advisorId);
+        refreshIndex(advisorId, allClients);
         
         int start = page * size;
         int end = Math.min(start + size, allClients.size());
@@ -39,16 +65,24 @@ public class ClientService {
                 .build();
     }
 
-    @Cacheable(value = "client-search", key = "#request.hashCode()")
+    // Not cached: LFD pages and renders these itself, so the body is forwarded as-is
+    public byte[] getAdvisorClientsPassThrough(String advisorId, int page, int size) {
+        return lfdClientService.getAdvisorClientsPassThrough(advisorId, page, size);
+    }
+
+    public AdvisorSummaryDto getAdvisorSummary(String advisorId) {
+        return lfdClientService.getAdvisorSummary(advisorId);
+    }
+
+    public List<ClientSuggestionDto> suggestClients(String advisorId, String query, int limit) {
+        return bookIndex("client-suggest", advisorId).suggest(query, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+    }
+
+    @Cacheable(value = "client-search", key = "#request.advisorId + '_' + #request.hashCode()")
     public PaginatedResponse<ClientDto> searchClients(ClientSearchRequest request) {
-        List<ClientDto> allClients = lfdClientService.getAdvisorClients(request.getAdvisorId());
-        
-        List<ClientDto> filteredClients = allClients.stream()
-                .filter(client -> filterByClientName(client, request.getClientName()))
-                .filter(client -> filterByAccountNumber(client, request.getAccountNumber()))
-                .filter(client -> filterByTaxId(client, request.getTaxId()))
-                .filter(client -> filterByAccountTypes(client, request.getAccountTypes()))
-                .filter(client -> filterByRiskProfiles(client, request.getRiskProfiles()))
+        ClientSearchIndex index = bookIndex("client-search", request.getAdvisorId());
+
+        List<ClientDto> filteredClients = index.search(request).stream()
                 .filter(client -> filterByPerformance(client, request.getPerformanceFilter()))
                 .sorted(getComparator(request))
                 .collect(Collectors.toList());
@@ -71,31 +105,103 @@ public class ClientService {
                 .build();
     }
 
-    private boolean filterByClientName(ClientDto client, String clientName) {
-        return clientName == null || clientName.isBlank() || 
-               client.getClientName().toLowerCase().contains(clientName.toLowerCase());
+    // Point lookups are answered from a fresh advisor book when one holds the key, else by a keyed LFD call
+    public ClientDto getClient(String clientId) {
+        ClientSearchIndex index = warmIndex(advisorsByClientId.get(clientId));
+        ClientDto client = index != null ? index.findClient(clientId) : null;
+        return client != null ? client : lfdClientService.getClientById(clientId);
+    }
+
+    public List<AccountDto> getClientAccounts(String clientId) {
+        ClientSearchIndex index = warmIndex(advisorsByClientId.get(clientId));
+        ClientDto client = index != null ? index.findClient(clientId) : null;
+        return client != null && client.getAccounts() != null
+                ? client.getAccounts()
+                : lfdClientService.getClientAccounts(clientId);
+    }
+
+    public AccountDto getAccount(String accountId) {
+        ClientSearchIndex index = warmIndex(advisorsByAccountId.get(accountId));
+        AccountDto account = index != null ? index.findAccount(accountId) : null;
+        return account != null ? account : lfdClientService.getAccountInfo(accountId);
     }
 
-    private boolean filterByAccountNumber(ClientDto client, String accountNumber) {
-        return accountNumber == null || accountNumber.isBlank() ||
-               client.getAccounts().stream()
-                       .anyMatch(acc -> acc.getAccountNumber().equals(accountNumber));
+    // Targeted eviction for rows LFD reports as changed; the advisor's book is refetched on next use
+    public void evictClient(String clientId, String advisorId) {
+        String previousAdvisorId = advisorsByClientId.get(clientId);
+        evictAdvisor(advisorId);
+        if (previousAdvisorId != null && !previousAdvisorId.equals(advisorId)) {
+            evictAdvisor(previousAdvisorId);
+        }
     }
 
-    private boolean filterByTaxId(ClientDto client, String taxId) {
-        return taxId == null || taxId.isBlank() || 
-               client.getTaxId().equals(taxId);
+    public void evictAccount(String accountId, String clientId) {
+        String advisorId = advisorsByAccountId.get(accountId);
+        evictAdvisor(advisorId != null ? advisorId : advisorsByClientId.get(clientId));
     }
 
-    private boolean filterByAccountTypes(ClientDto client, List<?> accountTypes) {
-        return accountTypes == null || accountTypes.isEmpty() ||
-               client.getAccounts().stream()
-                       .anyMatch(acc -> accountTypes.contains(acc.getAccountType()));
+    public void evictAdvisor(String advisorId) {
+        if (advisorId == null) {
+            return;
+        }
+        searchIndexes.remove(advisorId);
+        retainKeys(advisorsByClientId, advisorId, Set.of());
+        retainKeys(advisorsByAccountId, advisorId, Set.of());
+        String prefix = advisorId + "_";
+        for (String name : ADVISOR_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null) {
+                continue;
+            }
+            if (cache.getNativeCache() instanceof ConcurrentMap<?, ?> entries) {
+                entries.keySet().removeIf(key -> key.toString().startsWith(prefix));
+            } else {
+                cache.clear();
+            }
+        }
+    }
+
+    private ClientSearchIndex refreshIndex(String advisorId, List<ClientDto> book) {
+        ClientSearchIndex index = searchIndexes.computeIfAbsent(advisorId, id -> new ClientSearchIndex());
+        index.refresh(book);
+        Set<String> clientIds = new HashSet<>();
+        Set<String> accountIds = new HashSet<>();
+        for (ClientDto client : book) {
+            clientIds.add(client.getClientId());
+            advisorsByClientId.put(client.getClientId(), advisorId);
+            if (client.getAccounts() != null) {
+                for (AccountDto account : client.getAccounts()) {
+                    accountIds.add(account.getAccountId());
+                    advisorsByAccountId.put(account.getAccountId(), advisorId);
+                }
+            }
+        }
+        // Clients and accounts that left the book no longer point at it
+        retainKeys(advisorsByClientId, advisorId, clientIds);
+        retainKeys(advisorsByAccountId, advisorId, accountIds);
+        return index;
     }
 
-    private boolean filterByRiskProfiles(ClientDto client, List<?> riskProfiles) {
-        return riskProfiles == null || riskProfiles.isEmpty() ||
-               riskProfiles.contains(client.getRiskProfile());
+    private static void retainKeys(Map<String, String> advisorsByKey, String advisorId, Set<String> keep) {
+        advisorsByKey.entrySet().removeIf(entry -> advisorId.equals(entry.getValue()) && !keep.contains(entry.getKey()));
+    }
+
+    // The advisor's book is refetched only when its index has aged out or was evicted by the change feed
+    private ClientSearchIndex bookIndex(String scope, String advisorId) {
+        ClientSearchIndex index = warmIndex(advisorId);
+        if (index != null) {
+            return index;
+        }
+        return refreshIndex(advisorId, requestTracker.track(scope, advisorId,
+                () -> lfdClientService.getAdvisorClients(advisorId), lfdClientService::cancelRequest));
+    }
+
+    private ClientSearchIndex warmIndex(String advisorId) {
+        if (advisorId == null) {
+            return null;
+        }
+        ClientSearchIndex index = searchIndexes.get(advisorId);
+        return index != null && index.isFresh(TimeUnit.SECONDS.toNanos(suggestMaxAgeSeconds)) ? index : null;
     }
 
     private boolean filterByPerformance(ClientDto client, Object performanceFilter) {
@@ -1,37 +1,112 @@
 package com.bny.investing.service;
 
+import com.bny.investing.client.InFlightRequestTracker;
 import com.bny.investing.client.LfdClientService;
+import com.bny.investing.dto.ConsolidatedHoldingsResponseDto;
+import com.bny.investing.dto.HoldingDto;
+import com.bny.investing.dto.HoldingsQuery;
 import com.bny.investing.dto.HoldingsResponseDto;
 import com.bny.shared.dto.response.PortfolioSummaryDto;
+import com.bny.investing.exception.BusinessException;
 import com.bny.investing.exception.ResourceNotFoundException;
+import com.bny.shared.util.json.StreamingArrayWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class HoldingsService {
     
     private final LfdClientService lfdClientService;
+    private final InFlightRequestTracker requestTracker;
+    private final ObjectMapper objectMapper;
     
-    @Cacheable(value = "holdings", key = "#accountId + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
     @Transactional(readOnly = true)
     public HoldingsResponseDto getAccountHoldings(String accountId, Pageable pageable) {
         try {
             return lfdClientService.getAccountHoldings(accountId, pageable);
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             throw new ResourceNotFoundException("Account not found: " + accountId);
         }
     }
     
-    @Cacheable(value = "portfolio-summary", key = "#accountId")
+    @Transactional(readOnly = true)
+    public HoldingsResponseDto getAccountHoldings(String accountId, Pageable pageable, HoldingsQuery query) {
+        try {
+            return requestTracker.track("holdings", accountId,
+                    () -> lfdClientService.getAccountHoldings(accountId, pageable, query), lfdClientService::cancelRequest);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ResourceNotFoundException("Account not found: " + accountId);
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public void streamAccountHoldings(String accountId, Pageable pageable, HoldingsQuery query, OutputStream out)
+            throws IOException {
+        StreamingArrayWriter writer = new StreamingArrayWriter(objectMapper, out, "holdings", HoldingDto.class);
+        HoldingsResponseDto trailer;
+        try {
+            trailer = requestTracker.track("holdings", accountId,
+                    () -> lfdClientService.streamAccountHoldings(accountId, pageable, query, row -> {
+                        try {
+                            writer.write(row);
+                        } catch (UncheckedIOException e) {
+                            InFlightRequestTracker.clientDisconnected();
+                            throw e;
+                        }
+                    }),
+                    lfdClientService::cancelRequest);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            if (writer.isStarted()) {
+                throw e;
+            }
+            throw new ResourceNotFoundException("Account not found: " + accountId);
+        }
+        writer.finish(trailer);
+    }
+    
+    @Transactional(readOnly = true)
+    public ConsolidatedHoldingsResponseDto getConsolidatedHoldings(String clientId) {
+        try {
+            return lfdClientService.getConsolidatedHoldings(clientId);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ResourceNotFoundException("Client not found: " + clientId);
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public byte[] getConsolidatedHoldingsPassThrough(String clientId) {
+        try {
+            return lfdClientService.getConsolidatedHoldingsPassThrough(clientId);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ResourceNotFoundException("Client not found: " + clientId);
+        }
+    }
+    
     @Transactional(readOnly = true)
     public PortfolioSummaryDto getPortfolioSummary(String accountId) {
         try {
             return lfdClientService.getPortfolioSummary(accountId);
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             throw new ResourceNotFoundException("Account not found: " + accountId);
         }
@@ -0,0 +1,68 @@
+package com.bny.investing.service;
+
+import com.bny.investing.client.LfdClientService;
+import com.bny.investing.client.dto.LfdChangeBatch;
+import com.bny.investing.client.dto.LfdChangeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Follows LFD's change feed and evicts exactly the cached advisor books the changed rows belong to.
+// The cursor is only held in memory: after a restart every cache starts cold, so reading from the
+// head of the feed loses nothing. Holdings and price changes need no eviction here because holdings
+// responses are revalidated against LFD by ETag on every read; that version also carries the account's
+// table_versions counter and last_updated, so account events only have to evict the advisor books.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LfdChangeFeedSubscriber {
+
+    private final LfdClientService lfdClientService;
+    private final ClientService clientService;
+
+    @Value("${lfd.client.change-feed.enabled:false}")
+    private boolean enabled;
+
+    @Value("${lfd.client.change-feed.batch-size:500}")
+    private int batchSize;
+
+    @Value("${lfd.client.change-feed.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    private String cursor;
+
+    @Scheduled(fixedDelayString = "${lfd.client.change-feed.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int batches = 0;
+            LfdChangeBatch batch;
+            do {
+                batch = lfdClientService.getChanges(cursor, batchSize);
+                if (batch == null) {
+                    return;
+                }
+                if (batch.getEvents() != null) {
+                    batch.getEvents().forEach(this::apply);
+                }
+                cursor = batch.getCursor();
+            } while (Boolean.TRUE.equals(batch.getHasMore()) && ++batches < maxBatchesPerPoll);
+        } catch (RuntimeException e) {
+            log.warn("LFD change feed poll failed, retrying from the same cursor: {}", e.getMessage());
+        }
+    }
+
+    private void apply(LfdChangeEvent event) {
+        log.debug("LFD change: {} {} v{}", event.getEntity(), event.getKey(), event.getVersion());
+        switch (event.getEntity()) {
+            case "client" -> clientService.evictClient(event.getKey(), event.getParentKey());
+            case "account" -> clientService.evictAccount(event.getKey(), event.getParentKey());
+            default -> {
+            }
+        }
+    }
+}
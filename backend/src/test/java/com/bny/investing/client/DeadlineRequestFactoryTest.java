@@ -0,0 +1,72 @@
+package com.bny.investing.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineRequestFactoryTest {
+
+    private HttpServer slowLfd;
+    private RestTemplate restTemplate;
+    private DeadlineRequestFactory requestFactory;
+
+    @BeforeEach
+    void startSlowLfd() throws IOException {
+        slowLfd = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        slowLfd.setExecutor(Executors.newCachedThreadPool());
+        slowLfd.createContext("/internal", exchange -> {
+            try {
+                Thread.sleep(3_000);
+                exchange.sendResponseHeaders(200, -1);
+            } catch (InterruptedException | IOException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        slowLfd.start();
+        requestFactory = new DeadlineRequestFactory(HttpClient.newHttpClient(), new SimpleAsyncTaskExecutor(),
+            Duration.ofSeconds(30));
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @AfterEach
+    void stopSlowLfd() {
+        RequestDeadline.clear();
+        slowLfd.stop(0);
+    }
+
+    @Test
+    void testReadTimeout_FollowsRemainingDeadline() {
+        RequestDeadline.start(200);
+        long started = System.nanoTime();
+
+        assertThrows(ResourceAccessException.class, () ->
+            restTemplate.getForObject("http://localhost:" + slowLfd.getAddress().getPort() + "/internal/slow", String.class));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 2_000);
+    }
+
+    @Test
+    void testReadTimeout_CapsAtMaximumWithoutDeadline() {
+        assertEquals(Duration.ofSeconds(30), requestFactory.readTimeout());
+
+        RequestDeadline.start(60_000);
+        assertEquals(Duration.ofSeconds(30), requestFactory.readTimeout());
+
+        RequestDeadline.start(-5);
+        assertEquals(Duration.ofMillis(1), requestFactory.readTimeout());
+    }
+}
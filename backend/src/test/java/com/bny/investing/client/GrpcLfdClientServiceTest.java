@@ -0,0 +1,209 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.resilience.LfdResilience;
+import com.bny.investing.dto.AccountDto;
+import com.bny.investing.dto.ClientDto;
+import com.bny.investing.dto.HoldingsQuery;
+import com.bny.investing.dto.HoldingsResponseDto;
+import com.bny.investing.exception.ResourceNotFoundException;
+import com.bny.shared.grpc.Account;
+import com.bny.shared.grpc.AccountRequest;
+import com.bny.shared.grpc.AdvisorClientsRequest;
+import com.bny.shared.grpc.Client;
+import com.bny.shared.grpc.ClientRequest;
+import com.bny.shared.grpc.Holding;
+import com.bny.shared.grpc.HoldingsChunk;
+import com.bny.shared.grpc.HoldingsHeader;
+import com.bny.shared.grpc.LfdGrpcHeaders;
+import com.bny.shared.grpc.LfdInternalGrpc;
+import com.bny.shared.grpc.PortfolioSummary;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrpcLfdClientServiceTest {
+
+    private static final long LEG_DELAY_MILLIS = 300;
+
+    private final ConcurrentLinkedQueue<Metadata> receivedHeaders = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger peakConcurrent = new AtomicInteger();
+    private Server fakeLfd;
+    private ManagedChannel channel;
+    private GrpcLfdClientService client;
+
+    @BeforeEach
+    void startFakeLfd() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        fakeLfd = InProcessServerBuilder.forName(name)
+            .addService(ServerInterceptors.intercept(new FakeLfd(), new RecordingInterceptor()))
+            .executor(java.util.concurrent.Executors.newCachedThreadPool())
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+
+        LfdResilience resilience = new LfdResilience(new SimpleMeterRegistry(), 4, 4, 0.5, 60_000, 0.1, 10, 1, false, 50, 8);
+        client = new GrpcLfdClientService(channel, resilience, new LfdPayloadMapper());
+        ReflectionTestUtils.setField(client, "maxPageSize", 100);
+        ReflectionTestUtils.setField(client, "callTimeoutMs", 10_000L);
+    }
+
+    @AfterEach
+    void stopFakeLfd() {
+        channel.shutdownNow();
+        fakeLfd.shutdownNow();
+    }
+
+    @Test
+    void streamsAdvisorClientsWithRequestMetadata() {
+        List<ClientDto> clients = client.getAdvisorClients("ADV001");
+
+        assertEquals(2, clients.size());
+        assertEquals("Alice Adams", clients.get(0).getClientName());
+        Metadata headers = receivedHeaders.peek();
+        assertEquals("ADV001", headers.get(LfdGrpcHeaders.ADVISOR_ID));
+        assertNotNull(headers.get(LfdGrpcHeaders.REQUEST_ID));
+        assertNotNull(headers.get(LfdGrpcHeaders.TIMESTAMP));
+    }
+
+    @Test
+    void composesStreamedHoldingsWithConcurrentAccountAndSummaryLegs() {
+        HoldingsResponseDto response = client.getAccountHoldings("ACC001", PageRequest.of(0, 10),
+            HoldingsQuery.builder().build());
+
+        assertEquals(3, receivedHeaders.size());
+        assertEquals(3, peakConcurrent.get());
+        assertEquals("ACC001", response.getAccountInfo().getAccountId());
+        assertEquals(2, response.getHoldings().size());
+        assertEquals(new BigDecimal("15000.0000"), response.getHoldings().get(0).getMarketValue());
+        assertEquals(12, response.getTotalElements());
+        assertEquals(new BigDecimal("1000.00"), response.getSummary().getTotalMarketValue());
+    }
+
+    @Test
+    void fetchesClientAndStreamsItsAccounts() {
+        ClientDto client = this.client.getClientById("C1");
+        List<AccountDto> accounts = this.client.getClientAccounts("C1");
+
+        assertEquals("Alice Adams", client.getClientName());
+        assertEquals(List.of("ACC001", "ACC002"), accounts.stream().map(AccountDto::getAccountId).toList());
+        assertThrows(ResourceNotFoundException.class, () -> this.client.getClientById("MISSING"));
+    }
+
+    @Test
+    void mapsNotFoundStatusToResourceNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> client.getAccountInfo("MISSING"));
+        assertEquals(1, receivedHeaders.size());
+    }
+
+    private void pause() {
+        peakConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(LEG_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        concurrent.decrementAndGet();
+    }
+
+    private class RecordingInterceptor implements ServerInterceptor {
+
+        @Override
+        public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+                ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+            receivedHeaders.add(headers);
+            assertNotNull(Context.current().getDeadline());
+            return next.startCall(call, headers);
+        }
+    }
+
+    private class FakeLfd extends LfdInternalGrpc.LfdInternalImplBase {
+
+        @Override
+        public void streamAdvisorClients(AdvisorClientsRequest request, StreamObserver<Client> responseObserver) {
+            responseObserver.onNext(Client.newBuilder().setClientId("C1").setClientName("Alice Adams").build());
+            responseObserver.onNext(Client.newBuilder().setClientId("C2").setClientName("Bob Brown").build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void getClient(ClientRequest request, StreamObserver<Client> responseObserver) {
+            if (request.getClientId().equals("MISSING")) {
+                responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+                return;
+            }
+            responseObserver.onNext(Client.newBuilder().setClientId(request.getClientId()).setClientName("Alice Adams").build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void streamClientAccounts(ClientRequest request, StreamObserver<Account> responseObserver) {
+            responseObserver.onNext(Account.newBuilder().setAccountId("ACC001").setClientId(request.getClientId()).build());
+            responseObserver.onNext(Account.newBuilder().setAccountId("ACC002").setClientId(request.getClientId()).build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void getAccount(AccountRequest request, StreamObserver<Account> responseObserver) {
+            if (request.getAccountId().equals("MISSING")) {
+                responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+                return;
+            }
+            pause();
+            responseObserver.onNext(Account.newBuilder()
+                .setAccountId(request.getAccountId())
+                .setAccountNumber("1001")
+                .setAccountType("INDIVIDUAL")
+                .build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void streamHoldings(com.bny.shared.grpc.HoldingsQuery request, StreamObserver<HoldingsChunk> responseObserver) {
+            pause();
+            responseObserver.onNext(HoldingsChunk.newBuilder()
+                .setHeader(HoldingsHeader.newBuilder().setTotalCount(12).setPageSize(request.getPageSize()))
+                .build());
+            responseObserver.onNext(HoldingsChunk.newBuilder()
+                .setHolding(Holding.newBuilder().setSymbol("AAPL").setAssetClass("EQUITY").setMarketValue("15000.0000"))
+                .build());
+            responseObserver.onNext(HoldingsChunk.newBuilder()
+                .setHolding(Holding.newBuilder().setSymbol("BND").setAssetClass("FIXED_INCOME").setMarketValue("250.5"))
+                .build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void getPortfolioSummary(AccountRequest request, StreamObserver<PortfolioSummary> responseObserver) {
+            pause();
+            responseObserver.onNext(PortfolioSummary.newBuilder()
+                .setAccountId(request.getAccountId())
+                .setTotalMarketValue("1000.00")
+                .setHoldingsCount(2)
+                .build());
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.bny.investing.client;
+
+import com.bny.investing.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InFlightRequestTrackerTest {
+
+    private final InFlightRequestTracker tracker = new InFlightRequestTracker();
+    private final List<String> remoteCancels = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testTrack_NewerCallSupersedesSameSessionAndSubject() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicReference<String> firstRequestId = new AtomicReference<>();
+
+        CompletableFuture<String> first = inSessionAsync("session-1", () ->
+            tracker.track("holdings", "ACC001", () -> {
+                firstRequestId.set(InFlightRequestTracker.trackedRequestId());
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw new IllegalStateException("aborted");
+                }
+                return "first";
+            }, remoteCancels::add));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        inSession("session-1");
+        String second = tracker.track("holdings", "ACC001", () -> "second", remoteCancels::add);
+
+        assertEquals("second", second);
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertEquals("REQUEST_SUPERSEDED", ((BusinessException) thrown.getCause()).getErrorCode());
+        assertTrue(interrupted.get());
+        awaitRemoteCancel();
+        assertEquals(List.of(firstRequestId.get()), remoteCancels);
+        assertEquals(0, tracker.inFlightCount());
+    }
+
+    @Test
+    void testTrack_NewerCallForAnotherSubjectInTheSameViewSupersedes() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<String> first = inSessionAsync("session-1", () ->
+            tracker.track("holdings", "ACC001", () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException("aborted");
+                }
+                return "first";
+            }, remoteCancels::add));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        inSession("session-1");
+        assertEquals("second", tracker.track("holdings", "ACC002", () -> "second", remoteCancels::add));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertEquals("REQUEST_SUPERSEDED", ((BusinessException) thrown.getCause()).getErrorCode());
+    }
+
+    @Test
+    void testTrack_DifferentViewsAndSessionsDoNotCancelEachOther() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = inSessionAsync("session-1", () ->
+            tracker.track("holdings", "ACC001", () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException("aborted");
+                }
+                return "first";
+            }, remoteCancels::add));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        inSession("session-1");
+        assertEquals("other-view", tracker.track("client-search", "ADV001", () -> "other-view", remoteCancels::add));
+        inSession("session-2");
+        assertEquals("other-session", tracker.track("holdings", "ACC001", () -> "other-session", remoteCancels::add));
+        release.countDown();
+
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertTrue(remoteCancels.isEmpty());
+    }
+
+    @Test
+    void testTrack_WithoutSessionIsTrackedButSupersedesNothing() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+            tracker.track("client-search", "advisor123", () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException("aborted");
+                }
+                return "first";
+            }, remoteCancels::add));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        String second = tracker.track("client-search", "advisor123", () -> {
+            assertNotNull(InFlightRequestTracker.trackedRequestId());
+            assertEquals(2, tracker.inFlightCount());
+            return "second";
+        }, remoteCancels::add);
+        release.countDown();
+
+        assertEquals("second", second);
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertTrue(remoteCancels.isEmpty());
+        assertEquals(0, tracker.inFlightCount());
+    }
+
+    @Test
+    void testClientDisconnected_CancelsTheLfdRequestBehindTheCall() throws Exception {
+        AtomicReference<String> requestId = new AtomicReference<>();
+
+        BusinessException thrown = assertThrows(BusinessException.class, () ->
+            tracker.track("holdings", "ACC001", () -> {
+                requestId.set(InFlightRequestTracker.trackedRequestId());
+                InFlightRequestTracker.clientDisconnected();
+                throw new UncheckedIOException(new IOException("Broken pipe"));
+            }, remoteCancels::add));
+
+        assertEquals("CLIENT_DISCONNECTED", thrown.getErrorCode());
+        awaitRemoteCancel();
+        assertEquals(List.of(requestId.get()), remoteCancels);
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    private void awaitRemoteCancel() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (remoteCancels.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static CompletableFuture<String> inSessionAsync(String sessionId, Supplier<String> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            inSession(sessionId);
+            try {
+                return call.get();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+    }
+
+    private static void inSession(String sessionId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(InFlightRequestTracker.SESSION_HEADER, sessionId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,133 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.dto.LfdHoldingsResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// mvn test -Dtest=LfdEncodingBenchmarkTest -Dlfd.benchmark=true [-Dlfd.benchmark.page-size=1000 -Dlfd.benchmark.iterations=500]
+@Slf4j
+@EnabledIfSystemProperty(named = "lfd.benchmark", matches = "true")
+class LfdEncodingBenchmarkTest {
+
+    private final int pageSize = Integer.getInteger("lfd.benchmark.page-size", 1_000);
+    private final int iterations = Integer.getInteger("lfd.benchmark.iterations", 500);
+
+    @Test
+    void compareEncodeDecodeCostWithBytesOnTheWire() throws Exception {
+        LfdHoldingsResponse page = LfdHoldingsResponse.builder()
+            .holdings(LfdTransportBenchmarkTest.holdings(pageSize))
+            .totalCount(pageSize * 4).pageOffset(0).pageSize(pageSize).resultCode(0)
+            .build();
+        ObjectMapper json = configure(new ObjectMapper());
+        ObjectMapper smile = configure(new ObjectMapper(new SmileFactory()));
+
+        List<Codec> codecs = List.of(
+            new Codec("json", json, false),
+            new Codec("json+gzip", json, true),
+            new Codec("smile", smile, false),
+            new Codec("smile+gzip", smile, true));
+
+        Result baseline = null;
+        log.info("LFD encoding benchmark: holdings page of {}, {} iterations", pageSize, iterations);
+        for (Codec codec : codecs) {
+            Result result = measure(codec, page);
+            if (baseline == null) {
+                baseline = result;
+            }
+            log.info("  {}", result.describe(baseline));
+        }
+    }
+
+    private Result measure(Codec codec, LfdHoldingsResponse page) throws IOException {
+        byte[] encoded = codec.encode(page);
+        assertEquals(pageSize, codec.decode(encoded).getHoldings().size());
+        for (int i = 0; i < iterations / 5; i++) {
+            codec.decode(codec.encode(page));
+        }
+
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            byte[] bytes = codec.encode(page);
+            long encodedAt = System.nanoTime();
+            codec.decode(bytes);
+            decodeNanos += System.nanoTime() - encodedAt;
+            encodeNanos += encodedAt - start;
+        }
+        return new Result(codec.name, encoded.length, encodeNanos / iterations, decodeNanos / iterations);
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        return mapper.findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private static class Codec {
+        private final String name;
+        private final ObjectMapper mapper;
+        private final boolean gzip;
+
+        private Codec(String name, ObjectMapper mapper, boolean gzip) {
+            this.name = name;
+            this.mapper = mapper;
+            this.gzip = gzip;
+        }
+
+        private byte[] encode(LfdHoldingsResponse page) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+            try (OutputStream out = gzip ? new GZIPOutputStream(bytes, 8 * 1024) : bytes) {
+                mapper.writeValue(out, page);
+            }
+            return bytes.toByteArray();
+        }
+
+        private LfdHoldingsResponse decode(byte[] bytes) throws IOException {
+            InputStream in = new ByteArrayInputStream(bytes);
+            try (InputStream body = gzip ? new GZIPInputStream(in, 8 * 1024) : in) {
+                return mapper.readValue(body, LfdHoldingsResponse.class);
+            }
+        }
+    }
+
+    private static class Result {
+        private final String name;
+        private final int bytes;
+        private final long encodeNanos;
+        private final long decodeNanos;
+
+        private Result(String name, int bytes, long encodeNanos, long decodeNanos) {
+            this.name = name;
+            this.bytes = bytes;
+            this.encodeNanos = encodeNanos;
+            this.decodeNanos = decodeNanos;
+        }
+
+        // Link speed below which the bytes saved outweigh the extra CPU spent versus the baseline
+        private String describe(Result baseline) {
+            long savedBits = (baseline.bytes - bytes) * 8L;
+            long extraNanos = (encodeNanos + decodeNanos) - (baseline.encodeNanos + baseline.decodeNanos);
+            String breakEven = savedBits <= 0 ? "n/a"
+                : extraNanos <= 0 ? "always" : String.format("%.0f Mbit/s", savedBits * 1_000.0 / extraNanos);
+            return String.format("%-10s %9d bytes (%5.1f%%)  encode %8.1f us  decode %8.1f us  worthwhile below %s",
+                name, bytes, bytes * 100.0 / baseline.bytes, encodeNanos / 1_000.0, decodeNanos / 1_000.0, breakEven);
+        }
+    }
+}
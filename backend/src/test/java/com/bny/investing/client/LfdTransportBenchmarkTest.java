@@ -0,0 +1,258 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.dto.LfdAssetAllocationDto;
+import com.bny.investing.client.dto.LfdHoldingsResponse;
+import com.bny.investing.client.dto.LfdPortfolioSummaryResponse;
+import com.bny.investing.client.resilience.LfdResilience;
+import com.bny.investing.config.RestClientConfig;
+import com.bny.investing.dto.HoldingsQuery;
+import com.bny.shared.dto.response.AccountDto;
+import com.bny.shared.dto.response.HoldingDto;
+import com.bny.shared.enums.AccountType;
+import com.bny.shared.enums.RiskProfile;
+import com.bny.shared.grpc.Account;
+import com.bny.shared.grpc.AccountRequest;
+import com.bny.shared.grpc.AssetAllocation;
+import com.bny.shared.grpc.HoldingsChunk;
+import com.bny.shared.grpc.HoldingsHeader;
+import com.bny.shared.grpc.LfdInternalGrpc;
+import com.bny.shared.grpc.LfdProtoMapper;
+import com.bny.shared.grpc.PortfolioSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// mvn test -Dtest=LfdTransportBenchmarkTest -Dlfd.benchmark=true [-Dlfd.benchmark.page-size=100 -Dlfd.benchmark.concurrency=32]
+@Slf4j
+@EnabledIfSystemProperty(named = "lfd.benchmark", matches = "true")
+class LfdTransportBenchmarkTest {
+
+    private static final int GRPC_FRAME_HEADER_BYTES = 5;
+
+    private final int pageSize = Integer.getInteger("lfd.benchmark.page-size", 100);
+    private final int concurrency = Integer.getInteger("lfd.benchmark.concurrency", 32);
+    private final int requests = Integer.getInteger("lfd.benchmark.requests", 5_000);
+
+    @Test
+    void compareRestAndGrpcHoldingsPath() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<HoldingDto> holdings = holdings(pageSize);
+        AccountDto account = AccountDto.builder()
+            .accountId("ACC001").accountNumber("100200300").accountType(AccountType.INDIVIDUAL)
+            .clientId("C001").clientName("Alice Adams").marketValue(new BigDecimal("1250000.0000"))
+            .cashBalance(new BigDecimal("25000.0000")).ytdPerformance(new BigDecimal("7.2500"))
+            .riskProfile(RiskProfile.MODERATE).lastUpdated(LocalDateTime.of(2024, 1, 2, 9, 30))
+            .build();
+        LfdPortfolioSummaryResponse summary = LfdPortfolioSummaryResponse.builder()
+            .accountId("ACC001").totalMarketValue(new BigDecimal("1250000.0000"))
+            .totalCostBasis(new BigDecimal("1000000.0000")).totalUnrealizedGainLoss(new BigDecimal("250000.0000"))
+            .totalUnrealizedGainLossPercent(new BigDecimal("25.0000")).holdingsCount(pageSize)
+            .assetAllocation(List.of(
+                new LfdAssetAllocationDto("EQUITY", new BigDecimal("900000.0000"), new BigDecimal("72.00"), pageSize / 2),
+                new LfdAssetAllocationDto("FIXED_INCOME", new BigDecimal("350000.0000"), new BigDecimal("28.00"), pageSize / 2)))
+            .build();
+
+        byte[] holdingsJson = objectMapper.writeValueAsBytes(LfdHoldingsResponse.builder()
+            .holdings(holdings).totalCount(pageSize * 4).pageOffset(0).pageSize(pageSize).resultCode(0).build());
+        byte[] accountJson = objectMapper.writeValueAsBytes(account);
+        byte[] summaryJson = objectMapper.writeValueAsBytes(summary);
+
+        List<HoldingsChunk> holdingsChunks = new ArrayList<>();
+        holdingsChunks.add(HoldingsChunk.newBuilder()
+            .setHeader(HoldingsHeader.newBuilder().setTotalCount(pageSize * 4).setPageSize(pageSize)).build());
+        holdings.forEach(holding -> holdingsChunks.add(
+            HoldingsChunk.newBuilder().setHolding(LfdProtoMapper.toProto(holding)).build()));
+        Account accountProto = LfdProtoMapper.toProto(account);
+        PortfolioSummary.Builder summaryBuilder = PortfolioSummary.newBuilder()
+            .setAccountId("ACC001").setTotalMarketValue("1250000.0000").setTotalCostBasis("1000000.0000")
+            .setTotalUnrealizedGainLoss("250000.0000").setTotalUnrealizedGainLossPercent("25.0000")
+            .setHoldingsCount(pageSize);
+        summary.getAssetAllocation().forEach(allocation -> summaryBuilder.addAssetAllocation(AssetAllocation.newBuilder()
+            .setAssetClass(allocation.getAssetClass()).setMarketValue(allocation.getMarketValue().toString())
+            .setPercentage(allocation.getPercentage().toString()).setHoldingsCount(allocation.getHoldingsCount())));
+        PortfolioSummary summaryProto = summaryBuilder.build();
+
+        long holdingsGrpcBytes = holdingsChunks.stream()
+            .mapToLong(chunk -> chunk.getSerializedSize() + GRPC_FRAME_HEADER_BYTES).sum();
+        long restBytes = holdingsJson.length + accountJson.length + summaryJson.length;
+        long grpcBytes = holdingsGrpcBytes + accountProto.getSerializedSize() + summaryProto.getSerializedSize()
+            + 2L * GRPC_FRAME_HEADER_BYTES;
+
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer restLfd = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        restLfd.setExecutor(Executors.newFixedThreadPool(concurrency));
+        restLfd.createContext("/internal", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            respond(exchange, path.endsWith("/holdings") ? holdingsJson : path.endsWith("/summary") ? summaryJson : accountJson);
+        });
+        restLfd.start();
+
+        Server grpcLfd = NettyServerBuilder.forAddress(new InetSocketAddress("localhost", 0))
+            .addService(new LfdInternalGrpc.LfdInternalImplBase() {
+                @Override
+                public void getAccount(AccountRequest request, StreamObserver<Account> responseObserver) {
+                    responseObserver.onNext(accountProto);
+                    responseObserver.onCompleted();
+                }
+
+                @Override
+                public void streamHoldings(com.bny.shared.grpc.HoldingsQuery request,
+                        StreamObserver<HoldingsChunk> responseObserver) {
+                    holdingsChunks.forEach(responseObserver::onNext);
+                    responseObserver.onCompleted();
+                }
+
+                @Override
+                public void getPortfolioSummary(AccountRequest request, StreamObserver<PortfolioSummary> responseObserver) {
+                    responseObserver.onNext(summaryProto);
+                    responseObserver.onCompleted();
+                }
+            })
+            .build()
+            .start();
+        ManagedChannel channel = NettyChannelBuilder.forAddress("localhost", grpcLfd.getPort()).usePlaintext().build();
+
+        try {
+            RestLfdClientService restClient = new RestLfdClientService(
+                new RestClientConfig().restTemplate(new RestTemplateBuilder(), new SimpleMeterRegistry(), true, "json"), resilience(), new LfdPayloadMapper(), new LfdConditionalCache(100));
+            ReflectionTestUtils.setField(restClient, "lfdApiBaseUrl", "http://localhost:" + restLfd.getAddress().getPort());
+            ReflectionTestUtils.setField(restClient, "maxPageSize", pageSize);
+            GrpcLfdClientService grpcClient = new GrpcLfdClientService(channel, resilience(), new LfdPayloadMapper());
+            ReflectionTestUtils.setField(grpcClient, "maxPageSize", pageSize);
+            ReflectionTestUtils.setField(grpcClient, "callTimeoutMs", 30_000L);
+
+            PageRequest page = PageRequest.of(0, pageSize);
+            HoldingsQuery query = HoldingsQuery.builder().build();
+            assertEquals(pageSize, restClient.getAccountHoldings("ACC001", page, query).getHoldings().size());
+            assertEquals(pageSize, grpcClient.getAccountHoldings("ACC001", page, query).getHoldings().size());
+
+            run(requests / 10, i -> restClient.getAccountHoldings("ACC001", page, query));
+            run(requests / 10, i -> grpcClient.getAccountHoldings("ACC001", page, query));
+            Result rest = run(requests, i -> restClient.getAccountHoldings("ACC001", page, query));
+            Result grpc = run(requests, i -> grpcClient.getAccountHoldings("ACC001", page, query));
+
+            log.info("LFD transport benchmark: holdings page of {} with account and summary, {} requests at concurrency {}",
+                pageSize, requests, concurrency);
+            log.info("  payload  REST JSON {} bytes (holdings {})  gRPC protobuf {} bytes (holdings {})",
+                restBytes, holdingsJson.length, grpcBytes, holdingsGrpcBytes);
+            log.info("  latency  REST {}", rest);
+            log.info("  latency  gRPC {}", grpc);
+        } finally {
+            channel.shutdownNow();
+            grpcLfd.shutdownNow();
+            restLfd.stop(0);
+        }
+    }
+
+    private LfdResilience resilience() {
+        return new LfdResilience(new SimpleMeterRegistry(), 20, 10, 0.5, 10_000, 0.1, 10, 1, false, 50, 8);
+    }
+
+    static List<HoldingDto> holdings(int count) {
+        List<HoldingDto> holdings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BigDecimal quantity = BigDecimal.valueOf(100 + i).setScale(4);
+            BigDecimal price = new BigDecimal("123.4500").add(BigDecimal.valueOf(i));
+            holdings.add(HoldingDto.builder()
+                .accountId("ACC001").symbol("SYM" + i).securityName("Security Holding Number " + i)
+                .quantity(quantity).currentPrice(price).priceChange(new BigDecimal("1.2500"))
+                .priceChangePercent(new BigDecimal("1.0100")).costBasis(new BigDecimal("100.0000"))
+                .totalCost(quantity.multiply(new BigDecimal("100.0000"))).marketValue(quantity.multiply(price))
+                .unrealizedGainLoss(new BigDecimal("2345.0000")).unrealizedGainLossPercent(new BigDecimal("23.4500"))
+                .portfolioPercent(new BigDecimal("1.0000")).sector("Information Technology")
+                .assetClass(i % 2 == 0 ? "EQUITY" : "FIXED_INCOME").purchaseDate(LocalDate.of(2020, 1, 1).plusDays(i))
+                .priceDate(LocalDate.of(2024, 1, 2)).hasAlerts(false).taxLotCount(1)
+                .build());
+        }
+        return holdings;
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private Result run(int count, IntConsumer call) throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(concurrency);
+        try {
+            long[] latencies = new long[count];
+            List<Callable<Void>> tasks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                tasks.add(() -> {
+                    long start = System.nanoTime();
+                    call.accept(index);
+                    latencies[index] = System.nanoTime() - start;
+                    return null;
+                });
+            }
+            long start = System.nanoTime();
+            for (Future<Void> future : threads.invokeAll(tasks)) {
+                future.get();
+            }
+            return new Result(count, System.nanoTime() - start, latencies);
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private static class Result {
+        private final int completed;
+        private final long elapsedNanos;
+        private final long[] latencies;
+
+        private Result(int completed, long elapsedNanos, long[] latencies) {
+            this.completed = completed;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies.clone();
+            Arrays.sort(this.latencies);
+        }
+
+        private double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("throughput %8.0f req/s  p50 %7.2f ms  p99 %7.2f ms  max %7.2f ms",
+                completed * 1_000_000_000.0 / elapsedNanos, percentileMillis(0.50), percentileMillis(0.99),
+                percentileMillis(1.0));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.resilience.LfdResilience;
+import com.bny.investing.config.RestClientConfig;
+import com.bny.investing.dto.ClientDto;
+import com.bny.investing.dto.HoldingsQuery;
+import com.bny.investing.dto.HoldingsResponseDto;
+import com.bny.investing.exception.BusinessException;
+import com.bny.investing.exception.ResourceNotFoundException;
+import com.bny.shared.dto.response.PortfolioSummaryDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveLfdClientServiceTest {
+
+    private static final long LEG_DELAY_MILLIS = 300;
+
+    private HttpServer fakeLfd;
+    private ConnectionProvider connectionProvider;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger peakConcurrent = new AtomicInteger();
+    private final AtomicInteger flakyFailures = new AtomicInteger();
+    private final AtomicReference<String> lastTimeoutHeader = new AtomicReference<>();
+    private ReactiveLfdClientService client;
+
+    @BeforeEach
+    void startFakeLfd() throws IOException {
+        fakeLfd = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeLfd.setExecutor(Executors.newCachedThreadPool());
+        fakeLfd.createContext("/internal", this::respond);
+        fakeLfd.start();
+
+        connectionProvider = ConnectionProvider.create("lfd-test", 50);
+        WebClient webClient = RestClientConfig.lfdWebClient(WebClient.builder(), connectionProvider,
+            "http://localhost:" + fakeLfd.getAddress().getPort(), Duration.ofSeconds(10), true);
+        LfdResilience resilience = new LfdResilience(new SimpleMeterRegistry(), 4, 4, 0.5, 60_000, 0.1, 10, 1, false, 50, 8);
+        client = new ReactiveLfdClientService(webClient, resilience, new LfdPayloadMapper());
+        ReflectionTestUtils.setField(client, "maxPageSize", 100);
+    }
+
+    @AfterEach
+    void stopFakeLfd() {
+        RequestDeadline.clear();
+        fakeLfd.stop(0);
+        connectionProvider.dispose();
+    }
+
+    @Test
+    void emitsAdvisorClients() {
+        List<ClientDto> clients = client.getAdvisorClients("ADV001").collectList().block();
+
+        assertEquals(2, clients.size());
+        assertEquals("Alice Adams", clients.get(0).getClientName());
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void composesHoldingsAccountAndSummaryLegsConcurrently() {
+        long start = System.nanoTime();
+        Mono<HoldingsResponseDto> page = client.getAccountHoldings("ACC001", PageRequest.of(0, 10),
+            HoldingsQuery.builder().build());
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < LEG_DELAY_MILLIS);
+        assertEquals(0, hits.get());
+
+        HoldingsResponseDto response = page.block();
+
+        assertEquals(3, hits.get());
+        assertEquals(3, peakConcurrent.get());
+        assertEquals("ACC001", response.getAccountInfo().getAccountId());
+        assertEquals(1, response.getHoldings().size());
+        assertEquals(1, response.getTotalElements());
+        assertNotNull(response.getSummary().getTotalMarketValue());
+    }
+
+    @Test
+    void mapsClientErrorsToResourceNotFound() {
+        Mono<?> account = client.getAccountInfo("MISSING");
+
+        assertThrows(ResourceNotFoundException.class, account::block);
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void retriesAFailedIdempotentLegOnce() {
+        PortfolioSummaryDto summary = client.getPortfolioSummary("FLAKY").block();
+
+        assertNotNull(summary.getTotalMarketValue());
+        assertEquals(1, flakyFailures.get());
+        assertEquals(2, hits.get());
+    }
+
+    @Test
+    void requestDeadlineBoundsTheCallAndIsSentWithIt() {
+        RequestDeadline.start(100);
+        Mono<?> summary = client.getPortfolioSummary("ACC001");
+        RequestDeadline.clear();
+
+        BusinessException e = assertThrows(BusinessException.class, summary::block);
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, e.getStatus());
+        assertTrue(Long.parseLong(lastTimeoutHeader.get()) <= 100);
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        peakConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        lastTimeoutHeader.set(exchange.getRequestHeaders().getFirst(RequestDeadline.TIMEOUT_HEADER));
+        String path = exchange.getRequestURI().getPath();
+        int status = 200;
+        String body;
+        long delayMillis = LEG_DELAY_MILLIS;
+        if (path.endsWith("/clients")) {
+            body = "{\"clients\":[{\"clientId\":\"C1\",\"clientName\":\"Alice Adams\"},"
+                + "{\"clientId\":\"C2\",\"clientName\":\"Bob Brown\"}],\"totalCount\":2,\"resultCode\":0}";
+            delayMillis = 0;
+        } else if (path.endsWith("/FLAKY/summary") && flakyFailures.compareAndSet(0, 1)) {
+            status = 500;
+            body = "{}";
+            delayMillis = 0;
+        } else if (path.endsWith("/holdings")) {
+            body = "{\"holdings\":[{\"symbol\":\"AAPL\",\"assetClass\":\"EQUITY\"}],\"totalCount\":1}";
+        } else if (path.endsWith("/summary")) {
+            body = "{\"totalMarketValue\":1000.00,\"holdingsCount\":1}";
+            delayMillis = path.contains("FLAKY") ? 0 : delayMillis;
+        } else if (path.endsWith("/MISSING")) {
+            status = 404;
+            body = "{}";
+            delayMillis = 0;
+        } else {
+            body = "{\"accountId\":\"ACC001\",\"accountNumber\":\"1001\"}";
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        concurrent.decrementAndGet();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            // The client gave up on this call
+        }
+    }
+}
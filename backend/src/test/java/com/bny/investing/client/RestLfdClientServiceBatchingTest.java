@@ -0,0 +1,168 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.resilience.LfdResilience;
+import com.bny.investing.config.RestClientConfig;
+import com.bny.investing.dto.AccountDto;
+import com.bny.investing.exception.BusinessException;
+import com.bny.investing.exception.ResourceNotFoundException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestLfdClientServiceBatchingTest {
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<String> rawQueries = new CopyOnWriteArrayList<>();
+    private final List<String> requestIds = new CopyOnWriteArrayList<>();
+    private final List<String> timeouts = new CopyOnWriteArrayList<>();
+    private volatile long delayMillis;
+    private HttpServer fakeLfd;
+    private RestLfdClientService client;
+
+    @BeforeEach
+    void startFakeLfd() throws IOException {
+        fakeLfd = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeLfd.createContext("/internal", this::respond);
+        fakeLfd.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LfdResilience resilience = new LfdResilience(meterRegistry, 4, 4, 0.5, 60_000, 0.1, 10, 1, false, 50, 8);
+        client = new RestLfdClientService(
+            new RestClientConfig().restTemplate(new RestTemplateBuilder(), meterRegistry, true, "json"),
+            resilience, new LfdPayloadMapper(), new LfdConditionalCache(100));
+        ReflectionTestUtils.setField(client, "lfdApiBaseUrl", "http://localhost:" + fakeLfd.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "accountBatchWindowMillis", 300L);
+        ReflectionTestUtils.setField(client, "accountBatchMaxSize", 100);
+    }
+
+    @AfterEach
+    void stopFakeLfd() {
+        fakeLfd.stop(0);
+    }
+
+    @Test
+    void concurrentAccountLookupsShareOneLfdCall() throws Exception {
+        List<String> requested = List.of("ACC001", "ACC002", "ACC003", "ACC002");
+
+        ExecutorService callers = Executors.newFixedThreadPool(requested.size());
+        try {
+            List<Future<AccountDto>> results = callers.invokeAll(requested.stream()
+                .map(id -> (Callable<AccountDto>) () -> client.getAccountInfo(id))
+                .toList(), 5, TimeUnit.SECONDS);
+
+            for (int i = 0; i < requested.size(); i++) {
+                assertEquals(requested.get(i), results.get(i).get().getAccountId());
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(1, requests.size(), requests.toString());
+        assertEquals(List.of("ACC001", "ACC002", "ACC003"),
+            Arrays.stream(requests.get(0).split(",")).sorted().toList());
+    }
+
+    @Test
+    void accountMissingFromTheBatchIsNotFound() {
+        ResourceNotFoundException e = assertThrows(ResourceNotFoundException.class,
+            () -> client.getAccountInfo("MISSING"));
+
+        assertEquals("Account not found: MISSING", e.getMessage());
+    }
+
+    @Test
+    void batchRunsUnderItsOwnRequestIdWithoutTheCallersDeadline() {
+        InFlightRequestTracker.bindRequestId("req-leader");
+        RequestDeadline.start(5_000);
+        try {
+            assertEquals("ACC001", client.getAccountInfo("ACC001").getAccountId());
+        } finally {
+            InFlightRequestTracker.unbindRequestId();
+            RequestDeadline.clear();
+        }
+
+        assertEquals(1, requestIds.size());
+        assertNotEquals("req-leader", requestIds.get(0));
+        assertEquals(Arrays.asList((String) null), timeouts);
+    }
+
+    @Test
+    void callerGivesUpAtItsOwnDeadlineWhileOthersGetTheBatch() throws Exception {
+        delayMillis = 800;
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<AccountDto> hurried = callers.submit(() -> {
+                RequestDeadline.start(400);
+                try {
+                    return client.getAccountInfo("ACC001");
+                } finally {
+                    RequestDeadline.clear();
+                }
+            });
+            Thread.sleep(50);
+            Future<AccountDto> patient = callers.submit(() -> client.getAccountInfo("ACC002"));
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> hurried.get(5, TimeUnit.SECONDS));
+            assertEquals("DEADLINE_EXCEEDED", ((BusinessException) e.getCause()).getErrorCode());
+            assertEquals("ACC002", patient.get(5, TimeUnit.SECONDS).getAccountId());
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(1, requests.size(), requests.toString());
+    }
+
+    @Test
+    void encodesAccountIdsInTheBatchQuery() {
+        assertEquals("ACC 1&x", client.getAccountInfo("ACC 1&x").getAccountId());
+
+        assertEquals("ids=ACC%201%26x", rawQueries.get(0));
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        String ids = query.substring("ids=".length());
+        requests.add(ids);
+        rawQueries.add(exchange.getRequestURI().getRawQuery());
+        requestIds.add(exchange.getRequestHeaders().getFirst("X-Request-ID"));
+        timeouts.add(exchange.getRequestHeaders().getFirst(RequestDeadline.TIMEOUT_HEADER));
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        String body = Arrays.stream(ids.split(","))
+            .filter(id -> id.startsWith("ACC"))
+            .map(id -> "{\"accountId\":\"" + id + "\",\"accountNumber\":\"N-" + id + "\"}")
+            .collect(Collectors.joining(",", "[", "]"));
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.resilience.LfdResilience;
+import com.bny.investing.config.RestClientConfig;
+import com.bny.investing.dto.HoldingsQuery;
+import com.bny.investing.dto.HoldingsResponseDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestLfdClientServiceConditionalTest {
+
+    private static final String HOLDINGS_JSON =
+        "{\"holdings\":[{\"accountId\":\"ACC001\",\"symbol\":\"AAPL\",\"marketValue\":%s}],\"totalCount\":1,\"resultCode\":0}";
+    private static final String SUMMARY_JSON =
+        "{\"accountId\":\"ACC001\",\"totalMarketValue\":%s,\"holdingsCount\":1,\"resultCode\":0}";
+    private static final String ACCOUNT_JSON =
+        "{\"accountId\":\"ACC001\",\"accountNumber\":\"1001\",\"lastUpdated\":\"%s\"}";
+
+    private final List<String> served = new CopyOnWriteArrayList<>();
+    private volatile String version = "1:100:100";
+    private volatile String marketValue = "15000.00";
+    private volatile String accountUpdated = "2024-01-15 10:30:00.000000";
+    private HttpServer fakeLfd;
+    private RestLfdClientService client;
+
+    @BeforeEach
+    void startFakeLfd() throws IOException {
+        fakeLfd = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeLfd.createContext("/internal", this::respond);
+        fakeLfd.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LfdResilience resilience = new LfdResilience(meterRegistry, 4, 4, 0.5, 60_000, 0.1, 10, 1, false, 50, 8);
+        client = new RestLfdClientService(
+            new RestClientConfig().restTemplate(new RestTemplateBuilder(), meterRegistry, true, "json"),
+            resilience, new LfdPayloadMapper(), new LfdConditionalCache(100));
+        ReflectionTestUtils.setField(client, "lfdApiBaseUrl", "http://localhost:" + fakeLfd.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "maxPageSize", 100);
+    }
+
+    @AfterEach
+    void stopFakeLfd() {
+        fakeLfd.stop(0);
+    }
+
+    @Test
+    void reusesCachedBodiesWhenLfdAnswersNotModified() {
+        HoldingsResponseDto first = fetch();
+        served.clear();
+
+        HoldingsResponseDto second = fetch();
+
+        assertEquals(List.of("304 holdings", "304 summary", "200 account"), served);
+        assertEquals(first.getVersion(), second.getVersion());
+        assertEquals(first.getHoldings(), second.getHoldings());
+        assertEquals(0, new BigDecimal("15000.00").compareTo(second.getSummary().getTotalMarketValue()));
+    }
+
+    @Test
+    void refetchesAndChangesVersionWhenLfdDataMoves() {
+        HoldingsResponseDto first = fetch();
+        version = "1:100:200";
+        marketValue = "16000.00";
+        served.clear();
+
+        HoldingsResponseDto second = fetch();
+
+        assertEquals(List.of("200 holdings", "200 summary", "200 account"), served);
+        assertNotEquals(first.getVersion(), second.getVersion());
+        assertEquals(0, new BigDecimal("16000.00").compareTo(second.getHoldings().get(0).getMarketValue()));
+    }
+
+    @Test
+    void changesVersionWhenOnlyTheAccountRowMoves() {
+        HoldingsResponseDto first = fetch();
+        accountUpdated = "2024-01-15 11:00:00.000000";
+        served.clear();
+
+        HoldingsResponseDto second = fetch();
+
+        assertEquals(List.of("304 holdings", "304 summary", "200 account"), served);
+        assertNotEquals(first.getVersion(), second.getVersion());
+    }
+
+    private HoldingsResponseDto fetch() {
+        return client.getAccountHoldings("ACC001", PageRequest.of(0, 10), HoldingsQuery.builder().build());
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String leg = path.endsWith("/holdings") ? "holdings" : path.endsWith("/summary") ? "summary" : "account";
+        exchange.getRequestBody().readAllBytes();
+
+        if (leg.equals("account")) {
+            served.add("200 account");
+            send(exchange, String.format(ACCOUNT_JSON, accountUpdated));
+            return;
+        }
+        String etag = "\"" + version + "-" + leg + "\"";
+        exchange.getResponseHeaders().add("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            served.add("304 " + leg);
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        served.add("200 " + leg);
+        send(exchange, String.format(leg.equals("holdings") ? HOLDINGS_JSON : SUMMARY_JSON, marketValue));
+    }
+
+    private static void send(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
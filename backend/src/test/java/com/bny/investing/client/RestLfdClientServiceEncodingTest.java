@@ -0,0 +1,128 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.dto.LfdAdvisorClientsResponse;
+import com.bny.investing.client.resilience.LfdResilience;
+import com.bny.investing.config.RestClientConfig;
+import com.bny.investing.dto.ClientDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestLfdClientServiceEncodingTest {
+
+    private static final String SMILE = "application/x-jackson-smile";
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HttpServer fakeLfd;
+    private volatile String acceptHeader;
+    private volatile String acceptEncodingHeader;
+
+    @BeforeEach
+    void startFakeLfd() throws IOException {
+        fakeLfd = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeLfd.createContext("/internal", this::respond);
+        fakeLfd.start();
+    }
+
+    @AfterEach
+    void stopFakeLfd() {
+        fakeLfd.stop(0);
+    }
+
+    @Test
+    void negotiatesGzippedSmileAndRecordsWireBytes() {
+        List<ClientDto> clients = client(true, "smile").getAdvisorClients("ADV001");
+
+        assertEquals(200, clients.size());
+        assertEquals("Client Name 7", clients.get(7).getClientName());
+        assertTrue(acceptHeader.startsWith(SMILE), acceptHeader);
+        assertEquals("gzip", acceptEncodingHeader);
+
+        DistributionSummary wire = summary("lfd.client.response.wire.bytes", "x-jackson-smile", "gzip");
+        DistributionSummary decoded = summary("lfd.client.response.decoded.bytes", "x-jackson-smile", "gzip");
+        assertEquals(1, wire.count());
+        assertTrue(wire.totalAmount() < decoded.totalAmount(),
+            wire.totalAmount() + " wire bytes vs " + decoded.totalAmount() + " decoded");
+    }
+
+    @Test
+    void fallsBackToIdentityJsonWhenCompressionIsDisabled() {
+        List<ClientDto> clients = client(false, "json").getAdvisorClients("ADV001");
+
+        assertEquals(200, clients.size());
+        assertFalse(acceptHeader.startsWith(SMILE), acceptHeader);
+        assertNull(acceptEncodingHeader);
+
+        DistributionSummary wire = summary("lfd.client.response.wire.bytes", "json", "identity");
+        DistributionSummary decoded = summary("lfd.client.response.decoded.bytes", "json", "identity");
+        assertEquals(wire.totalAmount(), decoded.totalAmount());
+    }
+
+    private DistributionSummary summary(String name, String format, String encoding) {
+        return meterRegistry.get(name)
+            .tag("endpoint", "GET /internal/advisors/{id}/clients")
+            .tag("format", format)
+            .tag("encoding", encoding)
+            .summary();
+    }
+
+    private RestLfdClientService client(boolean compression, String encoding) {
+        LfdResilience resilience = new LfdResilience(meterRegistry, 4, 4, 0.5, 60_000, 0.1, 10, 1, false, 50, 8);
+        RestLfdClientService client = new RestLfdClientService(
+            new RestClientConfig().restTemplate(new RestTemplateBuilder(), meterRegistry, compression, encoding),
+            resilience, new LfdPayloadMapper(), new LfdConditionalCache(100));
+        ReflectionTestUtils.setField(client, "lfdApiBaseUrl", "http://localhost:" + fakeLfd.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "maxPageSize", 500);
+        return client;
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        acceptHeader = exchange.getRequestHeaders().getFirst("Accept");
+        acceptEncodingHeader = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        boolean smile = acceptHeader != null && acceptHeader.startsWith(SMILE);
+        boolean gzip = "gzip".equals(acceptEncodingHeader);
+
+        List<com.bny.shared.dto.response.ClientDto> clients = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            clients.add(com.bny.shared.dto.response.ClientDto.builder()
+                .clientId("C" + i).clientName("Client Name " + i).advisorId("ADV001").build());
+        }
+        LfdAdvisorClientsResponse response = LfdAdvisorClientsResponse.builder()
+            .clients(clients).totalCount(clients.size()).resultCode(0).build();
+        byte[] body = (smile ? smileMapper : jsonMapper).writeValueAsBytes(response);
+        if (gzip) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", smile ? SMILE : "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
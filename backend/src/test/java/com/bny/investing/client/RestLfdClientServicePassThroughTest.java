@@ -0,0 +1,104 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.resilience.LfdResilience;
+import com.bny.investing.config.RestClientConfig;
+import com.bny.shared.dto.common.ResponseProfile;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestLfdClientServicePassThroughTest {
+
+    private static final String DOMAIN_PAGE =
+        "{\"content\":[{\"clientId\":\"C1\",\"riskProfile\":\"MODERATE\"}],\"page\":1,\"size\":25,"
+            + "\"totalElements\":26,\"totalPages\":2,\"first\":false,\"last\":true}";
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<String> workloads = new CopyOnWriteArrayList<>();
+    private volatile boolean echoProfile = true;
+    private HttpServer fakeLfd;
+    private RestLfdClientService client;
+
+    @BeforeEach
+    void startFakeLfd() throws IOException {
+        fakeLfd = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeLfd.createContext("/internal", this::respond);
+        fakeLfd.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LfdResilience resilience = new LfdResilience(meterRegistry, 4, 4, 0.5, 60_000, 0.1, 10, 1, false, 50, 8);
+        client = new RestLfdClientService(
+            new RestClientConfig().restTemplate(new RestTemplateBuilder(), meterRegistry, true, "smile"),
+            resilience, new LfdPayloadMapper(), new LfdConditionalCache(100));
+        ReflectionTestUtils.setField(client, "lfdApiBaseUrl", "http://localhost:" + fakeLfd.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "maxPageSize", 100);
+        ReflectionTestUtils.setField(client, "passThroughEnabled", true);
+    }
+
+    @AfterEach
+    void stopFakeLfd() {
+        fakeLfd.stop(0);
+    }
+
+    @Test
+    void forwardsDomainProfileBodyUntouchedWithLfdPaging() {
+        byte[] body = client.getAdvisorClientsPassThrough("ADV001", 1, 25);
+
+        assertEquals(DOMAIN_PAGE, new String(body, StandardCharsets.UTF_8));
+        assertEquals(List.of("/internal/advisors/ADV001/clients?pageOffset=25&pageSize=25 domain"), requests);
+    }
+
+    @Test
+    void fallsBackWhenLfdDoesNotEchoTheProfile() {
+        echoProfile = false;
+
+        assertNull(client.getConsolidatedHoldingsPassThrough("C1"));
+        assertEquals(List.of("/internal/clients/C1/holdings/consolidated domain"), requests);
+    }
+
+    @Test
+    void tagsConsolidatedHoldingsAsBulkAndClientPagesAsInteractive() {
+        client.getAdvisorClientsPassThrough("ADV001", 0, 25);
+        echoProfile = false;
+        client.getConsolidatedHoldingsPassThrough("C1");
+
+        assertEquals(List.of("none", LfdPayloadMapper.BULK), workloads);
+    }
+
+    @Test
+    void skipsLfdWhenPassThroughIsDisabled() {
+        ReflectionTestUtils.setField(client, "passThroughEnabled", false);
+
+        assertNull(client.getAdvisorClientsPassThrough("ADV001", 0, 25));
+        assertTrue(requests.isEmpty());
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        requests.add(exchange.getRequestURI() + " " + exchange.getRequestHeaders().getFirst(ResponseProfile.HEADER));
+        String workload = exchange.getRequestHeaders().getFirst(LfdPayloadMapper.WORKLOAD_HEADER);
+        workloads.add(workload != null ? workload : "none");
+        byte[] body = (echoProfile ? DOMAIN_PAGE : "{\"clientId\":\"C1\",\"resultCode\":0}").getBytes(StandardCharsets.UTF_8);
+        if (echoProfile) {
+            exchange.getResponseHeaders().add(ResponseProfile.HEADER, ResponseProfile.DOMAIN);
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
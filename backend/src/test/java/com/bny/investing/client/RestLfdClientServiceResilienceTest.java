@@ -0,0 +1,220 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.resilience.LfdResilience;
+import com.bny.investing.config.RestClientConfig;
+import com.bny.investing.dto.ClientDto;
+import com.bny.investing.exception.BusinessException;
+import com.bny.investing.exception.ResourceNotFoundException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestLfdClientServiceResilienceTest {
+
+    private static final String CLIENTS_JSON =
+        "{\"clients\":[{\"clientId\":\"C1\",\"clientName\":\"Alice Adams\"}],\"totalCount\":1,\"resultCode\":0}";
+
+    private HttpServer fakeLfd;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final Queue<String> requestIds = new ConcurrentLinkedQueue<>();
+    private final Queue<String> cancelled = new ConcurrentLinkedQueue<>();
+    private final Queue<String> deadlines = new ConcurrentLinkedQueue<>();
+    private volatile IntFunction<FakeResponse> behaviour;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void startFakeLfd() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        fakeLfd = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeLfd.setExecutor(java.util.concurrent.Executors.newCachedThreadPool());
+        fakeLfd.createContext("/internal", this::respond);
+        fakeLfd.start();
+    }
+
+    @AfterEach
+    void stopFakeLfd() {
+        fakeLfd.stop(0);
+    }
+
+    @Test
+    void retriesIdempotentCallOnServerError() {
+        behaviour = hit -> hit == 1 ? new FakeResponse(503, "{}", 0) : new FakeResponse(200, CLIENTS_JSON, 0);
+        RestLfdClientService client = client(resilience(false));
+
+        List<ClientDto> clients = client.getAdvisorClients("ADV001");
+
+        assertEquals(1, clients.size());
+        assertEquals(2, hits.get());
+        assertEquals(1.0, meterRegistry.get("lfd.client.retries").tag("endpoint", "advisor-clients").counter().count());
+    }
+
+    @Test
+    void opensCircuitAfterRepeatedFailuresAndStopsCallingLfd() {
+        behaviour = hit -> new FakeResponse(500, "{}", 0);
+        LfdResilience resilience = resilience(false);
+        RestLfdClientService client = client(resilience);
+
+        assertThrows(ResourceNotFoundException.class, () -> client.getAdvisorClients("ADV001"));
+        assertThrows(ResourceNotFoundException.class, () -> client.getAdvisorClients("ADV001"));
+        BusinessException rejected = assertThrows(BusinessException.class, () -> client.getAdvisorClients("ADV001"));
+
+        assertEquals("CIRCUIT_OPEN", rejected.getErrorCode());
+        assertEquals(4, hits.get());
+        assertEquals("OPEN", resilience.circuitStates().get("advisor-clients").name());
+    }
+
+    @Test
+    void shedResponsesAreNotRetriedAndDoNotTripTheCircuit() {
+        behaviour = hit -> new FakeResponse(503, "{}", 0, "1");
+        LfdResilience resilience = resilience(false);
+        RestLfdClientService client = client(resilience);
+
+        for (int i = 0; i < 6; i++) {
+            assertThrows(ResourceNotFoundException.class, () -> client.getAdvisorClients("ADV001"));
+        }
+
+        assertEquals(6, hits.get());
+        assertEquals("CLOSED", resilience.circuitStates().get("advisor-clients").name());
+        assertEquals(6, meterRegistry.get("lfd.client.calls").tag("outcome", "shed").timer().count());
+    }
+
+    @Test
+    void clientErrorsDoNotTripTheCircuit() {
+        behaviour = hit -> new FakeResponse(404, "{}", 0);
+        LfdResilience resilience = resilience(false);
+        RestLfdClientService client = client(resilience);
+
+        for (int i = 0; i < 6; i++) {
+            assertThrows(ResourceNotFoundException.class, () -> client.getAdvisorClients("ADV001"));
+        }
+
+        assertEquals(6, hits.get());
+        assertEquals("CLOSED", resilience.circuitStates().get("advisor-clients").name());
+    }
+
+    @Test
+    void hedgesSlowCallAndTakesFirstResponse() {
+        behaviour = hit -> new FakeResponse(200, CLIENTS_JSON, hit == 1 ? 3_000 : 0);
+        RestLfdClientService client = client(resilience(true));
+
+        long start = System.nanoTime();
+        List<ClientDto> clients = client.getAdvisorClients("ADV001");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(1, clients.size());
+        assertTrue(elapsedMillis < 2_000, "hedged call took " + elapsedMillis + " ms");
+        assertEquals(1.0, meterRegistry.get("lfd.client.hedges").tag("endpoint", "advisor-clients").counter().count());
+    }
+
+    @Test
+    void hedgeLoserIsCancelledByItsOwnRequestId() throws InterruptedException {
+        behaviour = hit -> new FakeResponse(200, CLIENTS_JSON, hit == 1 ? 3_000 : 0);
+        RestLfdClientService client = client(resilience(true));
+
+        client.getAdvisorClients("ADV001");
+        for (int i = 0; i < 100 && cancelled.isEmpty(); i++) {
+            Thread.sleep(20);
+        }
+
+        List<String> attempts = List.copyOf(requestIds);
+        assertEquals(2, attempts.size());
+        assertNotEquals(attempts.get(0), attempts.get(1));
+        assertEquals(List.of(attempts.get(0)), List.copyOf(cancelled));
+    }
+
+    @Test
+    void sendsTheAbsoluteDeadlineLeftWhenTheCallGoesOut() {
+        behaviour = hit -> new FakeResponse(200, CLIENTS_JSON, 0);
+        RestLfdClientService client = client(resilience(false));
+
+        long before = System.currentTimeMillis();
+        RequestDeadline.start(2_000);
+        try {
+            client.getAdvisorClients("ADV001");
+        } finally {
+            RequestDeadline.clear();
+        }
+
+        assertEquals(1, deadlines.size());
+        long deadline = Long.parseLong(deadlines.peek());
+        assertTrue(deadline > before && deadline <= System.currentTimeMillis() + 2_000, "deadline " + deadline);
+    }
+
+    private LfdResilience resilience(boolean hedging) {
+        return new LfdResilience(meterRegistry, 4, 4, 0.5, 60_000, 0.1, 10, 1, hedging, 50, 8);
+    }
+
+    private RestLfdClientService client(LfdResilience resilience) {
+        RestLfdClientService client = new RestLfdClientService(
+            new RestClientConfig().restTemplate(new RestTemplateBuilder(), meterRegistry, true, "json"), resilience, new LfdPayloadMapper(), new LfdConditionalCache(100));
+        ReflectionTestUtils.setField(client, "lfdApiBaseUrl", "http://localhost:" + fakeLfd.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "maxPageSize", 100);
+        return client;
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if ("DELETE".equals(exchange.getRequestMethod())) {
+            cancelled.add(path.substring(path.lastIndexOf('/') + 1));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+            return;
+        }
+        requestIds.add(exchange.getRequestHeaders().getFirst("X-Request-ID"));
+        String deadline = exchange.getRequestHeaders().getFirst(RequestDeadline.DEADLINE_HEADER);
+        if (deadline != null) {
+            deadlines.add(deadline);
+        }
+        FakeResponse response = behaviour.apply(hits.incrementAndGet());
+        try {
+            Thread.sleep(response.delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        if (response.retryAfter != null) {
+            exchange.getResponseHeaders().add("Retry-After", response.retryAfter);
+        }
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static class FakeResponse {
+        private final int status;
+        private final String body;
+        private final long delayMillis;
+        private final String retryAfter;
+
+        private FakeResponse(int status, String body, long delayMillis) {
+            this(status, body, delayMillis, null);
+        }
+
+        private FakeResponse(int status, String body, long delayMillis, String retryAfter) {
+            this.status = status;
+            this.body = body;
+            this.delayMillis = delayMillis;
+            this.retryAfter = retryAfter;
+        }
+    }
+}
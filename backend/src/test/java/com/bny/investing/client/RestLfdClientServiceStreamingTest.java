@@ -0,0 +1,141 @@
+package com.bny.investing.client;
+
+import com.bny.investing.client.resilience.LfdResilience;
+import com.bny.investing.config.RestClientConfig;
+import com.bny.investing.dto.HoldingsQuery;
+import com.bny.investing.dto.HoldingsResponseDto;
+import com.bny.investing.service.HoldingsService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestLfdClientServiceStreamingTest {
+
+    private static final String SUMMARY_JSON =
+        "{\"accountId\":\"ACC001\",\"totalMarketValue\":18000,\"holdingsCount\":2,\"resultCode\":0}";
+    private static final String ACCOUNT_JSON = "{\"accountId\":\"ACC001\",\"accountNumber\":\"1001\"}";
+
+    private final CountDownLatch firstRowSeen = new CountDownLatch(1);
+    private volatile boolean firstRowSeenBeforeLastRowSent;
+    private HttpServer fakeLfd;
+    private RestLfdClientService client;
+
+    @BeforeEach
+    void startFakeLfd() throws IOException {
+        fakeLfd = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeLfd.createContext("/internal", this::respond);
+        fakeLfd.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LfdResilience resilience = new LfdResilience(meterRegistry, 4, 4, 0.5, 60_000, 0.1, 10, 1, false, 50, 8);
+        client = new RestLfdClientService(
+            new RestClientConfig().restTemplate(new RestTemplateBuilder(), meterRegistry, false, "json"),
+            resilience, new LfdPayloadMapper(), new LfdConditionalCache(100));
+        ReflectionTestUtils.setField(client, "lfdApiBaseUrl", "http://localhost:" + fakeLfd.getAddress().getPort());
+    }
+
+    @AfterEach
+    void stopFakeLfd() {
+        fakeLfd.stop(0);
+    }
+
+    @Test
+    void handsOnRowsBeforeTheLfdResponseIsComplete() {
+        List<String> symbols = new CopyOnWriteArrayList<>();
+
+        HoldingsResponseDto trailer = client.streamAccountHoldings("ACC001", PageRequest.of(0, 2), HoldingsQuery.builder().build(),
+            holding -> {
+                symbols.add(holding.getSymbol());
+                firstRowSeen.countDown();
+            });
+
+        assertTrue(firstRowSeenBeforeLastRowSent);
+        assertEquals(List.of("AAPL", "MSFT"), symbols);
+        assertTrue(trailer.getHoldings().isEmpty());
+        assertEquals(2, trailer.getTotalElements());
+        assertEquals("1001", trailer.getAccountInfo().getAccountNumber());
+        assertEquals(0, trailer.getSummary().getTotalMarketValue().compareTo(new BigDecimal("18000")));
+    }
+
+    @Test
+    void holdingsServiceWritesTheBackendResponseIncrementally() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        HoldingsService holdingsService = new HoldingsService(client, new InFlightRequestTracker(), objectMapper);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        holdingsService.streamAccountHoldings("ACC001", PageRequest.of(0, 2), HoldingsQuery.builder().build(), out);
+
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertEquals("holdings", body.fieldNames().next());
+        assertEquals(2, body.get("holdings").size());
+        assertEquals("MSFT", body.get("holdings").get(1).get("symbol").asText());
+        assertEquals(2, body.get("totalElements").asInt());
+        assertEquals(1, body.get("totalPages").asInt());
+        assertEquals("ACC001", body.get("accountInfo").get("accountId").asText());
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        if (path.endsWith("/summary")) {
+            send(exchange, SUMMARY_JSON);
+        } else if (!path.endsWith("/holdings/stream")) {
+            send(exchange, ACCOUNT_JSON);
+        } else {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                write(out, "{\"holdings\":[" + holding("AAPL", "15000") + ",");
+                firstRowSeenBeforeLastRowSent = await();
+                write(out, holding("MSFT", "3000") + "],\"totalCount\":2,\"pageOffset\":0,\"pageSize\":2,\"resultCode\":0}");
+            }
+        }
+    }
+
+    private boolean await() {
+        try {
+            return firstRowSeen.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String holding(String symbol, String marketValue) {
+        return "{\"accountId\":\"ACC001\",\"symbol\":\"" + symbol + "\",\"marketValue\":" + marketValue + "}";
+    }
+
+    private static void write(OutputStream out, String chunk) throws IOException {
+        out.write(chunk.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void send(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
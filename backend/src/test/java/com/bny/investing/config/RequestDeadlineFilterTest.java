@@ -0,0 +1,57 @@
+package com.bny.investing.config;
+
+import com.bny.investing.client.RequestDeadline;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestDeadlineFilterTest {
+
+    @Test
+    void testFilter_UsesCallerTimeoutCappedAtDefault() throws Exception {
+        assertBetween(1_500, 2_000, deadlineSeenBy("/api/clients", "2000"));
+        assertBetween(4_500, 5_000, deadlineSeenBy("/api/clients", "60000"));
+    }
+
+    @Test
+    void testFilter_FallsBackToDefaultForMissingOrMalformedHeader() throws Exception {
+        assertBetween(4_500, 5_000, deadlineSeenBy("/api/clients", null));
+        assertBetween(4_500, 5_000, deadlineSeenBy("/api/clients", "soon"));
+    }
+
+    @Test
+    void testFilter_ClearsDeadlineAfterTheRequest() throws Exception {
+        deadlineSeenBy("/api/clients", "2000");
+
+        assertNull(RequestDeadline.remainingMillis());
+    }
+
+    @Test
+    void testFilter_SkipsNonApiPaths() throws Exception {
+        assertNull(deadlineSeenBy("/actuator/health", "2000"));
+    }
+
+    private static Long deadlineSeenBy(String uri, String timeoutHeader) throws Exception {
+        RequestDeadlineFilter filter = new RequestDeadlineFilter();
+        ReflectionTestUtils.setField(filter, "defaultTimeoutMs", 5_000L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (timeoutHeader != null) {
+            request.addHeader(RequestDeadline.TIMEOUT_HEADER, timeoutHeader);
+        }
+        AtomicReference<Long> seen = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(RequestDeadline.remainingMillis()));
+
+        return seen.get();
+    }
+
+    private static void assertBetween(long low, long high, Long actual) {
+        assertNotNull(actual);
+        assertTrue(actual >= low && actual <= high, "expected " + low + ".." + high + " but was " + actual);
+    }
+}
@@ -0,0 +1,105 @@
+package com.bny.investing.index;
+
+import com.bny.investing.dto.AccountDto;
+import com.bny.investing.dto.ClientDto;
+import com.bny.investing.dto.ClientSearchRequest;
+import com.bny.investing.model.AccountType;
+import com.bny.investing.model.ActivityStatus;
+import com.bny.investing.model.RiskProfile;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientSearchIndexTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @Test
+    void testSearch_CombinesNameAccountAndProfileFilters() {
+        ClientSearchIndex index = new ClientSearchIndex();
+        index.refresh(List.of(
+            client("c1", "John Smith", RiskProfile.MODERATE, account("a1", "12345", AccountType.IRA, null)),
+            client("c2", "Sarah Smithson", RiskProfile.AGGRESSIVE, account("a2", "67890", AccountType.JOINT, null)),
+            client("c3", "Mike Jones", RiskProfile.MODERATE, account("a3", "11111", AccountType.IRA, null))));
+
+        assertEquals(List.of("c1", "c2"), ids(index.search(ClientSearchRequest.builder().clientName("smith").build())));
+        assertEquals(List.of("c1", "c3"), ids(index.search(ClientSearchRequest.builder()
+            .accountTypes(List.of(AccountType.IRA)).riskProfiles(List.of(RiskProfile.MODERATE)).build())));
+        assertEquals(List.of("c2"), ids(index.search(ClientSearchRequest.builder().accountNumber("67890").build())));
+        assertEquals("a3", index.findAccount("a3").getAccountId());
+    }
+
+    @Test
+    void testRefresh_ReindexesFieldChangesWithUnchangedLastUpdated() {
+        ClientSearchIndex index = new ClientSearchIndex();
+        index.refresh(List.of(client("c1", "John Smith", RiskProfile.MODERATE, account("a1", "12345", AccountType.IRA, null))));
+
+        int changed = index.refresh(List.of(
+            client("c1", "John Smith", RiskProfile.AGGRESSIVE, account("a1", "12345", AccountType.TRUST, null))));
+
+        assertEquals(1, changed);
+        assertEquals(List.of("c1"), ids(index.search(ClientSearchRequest.builder()
+            .riskProfiles(List.of(RiskProfile.AGGRESSIVE)).accountTypes(List.of(AccountType.TRUST)).build())));
+        assertTrue(index.search(ClientSearchRequest.builder().accountTypes(List.of(AccountType.IRA)).build()).isEmpty());
+        assertEquals(0, index.refresh(List.of(
+            client("c1", "John Smith", RiskProfile.AGGRESSIVE, account("a1", "12345", AccountType.TRUST, null)))));
+    }
+
+    @Test
+    void testRefresh_DropsClientsMissingFromTheBook() {
+        ClientSearchIndex index = new ClientSearchIndex();
+        index.refresh(List.of(
+            client("c1", "John Smith", RiskProfile.MODERATE, account("a1", "12345", AccountType.IRA, null)),
+            client("c2", "Sarah Smithson", RiskProfile.AGGRESSIVE, account("a2", "67890", AccountType.JOINT, null))));
+
+        index.refresh(List.of(client("c2", "Sarah Smithson", RiskProfile.AGGRESSIVE, account("a2", "67890", AccountType.JOINT, null))));
+
+        assertEquals(List.of("c2"), ids(index.search(ClientSearchRequest.builder().clientName("smith").build())));
+        assertNull(index.findClient("c1"));
+        assertNull(index.findAccount("a1"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testSearch_ActivityStatusIsBucketedAtQueryTime() {
+        LocalDateTime now = LocalDateTime.now();
+        ClientSearchIndex index = new ClientSearchIndex();
+        index.refresh(List.of(
+            client("c1", "John Smith", RiskProfile.MODERATE, account("a1", "12345", AccountType.IRA, now.minusDays(10))),
+            client("c2", "Sarah Smithson", RiskProfile.MODERATE, account("a2", "67890", AccountType.IRA, now.minusDays(200))),
+            client("c3", "Mike Jones", RiskProfile.MODERATE, account("a3", "11111", AccountType.IRA, now.minusDays(89).minusHours(23)))));
+
+        assertEquals(List.of("c1", "c3"), ids(index.search(ClientSearchRequest.builder().activityStatus(ActivityStatus.ACTIVE).build())));
+        assertEquals(List.of("c2"), ids(index.search(ClientSearchRequest.builder().activityStatus(ActivityStatus.INACTIVE).build())));
+
+        ClientDto c3 = index.findClient("c3");
+        assertEquals(ActivityStatus.INACTIVE, ClientSearchIndex.activityStatusOf(c3, now.plusDays(1)));
+        assertEquals(ActivityStatus.DORMANT, ClientSearchIndex.activityStatusOf(c3, now.plusDays(400)));
+    }
+
+    private static ClientDto client(String clientId, String name, RiskProfile riskProfile, AccountDto account) {
+        return ClientDto.builder()
+            .clientId(clientId)
+            .clientName(name)
+            .riskProfile(riskProfile)
+            .lastUpdated(UPDATED)
+            .accounts(List.of(account))
+            .build();
+    }
+
+    private static AccountDto account(String accountId, String accountNumber, AccountType type, LocalDateTime lastActivity) {
+        return AccountDto.builder()
+            .accountId(accountId)
+            .accountNumber(accountNumber)
+            .accountType(type)
+            .lastActivity(lastActivity)
+            .build();
+    }
+
+    private static List<String> ids(List<ClientDto> clients) {
+        return clients.stream().map(ClientDto::getClientId).toList();
+    }
+}
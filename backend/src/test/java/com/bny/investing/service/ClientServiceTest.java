@@ -1,10 +1,14 @@
 package com.bny.investing.service;
 
+import com.bny.investing.client.InFlightRequestTracker;
 import com.bny.investing.client.LfdClientService;
 import com.bny.investing.dto.AccountDto;
+import com.bny.investing.dto.AdvisorSummaryDto;
 import com.bny.investing.dto.ClientDto;
 import com.bny.investing.dto.ClientSearchRequest;
+import com.bny.investing.dto.ClientSuggestionDto;
 import com.bny.investing.dto.PaginatedResponse;
+import com.bny.investing.exception.BusinessException;
 import com.bny.investing.exception.ResourceNotFoundException;
 import com.bny.investing.exception.UnauthorizedException;
 import com.bny.investing.model.AccountType;
@@ -14,13 +18,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +48,12 @@ class ClientServiceTest {
     @Mock
     private LfdClientService lfdClientService;
 
+    @Spy
+    private InFlightRequestTracker requestTracker = new InFlightRequestTracker();
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager("clients", "client-search");
+
     @InjectMocks
     private ClientService clientService;
 
@@ -173,6 +196,244 @@ class ClientServiceTest {
         assertEquals(0, response.getContent().size());
     }
 
+    @Test
+    void testSearchClients_ByAccountNumber() {
+        String advisorId = "advisor123";
+        ClientSearchRequest request = ClientSearchRequest.builder()
+            .advisorId(advisorId)
+            .accountNumber("11111")
+            .page(0)
+            .size(50)
+            .build();
+        
+        when(lfdClientService.getAdvisorClients(advisorId)).thenReturn(mockClients);
+        
+        PaginatedResponse<ClientDto> response = clientService.searchClients(request);
+        
+        assertEquals(1, response.getContent().size());
+        assertEquals("Sarah Johnson", response.getContent().get(0).getClientName());
+    }
+
+    @Test
+    void testSearchClients_ReindexesChangedClients() {
+        String advisorId = "advisor123";
+        ClientSearchRequest request = ClientSearchRequest.builder()
+            .advisorId(advisorId)
+            .clientName("Smith")
+            .page(0)
+            .size(50)
+            .build();
+        ClientDto renamed = ClientDto.builder()
+            .clientId("client2")
+            .clientName("Sarah Smithson")
+            .advisorId(advisorId)
+            .riskProfile(RiskProfile.AGGRESSIVE)
+            .totalMarketValue(new BigDecimal("500000"))
+            .accounts(List.of())
+            .build();
+        
+        when(lfdClientService.getAdvisorClients(advisorId))
+            .thenReturn(mockClients)
+            .thenReturn(List.of(mockClients.get(0), renamed));
+        
+        assertEquals(1, clientService.searchClients(request).getContent().size());
+        
+        PaginatedResponse<ClientDto> response = clientService.searchClients(request);
+        
+        assertEquals(2, response.getContent().size());
+        assertEquals("John Smith", response.getContent().get(0).getClientName());
+        assertEquals("Sarah Smithson", response.getContent().get(1).getClientName());
+        assertEquals(0, clientService.searchClients(ClientSearchRequest.builder()
+            .advisorId(advisorId).clientName("Williams").build()).getTotalElements());
+    }
+
+    @Test
+    void testSuggestClients_MatchesNameTokensAndAccountNumbers() {
+        String advisorId = "advisor123";
+        
+        when(lfdClientService.getAdvisorClients(advisorId)).thenReturn(mockClients);
+        
+        List<ClientSuggestionDto> byName = clientService.suggestClients(advisorId, "wil", 10);
+        List<ClientSuggestionDto> byAccount = clientService.suggestClients(advisorId, "123", 10);
+        List<ClientSuggestionDto> limited = clientService.suggestClients(advisorId, "1", 1);
+        
+        assertEquals(1, byName.size());
+        assertEquals("Michael Williams", byName.get(0).getClientName());
+        assertNull(byName.get(0).getAccountNumber());
+        assertEquals(2, byAccount.size());
+        assertEquals("12345", byAccount.get(0).getAccountNumber());
+        assertEquals(1, limited.size());
+    }
+
+    @Test
+    void testSuggestClients_UsesWarmIndex() {
+        String advisorId = "advisor123";
+        ReflectionTestUtils.setField(clientService, "suggestMaxAgeSeconds", 60L);
+        
+        when(lfdClientService.getAdvisorClients(advisorId)).thenReturn(mockClients);
+        
+        clientService.suggestClients(advisorId, "john", 10);
+        List<ClientSuggestionDto> response = clientService.suggestClients(advisorId, "sarah", 10);
+        
+        assertEquals("client2", response.get(0).getClientId());
+        verify(lfdClientService, times(1)).getAdvisorClients(advisorId);
+    }
+
+    @Test
+    void testSearchClients_FiltersWarmBookUntilEvicted() {
+        String advisorId = "advisor123";
+        ReflectionTestUtils.setField(clientService, "suggestMaxAgeSeconds", 60L);
+        
+        when(lfdClientService.getAdvisorClients(advisorId)).thenReturn(mockClients);
+        
+        clientService.suggestClients(advisorId, "john", 10);
+        PaginatedResponse<ClientDto> response = clientService.searchClients(ClientSearchRequest.builder()
+            .advisorId(advisorId).clientName("Smith").build());
+        
+        assertEquals(1, response.getTotalElements());
+        verify(lfdClientService, times(1)).getAdvisorClients(advisorId);
+        
+        clientService.evictAdvisor(advisorId);
+        clientService.searchClients(ClientSearchRequest.builder().advisorId(advisorId).clientName("Smith").build());
+        
+        verify(lfdClientService, times(2)).getAdvisorClients(advisorId);
+    }
+
+    @Test
+    void testPointLookups_ServedFromWarmBook() {
+        String advisorId = "advisor123";
+        ReflectionTestUtils.setField(clientService, "suggestMaxAgeSeconds", 60L);
+        when(lfdClientService.getAdvisorClients(advisorId)).thenReturn(mockClients);
+        clientService.getAdvisorClients(advisorId, 0, 10);
+        
+        assertEquals("Sarah Johnson", clientService.getClient("client2").getClientName());
+        assertEquals(List.of("acc1", "acc2"),
+            clientService.getClientAccounts("client1").stream().map(AccountDto::getAccountId).toList());
+        assertEquals("11111", clientService.getAccount("acc3").getAccountNumber());
+        verify(lfdClientService, never()).getClientById(anyString());
+        verify(lfdClientService, never()).getClientAccounts(anyString());
+        verify(lfdClientService, never()).getAccountInfo(anyString());
+    }
+
+    @Test
+    void testEvictAccount_DropsOnlyTheOwningAdvisorsBook() {
+        String advisorId = "advisor123";
+        ReflectionTestUtils.setField(clientService, "suggestMaxAgeSeconds", 60L);
+        when(lfdClientService.getAdvisorClients(advisorId)).thenReturn(mockClients);
+        clientService.getAdvisorClients(advisorId, 0, 10);
+        cacheManager.getCache("clients").put(advisorId + "_0_10", "page");
+        cacheManager.getCache("clients").put("advisor999_0_10", "page");
+        AccountDto refreshed = AccountDto.builder().accountId("acc3").accountNumber("22222").build();
+        when(lfdClientService.getAccountInfo("acc3")).thenReturn(refreshed);
+        
+        clientService.evictAccount("acc3", "client2");
+        
+        assertSame(refreshed, clientService.getAccount("acc3"));
+        assertNull(cacheManager.getCache("clients").get(advisorId + "_0_10"));
+        assertNotNull(cacheManager.getCache("clients").get("advisor999_0_10"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReverseLookups_PrunedWhenBookIsReplacedOrEvicted() {
+        String advisorId = "advisor123";
+        ReflectionTestUtils.setField(clientService, "suggestMaxAgeSeconds", 0L);
+        when(lfdClientService.getAdvisorClients(advisorId)).thenReturn(mockClients, List.of(mockClients.get(0)));
+        Map<String, String> advisorsByClientId =
+            (Map<String, String>) ReflectionTestUtils.getField(clientService, "advisorsByClientId");
+        Map<String, String> advisorsByAccountId =
+            (Map<String, String>) ReflectionTestUtils.getField(clientService, "advisorsByAccountId");
+        
+        clientService.getAdvisorClients(advisorId, 0, 10);
+        clientService.getAdvisorClients(advisorId, 0, 10);
+        
+        assertEquals(Set.of("client1"), advisorsByClientId.keySet());
+        assertEquals(Set.of("acc1", "acc2"), advisorsByAccountId.keySet());
+        
+        clientService.evictAdvisor(advisorId);
+        
+        assertTrue(advisorsByClientId.isEmpty());
+        assertTrue(advisorsByAccountId.isEmpty());
+    }
+
+    @Test
+    void testPointLookups_FallBackToKeyedCallsWhenBookIsCold() {
+        String advisorId = "advisor123";
+        ReflectionTestUtils.setField(clientService, "suggestMaxAgeSeconds", 0L);
+        when(lfdClientService.getAdvisorClients(advisorId)).thenReturn(mockClients);
+        clientService.getAdvisorClients(advisorId, 0, 10);
+        ClientDto keyed = ClientDto.builder().clientId("client2").clientName("Sarah Johnson").build();
+        when(lfdClientService.getClientById("client2")).thenReturn(keyed);
+        when(lfdClientService.getClientById("unknown")).thenThrow(new ResourceNotFoundException("Client not found: unknown"));
+        
+        assertSame(keyed, clientService.getClient("client2"));
+        assertThrows(ResourceNotFoundException.class, () -> clientService.getClient("unknown"));
+    }
+
+    @Test
+    void testSearchClients_SupersededSearchIsCancelled() throws Exception {
+        String advisorId = "advisor123";
+        ClientSearchRequest first = ClientSearchRequest.builder().advisorId(advisorId).clientName("Jo").build();
+        ClientSearchRequest second = ClientSearchRequest.builder().advisorId(advisorId).clientName("Smith").build();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        
+        when(lfdClientService.getAdvisorClients(advisorId))
+            .thenAnswer(invocation -> {
+                firstStarted.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    throw new ResourceNotFoundException("LFD call aborted");
+                }
+                return mockClients;
+            })
+            .thenReturn(mockClients);
+        
+        CompletableFuture<PaginatedResponse<ClientDto>> pending = CompletableFuture.supplyAsync(() -> {
+            inSession("session-1");
+            try {
+                return clientService.searchClients(first);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        
+        inSession("session-1");
+        PaginatedResponse<ClientDto> response;
+        try {
+            response = clientService.searchClients(second);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        
+        assertEquals(1, response.getContent().size());
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> pending.get(5, TimeUnit.SECONDS));
+        assertEquals("REQUEST_SUPERSEDED", ((BusinessException) thrown.getCause()).getErrorCode());
+        verify(lfdClientService, timeout(5000)).cancelRequest(anyString());
+    }
+
+    @Test
+    void testGetAdvisorSummary_DelegatesToLfd() {
+        String advisorId = "advisor123";
+        AdvisorSummaryDto summary = AdvisorSummaryDto.builder()
+            .advisorId(advisorId)
+            .clientCount(3)
+            .accountCount(4)
+            .totalMarketValue(new BigDecimal("5000000"))
+            .accounts(List.of())
+            .build();
+        
+        when(lfdClientService.getAdvisorSummary(advisorId)).thenReturn(summary);
+        
+        AdvisorSummaryDto response = clientService.getAdvisorSummary(advisorId);
+        
+        assertEquals(3, response.getClientCount());
+        assertEquals(4, response.getAccountCount());
+        assertEquals(new BigDecimal("5000000"), response.getTotalMarketValue());
+        verify(lfdClientService).getAdvisorSummary(advisorId);
+    }
+
     private List<ClientDto> createMockClients() {
         AccountDto account1 = AccountDto.builder()
             .accountId("acc1")
@@ -224,4 +485,10 @@ class ClientServiceTest {
 
         return Arrays.asList(client1, client2, client3);
     }
+
+    private static void inSession(String sessionId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(InFlightRequestTracker.SESSION_HEADER, sessionId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
 }
@@ -1,17 +1,26 @@
 package com.bny.investing.service;
 
+import com.bny.investing.client.InFlightRequestTracker;
 import com.bny.investing.client.LfdClientService;
+import com.bny.investing.dto.ConsolidatedHoldingsResponseDto;
+import com.bny.investing.dto.HoldingsQuery;
 import com.bny.investing.dto.HoldingsResponseDto;
 import com.bny.shared.dto.response.PortfolioSummaryDto;
+import com.bny.investing.exception.BusinessException;
 import com.bny.investing.exception.ResourceNotFoundException;
+import com.bny.investing.model.AssetClass;
+import com.bny.investing.model.HoldingsSortField;
+import com.bny.investing.model.SortDirection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -26,6 +35,9 @@ class HoldingsServiceTest {
     @Mock
     private LfdClientService lfdClientService;
 
+    @Spy
+    private InFlightRequestTracker requestTracker = new InFlightRequestTracker();
+
     @InjectMocks
     private HoldingsService holdingsService;
 
@@ -98,6 +110,67 @@ class HoldingsServiceTest {
         });
     }
 
+    @Test
+    void testGetAccountHoldings_DeadlineExceededIsNotMaskedAsNotFound() {
+        String accountId = "ACC001";
+        Pageable pageable = PageRequest.of(0, 50);
+        HoldingsQuery query = HoldingsQuery.builder().build();
+        when(lfdClientService.getAccountHoldings(accountId, pageable, query))
+            .thenThrow(new BusinessException("Request deadline exceeded", HttpStatus.GATEWAY_TIMEOUT, "DEADLINE_EXCEEDED"));
+        
+        BusinessException thrown = assertThrows(BusinessException.class,
+            () -> holdingsService.getAccountHoldings(accountId, pageable, query));
+        
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, thrown.getStatus());
+    }
+
+    @Test
+    void testGetAccountHoldings_WithFilterAndSort() {
+        String accountId = "ACC001";
+        Pageable pageable = PageRequest.of(0, 50);
+        HoldingsQuery query = HoldingsQuery.builder()
+            .assetClasses(List.of(AssetClass.FIXED_INCOME))
+            .sortBy(HoldingsSortField.SYMBOL)
+            .sortDirection(SortDirection.ASC)
+            .build();
+        
+        when(lfdClientService.getAccountHoldings(accountId, pageable, query)).thenReturn(mockHoldingsResponse);
+        
+        HoldingsResponseDto response = holdingsService.getAccountHoldings(accountId, pageable, query);
+        
+        assertNotNull(response);
+        verify(lfdClientService).getAccountHoldings(accountId, pageable, query);
+        verify(lfdClientService, never()).getAccountHoldings(accountId, pageable);
+    }
+
+    @Test
+    void testGetConsolidatedHoldings_Success() {
+        String clientId = "CLT001";
+        ConsolidatedHoldingsResponseDto consolidated = ConsolidatedHoldingsResponseDto.builder()
+            .clientId(clientId)
+            .accountCount(2)
+            .totalMarketValue(new BigDecimal("250000"))
+            .holdings(List.of())
+            .build();
+        
+        when(lfdClientService.getConsolidatedHoldings(clientId)).thenReturn(consolidated);
+        
+        ConsolidatedHoldingsResponseDto response = holdingsService.getConsolidatedHoldings(clientId);
+        
+        assertEquals(clientId, response.getClientId());
+        assertEquals(2, response.getAccountCount());
+        verify(lfdClientService).getConsolidatedHoldings(clientId);
+    }
+
+    @Test
+    void testGetConsolidatedHoldings_NotFound() {
+        when(lfdClientService.getConsolidatedHoldings("nonexistent")).thenThrow(new RuntimeException("Not found"));
+        
+        assertThrows(ResourceNotFoundException.class, () -> {
+            holdingsService.getConsolidatedHoldings("nonexistent");
+        });
+    }
+
     @Test
     void testGetPortfolioSummary_Success() {
         String accountId = "ACC001";
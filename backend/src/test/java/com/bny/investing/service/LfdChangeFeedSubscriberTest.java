@@ -0,0 +1,88 @@
+package com.bny.investing.service;
+
+import com.bny.investing.client.LfdClientService;
+import com.bny.investing.client.dto.LfdChangeBatch;
+import com.bny.investing.client.dto.LfdChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LfdChangeFeedSubscriberTest {
+
+    @Mock
+    private LfdClientService lfdClientService;
+
+    @Mock
+    private ClientService clientService;
+
+    @InjectMocks
+    private LfdChangeFeedSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(subscriber, "enabled", true);
+        ReflectionTestUtils.setField(subscriber, "batchSize", 2);
+        ReflectionTestUtils.setField(subscriber, "maxBatchesPerPoll", 10);
+    }
+
+    @Test
+    void followsTheCursorAndEvictsChangedRows() {
+        when(lfdClientService.getChanges(isNull(), eq(2))).thenReturn(batch("c1", false));
+        when(lfdClientService.getChanges("c1", 2)).thenReturn(LfdChangeBatch.builder()
+            .events(List.of(event("client", "C1", "ADV001"), event("holding", "H1", "ACC9")))
+            .cursor("c2").hasMore(true).build());
+        when(lfdClientService.getChanges("c2", 2)).thenReturn(LfdChangeBatch.builder()
+            .events(List.of(event("account", "ACC1", "C1")))
+            .cursor("c3").hasMore(false).build());
+
+        subscriber.poll();
+        subscriber.poll();
+
+        verify(clientService).evictClient("C1", "ADV001");
+        verify(clientService).evictAccount("ACC1", "C1");
+        verifyNoMoreInteractions(clientService);
+        verify(lfdClientService).getChanges("c2", 2);
+    }
+
+    @Test
+    void failedPollRetriesFromTheSameCursor() {
+        when(lfdClientService.getChanges(isNull(), eq(2))).thenReturn(batch("c1", false));
+        when(lfdClientService.getChanges("c1", 2))
+            .thenThrow(new RuntimeException("LFD unavailable"))
+            .thenReturn(batch("c2", false));
+
+        subscriber.poll();
+        subscriber.poll();
+        subscriber.poll();
+
+        verify(lfdClientService, times(2)).getChanges("c1", 2);
+    }
+
+    @Test
+    void clientWithoutAFeedIsANoOp() {
+        subscriber.poll();
+
+        verify(lfdClientService).getChanges(isNull(), eq(2));
+        verify(clientService, never()).evictAdvisor(anyString());
+    }
+
+    private static LfdChangeBatch batch(String cursor, boolean hasMore) {
+        return LfdChangeBatch.builder().events(List.of()).cursor(cursor).hasMore(hasMore).build();
+    }
+
+    private static LfdChangeEvent event(String entity, String key, String parentKey) {
+        return LfdChangeEvent.builder().entity(entity).key(key).parentKey(parentKey).version(1L).build();
+    }
+}
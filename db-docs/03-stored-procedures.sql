@@ -116,7 +116,7 @@ BEGIN
     LIMIT p_page_size OFFSET p_page_offset;
 END$$
 
--- Get account holdings with calculations
+-- Get account holdings with calculations, asset-class filter and whitelisted sort
 CREATE PROCEDURE `sp_get_account_holdings`(
     IN p_account_id VARCHAR(50),
     IN p_as_of_date DATE,
@@ -132,18 +132,37 @@ CREATE PROCEDURE `sp_get_account_holdings`(
 BEGIN
     DECLARE v_total_count INT DEFAULT 0;
     DECLARE v_total_portfolio_value DECIMAL(19,4) DEFAULT 0;
+    DECLARE v_filter_asset_classes BOOLEAN DEFAULT FALSE;
+    DECLARE v_sort_field VARCHAR(50) DEFAULT 'market_value';
+    DECLARE v_sort_asc BOOLEAN DEFAULT FALSE;
     
-    -- Calculate total portfolio value for percentage calculations
+    SET v_filter_asset_classes = p_asset_classes IS NOT NULL AND JSON_LENGTH(p_asset_classes) > 0;
+    
+    -- Only whitelisted columns may drive the ORDER BY
+    IF LOWER(p_sort_field) IN ('symbol', 'security_name', 'sector', 'asset_class', 'quantity',
+            'current_price', 'price_change_percent', 'cost_basis', 'total_cost', 'market_value',
+            'unrealized_gain_loss', 'unrealized_gain_loss_percent', 'portfolio_percent') THEN
+        SET v_sort_field = LOWER(p_sort_field);
+        SET v_sort_asc = UPPER(COALESCE(p_sort_direction, 'ASC')) = 'ASC';
+    ELSE
+        SET v_sort_asc = UPPER(COALESCE(p_sort_direction, 'DESC')) = 'ASC';
+    END IF;
+    
+    -- Portfolio percentages are always relative to the whole account
     SELECT COALESCE(SUM(h2.quantity * s2.current_price), 0)
     INTO v_total_portfolio_value
     FROM holdings h2
     JOIN securities s2 ON h2.symbol = s2.symbol
     WHERE h2.account_id = p_account_id;
     
-    -- Get total count
+    -- Total count of the filtered set
     SELECT COUNT(*) INTO v_total_count
     FROM holdings h
-    WHERE h.account_id = p_account_id;
+    JOIN securities s ON h.symbol = s.symbol
+    WHERE h.account_id = p_account_id
+      AND (NOT v_filter_asset_classes OR s.asset_class IN (
+            SELECT jt.asset_class
+            FROM JSON_TABLE(p_asset_classes, '$[*]' COLUMNS (asset_class VARCHAR(20) PATH '$')) jt));
     
     SET p_total_count = v_total_count;
     SET p_result_code = 0;
@@ -151,6 +170,7 @@ BEGIN
     
     -- Return holdings with calculated values
     SELECT 
+        h.holding_id,
         h.account_id,
         h.symbol,
         s.security_name,
@@ -175,16 +195,199 @@ BEGIN
             ELSE 0
         END as portfolio_percent,
         h.purchase_date,
-        CURRENT_DATE() as price_date,
+        DATE(s.last_price_update) as price_date,
         FALSE as has_alerts,
-        1 as tax_lot_count
+        (SELECT COUNT(*) FROM holdings l
+         WHERE l.account_id = h.account_id AND l.symbol = h.symbol) as tax_lot_count
     FROM holdings h
     JOIN securities s ON h.symbol = s.symbol
     WHERE h.account_id = p_account_id
-    ORDER BY market_value DESC
+      AND (NOT v_filter_asset_classes OR s.asset_class IN (
+            SELECT jt.asset_class
+            FROM JSON_TABLE(p_asset_classes, '$[*]' COLUMNS (asset_class VARCHAR(20) PATH '$')) jt))
+    ORDER BY
+        CASE WHEN v_sort_asc THEN
+            CASE v_sort_field
+                WHEN 'symbol' THEN h.symbol
+                WHEN 'security_name' THEN s.security_name
+                WHEN 'sector' THEN s.sector
+                WHEN 'asset_class' THEN s.asset_class
+            END
+        END ASC,
+        CASE WHEN NOT v_sort_asc THEN
+            CASE v_sort_field
+                WHEN 'symbol' THEN h.symbol
+                WHEN 'security_name' THEN s.security_name
+                WHEN 'sector' THEN s.sector
+                WHEN 'asset_class' THEN s.asset_class
+            END
+        END DESC,
+        CASE WHEN v_sort_asc THEN
+            CASE v_sort_field
+                WHEN 'quantity' THEN h.quantity
+                WHEN 'current_price' THEN s.current_price
+                WHEN 'price_change_percent' THEN s.price_change_percent
+                WHEN 'cost_basis' THEN h.cost_basis
+                WHEN 'total_cost' THEN h.cost_basis
+                WHEN 'market_value' THEN h.quantity * s.current_price
+                WHEN 'portfolio_percent' THEN h.quantity * s.current_price
+                WHEN 'unrealized_gain_loss' THEN h.quantity * s.current_price - h.cost_basis
+                WHEN 'unrealized_gain_loss_percent' THEN
+                    CASE WHEN h.cost_basis > 0 THEN (h.quantity * s.current_price - h.cost_basis) / h.cost_basis ELSE 0 END
+            END
+        END ASC,
+        CASE WHEN NOT v_sort_asc THEN
+            CASE v_sort_field
+                WHEN 'quantity' THEN h.quantity
+                WHEN 'current_price' THEN s.current_price
+                WHEN 'price_change_percent' THEN s.price_change_percent
+                WHEN 'cost_basis' THEN h.cost_basis
+                WHEN 'total_cost' THEN h.cost_basis
+                WHEN 'market_value' THEN h.quantity * s.current_price
+                WHEN 'portfolio_percent' THEN h.quantity * s.current_price
+                WHEN 'unrealized_gain_loss' THEN h.quantity * s.current_price - h.cost_basis
+                WHEN 'unrealized_gain_loss_percent' THEN
+                    CASE WHEN h.cost_basis > 0 THEN (h.quantity * s.current_price - h.cost_basis) / h.cost_basis ELSE 0 END
+            END
+        END DESC,
+        h.symbol ASC
     LIMIT p_page_size OFFSET p_page_offset;
 END$$
 
+-- Grouped holdings page: per-group totals over the filtered set and each group's own window of rows, so the
+-- grouped view never reads the whole account. A group's first row always comes back to carry its totals;
+-- rows with group_row <= p_page_offset are only there for that
+CREATE PROCEDURE `sp_get_account_holdings_grouped`(
+    IN p_account_id VARCHAR(50),
+    IN p_as_of_date DATE,
+    IN p_asset_classes JSON,
+    IN p_group_field VARCHAR(20),
+    IN p_sort_field VARCHAR(50),
+    IN p_sort_direction VARCHAR(10),
+    IN p_page_offset INT,
+    IN p_page_size INT,
+    OUT p_result_code INT,
+    OUT p_error_message VARCHAR(500),
+    OUT p_total_count INT,
+    OUT p_total_market_value DECIMAL(19,4)
+)
+BEGIN
+    DECLARE v_total_count INT DEFAULT 0;
+    DECLARE v_total_portfolio_value DECIMAL(19,4) DEFAULT 0;
+    DECLARE v_filter_asset_classes BOOLEAN DEFAULT FALSE;
+    DECLARE v_group_by_sector BOOLEAN DEFAULT FALSE;
+    DECLARE v_sort_field VARCHAR(50) DEFAULT 'market_value';
+    DECLARE v_sort_asc BOOLEAN DEFAULT FALSE;
+    
+    SET v_filter_asset_classes = p_asset_classes IS NOT NULL AND JSON_LENGTH(p_asset_classes) > 0;
+    SET v_group_by_sector = LOWER(p_group_field) = 'sector';
+    
+    IF LOWER(p_sort_field) IN ('symbol', 'security_name', 'sector', 'asset_class', 'quantity',
+            'current_price', 'price_change_percent', 'cost_basis', 'total_cost', 'market_value',
+            'unrealized_gain_loss', 'unrealized_gain_loss_percent', 'portfolio_percent') THEN
+        SET v_sort_field = LOWER(p_sort_field);
+        SET v_sort_asc = UPPER(COALESCE(p_sort_direction, 'ASC')) = 'ASC';
+    ELSE
+        SET v_sort_asc = UPPER(COALESCE(p_sort_direction, 'DESC')) = 'ASC';
+    END IF;
+    
+    -- Group weights are relative to the whole account, as portfolio percentages are
+    SELECT COALESCE(SUM(h2.quantity * s2.current_price), 0)
+    INTO v_total_portfolio_value
+    FROM holdings h2
+    JOIN securities s2 ON h2.symbol = s2.symbol
+    WHERE h2.account_id = p_account_id;
+    
+    SELECT COUNT(*) INTO v_total_count
+    FROM holdings h
+    JOIN securities s ON h.symbol = s.symbol
+    WHERE h.account_id = p_account_id
+      AND (NOT v_filter_asset_classes OR s.asset_class IN (
+            SELECT jt.asset_class
+            FROM JSON_TABLE(p_asset_classes, '$[*]' COLUMNS (asset_class VARCHAR(20) PATH '$')) jt));
+    
+    SET p_total_count = v_total_count;
+    SET p_total_market_value = v_total_portfolio_value;
+    SET p_result_code = 0;
+    SET p_error_message = NULL;
+    
+    SELECT g.*
+    FROM (
+        SELECT
+            b.*,
+            ROW_NUMBER() OVER (PARTITION BY b.group_key ORDER BY
+                CASE WHEN v_sort_asc THEN b.sort_text END ASC,
+                CASE WHEN NOT v_sort_asc THEN b.sort_text END DESC,
+                CASE WHEN v_sort_asc THEN b.sort_number END ASC,
+                CASE WHEN NOT v_sort_asc THEN b.sort_number END DESC,
+                b.symbol ASC,
+                b.holding_id ASC) AS group_row,
+            COUNT(*) OVER (PARTITION BY b.group_key) AS group_count,
+            SUM(b.market_value) OVER (PARTITION BY b.group_key) AS group_market_value,
+            SUM(b.total_cost) OVER (PARTITION BY b.group_key) AS group_cost_basis
+        FROM (
+            SELECT 
+                h.holding_id,
+                h.account_id,
+                h.symbol,
+                s.security_name,
+                s.asset_class,
+                s.sector,
+                h.quantity,
+                h.cost_basis,
+                h.cost_basis as total_cost,
+                s.current_price,
+                s.price_change,
+                s.price_change_percent,
+                (h.quantity * s.current_price) as market_value,
+                (h.quantity * s.current_price - h.cost_basis) as unrealized_gain_loss,
+                CASE 
+                    WHEN h.cost_basis > 0 THEN 
+                        ROUND(((h.quantity * s.current_price - h.cost_basis) / h.cost_basis) * 100, 2)
+                    ELSE 0 
+                END as unrealized_gain_loss_percent,
+                CASE 
+                    WHEN v_total_portfolio_value > 0 THEN
+                        ROUND(((h.quantity * s.current_price) / v_total_portfolio_value) * 100, 2)
+                    ELSE 0
+                END as portfolio_percent,
+                h.purchase_date,
+                DATE(s.last_price_update) as price_date,
+                FALSE as has_alerts,
+                (SELECT COUNT(*) FROM holdings l
+                 WHERE l.account_id = h.account_id AND l.symbol = h.symbol) as tax_lot_count,
+                COALESCE(CASE WHEN v_group_by_sector THEN s.sector ELSE s.asset_class END, 'Unclassified') as group_key,
+                CASE v_sort_field
+                    WHEN 'symbol' THEN h.symbol
+                    WHEN 'security_name' THEN s.security_name
+                    WHEN 'sector' THEN s.sector
+                    WHEN 'asset_class' THEN s.asset_class
+                END as sort_text,
+                CASE v_sort_field
+                    WHEN 'quantity' THEN h.quantity
+                    WHEN 'current_price' THEN s.current_price
+                    WHEN 'price_change_percent' THEN s.price_change_percent
+                    WHEN 'cost_basis' THEN h.cost_basis
+                    WHEN 'total_cost' THEN h.cost_basis
+                    WHEN 'market_value' THEN h.quantity * s.current_price
+                    WHEN 'portfolio_percent' THEN h.quantity * s.current_price
+                    WHEN 'unrealized_gain_loss' THEN h.quantity * s.current_price - h.cost_basis
+                    WHEN 'unrealized_gain_loss_percent' THEN
+                        CASE WHEN h.cost_basis > 0 THEN (h.quantity * s.current_price - h.cost_basis) / h.cost_basis ELSE 0 END
+                END as sort_number
+            FROM holdings h
+            JOIN securities s ON h.symbol = s.symbol
+            WHERE h.account_id = p_account_id
+              AND (NOT v_filter_asset_classes OR s.asset_class IN (
+                    SELECT jt.asset_class
+                    FROM JSON_TABLE(p_asset_classes, '$[*]' COLUMNS (asset_class VARCHAR(20) PATH '$')) jt))
+        ) b
+    ) g
+    WHERE g.group_row = 1
+       OR g.group_row BETWEEN p_page_offset + 1 AND p_page_offset + p_page_size
+    ORDER BY g.group_market_value DESC, g.group_key, g.group_row;
+END$$
+
 -- Get portfolio summary with aggregations
 CREATE PROCEDURE `sp_get_portfolio_summary`(
     IN p_account_id VARCHAR(50),
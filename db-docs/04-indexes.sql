@@ -0,0 +1,25 @@
+-- BNY Data Services - Secondary Indexes
+-- Database: bny_data_services
+
+SET NAMES utf8mb4;
+
+-- Holdings lookups are always scoped to one account; symbol completes the
+-- join to securities and gives a stable tie-break for the holdings sort.
+-- last_updated keeps the lfd-api version probes index-only on holdings
+CREATE INDEX `idx_holdings_account_symbol` ON `holdings` (`account_id`, `symbol`, `quantity`, `cost_basis`, `last_updated`);
+
+-- Asset-class filtering in sp_get_account_holdings and allocation grouping
+CREATE INDEX `idx_securities_asset_class` ON `securities` (`asset_class`, `symbol`);
+
+-- Sector / name sorts resolve via the securities primary key after the account scan
+CREATE INDEX `idx_securities_sector` ON `securities` (`sector`, `symbol`);
+
+-- Advisor book lookups (accounts.client_id is already indexed by its foreign key)
+CREATE INDEX `idx_clients_advisor` ON `clients` (`advisor_id`, `client_name`);
+
+-- Change feed keyset scans in lfd-api; InnoDB appends the primary key, so each index is already in
+-- (version column, key) order and a batch is one short range read
+CREATE INDEX `idx_clients_last_updated` ON `clients` (`last_updated`);
+CREATE INDEX `idx_accounts_last_updated` ON `accounts` (`last_updated`);
+CREATE INDEX `idx_holdings_last_updated` ON `holdings` (`last_updated`);
+CREATE INDEX `idx_securities_last_price_update` ON `securities` (`last_price_update`);
@@ -0,0 +1,71 @@
+-- BNY Data Services - Table Version Counters
+-- Database: bny_data_services
+
+SET NAMES utf8mb4;
+
+-- One counter per (table, slot). Writers bump the slot their key hashes to, so concurrent
+-- writers rarely queue on the same row; readers sum the slots to get a per-table version
+CREATE TABLE `table_versions` (
+  `table_name` VARCHAR(64) NOT NULL,
+  `slot` TINYINT UNSIGNED NOT NULL,
+  `version` BIGINT UNSIGNED NOT NULL DEFAULT 0,
+  PRIMARY KEY (`table_name`, `slot`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+DELIMITER $$
+
+-- Bumps are made by the write path once per statement, not by row triggers: a trigger bumps a slot per
+-- row and holds its lock until commit, so a batch of price ticks queued every other writer behind it.
+-- Each table hashes on the key its readers are scoped by: clients by advisor, accounts by client,
+-- holdings by account, securities by symbol. A row moving between scopes passes both the old and the new key.
+-- Call it last in the writing transaction; every distinct slot is bumped once, in slot order, so two
+-- batches lock their common slots in the same order and hold them only until their commit
+CREATE PROCEDURE `sp_bump_table_versions`(
+    IN p_table_name VARCHAR(64),
+    IN p_keys JSON
+)
+BEGIN
+    INSERT INTO table_versions (table_name, slot, version)
+    SELECT p_table_name, slots.slot, 1
+    FROM (
+        SELECT DISTINCT CRC32(jt.version_key) % 16 AS slot
+        FROM JSON_TABLE(p_keys, '$[*]' COLUMNS (version_key VARCHAR(50) PATH '$')) jt
+        WHERE jt.version_key IS NOT NULL
+    ) slots
+    ORDER BY slots.slot
+    ON DUPLICATE KEY UPDATE version = table_versions.version + 1;
+END$$
+
+CREATE PROCEDURE `sp_bump_table_version`(
+    IN p_table_name VARCHAR(64),
+    IN p_key VARCHAR(50)
+)
+BEGIN
+    CALL sp_bump_table_versions(p_table_name, JSON_ARRAY(p_key));
+END$$
+
+-- Price feed write path: one set-based update for the whole tick batch and one bump of the slots it touched.
+-- p_prices: [{"symbol": "AAPL", "price": 175.50, "price_change": 2.30, "price_change_percent": 1.33}, ...]
+CREATE PROCEDURE `sp_update_security_prices`(
+    IN p_prices JSON
+)
+BEGIN
+    START TRANSACTION;
+
+    UPDATE securities s
+    JOIN JSON_TABLE(p_prices, '$[*]' COLUMNS (
+            symbol VARCHAR(20) PATH '$.symbol',
+            price DECIMAL(19,4) PATH '$.price',
+            price_change DECIMAL(19,4) PATH '$.price_change',
+            price_change_percent DECIMAL(19,4) PATH '$.price_change_percent')) p ON p.symbol = s.symbol
+    SET s.current_price = p.price,
+        s.price_change = p.price_change,
+        s.price_change_percent = p.price_change_percent,
+        s.last_price_update = CURRENT_TIMESTAMP;
+
+    CALL sp_bump_table_versions('securities', JSON_EXTRACT(p_prices, '$[*].symbol'));
+
+    COMMIT;
+END$$
+
+DELIMITER ;
@@ -0,0 +1,222 @@
+package com.bny.lfdapi.cache;
+
+import com.bny.lfdapi.service.TableVersionService;
+import com.bny.lfdapi.service.TableVersions;
+import com.bny.shared.dto.common.StoredProcedureRequest;
+import com.bny.shared.dto.common.StoredProcedureResponse;
+import com.bny.shared.service.StoredProcedureExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Read-through cache in front of the shared executor. Each entry records the table_versions slots its result
+// depends on and is stamped with their sum, so only writes that can change that result retire it:
+// - holdings procedures depend on the account's holdings slot and the slots of the symbols it holds
+// - client procedures depend on the advisor's clients slot and the accounts slots of the advisor's clients
+// Row-handler (streaming) calls go straight to the database. Callers own what they get back, so entries are
+// stored and handed out as deep copies of the rows.
+@Slf4j
+@Primary
+@Service
+public class CachingStoredProcedureExecutor extends StoredProcedureExecutor {
+
+    static final Set<String> HOLDINGS_PROCEDURES = Set.of("sp_get_account_holdings", "sp_get_portfolio_summary");
+    static final Set<String> CLIENT_PROCEDURES = Set.of("sp_search_clients", "sp_get_advisor_clients");
+
+    private static final String HELD_SYMBOLS_SQL = "SELECT DISTINCT symbol FROM holdings WHERE account_id = ?";
+    private static final String ADVISOR_CLIENTS_SQL = "SELECT client_id FROM clients WHERE advisor_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TableVersionService tableVersionService;
+    private final boolean enabled;
+    private final VersionedLruCache<CachedResult> cache;
+    private final Map<String, Counter> hits = new HashMap<>();
+    private final Map<String, Counter> misses = new HashMap<>();
+    private final Map<String, Counter> bypasses = new HashMap<>();
+
+    @Autowired
+    public CachingStoredProcedureExecutor(
+            TableVersionService tableVersionService,
+            @Value("${lfd.procedure-cache.enabled:true}") boolean enabled,
+            @Value("${lfd.procedure-cache.max-entries:1000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        this.tableVersionService = tableVersionService;
+        this.enabled = enabled;
+        this.cache = new VersionedLruCache<>(maxEntries);
+
+        for (String procedure : Stream.concat(HOLDINGS_PROCEDURES.stream(), CLIENT_PROCEDURES.stream()).toList()) {
+            hits.put(procedure, requests(meterRegistry, procedure, "hit"));
+            misses.put(procedure, requests(meterRegistry, procedure, "miss"));
+            bypasses.put(procedure, requests(meterRegistry, procedure, "bypass"));
+        }
+        Gauge.builder("lfd.procedure.cache.entries", cache, VersionedLruCache::size).register(meterRegistry);
+        Gauge.builder("lfd.procedure.cache.rows", cache, c -> c.weigh(result -> rows(result.response)))
+            .register(meterRegistry);
+    }
+
+    @Override
+    public StoredProcedureResponse execute(StoredProcedureRequest request) {
+        String procedure = request.getProcedureName();
+        boolean holdings = HOLDINGS_PROCEDURES.contains(procedure);
+        if (!enabled || (!holdings && !CLIENT_PROCEDURES.contains(procedure))) {
+            return super.execute(request);
+        }
+        Object owner = parameter(request, holdings ? "p_account_id" : "p_advisor_id");
+        TableVersions versions = owner == null ? null : tableVersionService.getVersions();
+        if (versions == null) {
+            bypasses.get(procedure).increment();
+            return super.execute(request);
+        }
+
+        String key = cacheKey(request);
+        CachedResult cached = cache.getAnyVersion(key);
+        if (cached != null && cache.get(key, cached.version(versions)) != null) {
+            hits.get(procedure).increment();
+            return copy(cached.response);
+        }
+
+        misses.get(procedure).increment();
+        // The versions were read before the call, so a write racing it only makes this entry stale sooner
+        StoredProcedureResponse response = super.execute(request);
+        if (response.getResultCode() == 0) {
+            try {
+                CachedResult result = holdings
+                    ? new CachedResult(copy(response), "holdings", List.of(owner.toString()), "securities",
+                        jdbcTemplate.queryForList(HELD_SYMBOLS_SQL, String.class, owner))
+                    : new CachedResult(copy(response), "clients", List.of(owner.toString()), "accounts",
+                        jdbcTemplate.queryForList(ADVISOR_CLIENTS_SQL, String.class, owner));
+                cache.put(key, result.version(versions), result);
+            } catch (DataAccessException e) {
+                log.debug("Not caching {}: dependencies unavailable: {}", procedure, e.getMessage());
+            }
+        }
+        return response;
+    }
+
+    private static StoredProcedureResponse copy(StoredProcedureResponse response) {
+        return StoredProcedureResponse.builder()
+            .resultCode(response.getResultCode())
+            .errorMessage(response.getErrorMessage())
+            .data(copy(response.getData()))
+            .outputParameters(copy(response.getOutputParameters()))
+            .build();
+    }
+
+    // Rows are maps of immutable column values apart from java.util.Date subclasses, which are cloned
+    @SuppressWarnings("unchecked")
+    private static <T> T copy(T value) {
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(element -> copy.add(copy(element)));
+            return (T) copy;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = map instanceof LinkedCaseInsensitiveMap<?>
+                ? (Map<Object, Object>) (Map<?, ?>) new LinkedCaseInsensitiveMap<Object>(map.size())
+                : new LinkedHashMap<>(map.size());
+            map.forEach((name, element) -> copy.put(name, copy(element)));
+            return (T) copy;
+        }
+        if (value instanceof Date date) {
+            return (T) date.clone();
+        }
+        return value;
+    }
+
+    private static Object parameter(StoredProcedureRequest request, String name) {
+        if (request.getParameters() == null) {
+            return null;
+        }
+        return request.getParameters().entrySet().stream()
+            .filter(parameter -> parameter.getKey().equalsIgnoreCase(name))
+            .map(Map.Entry::getValue)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse(null);
+    }
+
+    static String cacheKey(StoredProcedureRequest request) {
+        Map<String, Object> sorted = new TreeMap<>();
+        if (request.getParameters() != null) {
+            request.getParameters().forEach((name, value) -> sorted.put(name.toLowerCase(), value));
+        }
+        StringBuilder key = new StringBuilder(request.getProcedureName());
+        sorted.forEach((name, value) -> {
+            key.append('|').append(name).append('=');
+            if (value != null) {
+                String normalized = normalize(value);
+                key.append(normalized.length()).append(':').append(normalized);
+            }
+        });
+        return key.toString();
+    }
+
+    private static String normalize(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value.toString();
+    }
+
+    private static final class CachedResult {
+        private final StoredProcedureResponse response;
+        private final String ownerTable;
+        private final Set<Integer> ownerSlots;
+        private final String memberTable;
+        private final Set<Integer> memberSlots;
+
+        private CachedResult(StoredProcedureResponse response, String ownerTable, List<String> ownerKeys,
+                             String memberTable, List<String> memberKeys) {
+            this.response = response;
+            this.ownerTable = ownerTable;
+            this.ownerSlots = slots(ownerKeys);
+            this.memberTable = memberTable;
+            this.memberSlots = slots(memberKeys);
+        }
+
+        private String version(TableVersions versions) {
+            return String.valueOf(versions.sum(ownerTable, ownerSlots) + versions.sum(memberTable, memberSlots));
+        }
+
+        private static Set<Integer> slots(List<String> keys) {
+            return keys.stream().map(TableVersions::slotOf).collect(Collectors.toSet());
+        }
+    }
+
+    private static long rows(StoredProcedureResponse response) {
+        return response.getData() instanceof List<?> list ? list.size() : 0;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String procedure, String result) {
+        return Counter.builder("lfd.procedure.cache.requests")
+            .tag("procedure", procedure)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,90 @@
+package com.bny.lfdapi.cache;
+
+import com.bny.shared.dto.response.HoldingDto;
+import com.bny.shared.dto.response.HoldingGroupDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class HoldingsGrouper {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final BigDecimal totalMarketValue;
+    private final int offset;
+    private final int limit;
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+
+    public HoldingsGrouper(BigDecimal totalMarketValue, int offset, int limit) {
+        this.totalMarketValue = totalMarketValue;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    public void add(String groupKey, BigDecimal marketValue, BigDecimal costBasis, Supplier<HoldingDto> row) {
+        Group group = group(groupKey);
+        if (group.count >= offset && group.holdings.size() < limit) {
+            group.holdings.add(row.get());
+        }
+        group.count++;
+        if (marketValue != null) {
+            group.marketValue = group.marketValue.add(marketValue);
+        }
+        if (costBasis != null) {
+            group.costBasis = group.costBasis.add(costBasis);
+        }
+    }
+
+    // For groups totalled by the database: the totals are taken as given and rows arrive already windowed
+    public void addTotals(String groupKey, int count, BigDecimal marketValue, BigDecimal costBasis) {
+        Group group = group(groupKey);
+        group.count = count;
+        group.marketValue = marketValue != null ? marketValue : BigDecimal.ZERO;
+        group.costBasis = costBasis != null ? costBasis : BigDecimal.ZERO;
+    }
+
+    public void addHolding(String groupKey, HoldingDto holding) {
+        group(groupKey).holdings.add(holding);
+    }
+
+    public List<HoldingGroupDto> build() {
+        List<HoldingGroupDto> result = new ArrayList<>(groups.size());
+        for (Map.Entry<String, Group> entry : groups.entrySet()) {
+            Group group = entry.getValue();
+            BigDecimal gainLoss = group.marketValue.subtract(group.costBasis);
+            result.add(HoldingGroupDto.builder()
+                .groupKey(entry.getKey())
+                .holdingsCount(group.count)
+                .marketValue(group.marketValue)
+                .costBasis(group.costBasis)
+                .unrealizedGainLoss(gainLoss)
+                .unrealizedGainLossPercent(group.costBasis.signum() > 0
+                    ? gainLoss.multiply(HUNDRED).divide(group.costBasis, 2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO)
+                .weight(totalMarketValue != null && totalMarketValue.signum() > 0
+                    ? group.marketValue.multiply(HUNDRED).divide(totalMarketValue, 2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO)
+                .holdings(group.holdings)
+                .build());
+        }
+        result.sort(Comparator.comparing(HoldingGroupDto::getMarketValue).reversed());
+        return result;
+    }
+
+    private Group group(String groupKey) {
+        return groups.computeIfAbsent(groupKey == null ? "Unclassified" : groupKey, key -> new Group());
+    }
+
+    private static class Group {
+        private int count;
+        private BigDecimal marketValue = BigDecimal.ZERO;
+        private BigDecimal costBasis = BigDecimal.ZERO;
+        private final List<HoldingDto> holdings = new ArrayList<>();
+    }
+}
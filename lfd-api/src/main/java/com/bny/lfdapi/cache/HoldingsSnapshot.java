@@ -0,0 +1,551 @@
+package com.bny.lfdapi.cache;
+
+import com.bny.lfdapi.model.AssetClasses;
+import com.bny.lfdapi.model.HoldingsGroupField;
+import com.bny.lfdapi.model.HoldingsSortField;
+import com.bny.shared.dto.response.HoldingDto;
+import com.bny.shared.dto.response.HoldingGroupDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+public final class HoldingsSnapshot {
+
+    private static final int SCALE = 4;
+    private static final long NULL_VALUE = Long.MIN_VALUE;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final String accountId;
+    private final String version;
+    private final int size;
+
+    private final String[] holdingIds;
+    private final String[] symbols;
+    private final String[] securityNames;
+    private final String[] sectors;
+    private final byte[] assetClassCodes;
+    private final String[] assetClassNames;
+    private final BitSet[] assetClassMasks;
+
+    private final long[] quantities;
+    private final long[] prices;
+    private final long[] costBases;
+    private final long[] priceChanges;
+    private final long[] priceChangePercents;
+    private final long[] purchaseDates;
+    private final long[] priceDates;
+    private final int[] taxLotCounts;
+    private final long[] holdingsUpdated;
+    private final long[] pricesUpdated;
+
+    private final double[] marketValues;
+    private final double[] gainLosses;
+    private final double[] gainLossPercents;
+    private final BigDecimal totalMarketValue;
+    private final BigDecimal totalCostBasis;
+    private final long membership;
+    private final Map<String, Integer> rowsByHoldingId;
+
+    // Ascending and descending orders are built separately so both keep nulls last and the symbol tie-break
+    private final AtomicReferenceArray<int[]> permutations =
+        new AtomicReferenceArray<>(HoldingsSortField.values().length * 2);
+
+    private HoldingsSnapshot(String accountId, String version, Builder builder) {
+        this.accountId = accountId;
+        this.version = version;
+        this.size = builder.size;
+        this.holdingIds = Arrays.copyOf(builder.holdingIds, size);
+        this.symbols = Arrays.copyOf(builder.symbols, size);
+        this.securityNames = Arrays.copyOf(builder.securityNames, size);
+        this.sectors = Arrays.copyOf(builder.sectors, size);
+        this.assetClassCodes = Arrays.copyOf(builder.assetClassCodes, size);
+        this.assetClassNames = builder.assetClassNames.toArray(new String[0]);
+        this.quantities = Arrays.copyOf(builder.quantities, size);
+        this.prices = Arrays.copyOf(builder.prices, size);
+        this.costBases = Arrays.copyOf(builder.costBases, size);
+        this.priceChanges = Arrays.copyOf(builder.priceChanges, size);
+        this.priceChangePercents = Arrays.copyOf(builder.priceChangePercents, size);
+        this.purchaseDates = Arrays.copyOf(builder.purchaseDates, size);
+        this.priceDates = Arrays.copyOf(builder.priceDates, size);
+        this.holdingsUpdated = Arrays.copyOf(builder.holdingsUpdated, size);
+        this.pricesUpdated = Arrays.copyOf(builder.pricesUpdated, size);
+
+        this.assetClassMasks = new BitSet[assetClassNames.length];
+        for (int code = 0; code < assetClassMasks.length; code++) {
+            assetClassMasks[code] = new BitSet(size);
+        }
+
+        this.marketValues = new double[size];
+        this.gainLosses = new double[size];
+        this.gainLossPercents = new double[size];
+        this.taxLotCounts = new int[size];
+        this.rowsByHoldingId = new HashMap<>(size * 2);
+        Map<String, Integer> lotsBySymbol = new HashMap<>(size * 2);
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal totalCost = BigDecimal.ZERO;
+        long fingerprint = 0L;
+        for (int row = 0; row < size; row++) {
+            assetClassMasks[assetClassCodes[row]].set(row);
+            rowsByHoldingId.put(holdingIds[row], row);
+            lotsBySymbol.merge(symbols[row], 1, Integer::sum);
+            fingerprint += fingerprint(holdingIds[row]);
+            BigDecimal marketValue = marketValue(row);
+            total = total.add(marketValue);
+            totalCost = totalCost.add(toDecimal(costBases[row]));
+            marketValues[row] = marketValue.doubleValue();
+            gainLosses[row] = marketValues[row] - toDouble(costBases[row]);
+            gainLossPercents[row] = costBases[row] > 0 ? gainLosses[row] / toDouble(costBases[row]) : 0d;
+        }
+        this.totalMarketValue = total;
+        this.totalCostBasis = totalCost;
+        this.membership = fingerprint;
+        for (int row = 0; row < size; row++) {
+            taxLotCounts[row] = lotsBySymbol.get(symbols[row]);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public BigDecimal getTotalMarketValue() {
+        return totalMarketValue;
+    }
+
+    public BigDecimal getTotalCostBasis() {
+        return totalCostBasis;
+    }
+
+    public List<String> getHoldingIds() {
+        return Collections.unmodifiableList(Arrays.asList(holdingIds));
+    }
+
+    public boolean contains(String holdingId) {
+        return rowsByHoldingId.containsKey(holdingId);
+    }
+
+    // Delta token: the data version, the row watermarks and a fingerprint of which lots the account holds,
+    // so a client can tell from its own token what changed and whether positions were removed since it synced
+    public String getDataVersion() {
+        return version + ":" + getHoldingsWatermark() + ":" + getPricesWatermark() + ":" + Long.toHexString(membership);
+    }
+
+    public long getHoldingsWatermark() {
+        return max(holdingsUpdated);
+    }
+
+    public long getPricesWatermark() {
+        return max(pricesUpdated);
+    }
+
+    public Delta deltaSince(String dataVersion) {
+        // version:holdingsWatermark:pricesWatermark:membership, see getDataVersion
+        String[] parts = dataVersion.split(":");
+        if (parts.length < 4) {
+            return null;
+        }
+        long holdingsSince;
+        long pricesSince;
+        long sinceMembership;
+        try {
+            holdingsSince = Long.parseLong(parts[parts.length - 3]);
+            pricesSince = Long.parseLong(parts[parts.length - 2]);
+            sinceMembership = Long.parseUnsignedLong(parts[parts.length - 1], 16);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (dataVersion.equals(getDataVersion())) {
+            return new Delta(List.of(), null);
+        }
+
+        // Timestamps have second resolution, so rows stamped in the token's last second are resent
+        List<HoldingDto> upserts = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (holdingsUpdated[row] >= holdingsSince || pricesUpdated[row] >= pricesSince) {
+                upserts.add(toHoldingDto(row));
+            }
+        }
+        return new Delta(upserts, sinceMembership == membership ? null : getHoldingIds());
+    }
+
+    public Builder toBuilder(Set<String> excludedHoldingIds) {
+        Builder builder = new Builder();
+        for (int row = 0; row < size; row++) {
+            if (!excludedHoldingIds.contains(holdingIds[row])) {
+                builder.copyRow(this, row);
+            }
+        }
+        return builder;
+    }
+
+    public BitSet filter(Collection<String> assetClasses, String symbol) {
+        BitSet mask = null;
+        if (assetClasses != null && !assetClasses.isEmpty()) {
+            mask = new BitSet(size);
+            Set<String> requested = AssetClasses.normalize(new ArrayList<>(assetClasses));
+            for (int code = 0; code < assetClassNames.length; code++) {
+                if (requested.contains(AssetClasses.normalize(assetClassNames[code]))) {
+                    mask.or(assetClassMasks[code]);
+                }
+            }
+        }
+        if (symbol != null && !symbol.isBlank()) {
+            BitSet symbolMask = new BitSet(size);
+            for (int row = 0; row < size; row++) {
+                if (symbol.trim().equalsIgnoreCase(symbols[row])) {
+                    symbolMask.set(row);
+                }
+            }
+            if (mask == null) {
+                mask = symbolMask;
+            } else {
+                mask.and(symbolMask);
+            }
+        }
+        return mask;
+    }
+
+    public Page select(BitSet mask, HoldingsSortField sortField, boolean descending, int offset, int limit) {
+        int totalCount = mask == null ? size : mask.cardinality();
+        List<HoldingDto> rows = new ArrayList<>(Math.max(0, Math.min(limit, totalCount - offset)));
+        forEach(mask, sortField, descending, offset, limit, rows::add);
+        return new Page(rows, totalCount);
+    }
+
+    public int forEach(BitSet mask, HoldingsSortField sortField, boolean descending, int offset, int limit,
+                       Consumer<HoldingDto> consumer) {
+        int[] permutation = permutation(sortField, descending);
+
+        int matched = 0;
+        int emitted = 0;
+        for (int i = 0; i < size && emitted < limit; i++) {
+            int row = permutation[i];
+            if (mask != null && !mask.get(row)) {
+                continue;
+            }
+            if (matched++ >= offset) {
+                consumer.accept(toHoldingDto(row));
+                emitted++;
+            }
+        }
+        return mask == null ? size : mask.cardinality();
+    }
+
+    public List<HoldingGroupDto> group(BitSet mask, HoldingsGroupField groupField, HoldingsSortField sortField,
+                                       boolean descending, int offset, int limit) {
+        int[] permutation = permutation(sortField, descending);
+        HoldingsGrouper grouper = new HoldingsGrouper(totalMarketValue, offset, limit);
+
+        for (int i = 0; i < size; i++) {
+            final int row = permutation[i];
+            if (mask != null && !mask.get(row)) {
+                continue;
+            }
+            String groupKey = groupField == HoldingsGroupField.SECTOR
+                ? sectors[row]
+                : assetClassNames[assetClassCodes[row]];
+            grouper.add(groupKey, marketValue(row), toDecimal(costBases[row]), () -> toHoldingDto(row));
+        }
+        return grouper.build();
+    }
+
+    public HoldingDto toHoldingDto(int row) {
+        BigDecimal costBasis = toDecimal(costBases[row]);
+        BigDecimal marketValue = marketValue(row);
+        BigDecimal gainLoss = marketValue.subtract(costBasis);
+
+        return HoldingDto.builder()
+            .holdingId(holdingIds[row])
+            .accountId(accountId)
+            .symbol(symbols[row])
+            .securityName(securityNames[row])
+            .assetClass(assetClassNames[assetClassCodes[row]])
+            .sector(sectors[row])
+            .quantity(toDecimal(quantities[row]))
+            .costBasis(costBasis)
+            .totalCost(costBasis)
+            .currentPrice(toDecimal(prices[row]))
+            .priceChange(toDecimal(priceChanges[row]))
+            .priceChangePercent(toDecimal(priceChangePercents[row]))
+            .marketValue(marketValue)
+            .unrealizedGainLoss(gainLoss)
+            .unrealizedGainLossPercent(costBasis.signum() > 0
+                ? gainLoss.multiply(HUNDRED).divide(costBasis, 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO)
+            .portfolioPercent(totalMarketValue.signum() > 0
+                ? marketValue.multiply(HUNDRED).divide(totalMarketValue, 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO)
+            .purchaseDate(purchaseDates[row] == NULL_VALUE ? null : LocalDate.ofEpochDay(purchaseDates[row]))
+            .priceDate(priceDates[row] == NULL_VALUE ? null : LocalDate.ofEpochDay(priceDates[row]))
+            .hasAlerts(false)
+            .taxLotCount(taxLotCounts[row])
+            .build();
+    }
+
+    int[] permutation(HoldingsSortField sortField, boolean descending) {
+        int slot = sortField.ordinal() * 2 + (descending ? 1 : 0);
+        int[] permutation = permutations.get(slot);
+        if (permutation == null) {
+            permutation = buildPermutation(comparator(sortField, descending ? -1 : 1));
+            if (!permutations.compareAndSet(slot, null, permutation)) {
+                permutation = permutations.get(slot);
+            }
+        }
+        return permutation;
+    }
+
+    private int[] buildPermutation(Comparator<Integer> comparator) {
+        Integer[] order = new Integer[size];
+        for (int row = 0; row < size; row++) {
+            order[row] = row;
+        }
+        Arrays.sort(order, comparator
+            .thenComparing(row -> symbols[row], Comparator.nullsLast(String::compareTo))
+            .thenComparing(row -> holdingIds[row], Comparator.nullsLast(String::compareTo)));
+
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = order[i];
+        }
+        return permutation;
+    }
+
+    // direction is 1 or -1 and only flips the comparison of present values
+    private Comparator<Integer> comparator(HoldingsSortField sortField, int direction) {
+        return switch (sortField) {
+            case SYMBOL -> byText(symbols, direction);
+            case SECURITY_NAME -> byText(securityNames, direction);
+            case SECTOR -> byText(sectors, direction);
+            case ASSET_CLASS -> (a, b) -> compareText(
+                assetClassNames[assetClassCodes[a]], assetClassNames[assetClassCodes[b]], direction);
+            case QUANTITY -> byLong(quantities, direction);
+            case CURRENT_PRICE -> byLong(prices, direction);
+            case PRICE_CHANGE_PERCENT -> byLong(priceChangePercents, direction);
+            case COST_BASIS, TOTAL_COST -> byLong(costBases, direction);
+            case MARKET_VALUE, PORTFOLIO_PERCENT -> (a, b) -> direction * Double.compare(marketValues[a], marketValues[b]);
+            case UNREALIZED_GAIN_LOSS -> (a, b) -> direction * Double.compare(gainLosses[a], gainLosses[b]);
+            case UNREALIZED_GAIN_LOSS_PERCENT ->
+                (a, b) -> direction * Double.compare(gainLossPercents[a], gainLossPercents[b]);
+        };
+    }
+
+    private static Comparator<Integer> byText(String[] column, int direction) {
+        return (a, b) -> compareText(column[a], column[b], direction);
+    }
+
+    private static Comparator<Integer> byLong(long[] column, int direction) {
+        return (a, b) -> {
+            if (column[a] == NULL_VALUE || column[b] == NULL_VALUE) {
+                return Boolean.compare(column[a] == NULL_VALUE, column[b] == NULL_VALUE);
+            }
+            return direction * Long.compare(column[a], column[b]);
+        };
+    }
+
+    private static int compareText(String a, String b, int direction) {
+        if (a == null || b == null) {
+            return Boolean.compare(a == null, b == null);
+        }
+        return direction * String.CASE_INSENSITIVE_ORDER.compare(a, b);
+    }
+
+    private static long max(long[] column) {
+        long max = 0L;
+        for (long value : column) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    private static long fingerprint(String holdingId) {
+        long hash = 0xcbf29ce484222325L;
+        if (holdingId != null) {
+            for (int i = 0; i < holdingId.length(); i++) {
+                hash = (hash ^ holdingId.charAt(i)) * 0x100000001b3L;
+            }
+        }
+        return hash;
+    }
+
+    private BigDecimal marketValue(int row) {
+        return toDecimal(quantities[row]).multiply(toDecimal(prices[row]));
+    }
+
+    private static BigDecimal toDecimal(long unscaled) {
+        return unscaled == NULL_VALUE ? null : BigDecimal.valueOf(unscaled, SCALE);
+    }
+
+    private static double toDouble(long unscaled) {
+        return unscaled / 10_000d;
+    }
+
+    private static long toUnscaled(BigDecimal value) {
+        if (value == null) {
+            return NULL_VALUE;
+        }
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Page {
+        private final List<HoldingDto> holdings;
+        private final int totalCount;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Delta {
+        private final List<HoldingDto> upserts;
+        private final List<String> holdingIds;
+    }
+
+    public static final class Builder {
+        private int size;
+        private String[] holdingIds = new String[16];
+        private String[] symbols = new String[16];
+        private String[] securityNames = new String[16];
+        private String[] sectors = new String[16];
+        private byte[] assetClassCodes = new byte[16];
+        private long[] quantities = new long[16];
+        private long[] prices = new long[16];
+        private long[] costBases = new long[16];
+        private long[] priceChanges = new long[16];
+        private long[] priceChangePercents = new long[16];
+        private long[] purchaseDates = new long[16];
+        private long[] priceDates = new long[16];
+        private long[] holdingsUpdated = new long[16];
+        private long[] pricesUpdated = new long[16];
+        private final List<String> assetClassNames = new ArrayList<>();
+        private final Map<String, Byte> assetClassIndex = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(String symbol, String securityName, String sector, String assetClass,
+                           BigDecimal quantity, BigDecimal currentPrice, BigDecimal costBasis,
+                           BigDecimal priceChange, BigDecimal priceChangePercent, LocalDate purchaseDate) {
+            return add(symbol, securityName, sector, assetClass, quantity, currentPrice, costBasis,
+                priceChange, priceChangePercent, purchaseDate, null, 0L, 0L);
+        }
+
+        public Builder add(String symbol, String securityName, String sector, String assetClass,
+                           BigDecimal quantity, BigDecimal currentPrice, BigDecimal costBasis,
+                           BigDecimal priceChange, BigDecimal priceChangePercent, LocalDate purchaseDate,
+                           long holdingUpdatedMillis, long priceUpdatedMillis) {
+            return add(symbol, securityName, sector, assetClass, quantity, currentPrice, costBasis,
+                priceChange, priceChangePercent, purchaseDate, null, holdingUpdatedMillis, priceUpdatedMillis);
+        }
+
+        // One lot per symbol, keyed by the symbol itself
+        public Builder add(String symbol, String securityName, String sector, String assetClass,
+                           BigDecimal quantity, BigDecimal currentPrice, BigDecimal costBasis,
+                           BigDecimal priceChange, BigDecimal priceChangePercent, LocalDate purchaseDate,
+                           LocalDate priceDate, long holdingUpdatedMillis, long priceUpdatedMillis) {
+            return add(symbol, symbol, securityName, sector, assetClass, quantity, currentPrice, costBasis,
+                priceChange, priceChangePercent, purchaseDate, priceDate, holdingUpdatedMillis, priceUpdatedMillis);
+        }
+
+        public Builder add(String holdingId, String symbol, String securityName, String sector, String assetClass,
+                           BigDecimal quantity, BigDecimal currentPrice, BigDecimal costBasis,
+                           BigDecimal priceChange, BigDecimal priceChangePercent, LocalDate purchaseDate,
+                           LocalDate priceDate, long holdingUpdatedMillis, long priceUpdatedMillis) {
+            ensureCapacity(size + 1);
+            holdingIds[size] = holdingId;
+            symbols[size] = symbol;
+            securityNames[size] = securityName;
+            sectors[size] = sector;
+            assetClassCodes[size] = assetClassCode(assetClass);
+            quantities[size] = quantity == null ? 0L : toUnscaled(quantity);
+            prices[size] = currentPrice == null ? 0L : toUnscaled(currentPrice);
+            costBases[size] = costBasis == null ? 0L : toUnscaled(costBasis);
+            priceChanges[size] = toUnscaled(priceChange);
+            priceChangePercents[size] = toUnscaled(priceChangePercent);
+            purchaseDates[size] = purchaseDate == null ? NULL_VALUE : purchaseDate.toEpochDay();
+            priceDates[size] = priceDate == null ? NULL_VALUE : priceDate.toEpochDay();
+            holdingsUpdated[size] = holdingUpdatedMillis;
+            pricesUpdated[size] = priceUpdatedMillis;
+            size++;
+            return this;
+        }
+
+        public Builder copyRow(HoldingsSnapshot source, int row) {
+            ensureCapacity(size + 1);
+            holdingIds[size] = source.holdingIds[row];
+            symbols[size] = source.symbols[row];
+            securityNames[size] = source.securityNames[row];
+            sectors[size] = source.sectors[row];
+            assetClassCodes[size] = assetClassCode(source.assetClassNames[source.assetClassCodes[row]]);
+            quantities[size] = source.quantities[row];
+            prices[size] = source.prices[row];
+            costBases[size] = source.costBases[row];
+            priceChanges[size] = source.priceChanges[row];
+            priceChangePercents[size] = source.priceChangePercents[row];
+            purchaseDates[size] = source.purchaseDates[row];
+            priceDates[size] = source.priceDates[row];
+            holdingsUpdated[size] = source.holdingsUpdated[row];
+            pricesUpdated[size] = source.pricesUpdated[row];
+            size++;
+            return this;
+        }
+
+        public HoldingsSnapshot build(String accountId, String version) {
+            return new HoldingsSnapshot(accountId, version, this);
+        }
+
+        private byte assetClassCode(String assetClass) {
+            return assetClassIndex.computeIfAbsent(assetClass == null ? "" : assetClass, key -> {
+                assetClassNames.add(key);
+                return (byte) (assetClassNames.size() - 1);
+            });
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= symbols.length) {
+                return;
+            }
+            int grown = Math.max(capacity, symbols.length * 2);
+            holdingIds = Arrays.copyOf(holdingIds, grown);
+            symbols = Arrays.copyOf(symbols, grown);
+            securityNames = Arrays.copyOf(securityNames, grown);
+            sectors = Arrays.copyOf(sectors, grown);
+            assetClassCodes = Arrays.copyOf(assetClassCodes, grown);
+            quantities = Arrays.copyOf(quantities, grown);
+            prices = Arrays.copyOf(prices, grown);
+            costBases = Arrays.copyOf(costBases, grown);
+            priceChanges = Arrays.copyOf(priceChanges, grown);
+            priceChangePercents = Arrays.copyOf(priceChangePercents, grown);
+            purchaseDates = Arrays.copyOf(purchaseDates, grown);
+            priceDates = Arrays.copyOf(priceDates, grown);
+            holdingsUpdated = Arrays.copyOf(holdingsUpdated, grown);
+            pricesUpdated = Arrays.copyOf(pricesUpdated, grown);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.bny.lfdapi.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HoldingsSnapshotCache {
+
+    private final VersionedLruCache<HoldingsSnapshot> snapshots;
+
+    public HoldingsSnapshotCache(@Value("${lfd.holdings.snapshot.max-accounts:500}") int maxAccounts) {
+        this.snapshots = new VersionedLruCache<>(maxAccounts);
+    }
+
+    public HoldingsSnapshot get(String accountId, String version) {
+        return snapshots.get(accountId, version);
+    }
+
+    public HoldingsSnapshot getStale(String accountId) {
+        return snapshots.getAnyVersion(accountId);
+    }
+
+    public void put(HoldingsSnapshot snapshot) {
+        snapshots.put(snapshot.getAccountId(), snapshot.getVersion(), snapshot);
+    }
+
+    public void invalidate(String accountId) {
+        snapshots.invalidate(accountId);
+    }
+
+    public void invalidateAll() {
+        snapshots.invalidateAll();
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    public long getHitCount() {
+        return snapshots.getHitCount();
+    }
+
+    public long getMissCount() {
+        return snapshots.getMissCount();
+    }
+}
@@ -0,0 +1,94 @@
+package com.bny.lfdapi.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+public class VersionedLruCache<V> {
+
+    private final Map<String, Entry<V>> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public VersionedLruCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public V get(String key, String version) {
+        Entry<V> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.version.equals(version)) {
+            hits.incrementAndGet();
+            return entry.value;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public V getAnyVersion(String key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            return entry == null ? null : entry.value;
+        }
+    }
+
+    public void put(String key, String version, V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(version, value));
+        }
+    }
+
+    public void invalidate(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long weigh(ToLongFunction<V> weigher) {
+        synchronized (entries) {
+            long total = 0;
+            for (Entry<V> entry : entries.values()) {
+                total += weigher.applyAsLong(entry.value);
+            }
+            return total;
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private static final class Entry<V> {
+        private final String version;
+        private final V value;
+
+        private Entry(String version, V value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.bny.lfdapi.changefeed;
+
+import com.bny.shared.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+// Position of a reader in every watched table: the (version, key) of the last row it was handed.
+// Held by the reader, not the server, so a feed resumes across restarts of either side.
+public final class ChangeFeedCursor {
+
+    private static final ChangeFeedTable[] TABLES = ChangeFeedTable.values();
+
+    private final long[] versions;
+    private final String[] keys;
+
+    private ChangeFeedCursor(long[] versions, String[] keys) {
+        this.versions = versions;
+        this.keys = keys;
+    }
+
+    public static ChangeFeedCursor at(long version) {
+        long[] versions = new long[TABLES.length];
+        String[] keys = new String[TABLES.length];
+        Arrays.fill(versions, version);
+        Arrays.fill(keys, "");
+        return new ChangeFeedCursor(versions, keys);
+    }
+
+    public static ChangeFeedCursor decode(String token) {
+        String[] positions = token.split("\\.", -1);
+        if (positions.length != TABLES.length) {
+            throw new ValidationException("Malformed change feed cursor", "cursor");
+        }
+        long[] versions = new long[TABLES.length];
+        String[] keys = new String[TABLES.length];
+        try {
+            for (int i = 0; i < positions.length; i++) {
+                int separator = positions[i].indexOf('~');
+                versions[i] = Long.parseLong(positions[i].substring(0, separator));
+                keys[i] = new String(Base64.getUrlDecoder().decode(positions[i].substring(separator + 1)),
+                    StandardCharsets.UTF_8);
+            }
+        } catch (RuntimeException e) {
+            throw new ValidationException("Malformed change feed cursor", "cursor");
+        }
+        return new ChangeFeedCursor(versions, keys);
+    }
+
+    public String encode() {
+        return Arrays.stream(TABLES)
+            .map(table -> versions[table.ordinal()] + "~" + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(keys[table.ordinal()].getBytes(StandardCharsets.UTF_8)))
+            .collect(Collectors.joining("."));
+    }
+
+    public long getVersion(ChangeFeedTable table) {
+        return versions[table.ordinal()];
+    }
+
+    public String getKey(ChangeFeedTable table) {
+        return keys[table.ordinal()];
+    }
+
+    public ChangeFeedCursor advance(ChangeFeedTable table, long version, String key) {
+        long[] nextVersions = versions.clone();
+        String[] nextKeys = keys.clone();
+        nextVersions[table.ordinal()] = version;
+        nextKeys[table.ordinal()] = key;
+        return new ChangeFeedCursor(nextVersions, nextKeys);
+    }
+}
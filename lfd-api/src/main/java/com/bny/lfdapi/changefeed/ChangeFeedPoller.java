@@ -0,0 +1,153 @@
+package com.bny.lfdapi.changefeed;
+
+import com.bny.lfdapi.dto.response.ChangeBatch;
+import com.bny.lfdapi.dto.response.ChangeEvent;
+import com.bny.lfdapi.workload.WorkloadClass;
+import com.bny.lfdapi.workload.WorkloadContextHolder;
+import com.bny.shared.exception.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// One scan per interval fans out to every push subscriber, so push readers cost the database nothing extra.
+// Each SSE event id is a feed cursor: a client reconnecting with Last-Event-ID is caught up from its own
+// position before it rejoins the live stream.
+@Slf4j
+@Component
+public class ChangeFeedPoller {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final int maxSubscribers;
+    private final long subscriberTimeoutMillis;
+    private final Counter published;
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final Object pollLock = new Object();
+    private String cursor;
+
+    @Autowired
+    public ChangeFeedPoller(
+            @Value("${lfd.change-feed.push.enabled:true}") boolean enabled,
+            @Value("${lfd.change-feed.batch-size:500}") int batchSize,
+            @Value("${lfd.change-feed.max-batches-per-poll:10}") int maxBatchesPerPoll,
+            @Value("${lfd.change-feed.push.max-subscribers:50}") int maxSubscribers,
+            @Value("${lfd.change-feed.push.timeout-ms:1800000}") long subscriberTimeoutMillis,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxSubscribers = maxSubscribers;
+        this.subscriberTimeoutMillis = subscriberTimeoutMillis;
+        this.published = Counter.builder("lfd.change-feed.published").register(meterRegistry);
+        Gauge.builder("lfd.change-feed.subscribers", subscribers, List::size).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Null when the subscriber limit is reached
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(subscriberTimeoutMillis);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(error -> subscribers.remove(emitter));
+
+        try {
+            String position = catchUp(emitter, lastEventId);
+            // The second pass runs under the poll lock, so it closes any gap to what the poller has already sent
+            synchronized (pollLock) {
+                catchUp(emitter, position);
+                subscribers.add(emitter);
+            }
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${lfd.change-feed.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        WorkloadContextHolder.set(WorkloadClass.BACKGROUND);
+        try {
+            synchronized (pollLock) {
+                if (subscribers.isEmpty()) {
+                    cursor = null;
+                    return;
+                }
+                ChangeBatch batch;
+                int batches = 0;
+                do {
+                    batch = changeFeedService.read(cursor, batchSize);
+                    cursor = batch.getCursor();
+                    for (SseEmitter subscriber : subscribers) {
+                        send(subscriber, batch);
+                    }
+                    published.increment(batch.getEvents().size());
+                } while (Boolean.TRUE.equals(batch.getHasMore()) && ++batches < maxBatchesPerPoll);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Change feed poll failed: {}", e.getMessage());
+        } finally {
+            WorkloadContextHolder.clear();
+        }
+    }
+
+    private String catchUp(SseEmitter emitter, String position) throws IOException {
+        if (position == null || position.isBlank()) {
+            return null;
+        }
+        try {
+            ChangeBatch batch;
+            do {
+                batch = changeFeedService.read(position, batchSize);
+                position = batch.getCursor();
+                sendOrThrow(emitter, batch);
+            } while (Boolean.TRUE.equals(batch.getHasMore()));
+            return position;
+        } catch (ValidationException e) {
+            log.warn("Ignoring unreadable Last-Event-ID, subscriber starts from the live feed");
+            return null;
+        }
+    }
+
+    private void send(SseEmitter subscriber, ChangeBatch batch) {
+        try {
+            sendOrThrow(subscriber, batch);
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.completeWithError(e);
+        }
+    }
+
+    private static void sendOrThrow(SseEmitter emitter, ChangeBatch batch) throws IOException {
+        List<ChangeEvent> events = batch.getEvents();
+        if (!events.isEmpty()) {
+            emitter.send(SseEmitter.event()
+                .id(batch.getCursor())
+                .name("changes")
+                .data(events, MediaType.APPLICATION_JSON));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.bny.lfdapi.changefeed;
+
+// Tables watched by the change feed. Order is part of the cursor format, so append new tables at the end.
+public enum ChangeFeedTable {
+    CLIENTS("client", "clients", "client_id", "advisor_id", "last_updated"),
+    ACCOUNTS("account", "accounts", "account_id", "client_id", "last_updated"),
+    HOLDINGS("holding", "holdings", "holding_id", "account_id", "last_updated"),
+    SECURITIES("security", "securities", "symbol", null, "last_price_update");
+
+    private final String entity;
+    private final String scanSql;
+
+    ChangeFeedTable(String entity, String table, String keyColumn, String parentColumn, String versionColumn) {
+        this.entity = entity;
+        // Keyset scan: the leading range on the version column rides its index, whose entries InnoDB
+        // already orders by (version, primary key), so LIMIT stops after the batch
+        this.scanSql = """
+            SELECT %2$s AS change_key, %3$s AS parent_key, %4$s AS change_version
+            FROM %1$s
+            WHERE %4$s >= ? AND (%4$s > ? OR %2$s > ?) AND %4$s <= ?
+            ORDER BY %4$s, %2$s
+            LIMIT ?
+        """.formatted(table, keyColumn, parentColumn == null ? "NULL" : parentColumn, versionColumn);
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    String getScanSql() {
+        return scanSql;
+    }
+}
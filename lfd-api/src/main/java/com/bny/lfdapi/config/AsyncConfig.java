@@ -1,5 +1,7 @@
 package com.bny.lfdapi.config;
 
+import com.bny.lfdapi.workload.WorkloadClass;
+import com.bny.lfdapi.workload.WorkloadContextHolder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -19,20 +21,61 @@ public class AsyncConfig {
         executor.setMaxPoolSize(50);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("LFD-Task-");
+        executor.setTaskDecorator(task -> workloadScoped(WorkloadContextHolder.current(), task));
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
         return executor;
     }
 
-    @Bean("exportExecutor")
+    // Runs batched account lookups; a full queue fails the batch fast instead of running it on a request thread
+    @Bean("accountBatchExecutor")
+    public Executor accountBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("LFD-AccountBatch-");
+        executor.setTaskDecorator(task -> workloadScoped(WorkloadContextHolder.current(), task));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean({"exportExecutor", "bulkExecutor"})
     public Executor exportExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(20);
         executor.setQueueCapacity(50);
         executor.setThreadNamePrefix("LFD-Export-");
+        executor.setTaskDecorator(task -> workloadScoped(WorkloadClass.BULK, task));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean("backgroundExecutor")
+    public Executor backgroundExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("LFD-Background-");
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        executor.setTaskDecorator(task -> workloadScoped(WorkloadClass.BACKGROUND, task));
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.initialize();
         return executor;
     }
+
+    private static Runnable workloadScoped(WorkloadClass workloadClass, Runnable task) {
+        return () -> {
+            WorkloadContextHolder.set(workloadClass);
+            try {
+                task.run();
+            } finally {
+                WorkloadContextHolder.clear();
+            }
+        };
+    }
 }
@@ -1,5 +1,9 @@
 package com.bny.lfdapi.config;
 
+import com.bny.lfdapi.jdbc.RequestAwareJdbcTemplate;
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import com.bny.lfdapi.workload.ConnectionGate;
+import com.bny.lfdapi.workload.WorkloadAwareDataSource;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Value;
@@ -43,7 +47,7 @@ public class DataSourceConfig {
 
     @Bean
     @Primary
-    public DataSource primaryDataSource() {
+    public DataSource primaryDataSource(ConnectionGate connectionGate) {
         HikariConfig config = new HikariConfig();
         config.setJdbcUrl(url);
         config.setUsername(username);
@@ -58,7 +62,7 @@ public class DataSourceConfig {
         config.setConnectionTestQuery("SELECT 1");
         config.setValidationTimeout(3000);
         
-        return new HikariDataSource(config);
+        return new WorkloadAwareDataSource(new HikariDataSource(config), connectionGate);
     }
 
     @Bean(name = "readOnlyDataSource")
@@ -82,7 +86,7 @@ public class DataSourceConfig {
     }
 
     @Bean
-    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
-        return new JdbcTemplate(dataSource);
+    public JdbcTemplate jdbcTemplate(DataSource dataSource, StatementCancellationRegistry cancellationRegistry) {
+        return new RequestAwareJdbcTemplate(dataSource, cancellationRegistry);
     }
 }
@@ -0,0 +1,31 @@
+package com.bny.lfdapi.config;
+
+import com.bny.lfdapi.grpc.InternalCallInterceptor;
+import com.bny.lfdapi.grpc.LfdGrpcService;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnProperty(name = "lfd.grpc.enabled", havingValue = "true")
+public class GrpcServerConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public Server lfdGrpcServer(LfdGrpcService lfdGrpcService, InternalCallInterceptor internalCallInterceptor,
+            @Value("${lfd.grpc.port:9091}") int port,
+            @Value("${lfd.grpc.max-inbound-message-bytes:4194304}") int maxInboundMessageBytes,
+            @Value("${lfd.grpc.keep-alive-time-seconds:30}") long keepAliveTimeSeconds) {
+        return NettyServerBuilder.forPort(port)
+            .addService(ServerInterceptors.intercept(lfdGrpcService, internalCallInterceptor))
+            .maxInboundMessageSize(maxInboundMessageBytes)
+            .permitKeepAliveTime(keepAliveTimeSeconds, TimeUnit.SECONDS)
+            .permitKeepAliveWithoutCalls(true)
+            .build();
+    }
+}
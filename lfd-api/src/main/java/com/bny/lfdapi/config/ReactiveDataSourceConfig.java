@@ -0,0 +1,69 @@
+package com.bny.lfdapi.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveDataSourceConfig {
+
+    @Value("${lfd.r2dbc.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Value("${lfd.r2dbc.pool.initial-size:2}")
+    private int initialSize;
+
+    @Value("${lfd.r2dbc.pool.max-size:10}")
+    private int maxSize;
+
+    @Value("${lfd.r2dbc.pool.max-acquire-time-ms:5000}")
+    private long maxAcquireTimeMs;
+
+    @Value("${spring.datasource.hikari.idle-timeout:300000}")
+    private long idleTimeout;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionPool() {
+        return connectionPool(url, username, password, initialSize, maxSize, Duration.ofMillis(maxAcquireTimeMs),
+            Duration.ofMillis(idleTimeout));
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ConnectionPool reactiveConnectionPool) {
+        return DatabaseClient.create(reactiveConnectionPool);
+    }
+
+    public static ConnectionPool connectionPool(String url, String username, String password, int initialSize,
+            int maxSize, Duration maxAcquireTime, Duration maxIdleTime) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build();
+
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .name("LFD-R2DBC-POOL")
+            .initialSize(initialSize)
+            .maxSize(maxSize)
+            .maxAcquireTime(maxAcquireTime)
+            .maxIdleTime(maxIdleTime)
+            .validationQuery("SELECT 1")
+            .build();
+
+        return new ConnectionPool(configuration);
+    }
+}
@@ -1,5 +1,7 @@
 package com.bny.lfdapi.config;
 
+import com.bny.lfdapi.jdbc.StatementCancellationFilter;
+import com.bny.lfdapi.limit.ConcurrencyLimitFilter;
 import com.bny.lfdapi.security.InternalSecurityFilter;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -8,6 +10,17 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class SecurityFilterConfig {
 
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+            ConcurrencyLimitFilter filter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(filter);
+        registration.addUrlPatterns("/internal/*");
+        registration.setName("concurrencyLimitFilter");
+        registration.setOrder(0);
+        return registration;
+    }
+
     @Bean
     public FilterRegistrationBean<InternalSecurityFilter> internalSecurityFilterRegistration(
             InternalSecurityFilter filter) {
@@ -18,4 +31,15 @@ public class SecurityFilterConfig {
         registration.setOrder(1);
         return registration;
     }
+
+    @Bean
+    public FilterRegistrationBean<StatementCancellationFilter> statementCancellationFilterRegistration(
+            StatementCancellationFilter filter) {
+        FilterRegistrationBean<StatementCancellationFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(filter);
+        registration.addUrlPatterns("/internal/*");
+        registration.setName("statementCancellationFilter");
+        registration.setOrder(2);
+        return registration;
+    }
 }
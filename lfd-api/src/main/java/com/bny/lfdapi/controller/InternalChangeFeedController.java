@@ -0,0 +1,61 @@
+package com.bny.lfdapi.controller;
+
+import com.bny.lfdapi.changefeed.ChangeFeedPoller;
+import com.bny.lfdapi.changefeed.ChangeFeedService;
+import com.bny.lfdapi.dto.response.ChangeBatch;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@RequestMapping("/internal/changes")
+@Validated
+public class InternalChangeFeedController {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private ChangeFeedPoller changeFeedPoller;
+
+    @Value("${lfd.limiter.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    // Pull side of the feed: callers keep the returned cursor and pass it back, starting without one
+    @GetMapping
+    public ResponseEntity<ChangeBatch> getChanges(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(1000) int limit) {
+
+        ChangeBatch batch = changeFeedService.read(cursor, limit);
+        log.debug("Change feed served {} events, hasMore={}", batch.getEvents().size(), batch.getHasMore());
+        return ResponseEntity.ok(batch);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        if (!changeFeedPoller.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        SseEmitter emitter = changeFeedPoller.subscribe(lastEventId);
+        if (emitter == null) {
+            log.warn("Rejecting change feed subscriber: subscriber limit reached");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
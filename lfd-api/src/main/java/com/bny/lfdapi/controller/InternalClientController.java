@@ -1,18 +1,33 @@
 package com.bny.lfdapi.controller;
 
+import com.bny.shared.dto.common.ResponseProfile;
 import com.bny.shared.dto.request.ClientSearchRequest;
+import com.bny.shared.dto.response.AccountDto;
+import com.bny.shared.dto.response.ClientDto;
+import com.bny.lfdapi.dto.response.AccountSummariesResponse;
 import com.bny.lfdapi.dto.response.AdvisorClientsResponse;
 import com.bny.lfdapi.dto.response.ClientSearchResponse;
+import com.bny.lfdapi.dto.response.ConsolidatedHoldingsResponse;
+import com.bny.lfdapi.service.AccountDataService;
+import com.bny.lfdapi.service.AccountSummaryService;
 import com.bny.lfdapi.service.ClientDataService;
+import com.bny.lfdapi.service.ConsolidatedHoldingsService;
+import com.bny.lfdapi.service.DataVersionService;
+import com.bny.lfdapi.service.DomainProfileMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/internal")
@@ -21,6 +36,21 @@ public class InternalClientController {
 
     @Autowired
     private ClientDataService clientDataService;
+    
+    @Autowired
+    private ConsolidatedHoldingsService consolidatedHoldingsService;
+    
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+    
+    @Autowired
+    private AccountDataService accountDataService;
+    
+    @Autowired
+    private DataVersionService dataVersionService;
+    
+    @Autowired
+    private DomainProfileMapper domainProfileMapper;
 
     @PostMapping("/clients/search")
     public ResponseEntity<ClientSearchResponse> searchClients(
@@ -39,10 +69,11 @@ public class InternalClientController {
     }
 
     @GetMapping("/advisors/{advisorId}/clients")
-    public ResponseEntity<AdvisorClientsResponse> getAdvisorClients(
+    public ResponseEntity<?> getAdvisorClients(
             @PathVariable String advisorId,
             @RequestParam(defaultValue = "0") @Min(0) Integer pageOffset,
-            @RequestParam(defaultValue = "50") @Min(1) @Max(100) Integer pageSize) {
+            @RequestParam(defaultValue = "50") @Min(1) @Max(100) Integer pageSize,
+            @RequestHeader(value = ResponseProfile.HEADER, required = false) String profile) {
         
         log.info("Get advisor clients request received for advisor: {}, page: {}, size: {}", 
             advisorId, pageOffset, pageSize);
@@ -53,8 +84,74 @@ public class InternalClientController {
         if (response.getResultCode() != null && response.getResultCode() != 0) {
             log.warn("Get advisor clients returned non-zero result code: {} - {}", 
                 response.getResultCode(), response.getErrorMessage());
+        } else if (ResponseProfile.isDomain(profile)) {
+            return domainProfile(domainProfileMapper.toClientsPage(response));
         }
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().varyBy(ResponseProfile.HEADER).body(response);
+    }
+
+    @GetMapping("/advisors/{advisorId}/summary")
+    public ResponseEntity<AccountSummariesResponse> getAdvisorSummary(
+            @PathVariable String advisorId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        
+        log.info("Get advisor summary request received for advisor: {}", advisorId);
+        
+        String etag = VersionTags.of(dataVersionService.getAdvisorHoldingsVersion(advisorId), null);
+        if (VersionTags.matches(ifNoneMatch, etag)) {
+            log.debug("Advisor summary for {} not modified since {}", advisorId, etag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        
+        AccountSummariesResponse response = accountSummaryService.getAdvisorSummary(advisorId);
+        
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    @GetMapping("/clients/{clientId}")
+    public ResponseEntity<ClientDto> getClient(
+            @PathVariable String clientId) {
+        
+        log.info("Get client request received for client: {}", clientId);
+        
+        ClientDto client = clientDataService.getClientById(clientId);
+        
+        return client != null ? ResponseEntity.ok(client) : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping("/clients/{clientId}/accounts")
+    public ResponseEntity<List<AccountDto>> getClientAccounts(
+            @PathVariable String clientId) {
+        
+        log.info("Get client accounts request received for client: {}", clientId);
+        
+        return ResponseEntity.ok(accountDataService.getAccountsByClientId(clientId));
+    }
+
+    @GetMapping("/clients/{clientId}/holdings/consolidated")
+    public ResponseEntity<?> getConsolidatedHoldings(
+            @PathVariable String clientId,
+            @RequestHeader(value = ResponseProfile.HEADER, required = false) String profile) {
+        
+        log.info("Get consolidated holdings request received for client: {}", clientId);
+        
+        ConsolidatedHoldingsResponse response = consolidatedHoldingsService.getConsolidatedHoldings(clientId);
+        
+        boolean succeeded = response.getResultCode() == null || response.getResultCode() == 0;
+        if (succeeded && ResponseProfile.isDomain(profile)) {
+            return domainProfile(domainProfileMapper.toConsolidatedHoldings(response));
+        }
+        
+        return ResponseEntity.ok().varyBy(ResponseProfile.HEADER).body(response);
+    }
+
+    // Echoing the profile tells the caller the body is already in its public shape; failures never carry it
+    private static ResponseEntity<Object> domainProfile(Object body) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(ResponseProfile.HEADER, ResponseProfile.DOMAIN)
+            .varyBy(ResponseProfile.HEADER)
+            .body(body);
     }
 }
@@ -1,18 +1,32 @@
 package com.bny.lfdapi.controller;
 
+import com.bny.shared.dto.request.AccountSummariesRequest;
 import com.bny.shared.dto.request.HoldingsRequest;
 import com.bny.shared.dto.response.AccountDto;
+import com.bny.lfdapi.dto.response.AccountSummariesResponse;
 import com.bny.lfdapi.dto.response.HoldingsResponse;
 import com.bny.lfdapi.dto.response.PortfolioSummaryResponse;
 import com.bny.lfdapi.service.AccountDataService;
+import com.bny.lfdapi.service.AccountSummaryService;
+import com.bny.lfdapi.service.DataVersionService;
 import com.bny.lfdapi.service.HoldingsDataService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/internal/accounts")
@@ -24,42 +38,105 @@ public class InternalHoldingsController {
     
     @Autowired
     private AccountDataService accountDataService;
+    
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+    
+    @Autowired
+    private DataVersionService dataVersionService;
 
     @PostMapping("/{accountId}/holdings")
     public ResponseEntity<HoldingsResponse> getAccountHoldings(
             @PathVariable String accountId,
-            @Valid @RequestBody HoldingsRequest request) {
+            @Valid @RequestBody HoldingsRequest request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         log.info("Get account holdings request received for account: {}", accountId);
         
         request.setAccountId(accountId);
         
-        HoldingsResponse response = holdingsDataService.getAccountHoldings(request);
+        // The version is read once: here only when there is a tag to check, otherwise by the data service,
+        // which reports it back for the response's ETag
+        String version = null;
+        if (ifNoneMatch != null) {
+            version = dataVersionService.getHoldingsVersion(accountId);
+            String etag = VersionTags.of(version, request);
+            if (VersionTags.matches(ifNoneMatch, etag)) {
+                log.debug("Holdings for account {} not modified since {}", accountId, etag);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        
+        HoldingsResponse response = holdingsDataService.getAccountHoldings(request, version);
         
         if (response.getResultCode() != null && response.getResultCode() != 0) {
             log.warn("Get account holdings returned non-zero result code: {} - {}", 
                 response.getResultCode(), response.getErrorMessage());
+            return ResponseEntity.ok(response);
         }
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(VersionTags.of(response.getVersion(), request)).body(response);
+    }
+
+    @PostMapping("/{accountId}/holdings/stream")
+    public void streamAccountHoldings(
+            @PathVariable String accountId,
+            @Valid @RequestBody HoldingsRequest request,
+            HttpServletResponse response) throws IOException {
+        
+        log.info("Stream account holdings request received for account: {}", accountId);
+        
+        request.setAccountId(accountId);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        holdingsDataService.streamAccountHoldings(request, response.getOutputStream());
     }
 
     @GetMapping("/{accountId}/summary")
     public ResponseEntity<PortfolioSummaryResponse> getPortfolioSummary(
-            @PathVariable String accountId) {
+            @PathVariable String accountId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         log.info("Get portfolio summary request received for account: {}", accountId);
         
+        String etag = VersionTags.of(dataVersionService.getHoldingsVersion(accountId), null);
+        if (VersionTags.matches(ifNoneMatch, etag)) {
+            log.debug("Portfolio summary for account {} not modified since {}", accountId, etag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        
         PortfolioSummaryResponse response = holdingsDataService.getPortfolioSummary(accountId);
         
         if (response.getResultCode() != null && response.getResultCode() != 0) {
             log.warn("Get portfolio summary returned non-zero result code: {} - {}", 
                 response.getResultCode(), response.getErrorMessage());
+            return ResponseEntity.ok(response);
         }
         
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+    
+    @PostMapping("/summaries")
+    public ResponseEntity<AccountSummariesResponse> getAccountSummaries(
+            @Valid @RequestBody AccountSummariesRequest request) {
+        
+        log.info("Get account summaries request received for {} accounts", request.getAccountIds().size());
+        
+        AccountSummariesResponse response = accountSummaryService.getAccountSummaries(request.getAccountIds());
+        
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping
+    public ResponseEntity<List<AccountDto>> getAccountsInfo(
+            @RequestParam @NotEmpty @Size(max = 200) List<String> ids) {
+        
+        log.info("Get account info request received for {} accounts", ids.size());
+        
+        List<AccountDto> accounts = new ArrayList<>(accountDataService.getAccountsByIds(ids).values());
+        
+        return ResponseEntity.ok(accounts);
+    }
+    
     @GetMapping("/{accountId}")
     public ResponseEntity<AccountDto> getAccountInfo(
             @PathVariable String accountId) {
@@ -0,0 +1,26 @@
+package com.bny.lfdapi.controller;
+
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/internal/requests")
+public class InternalRequestController {
+
+    @Autowired
+    private StatementCancellationRegistry cancellationRegistry;
+
+    @DeleteMapping("/{requestId}")
+    public ResponseEntity<Void> cancelRequest(@PathVariable String requestId) {
+        
+        log.info("Cancel request received for request: {}", requestId);
+        
+        cancellationRegistry.cancel(requestId);
+        
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.bny.lfdapi.controller;
+
+import com.bny.lfdapi.dto.response.AdvisorClientsResponse;
+import com.bny.lfdapi.dto.response.HoldingsResponse;
+import com.bny.lfdapi.dto.response.PortfolioSummaryResponse;
+import com.bny.lfdapi.service.ReactiveReadService;
+import com.bny.shared.dto.request.HoldingsRequest;
+import com.bny.shared.dto.response.AccountDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@RequestMapping("/internal/reactive")
+@Validated
+@Profile("reactive")
+public class ReactiveInternalController {
+
+    @Autowired
+    private ReactiveReadService reactiveReadService;
+
+    @GetMapping("/advisors/{advisorId}/clients")
+    public Mono<ResponseEntity<AdvisorClientsResponse>> getAdvisorClients(
+            @PathVariable String advisorId,
+            @RequestParam(defaultValue = "0") @Min(0) Integer pageOffset,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(100) Integer pageSize) {
+
+        log.info("Reactive get advisor clients request received for advisor: {}", advisorId);
+
+        return reactiveReadService.getAdvisorClients(advisorId, pageOffset, pageSize)
+            .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/accounts/{accountId}/holdings")
+    public Mono<ResponseEntity<HoldingsResponse>> getHoldingsPage(
+            @PathVariable String accountId,
+            @Valid @RequestBody HoldingsRequest request) {
+
+        log.info("Reactive get holdings request received for account: {}", accountId);
+
+        request.setAccountId(accountId);
+        return reactiveReadService.getHoldingsPage(request)
+            .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/accounts/{accountId}/summary")
+    public Mono<ResponseEntity<PortfolioSummaryResponse>> getPortfolioSummary(
+            @PathVariable String accountId) {
+
+        log.info("Reactive get portfolio summary request received for account: {}", accountId);
+
+        return reactiveReadService.getPortfolioSummary(accountId)
+            .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/accounts/{accountId}")
+    public Mono<ResponseEntity<AccountDto>> getAccountInfo(
+            @PathVariable String accountId) {
+
+        log.info("Reactive get account info request received for account: {}", accountId);
+
+        return reactiveReadService.getAccountById(accountId)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
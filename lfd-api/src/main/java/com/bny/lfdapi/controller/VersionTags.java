@@ -0,0 +1,28 @@
+package com.bny.lfdapi.controller;
+
+final class VersionTags {
+
+    private VersionTags() {
+    }
+
+    static String of(String version, Object variant) {
+        String tag = variant == null ? version : version + "-" + Integer.toHexString(variant.hashCode());
+        return "\"" + tag + "\"";
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
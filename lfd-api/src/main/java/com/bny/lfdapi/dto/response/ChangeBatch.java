@@ -0,0 +1,18 @@
+package com.bny.lfdapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeBatch {
+    private List<ChangeEvent> events;
+    private String cursor;
+    private Boolean hasMore;
+}
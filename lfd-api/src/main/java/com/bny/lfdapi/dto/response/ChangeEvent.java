@@ -0,0 +1,17 @@
+package com.bny.lfdapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEvent {
+    private String entity;
+    private String key;
+    private String parentKey;
+    private Long version;
+}
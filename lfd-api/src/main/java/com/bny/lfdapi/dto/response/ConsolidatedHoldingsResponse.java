@@ -0,0 +1,25 @@
+package com.bny.lfdapi.dto.response;
+
+import com.bny.shared.dto.response.ConsolidatedHoldingDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsolidatedHoldingsResponse {
+    private String clientId;
+    private List<ConsolidatedHoldingDto> holdings;
+    private Integer accountCount;
+    private BigDecimal totalMarketValue;
+    private BigDecimal totalCostBasis;
+    private BigDecimal totalUnrealizedGainLoss;
+    private Integer resultCode;
+    private String errorMessage;
+}
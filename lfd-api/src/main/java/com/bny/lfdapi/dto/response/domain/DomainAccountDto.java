@@ -0,0 +1,30 @@
+package com.bny.lfdapi.dto.response.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainAccountDto {
+    private String accountId;
+    private String accountNumber;
+    private String accountType;
+    private String accountName;
+    private String clientId;
+    private String clientName;
+    private BigDecimal marketValue;
+    private BigDecimal costBasis;
+    private BigDecimal unrealizedGainLoss;
+    private BigDecimal ytdPerformance;
+    private BigDecimal cashBalance;
+    private LocalDate inceptionDate;
+    private LocalDateTime lastActivity;
+}
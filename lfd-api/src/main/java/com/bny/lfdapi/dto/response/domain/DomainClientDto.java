@@ -0,0 +1,31 @@
+package com.bny.lfdapi.dto.response.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainClientDto {
+    private String clientId;
+    private String clientName;
+    private List<DomainAccountDto> accounts;
+    private String taxId;
+    private String riskProfile;
+    private String activityStatus;
+    private BigDecimal totalMarketValue;
+    private BigDecimal totalCostBasis;
+    private BigDecimal totalUnrealizedGainLoss;
+    private BigDecimal ytdPerformance;
+    private LocalDateTime lastAccessed;
+    private LocalDateTime lastUpdated;
+    private String advisorId;
+    private String advisorName;
+}
@@ -0,0 +1,23 @@
+package com.bny.lfdapi.dto.response.domain;
+
+import com.bny.shared.dto.response.ConsolidatedHoldingDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainConsolidatedHoldings {
+    private String clientId;
+    private int accountCount;
+    private BigDecimal totalMarketValue;
+    private BigDecimal totalCostBasis;
+    private BigDecimal totalUnrealizedGainLoss;
+    private List<ConsolidatedHoldingDto> holdings;
+}
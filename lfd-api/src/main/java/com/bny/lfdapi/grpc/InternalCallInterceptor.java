@@ -0,0 +1,208 @@
+package com.bny.lfdapi.grpc;
+
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import com.bny.lfdapi.limit.AdaptiveConcurrencyLimiter;
+import com.bny.lfdapi.security.InternalRequestContext;
+import com.bny.lfdapi.security.InternalSecurityContextHolder;
+import com.bny.lfdapi.workload.WorkloadClass;
+import com.bny.shared.grpc.LfdGrpcHeaders;
+import com.bny.shared.grpc.LfdInternalGrpc;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class InternalCallInterceptor implements ServerInterceptor {
+
+    private static final Set<Status.Code> DROPPED = EnumSet.of(
+        Status.Code.INTERNAL, Status.Code.UNKNOWN, Status.Code.UNAVAILABLE, Status.Code.DEADLINE_EXCEEDED);
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Autowired
+    private StatementCancellationRegistry cancellationRegistry;
+
+    @Value("${lfd.limiter.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+
+        String missing = missingHeader(headers);
+        if (missing != null) {
+            log.error("Internal gRPC call validation failed: {} header is required", missing);
+            call.close(Status.UNAUTHENTICATED.withDescription(missing + " header is required"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        String requestId = headers.get(LfdGrpcHeaders.REQUEST_ID);
+        Deadline deadline = Context.current().getDeadline();
+        if (deadline != null && deadline.isExpired()) {
+            log.warn("Rejecting gRPC call {} that arrived after its deadline", requestId);
+            call.close(Status.DEADLINE_EXCEEDED.withDescription("Request deadline expired before processing"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        boolean limited = !LfdInternalGrpc.getCancelRequestMethod().getFullMethodName()
+            .equals(call.getMethodDescriptor().getFullMethodName());
+        WorkloadClass workloadClass = WorkloadClass.fromValue(headers.get(LfdGrpcHeaders.WORKLOAD_CLASS));
+        if (limited && !limiter.tryAcquire(workloadClass)) {
+            log.warn("Shedding {} gRPC call: concurrency limit {} reached", workloadClass, limiter.getLimit());
+            Metadata trailers = new Metadata();
+            trailers.put(LfdGrpcHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            call.close(Status.UNAVAILABLE.withDescription("Concurrency limit reached, retry later"), trailers);
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        InternalRequestContext context = InternalRequestContext.builder()
+            .userId(headers.get(LfdGrpcHeaders.USER_ID))
+            .advisorId(headers.get(LfdGrpcHeaders.ADVISOR_ID))
+            .requestId(requestId)
+            .timestamp(LocalDateTime.now())
+            .clientIp(String.valueOf(call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR)))
+            .workloadClass(workloadClass)
+            .deadlineNanos(deadline != null ? System.nanoTime() + deadline.timeRemaining(TimeUnit.NANOSECONDS) : null)
+            .build();
+
+        ScopedCall<ReqT, RespT> scopedCall = new ScopedCall<>(call, context, limited);
+        return scopedCall.listen(next, headers);
+    }
+
+    private String missingHeader(Metadata headers) {
+        if (!StringUtils.hasText(headers.get(LfdGrpcHeaders.USER_ID))) {
+            return "X-User-ID";
+        }
+        if (!StringUtils.hasText(headers.get(LfdGrpcHeaders.ADVISOR_ID))) {
+            return "X-Advisor-ID";
+        }
+        if (!StringUtils.hasText(headers.get(LfdGrpcHeaders.REQUEST_ID))) {
+            return "X-Request-ID";
+        }
+        if (!StringUtils.hasText(headers.get(LfdGrpcHeaders.TIMESTAMP))) {
+            return "X-Timestamp";
+        }
+        return null;
+    }
+
+    private class ScopedCall<ReqT, RespT> extends ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT> {
+
+        private final InternalRequestContext context;
+        private final boolean limited;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile Status status = Status.OK;
+
+        private ScopedCall(ServerCall<ReqT, RespT> delegate, InternalRequestContext context, boolean limited) {
+            super(delegate);
+            this.context = context;
+            this.limited = limited;
+        }
+
+        @Override
+        public void close(Status status, Metadata trailers) {
+            this.status = status;
+            super.close(status, trailers);
+        }
+
+        private ServerCall.Listener<ReqT> listen(ServerCallHandler<ReqT, RespT> next, Metadata headers) {
+            ServerCall.Listener<ReqT> listener;
+            cancellationRegistry.open(context.getRequestId());
+            InternalSecurityContextHolder.setContext(context);
+            try {
+                listener = next.startCall(this, headers);
+            } catch (RuntimeException e) {
+                finish(true);
+                throw e;
+            } finally {
+                InternalSecurityContextHolder.clearContext();
+            }
+
+            // onCancel is queued behind a handler that is still blocked on JDBC; the call context is cancelled eagerly
+            Context.current().addListener(cancelled -> {
+                if (!finished.get()) {
+                    log.info("gRPC call {} cancelled by caller", context.getRequestId());
+                    cancellationRegistry.cancel(context.getRequestId());
+                }
+            }, Runnable::run);
+
+            return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+                @Override
+                public void onMessage(ReqT message) {
+                    scoped(() -> super.onMessage(message));
+                }
+
+                @Override
+                public void onHalfClose() {
+                    scoped(super::onHalfClose);
+                }
+
+                @Override
+                public void onReady() {
+                    scoped(super::onReady);
+                }
+
+                @Override
+                public void onCancel() {
+                    try {
+                        scoped(super::onCancel);
+                    } finally {
+                        finish(true);
+                    }
+                }
+
+                @Override
+                public void onComplete() {
+                    try {
+                        scoped(super::onComplete);
+                    } finally {
+                        finish(DROPPED.contains(status.getCode()));
+                    }
+                }
+            };
+        }
+
+        private void scoped(Runnable callback) {
+            InternalSecurityContextHolder.setContext(context);
+            try {
+                callback.run();
+            } finally {
+                InternalSecurityContextHolder.clearContext();
+            }
+        }
+
+        private void finish(boolean dropped) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            if (limited) {
+                limiter.release(context.getWorkloadClass(), getMethodDescriptor().getFullMethodName(),
+                    System.nanoTime() - start, dropped);
+            }
+            cancellationRegistry.release(context.getRequestId());
+        }
+    }
+}
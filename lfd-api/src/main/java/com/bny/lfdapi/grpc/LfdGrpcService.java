@@ -0,0 +1,298 @@
+package com.bny.lfdapi.grpc;
+
+import com.bny.lfdapi.dto.response.AccountSummariesResponse;
+import com.bny.lfdapi.dto.response.AdvisorClientsResponse;
+import com.bny.lfdapi.dto.response.ConsolidatedHoldingsResponse;
+import com.bny.lfdapi.dto.response.HoldingsResponse;
+import com.bny.lfdapi.dto.response.PortfolioSummaryResponse;
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import com.bny.lfdapi.service.AccountDataService;
+import com.bny.lfdapi.service.AccountSummaryService;
+import com.bny.lfdapi.service.ClientDataService;
+import com.bny.lfdapi.service.ConsolidatedHoldingsService;
+import com.bny.lfdapi.service.HoldingsDataService;
+import com.bny.shared.dto.request.HoldingsRequest;
+import com.bny.shared.dto.response.ClientDto;
+import com.bny.shared.exception.ValidationException;
+import com.bny.shared.grpc.Account;
+import com.bny.shared.grpc.AccountRequest;
+import com.bny.shared.grpc.AdvisorClientsRequest;
+import com.bny.shared.grpc.AdvisorRequest;
+import com.bny.shared.grpc.AdvisorSummary;
+import com.bny.shared.grpc.AssetAllocation;
+import com.bny.shared.grpc.CancelRequestMessage;
+import com.bny.shared.grpc.CancelResponse;
+import com.bny.shared.grpc.Client;
+import com.bny.shared.grpc.ClientRequest;
+import com.bny.shared.grpc.ConsolidatedHoldings;
+import com.bny.shared.grpc.HoldingsChunk;
+import com.bny.shared.grpc.HoldingsHeader;
+import com.bny.shared.grpc.HoldingsQuery;
+import com.bny.shared.grpc.LfdInternalGrpc;
+import com.bny.shared.grpc.PortfolioSummary;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+import static com.bny.shared.grpc.LfdProtoMapper.list;
+import static com.bny.shared.grpc.LfdProtoMapper.nullIfEmpty;
+import static com.bny.shared.grpc.LfdProtoMapper.number;
+import static com.bny.shared.grpc.LfdProtoMapper.text;
+import static com.bny.shared.grpc.LfdProtoMapper.toProto;
+
+@Slf4j
+@Component
+public class LfdGrpcService extends LfdInternalGrpc.LfdInternalImplBase {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_CLIENTS_PAGE_SIZE = 100;
+    private static final int MAX_HOLDINGS_PAGE_SIZE = 1000;
+
+    @Autowired
+    private ClientDataService clientDataService;
+
+    @Autowired
+    private AccountDataService accountDataService;
+
+    @Autowired
+    private HoldingsDataService holdingsDataService;
+
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+
+    @Autowired
+    private ConsolidatedHoldingsService consolidatedHoldingsService;
+
+    @Autowired
+    private StatementCancellationRegistry cancellationRegistry;
+
+    @Override
+    public void streamAdvisorClients(AdvisorClientsRequest request, StreamObserver<Client> responseObserver) {
+        log.info("gRPC get advisor clients request received for advisor: {}, page: {}, size: {}",
+            request.getAdvisorId(), request.getPageOffset(), request.getPageSize());
+
+        stream(responseObserver, () -> {
+            AdvisorClientsResponse response = clientDataService.getAdvisorClients(request.getAdvisorId(),
+                pageOffset(request.getPageOffset()), pageSize(request.getPageSize(), MAX_CLIENTS_PAGE_SIZE));
+            warnOnResultCode("Get advisor clients", response.getResultCode(), response.getErrorMessage());
+            list(response.getClients()).forEach(client -> responseObserver.onNext(toProto(client)));
+        });
+    }
+
+    @Override
+    public void getClient(ClientRequest request, StreamObserver<Client> responseObserver) {
+        log.info("gRPC get client request received for client: {}", request.getClientId());
+
+        respond(responseObserver, () -> {
+            ClientDto client = clientDataService.getClientById(request.getClientId());
+            if (client == null) {
+                throw new EmptyResultDataAccessException("Client not found: " + request.getClientId(), 1);
+            }
+            return toProto(client);
+        });
+    }
+
+    @Override
+    public void streamClientAccounts(ClientRequest request, StreamObserver<Account> responseObserver) {
+        log.info("gRPC get client accounts request received for client: {}", request.getClientId());
+
+        stream(responseObserver, () -> accountDataService.getAccountsByClientId(request.getClientId())
+            .forEach(account -> responseObserver.onNext(toProto(account))));
+    }
+
+    @Override
+    public void getAccount(AccountRequest request, StreamObserver<Account> responseObserver) {
+        log.info("gRPC get account info request received for account: {}", request.getAccountId());
+
+        respond(responseObserver, () -> toProto(accountDataService.getAccountById(request.getAccountId())));
+    }
+
+    @Override
+    public void streamHoldings(HoldingsQuery query, StreamObserver<HoldingsChunk> responseObserver) {
+        log.info("gRPC get account holdings request received for account: {}", query.getAccountId());
+
+        stream(responseObserver, () -> {
+            HoldingsRequest request = toHoldingsRequest(query);
+            // Grouped pages are small and built whole; plain pages are sent row by row as the snapshot or
+            // procedure produces them, with the header following as a trailer
+            if (request.getGroupBy() != null) {
+                HoldingsResponse response = holdingsDataService.getAccountHoldings(request);
+                warnOnResultCode("Get account holdings", response.getResultCode(), response.getErrorMessage());
+                responseObserver.onNext(header(response));
+                if (response.getGroups() != null) {
+                    response.getGroups().forEach(group ->
+                        responseObserver.onNext(HoldingsChunk.newBuilder().setGroup(toProto(group)).build()));
+                } else {
+                    list(response.getHoldings()).forEach(holding ->
+                        responseObserver.onNext(HoldingsChunk.newBuilder().setHolding(toProto(holding)).build()));
+                }
+                return;
+            }
+
+            HoldingsResponse trailer = holdingsDataService.streamAccountHoldingRows(request, holding ->
+                responseObserver.onNext(HoldingsChunk.newBuilder().setHolding(toProto(holding)).build()));
+            warnOnResultCode("Get account holdings", trailer.getResultCode(), trailer.getErrorMessage());
+            responseObserver.onNext(header(trailer));
+        });
+    }
+
+    @Override
+    public void getPortfolioSummary(AccountRequest request, StreamObserver<PortfolioSummary> responseObserver) {
+        log.info("gRPC get portfolio summary request received for account: {}", request.getAccountId());
+
+        respond(responseObserver, () -> {
+            PortfolioSummaryResponse response = holdingsDataService.getPortfolioSummary(request.getAccountId());
+            warnOnResultCode("Get portfolio summary", response.getResultCode(), response.getErrorMessage());
+
+            PortfolioSummary.Builder builder = PortfolioSummary.newBuilder()
+                .setAccountId(text(response.getAccountId()))
+                .setTotalMarketValue(text(response.getTotalMarketValue()))
+                .setTotalCostBasis(text(response.getTotalCostBasis()))
+                .setTotalUnrealizedGainLoss(text(response.getTotalUnrealizedGainLoss()))
+                .setTotalUnrealizedGainLossPercent(text(response.getTotalUnrealizedGainLossPercent()))
+                .setPortfolioBeta(text(response.getPortfolioBeta()))
+                .setAnnualDividendYield(text(response.getAnnualDividendYield()))
+                .setHoldingsCount(number(response.getHoldingsCount()));
+            list(response.getAssetAllocation()).forEach(allocation -> builder.addAssetAllocation(
+                AssetAllocation.newBuilder()
+                    .setAssetClass(text(allocation.getAssetClass()))
+                    .setMarketValue(text(allocation.getMarketValue()))
+                    .setPercentage(text(allocation.getPercentage()))
+                    .setHoldingsCount(number(allocation.getHoldingsCount()))));
+            return builder.build();
+        });
+    }
+
+    @Override
+    public void getConsolidatedHoldings(ClientRequest request, StreamObserver<ConsolidatedHoldings> responseObserver) {
+        log.info("gRPC get consolidated holdings request received for client: {}", request.getClientId());
+
+        respond(responseObserver, () -> {
+            ConsolidatedHoldingsResponse response =
+                consolidatedHoldingsService.getConsolidatedHoldings(request.getClientId());
+
+            ConsolidatedHoldings.Builder builder = ConsolidatedHoldings.newBuilder()
+                .setClientId(text(response.getClientId()))
+                .setAccountCount(number(response.getAccountCount()))
+                .setTotalMarketValue(text(response.getTotalMarketValue()))
+                .setTotalCostBasis(text(response.getTotalCostBasis()))
+                .setTotalUnrealizedGainLoss(text(response.getTotalUnrealizedGainLoss()));
+            list(response.getHoldings()).forEach(holding -> builder.addHoldings(toProto(holding)));
+            return builder.build();
+        });
+    }
+
+    @Override
+    public void getAdvisorSummary(AdvisorRequest request, StreamObserver<AdvisorSummary> responseObserver) {
+        log.info("gRPC get advisor summary request received for advisor: {}", request.getAdvisorId());
+
+        respond(responseObserver, () -> {
+            AccountSummariesResponse response = accountSummaryService.getAdvisorSummary(request.getAdvisorId());
+
+            AdvisorSummary.Builder builder = AdvisorSummary.newBuilder()
+                .setAdvisorId(text(response.getAdvisorId()))
+                .setClientCount(number(response.getClientCount()))
+                .setAccountCount(number(response.getAccountCount()))
+                .setHoldingsCount(number(response.getHoldingsCount()))
+                .setTotalMarketValue(text(response.getTotalMarketValue()))
+                .setTotalCostBasis(text(response.getTotalCostBasis()))
+                .setTotalUnrealizedGainLoss(text(response.getTotalUnrealizedGainLoss()))
+                .setTotalUnrealizedGainLossPercent(text(response.getTotalUnrealizedGainLossPercent()));
+            list(response.getAccounts()).forEach(account -> builder.addAccounts(toProto(account)));
+            return builder.build();
+        });
+    }
+
+    @Override
+    public void cancelRequest(CancelRequestMessage request, StreamObserver<CancelResponse> responseObserver) {
+        log.info("gRPC cancel request received for request: {}", request.getRequestId());
+
+        respond(responseObserver, () -> {
+            cancellationRegistry.cancel(request.getRequestId());
+            return CancelResponse.getDefaultInstance();
+        });
+    }
+
+    private HoldingsRequest toHoldingsRequest(HoldingsQuery query) {
+        HoldingsRequest request = new HoldingsRequest();
+        request.setAccountId(query.getAccountId());
+        request.setPageOffset(pageOffset(query.getPageOffset()));
+        request.setPageSize(pageSize(query.getPageSize(), MAX_HOLDINGS_PAGE_SIZE));
+        if (query.getAssetClassesCount() > 0) {
+            request.setAssetClasses(new ArrayList<>(query.getAssetClassesList()));
+        }
+        request.setSortField(nullIfEmpty(query.getSortField()));
+        request.setSortDirection(nullIfEmpty(query.getSortDirection()));
+        request.setGroupBy(nullIfEmpty(query.getGroupBy()));
+        return request;
+    }
+
+    private HoldingsChunk header(HoldingsResponse response) {
+        return HoldingsChunk.newBuilder()
+            .setHeader(HoldingsHeader.newBuilder()
+                .setTotalCount(number(response.getTotalCount()))
+                .setPageOffset(number(response.getPageOffset()))
+                .setPageSize(number(response.getPageSize()))
+                .setGrouped(response.getGroups() != null))
+            .build();
+    }
+
+    private int pageOffset(int pageOffset) {
+        if (pageOffset < 0) {
+            throw new ValidationException("Page offset must be non-negative");
+        }
+        return pageOffset;
+    }
+
+    private int pageSize(int pageSize, int max) {
+        if (pageSize == 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (pageSize < 0 || pageSize > max) {
+            throw new ValidationException("Page size must be between 1 and " + max);
+        }
+        return pageSize;
+    }
+
+    private void warnOnResultCode(String operation, Integer resultCode, String errorMessage) {
+        if (resultCode != null && resultCode != 0) {
+            log.warn("{} returned non-zero result code: {} - {}", operation, resultCode, errorMessage);
+        }
+    }
+
+    private <T> void respond(StreamObserver<T> responseObserver, Supplier<T> body) {
+        stream(responseObserver, () -> responseObserver.onNext(body.get()));
+    }
+
+    private <T> void stream(StreamObserver<T> responseObserver, Runnable body) {
+        try {
+            body.run();
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    private Status toStatus(Exception e) {
+        if (e instanceof ValidationException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof EmptyResultDataAccessException) {
+                return Status.NOT_FOUND.withDescription(e.getMessage());
+            }
+            if (cause instanceof QueryTimeoutException) {
+                return Status.DEADLINE_EXCEEDED.withDescription(e.getMessage());
+            }
+        }
+        log.error("Unexpected error serving gRPC call", e);
+        return Status.INTERNAL.withDescription(e.getMessage());
+    }
+}
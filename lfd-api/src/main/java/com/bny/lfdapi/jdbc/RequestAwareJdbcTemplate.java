@@ -0,0 +1,49 @@
+package com.bny.lfdapi.jdbc;
+
+import com.bny.lfdapi.security.InternalRequestContext;
+import com.bny.lfdapi.security.InternalSecurityContextHolder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+
+public class RequestAwareJdbcTemplate extends JdbcTemplate {
+
+    private final StatementCancellationRegistry cancellationRegistry;
+
+    public RequestAwareJdbcTemplate(DataSource dataSource, StatementCancellationRegistry cancellationRegistry) {
+        super(dataSource);
+        this.cancellationRegistry = cancellationRegistry;
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+        InternalRequestContext context = InternalSecurityContextHolder.getContext();
+        if (context == null) {
+            return;
+        }
+        Long remainingMillis = context.remainingMillis();
+        applyDeadline(stmt, context.getRequestId(), remainingMillis);
+        cancellationRegistry.register(context.getRequestId(), stmt);
+        if (remainingMillis != null && remainingMillis % 1000 != 0) {
+            cancellationRegistry.cancelAfter(context.getRequestId(), stmt, remainingMillis);
+        }
+    }
+
+    static void applyDeadline(Statement stmt, String requestId, Long remainingMillis) throws SQLException {
+        if (remainingMillis == null) {
+            return;
+        }
+        if (remainingMillis <= 0) {
+            throw new SQLTimeoutException("Deadline for request " + requestId + " expired before the statement ran");
+        }
+        int budgetSeconds = (int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000);
+        int current = stmt.getQueryTimeout();
+        if (current == 0 || budgetSeconds < current) {
+            stmt.setQueryTimeout(budgetSeconds);
+        }
+    }
+}
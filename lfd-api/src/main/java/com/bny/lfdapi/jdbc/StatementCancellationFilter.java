@@ -0,0 +1,31 @@
+package com.bny.lfdapi.jdbc;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class StatementCancellationFilter implements Filter {
+
+    @Autowired
+    private StatementCancellationRegistry cancellationRegistry;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        String requestId = ((HttpServletRequest) request).getHeader("X-Request-ID");
+        cancellationRegistry.open(requestId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            cancellationRegistry.release(requestId);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.bny.lfdapi.jdbc;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class StatementCancellationRegistry {
+
+    static final String QUERY_CANCELED_SQL_STATE = "57014";
+
+    private static final long CANCELLED_RETENTION_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, RunningCalls> running = new ConcurrentHashMap<>();
+    private final Map<String, Set<Runnable>> cancelActions = new ConcurrentHashMap<>();
+    private final Map<String, Long> cancelled = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService deadlineTimer = deadlineTimer();
+    private final AtomicLong lastPurge = new AtomicLong(System.nanoTime());
+
+    public void register(String requestId, Statement statement) throws SQLException {
+        if (requestId == null) {
+            return;
+        }
+        if (cancelled.containsKey(requestId)) {
+            throw new SQLException("Request " + requestId + " was cancelled", QUERY_CANCELED_SQL_STATE);
+        }
+        running.compute(requestId, (id, calls) -> {
+            RunningCalls current = calls != null ? calls : new RunningCalls();
+            current.statements.add(statement);
+            return current;
+        });
+        if (cancelled.containsKey(requestId)) {
+            cancelStatement(requestId, statement);
+        }
+    }
+
+    // setQueryTimeout only counts whole seconds, so a budget with a sub-second part is enforced by cancelling
+    // the statement on time; the timer is dropped when the request is released
+    public void cancelAfter(String requestId, Statement statement, long millis) {
+        if (requestId == null) {
+            return;
+        }
+        RunningCalls calls = running.get(requestId);
+        if (calls == null) {
+            return;
+        }
+        ScheduledFuture<?> timer = deadlineTimer.schedule(() -> {
+            if (running.get(requestId) == calls && calls.statements.contains(statement)
+                    && cancelStatement(requestId, statement)) {
+                log.info("Cancelled statement for request {} at its {} ms deadline", requestId, millis);
+            }
+        }, millis, TimeUnit.MILLISECONDS);
+        calls.timers.add(timer);
+    }
+
+    // Reads without a JDBC statement (R2DBC) register how to abort themselves and remove it when they finish;
+    // false when the request was already cancelled
+    public boolean onCancel(String requestId, Runnable action) {
+        if (requestId == null) {
+            return true;
+        }
+        if (cancelled.containsKey(requestId)) {
+            return false;
+        }
+        cancelActions.computeIfAbsent(requestId, id -> ConcurrentHashMap.newKeySet()).add(action);
+        if (cancelled.containsKey(requestId)) {
+            removeOnCancel(requestId, action);
+            return false;
+        }
+        return true;
+    }
+
+    public void removeOnCancel(String requestId, Runnable action) {
+        if (requestId != null) {
+            cancelActions.computeIfPresent(requestId, (id, actions) -> {
+                actions.remove(action);
+                return actions.isEmpty() ? null : actions;
+            });
+        }
+    }
+
+    public int cancel(String requestId) {
+        purgeExpired(true);
+        cancelled.put(requestId, System.nanoTime());
+        int count = 0;
+        Set<Runnable> actions = cancelActions.remove(requestId);
+        if (actions != null) {
+            actions.forEach(Runnable::run);
+            count += actions.size();
+        }
+        RunningCalls calls = running.get(requestId);
+        if (calls == null) {
+            return count;
+        }
+        for (Statement statement : calls.statements) {
+            if (cancelStatement(requestId, statement)) {
+                count++;
+            }
+        }
+        log.info("Cancelled {} running statement(s) for request: {}", count, requestId);
+        return count;
+    }
+
+    // Several calls can share one X-Request-ID (the parallel legs of a holdings page), so statements are
+    // only dropped when the last call opened for the id is released
+    public void open(String requestId) {
+        if (requestId != null) {
+            running.compute(requestId, (id, calls) -> {
+                RunningCalls current = calls != null ? calls : new RunningCalls();
+                current.open++;
+                return current;
+            });
+        }
+    }
+
+    // Cancelled ids are kept a while so a leg arriving after the cancel is refused; releases purge the old ones
+    // so the map stays small even when nothing is cancelled for a long time
+    public void release(String requestId) {
+        purgeExpired(false);
+        if (requestId != null) {
+            running.computeIfPresent(requestId, (id, calls) -> {
+                if (--calls.open > 0) {
+                    return calls;
+                }
+                calls.timers.forEach(timer -> timer.cancel(false));
+                return null;
+            });
+        }
+    }
+
+    int runningCount(String requestId) {
+        RunningCalls calls = running.get(requestId);
+        return calls == null ? 0 : calls.statements.size();
+    }
+
+    private boolean cancelStatement(String requestId, Statement statement) {
+        try {
+            if (statement.isClosed()) {
+                return false;
+            }
+            statement.cancel();
+            return true;
+        } catch (SQLException e) {
+            log.debug("Unable to cancel statement for request {}: {}", requestId, e.getMessage());
+            return false;
+        }
+    }
+
+    private static final class RunningCalls {
+        private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+        private final Set<ScheduledFuture<?>> timers = ConcurrentHashMap.newKeySet();
+        private int open;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deadlineTimer.shutdownNow();
+    }
+
+    private static ScheduledExecutorService deadlineTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "statement-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    private void purgeExpired(boolean always) {
+        long now = System.nanoTime();
+        long last = lastPurge.get();
+        if (always) {
+            lastPurge.set(now);
+        } else if (now - last < PURGE_INTERVAL_NANOS || !lastPurge.compareAndSet(last, now)) {
+            return;
+        }
+        cancelled.values().removeIf(at -> now - at > CANCELLED_RETENTION_NANOS);
+    }
+}
@@ -0,0 +1,173 @@
+package com.bny.lfdapi.limit;
+
+import com.bny.lfdapi.workload.WorkloadClass;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BASELINE_DECAY = 0.01;
+    private static final double RECENT_DECAY = 0.2;
+    private static final int MAX_ROUTES = 256;
+    private static final String OTHER_ROUTE = "other";
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final double interactiveReserve;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger deferrableInFlight = new AtomicInteger();
+    private final Counter rejected;
+
+    private final Map<String, RouteLatency> routes = new HashMap<>();
+
+    private volatile double limit;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(
+            @Value("${lfd.limiter.initial-limit:20}") int initialLimit,
+            @Value("${lfd.limiter.min-limit:4}") int minLimit,
+            @Value("${lfd.limiter.max-limit:45}") int maxLimit,
+            @Value("${lfd.limiter.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${lfd.limiter.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${lfd.limiter.interactive-reserve:0.3}") double interactiveReserve,
+            MeterRegistry meterRegistry) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.interactiveReserve = Math.max(0, Math.min(interactiveReserve, 1));
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        this.rejected = Counter.builder("lfd.limiter.rejected").register(meterRegistry);
+        Gauge.builder("lfd.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("lfd.limiter.inflight", inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("lfd.limiter.inflight.deferrable", deferrableInFlight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // Bulk and background calls share what is left of the limit after the interactive reserve, so a burst
+    // of exports is shed before it can take the permits interactive reads need
+    public boolean tryAcquire(WorkloadClass workloadClass) {
+        boolean deferrable = workloadClass != WorkloadClass.INTERACTIVE;
+        if (deferrable && !increment(deferrableInFlight, deferrableLimit())) {
+            rejected.increment();
+            return false;
+        }
+        if (!increment(inFlight, (int) limit)) {
+            if (deferrable) {
+                deferrableInFlight.decrementAndGet();
+            }
+            rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    // Latency is judged against the route's own history, so cheap and expensive endpoints sharing the
+    // limiter do not read each other's normal latency as congestion
+    public void release(WorkloadClass workloadClass, String route, long latencyNanos, boolean dropped) {
+        releaseDeferrable(workloadClass);
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        adjust(route, latencyNanos, dropped, inFlightAtCompletion);
+    }
+
+    // For calls answered without doing the work (e.g. 304 revalidations): their latency says nothing about load
+    public void releaseWithoutSample(WorkloadClass workloadClass) {
+        releaseDeferrable(workloadClass);
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getDeferrableLimit() {
+        return deferrableLimit();
+    }
+
+    public double getRejectedCount() {
+        return rejected.count();
+    }
+
+    private int deferrableLimit() {
+        return Math.max(1, (int) (limit * (1 - interactiveReserve)));
+    }
+
+    private void releaseDeferrable(WorkloadClass workloadClass) {
+        if (workloadClass != WorkloadClass.INTERACTIVE) {
+            deferrableInFlight.decrementAndGet();
+        }
+    }
+
+    private static boolean increment(AtomicInteger counter, int ceiling) {
+        while (true) {
+            int current = counter.get();
+            if (current >= ceiling) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Gradient check per route: a fast-moving average of recent latency against a slow-moving baseline.
+    // Both averages see the route's whole latency mix, so a route whose calls range from cheap to
+    // expensive only backs off when recent calls get slower than its own usual mix
+    private synchronized void adjust(String route, long latencyNanos, boolean dropped, int inFlightAtCompletion) {
+        RouteLatency latency = routes.get(route);
+        if (latency == null) {
+            latency = routes.computeIfAbsent(routes.size() < MAX_ROUTES ? route : OTHER_ROUTE, key -> new RouteLatency());
+        }
+        latency.sample(latencyNanos);
+
+        double previous = limit;
+        if (dropped || latency.recentNanos > latency.baselineNanos * latencyTolerance) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlightAtCompletion * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / Math.max(1.0, Math.sqrt(limit)));
+        }
+
+        if ((int) previous != (int) limit) {
+            log.debug("Concurrency limit {} -> {} ({} latency {} ms, recent {} ms, baseline {} ms)", (int) previous,
+                (int) limit, route, TimeUnit.NANOSECONDS.toMillis(latencyNanos),
+                TimeUnit.NANOSECONDS.toMillis((long) latency.recentNanos),
+                TimeUnit.NANOSECONDS.toMillis((long) latency.baselineNanos));
+        }
+    }
+
+    private static final class RouteLatency {
+        private long samples;
+        private double recentNanos;
+        private double baselineNanos;
+
+        // Until the route has enough history the baseline is a plain running mean, so one early sample
+        // cannot set it
+        private void sample(long latencyNanos) {
+            samples++;
+            if (samples == 1) {
+                recentNanos = latencyNanos;
+                baselineNanos = latencyNanos;
+                return;
+            }
+            recentNanos += (latencyNanos - recentNanos) * Math.max(RECENT_DECAY, 1.0 / samples);
+            baselineNanos += (latencyNanos - baselineNanos) * Math.max(BASELINE_DECAY, 1.0 / samples);
+        }
+    }
+}
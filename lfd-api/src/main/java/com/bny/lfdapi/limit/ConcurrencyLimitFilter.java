@@ -0,0 +1,116 @@
+package com.bny.lfdapi.limit;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import com.bny.lfdapi.security.InternalSecurityFilter;
+import com.bny.lfdapi.workload.WorkloadClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+public class ConcurrencyLimitFilter implements Filter {
+
+    private static final String CANCEL_PATH = "/internal/requests/";
+    // Push subscriptions stay open for minutes and would pin a permit and skew the latency samples
+    private static final String CHANGE_STREAM_PATH = "/internal/changes/stream";
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Value("${lfd.limiter.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        
+        String uri = ((HttpServletRequest) request).getRequestURI();
+        if (uri.startsWith(CANCEL_PATH) || uri.equals(CHANGE_STREAM_PATH)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        
+        WorkloadClass workloadClass = WorkloadClass.fromValue(((HttpServletRequest) request).getHeader(InternalSecurityFilter.WORKLOAD_HEADER));
+        if (!limiter.tryAcquire(workloadClass)) {
+            log.warn("Shedding {} request: concurrency limit {} reached", workloadClass, limiter.getLimit());
+            httpResponse.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            httpResponse.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+            httpResponse.setContentType("application/json");
+            httpResponse.getWriter().write("{\"error\":\"Service Unavailable\",\"message\":\"Concurrency limit reached, retry later\"}");
+            return;
+        }
+        
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(workloadClass, start));
+            } else {
+                release(workloadClass, (HttpServletRequest) request, httpResponse, start);
+            }
+        }
+    }
+
+    private void release(WorkloadClass workloadClass, HttpServletRequest request, HttpServletResponse response, long start) {
+        int status = response.getStatus();
+        if (status == HttpServletResponse.SC_NOT_MODIFIED) {
+            limiter.releaseWithoutSample(workloadClass);
+            return;
+        }
+        limiter.release(workloadClass, route(request), System.nanoTime() - start,
+            status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+    }
+
+    // The matched mapping pattern, so every account or advisor shares one route
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmatched");
+    }
+
+    private class ReleaseOnComplete implements AsyncListener {
+
+        private final WorkloadClass workloadClass;
+        private final long start;
+
+        private ReleaseOnComplete(WorkloadClass workloadClass, long start) {
+            this.workloadClass = workloadClass;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(workloadClass, (HttpServletRequest) event.getSuppliedRequest(), (HttpServletResponse) event.getSuppliedResponse(), start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
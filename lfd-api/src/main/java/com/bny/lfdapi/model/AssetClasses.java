@@ -0,0 +1,40 @@
+package com.bny.lfdapi.model;
+
+import com.bny.shared.enums.AssetClass;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class AssetClasses {
+
+    private AssetClasses() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        for (AssetClass assetClass : AssetClass.values()) {
+            if (assetClass.getDisplayName().equalsIgnoreCase(trimmed)) {
+                return assetClass.name();
+            }
+        }
+        return trimmed.toUpperCase().replace(' ', '_').replace('-', '_');
+    }
+
+    public static Set<String> normalize(List<String> values) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (values == null) {
+            return normalized;
+        }
+        for (String value : values) {
+            String assetClass = normalize(value);
+            if (assetClass != null) {
+                normalized.add(assetClass);
+            }
+        }
+        return normalized;
+    }
+}
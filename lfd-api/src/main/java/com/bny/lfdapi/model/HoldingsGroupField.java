@@ -0,0 +1,21 @@
+package com.bny.lfdapi.model;
+
+import com.bny.shared.exception.ValidationException;
+
+public enum HoldingsGroupField {
+    SECTOR,
+    ASSET_CLASS;
+
+    public static HoldingsGroupField fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String normalized = value.replace("_", "").replace(" ", "").toUpperCase();
+        for (HoldingsGroupField field : values()) {
+            if (field.name().replace("_", "").equals(normalized)) {
+                return field;
+            }
+        }
+        throw new ValidationException("Unsupported groupBy: " + value, "groupBy");
+    }
+}
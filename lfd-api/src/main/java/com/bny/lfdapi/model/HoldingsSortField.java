@@ -0,0 +1,47 @@
+package com.bny.lfdapi.model;
+
+public enum HoldingsSortField {
+    SYMBOL("symbol"),
+    SECURITY_NAME("security_name"),
+    QUANTITY("quantity"),
+    CURRENT_PRICE("current_price"),
+    PRICE_CHANGE_PERCENT("price_change_percent"),
+    COST_BASIS("cost_basis"),
+    TOTAL_COST("total_cost"),
+    MARKET_VALUE("market_value"),
+    UNREALIZED_GAIN_LOSS("unrealized_gain_loss"),
+    UNREALIZED_GAIN_LOSS_PERCENT("unrealized_gain_loss_percent"),
+    PORTFOLIO_PERCENT("portfolio_percent"),
+    SECTOR("sector"),
+    ASSET_CLASS("asset_class");
+
+    private final String column;
+
+    HoldingsSortField(String column) {
+        this.column = column;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public static HoldingsSortField fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return MARKET_VALUE;
+        }
+        String normalized = value.replace("_", "").replace(" ", "").toUpperCase();
+        for (HoldingsSortField field : values()) {
+            if (field.name().replace("_", "").equals(normalized)) {
+                return field;
+            }
+        }
+        return MARKET_VALUE;
+    }
+
+    public static boolean isDescending(String sortField, String sortDirection) {
+        if (sortDirection == null || sortDirection.isBlank()) {
+            return sortField == null || sortField.isBlank();
+        }
+        return "DESC".equalsIgnoreCase(sortDirection.trim());
+    }
+}
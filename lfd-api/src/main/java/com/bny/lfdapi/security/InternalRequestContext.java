@@ -1,11 +1,13 @@
 package com.bny.lfdapi.security;
 
+import com.bny.lfdapi.workload.WorkloadClass;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 @Data
 @Builder
@@ -17,4 +19,10 @@ public class InternalRequestContext {
     private String requestId;
     private LocalDateTime timestamp;
     private String clientIp;
+    private Long deadlineNanos;
+    private WorkloadClass workloadClass;
+
+    public Long remainingMillis() {
+        return deadlineNanos == null ? null : TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+    }
 }
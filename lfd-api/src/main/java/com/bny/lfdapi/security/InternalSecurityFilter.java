@@ -1,6 +1,10 @@
 package com.bny.lfdapi.security;
 
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import com.bny.lfdapi.workload.WorkloadClass;
 import com.bny.shared.exception.ValidationException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -9,16 +13,25 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class InternalSecurityFilter implements Filter {
 
+    static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+    static final String DEADLINE_HEADER = "X-Request-Deadline";
+    public static final String WORKLOAD_HEADER = "X-Workload-Class";
+    
+    @Autowired
+    private StatementCancellationRegistry cancellationRegistry;
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
@@ -33,6 +46,14 @@ public class InternalSecurityFilter implements Filter {
             String advisorId = httpRequest.getHeader("X-Advisor-ID");
             String requestId = httpRequest.getHeader("X-Request-ID");
             String clientIp = httpRequest.getRemoteAddr();
+            Long timeoutMs = remainingBudget(httpRequest);
+            
+            if (timeoutMs != null && timeoutMs <= 0) {
+                log.warn("Rejecting request {} that arrived after its deadline", requestId);
+                httpResponse.setStatus(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+                httpResponse.getWriter().write("{\"error\":\"Deadline Exceeded\",\"message\":\"Request deadline expired before processing\"}");
+                return;
+            }
             
             InternalRequestContext context = InternalRequestContext.builder()
                 .userId(userId)
@@ -40,11 +61,22 @@ public class InternalSecurityFilter implements Filter {
                 .requestId(requestId)
                 .timestamp(LocalDateTime.now())
                 .clientIp(clientIp)
+                .workloadClass(WorkloadClass.fromValue(httpRequest.getHeader(WORKLOAD_HEADER)))
+                .deadlineNanos(timeoutMs != null ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs) : null)
                 .build();
             
             InternalSecurityContextHolder.setContext(context);
             
-            chain.doFilter(request, response);
+            try {
+                chain.doFilter(request, response);
+            } catch (IOException e) {
+                // The caller stopped reading; whatever is still running for it has no one to answer
+                cancellationRegistry.cancel(requestId);
+                throw e;
+            }
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CancelOnDisconnect(requestId));
+            }
         } catch (ValidationException e) {
             log.error("Internal request validation failed: {}", e.getMessage());
             httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -54,6 +86,33 @@ public class InternalSecurityFilter implements Filter {
         }
     }
     
+    // An async request that errors or times out has lost its caller
+    private class CancelOnDisconnect implements AsyncListener {
+        private final String requestId;
+        
+        private CancelOnDisconnect(String requestId) {
+            this.requestId = requestId;
+        }
+        
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            cancellationRegistry.cancel(requestId);
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+            cancellationRegistry.cancel(requestId);
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+    
     private void validateInternalRequest(HttpServletRequest request) {
         String userId = request.getHeader("X-User-ID");
         String advisorId = request.getHeader("X-Advisor-ID");
@@ -76,4 +135,27 @@ public class InternalSecurityFilter implements Filter {
             throw new ValidationException("X-Timestamp header is required");
         }
     }
+    
+    // The absolute deadline also counts the time spent on the wire and in the accept queue, which the relative
+    // timeout cannot see; the relative timeout still caps it, so a clock running behind cannot extend the budget
+    private Long remainingBudget(HttpServletRequest request) {
+        Long timeoutMs = parseMillis(request.getHeader(TIMEOUT_HEADER), TIMEOUT_HEADER);
+        Long deadlineEpochMs = parseMillis(request.getHeader(DEADLINE_HEADER), DEADLINE_HEADER);
+        if (deadlineEpochMs == null) {
+            return timeoutMs;
+        }
+        long untilDeadline = deadlineEpochMs - System.currentTimeMillis();
+        return timeoutMs != null ? Math.min(timeoutMs, untilDeadline) : untilDeadline;
+    }
+    
+    private Long parseMillis(String header, String name) {
+        if (!StringUtils.hasText(header)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            throw new ValidationException(name + " header must be a number of milliseconds");
+        }
+    }
 }
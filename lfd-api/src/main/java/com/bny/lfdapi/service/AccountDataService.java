@@ -1,44 +1,191 @@
 package com.bny.lfdapi.service;
 
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import com.bny.lfdapi.security.InternalRequestContext;
+import com.bny.lfdapi.security.InternalSecurityContextHolder;
 import com.bny.shared.dto.response.AccountDto;
 import com.bny.shared.enums.AccountType;
 import com.bny.shared.enums.RiskProfile;
+import com.bny.shared.util.batch.BatchLoader;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 public class AccountDataService {
 
+    static final String ACCOUNT_SELECT = """
+        SELECT a.account_id, a.account_number, a.account_type, a.client_id, 
+               c.client_name, a.market_value, a.cash_balance, a.ytd_performance,
+               a.risk_profile, a.last_updated
+        FROM accounts a
+        JOIN clients c ON a.client_id = c.client_id
+    """;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
     
+    @Autowired
+    private StatementCancellationRegistry cancellationRegistry;
+    
+    // Concurrent single-account lookups within the window share one IN query; a zero window queries directly
+    private final BatchLoader<String, AccountDto> accountLoader;
+    
+    public AccountDataService(@Value("${lfd.accounts.batch.window-ms:0}") long batchWindowMillis,
+            @Value("${lfd.accounts.batch.max-size:100}") int maxBatchSize,
+            @Qualifier("accountBatchExecutor") Executor batchExecutor) {
+        this.accountLoader = batchWindowMillis > 0
+            ? new BatchLoader<>(this::getAccountsForBatch, batchWindowMillis, maxBatchSize, batchExecutor)
+            : null;
+    }
+    
     public AccountDto getAccountById(String accountId) {
         log.debug("Getting account details for account: {}", accountId);
         
-        String sql = """
-            SELECT a.account_id, a.account_number, a.account_type, a.client_id, 
-                   c.client_name, a.market_value, a.cash_balance, a.ytd_performance,
-                   a.risk_profile, a.last_updated
-            FROM accounts a
-            JOIN clients c ON a.client_id = c.client_id
-            WHERE a.account_id = ?
-        """;
-        
+        AccountDto account;
         try {
-            Map<String, Object> row = jdbcTemplate.queryForMap(sql, accountId);
-            return mapRowToAccountDto(row);
+            account = accountLoader != null
+                ? loadBatched(accountId)
+                : mapRowToAccountDto(jdbcTemplate.queryForMap(ACCOUNT_SELECT + " WHERE a.account_id = ?", accountId));
         } catch (Exception e) {
             log.error("Error fetching account details for account: {}", accountId, e);
             throw new RuntimeException("Account not found: " + accountId, e);
         }
+        if (account == null) {
+            throw new RuntimeException("Account not found: " + accountId);
+        }
+        return account;
+    }
+    
+    public List<AccountDto> getAccountsByClientId(String clientId) {
+        log.debug("Getting accounts for client: {}", clientId);
+        
+        return jdbcTemplate.queryForList(ACCOUNT_SELECT + " WHERE a.client_id = ? ORDER BY a.account_number", clientId)
+            .stream()
+            .map(this::mapRowToAccountDto)
+            .toList();
+    }
+    
+    // Keyed by account ID in request order; unknown IDs are simply absent
+    public Map<String, AccountDto> getAccountsByIds(Collection<String> accountIds) {
+        Set<String> ids = new LinkedHashSet<>(accountIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        log.debug("Getting account details for {} accounts", ids.size());
+        
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Map<String, AccountDto> found = new LinkedHashMap<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList(
+                ACCOUNT_SELECT + " WHERE a.account_id IN (" + placeholders + ")", ids.toArray())) {
+            AccountDto account = mapRowToAccountDto(row);
+            found.put(account.getAccountId(), account);
+        }
+        
+        Map<String, AccountDto> ordered = new LinkedHashMap<>();
+        for (String id : ids) {
+            AccountDto account = found.get(id);
+            if (account != null) {
+                ordered.put(id, account);
+            }
+        }
+        return ordered;
+    }
+    
+    // Each caller waits for its entry only as long as its own deadline allows, and a cancel of its request
+    // interrupts the wait so it leaves the batch
+    private AccountDto loadBatched(String accountId) {
+        InternalRequestContext context = InternalSecurityContextHolder.getContext();
+        Long remainingMillis = context != null ? context.remainingMillis() : null;
+        String requestId = context != null ? context.getRequestId() : null;
+        CallerCancel cancel = new CallerCancel(Thread.currentThread());
+        if (!cancellationRegistry.onCancel(requestId, cancel)) {
+            throw new CancellationException("Request " + requestId + " was cancelled");
+        }
+        try {
+            return remainingMillis == null
+                ? accountLoader.load(accountId)
+                : accountLoader.load(accountId, Math.max(remainingMillis, 0), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Deadline for request " + requestId
+                + " expired waiting for account " + accountId);
+        } finally {
+            cancel.finish();
+            cancellationRegistry.removeOnCancel(requestId, cancel);
+            if (cancel.cancelled) {
+                Thread.interrupted();
+            }
+        }
+    }
+    
+    // The batch serves every caller that joined it, so it runs under its own request ID: cancelling or timing
+    // out one caller leaves the others their result. It is bounded by the latest deadline among the callers
+    // and cancelled once all of them have given up
+    private Map<String, AccountDto> getAccountsForBatch(Set<String> accountIds, BatchLoader.Scope scope) {
+        InternalRequestContext caller = InternalSecurityContextHolder.getContext();
+        Long remainingMillis = scope.remainingMillis();
+        InternalRequestContext batch = InternalRequestContext.builder()
+            .requestId(UUID.randomUUID().toString())
+            .timestamp(LocalDateTime.now())
+            .deadlineNanos(remainingMillis != null ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis) : null)
+            .workloadClass(caller != null ? caller.getWorkloadClass() : null)
+            .build();
+        InternalSecurityContextHolder.setContext(batch);
+        cancellationRegistry.open(batch.getRequestId());
+        scope.onAbandoned(() -> cancellationRegistry.cancel(batch.getRequestId()));
+        try {
+            return getAccountsByIds(accountIds);
+        } finally {
+            cancellationRegistry.release(batch.getRequestId());
+            if (caller != null) {
+                InternalSecurityContextHolder.setContext(caller);
+            } else {
+                InternalSecurityContextHolder.clearContext();
+            }
+        }
+    }
+    
+    private static final class CallerCancel implements Runnable {
+        private final Thread thread;
+        private boolean finished;
+        private volatile boolean cancelled;
+
+        private CallerCancel(Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public synchronized void run() {
+            if (!finished) {
+                cancelled = true;
+                thread.interrupt();
+            }
+        }
+
+        private synchronized void finish() {
+            finished = true;
+        }
     }
     
     private AccountDto mapRowToAccountDto(Map<String, Object> row) {
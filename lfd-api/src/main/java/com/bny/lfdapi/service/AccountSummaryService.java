@@ -0,0 +1,142 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.cache.VersionedLruCache;
+import com.bny.lfdapi.dto.response.AccountSummariesResponse;
+import com.bny.shared.dto.response.AccountSummaryDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+@Slf4j
+@Service
+public class AccountSummaryService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private static final String SUMMARY_SELECT = """
+        SELECT a.account_id, a.account_number, a.account_type, a.client_id, c.client_name,
+               COUNT(h.holding_id) AS holdings_count,
+               COALESCE(SUM(h.quantity * s.current_price), 0) AS total_market_value,
+               COALESCE(SUM(h.cost_basis), 0) AS total_cost_basis
+        FROM accounts a
+        JOIN clients c ON a.client_id = c.client_id
+        LEFT JOIN holdings h ON h.account_id = a.account_id
+        LEFT JOIN securities s ON h.symbol = s.symbol
+    """;
+
+    private static final String SUMMARY_GROUP_BY = """
+        GROUP BY a.account_id, a.account_number, a.account_type, a.client_id, c.client_name
+        ORDER BY c.client_name, a.account_number
+    """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    private final VersionedLruCache<AccountSummariesResponse> cache;
+
+    public AccountSummaryService(@Value("${lfd.summaries.max-entries:200}") int maxEntries) {
+        this.cache = new VersionedLruCache<>(maxEntries);
+    }
+
+    public AccountSummariesResponse getAdvisorSummary(String advisorId) {
+        log.debug("Getting account summaries for advisor: {}", advisorId);
+
+        String cacheKey = "advisor:" + advisorId;
+        String version = dataVersionService.getAdvisorHoldingsVersion(advisorId);
+        AccountSummariesResponse cached = cache.get(cacheKey, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<AccountSummaryDto> accounts = jdbcTemplate.query(
+            SUMMARY_SELECT + " WHERE c.advisor_id = ? " + SUMMARY_GROUP_BY, summaryRowMapper(), advisorId);
+
+        AccountSummariesResponse response = rollUp(advisorId, accounts);
+        cache.put(cacheKey, version, response);
+        return response;
+    }
+
+    public AccountSummariesResponse getAccountSummaries(List<String> accountIds) {
+        TreeSet<String> ids = new TreeSet<>(accountIds);
+        log.debug("Getting account summaries for {} accounts", ids.size());
+
+        String cacheKey = "accounts:" + String.join(",", ids);
+        String version = dataVersionService.getAccountsHoldingsVersion(ids);
+        AccountSummariesResponse cached = cache.get(cacheKey, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<AccountSummaryDto> accounts = jdbcTemplate.query(
+            SUMMARY_SELECT + " WHERE a.account_id IN (" + placeholders + ") " + SUMMARY_GROUP_BY,
+            summaryRowMapper(), ids.toArray());
+
+        AccountSummariesResponse response = rollUp(null, accounts);
+        cache.put(cacheKey, version, response);
+        return response;
+    }
+
+    AccountSummariesResponse rollUp(String advisorId, List<AccountSummaryDto> accounts) {
+        BigDecimal totalMarketValue = BigDecimal.ZERO;
+        BigDecimal totalCostBasis = BigDecimal.ZERO;
+        int holdingsCount = 0;
+        for (AccountSummaryDto account : accounts) {
+            totalMarketValue = totalMarketValue.add(account.getTotalMarketValue());
+            totalCostBasis = totalCostBasis.add(account.getTotalCostBasis());
+            holdingsCount += account.getHoldingsCount();
+        }
+
+        BigDecimal gainLoss = totalMarketValue.subtract(totalCostBasis);
+        return AccountSummariesResponse.builder()
+            .advisorId(advisorId)
+            .clientCount((int) accounts.stream().map(AccountSummaryDto::getClientId).distinct().count())
+            .accountCount(accounts.size())
+            .holdingsCount(holdingsCount)
+            .totalMarketValue(totalMarketValue)
+            .totalCostBasis(totalCostBasis)
+            .totalUnrealizedGainLoss(gainLoss)
+            .totalUnrealizedGainLossPercent(percentOf(gainLoss, totalCostBasis))
+            .accounts(accounts)
+            .resultCode(0)
+            .build();
+    }
+
+    private RowMapper<AccountSummaryDto> summaryRowMapper() {
+        return (rs, rowNum) -> {
+            BigDecimal marketValue = rs.getBigDecimal("total_market_value");
+            BigDecimal costBasis = rs.getBigDecimal("total_cost_basis");
+            BigDecimal gainLoss = marketValue.subtract(costBasis);
+            return AccountSummaryDto.builder()
+                .accountId(rs.getString("account_id"))
+                .accountNumber(rs.getString("account_number"))
+                .accountType(rs.getString("account_type"))
+                .clientId(rs.getString("client_id"))
+                .clientName(rs.getString("client_name"))
+                .holdingsCount(rs.getInt("holdings_count"))
+                .totalMarketValue(marketValue)
+                .totalCostBasis(costBasis)
+                .totalUnrealizedGainLoss(gainLoss)
+                .totalUnrealizedGainLossPercent(percentOf(gainLoss, costBasis))
+                .build();
+        };
+    }
+
+    private BigDecimal percentOf(BigDecimal value, BigDecimal base) {
+        return base.signum() > 0
+            ? value.multiply(HUNDRED).divide(base, 2, RoundingMode.HALF_UP)
+            : BigDecimal.ZERO;
+    }
+}
@@ -10,14 +10,18 @@ import com.bny.shared.dto.common.StoredProcedureResponse;
 import com.bny.shared.exception.DatabaseOperationException;
 import com.bny.shared.service.StoredProcedureExecutor;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -28,6 +32,15 @@ public class ClientDataService {
     
     @Autowired
     private ObjectMapper objectMapper;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private AccountDataService accountDataService;
+    
+    // Built on first use: resolving List<AccountDto> and its deserializer once instead of per client row
+    private volatile ObjectReader accountsReader;
 
     public ClientSearchResponse searchClients(ClientSearchRequest request) {
         log.debug("Searching clients with request: {}", request);
@@ -118,6 +131,31 @@ public class ClientDataService {
         }
     }
 
+    // Same shape as one row of sp_get_advisor_clients, from two primary/foreign key lookups; null when unknown
+    public ClientDto getClientById(String clientId) {
+        log.debug("Getting client details for client: {}", clientId);
+        
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+            SELECT c.client_id, c.client_name, c.advisor_id, 'Unknown Advisor' AS advisor_name,
+                   c.tax_id, c.created_date, c.last_updated
+            FROM clients c
+            WHERE c.client_id = ?
+        """, clientId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        
+        ClientDto client = mapRowToClientDto(rows.get(0));
+        List<AccountDto> accounts = accountDataService.getAccountsByClientId(clientId);
+        client.setAccounts(new ArrayList<>(accounts));
+        client.setAccountCount(accounts.size());
+        client.setTotalMarketValue(accounts.stream()
+            .map(AccountDto::getMarketValue)
+            .filter(Objects::nonNull)
+            .reduce(BigDecimal.ZERO, BigDecimal::add));
+        return client;
+    }
+
     private ClientDto mapRowToClientDto(Map<String, Object> row) {
         ClientDto dto = ClientDto.builder()
             .clientId((String) row.get("client_id"))
@@ -132,15 +170,13 @@ public class ClientDataService {
             .lastActivityDate(convertToLocalDate(row.get("last_activity_date")))
             .createdDate(convertToLocalDateTime(row.get("created_date")))
             .lastAccessed(convertToLocalDateTime(row.get("last_accessed")))
+            .lastUpdated(convertToLocalDateTime(row.get("last_updated")))
             .build();
         
         String accountsJson = (String) row.get("accounts");
         if (accountsJson != null && !accountsJson.isEmpty()) {
             try {
-                List<AccountDto> accounts = objectMapper.readValue(
-                    accountsJson, 
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, AccountDto.class)
-                );
+                List<AccountDto> accounts = accountsReader().readValue(accountsJson);
                 dto.setAccounts(accounts);
             } catch (Exception e) {
                 log.error("Failed to parse accounts JSON for client: {}", dto.getClientId(), e);
@@ -153,6 +189,16 @@ public class ClientDataService {
         return dto;
     }
 
+    private ObjectReader accountsReader() {
+        ObjectReader reader = accountsReader;
+        if (reader == null) {
+            reader = objectMapper.readerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, AccountDto.class));
+            accountsReader = reader;
+        }
+        return reader;
+    }
+
     private Integer extractTotalCount(StoredProcedureResponse response) {
         if (response.getOutputParameters() != null) {
             Object totalCount = response.getOutputParameters().get("p_total_count");
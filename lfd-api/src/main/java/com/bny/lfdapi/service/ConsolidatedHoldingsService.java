@@ -0,0 +1,177 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.cache.VersionedLruCache;
+import com.bny.lfdapi.dto.response.ConsolidatedHoldingsResponse;
+import com.bny.shared.dto.response.AccountPositionDto;
+import com.bny.shared.dto.response.ConsolidatedHoldingDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class ConsolidatedHoldingsService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final int PARALLEL_THRESHOLD = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    private final VersionedLruCache<ConsolidatedHoldingsResponse> cache;
+
+    public ConsolidatedHoldingsService(@Value("${lfd.holdings.consolidated.max-clients:500}") int maxClients) {
+        this.cache = new VersionedLruCache<>(maxClients);
+    }
+
+    public ConsolidatedHoldingsResponse getConsolidatedHoldings(String clientId) {
+        log.debug("Getting consolidated holdings for client: {}", clientId);
+
+        String version = dataVersionService.getClientHoldingsVersion(clientId);
+        ConsolidatedHoldingsResponse cached = cache.get(clientId, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        String sql = """
+            SELECT a.account_id, a.account_number, a.account_type,
+                   h.symbol, s.security_name, s.asset_class, s.sector,
+                   h.quantity, h.cost_basis, s.current_price
+            FROM accounts a
+            JOIN holdings h ON h.account_id = a.account_id
+            JOIN securities s ON h.symbol = s.symbol
+            WHERE a.client_id = ?
+        """;
+
+        List<PositionRow> rows = jdbcTemplate.query(sql, (rs, rowNum) -> new PositionRow(
+            rs.getString("account_id"),
+            rs.getString("account_number"),
+            rs.getString("account_type"),
+            rs.getString("symbol"),
+            rs.getString("security_name"),
+            rs.getString("asset_class"),
+            rs.getString("sector"),
+            rs.getBigDecimal("quantity"),
+            rs.getBigDecimal("cost_basis"),
+            rs.getBigDecimal("current_price")), clientId);
+
+        ConsolidatedHoldingsResponse response = consolidate(clientId, rows);
+        cache.put(clientId, version, response);
+        return response;
+    }
+
+    ConsolidatedHoldingsResponse consolidate(String clientId, List<PositionRow> rows) {
+        ConcurrentMap<String, List<PositionRow>> bySymbol = stream(rows)
+            .collect(Collectors.groupingByConcurrent(PositionRow::getSymbol));
+
+        BigDecimal totalMarketValue = stream(rows)
+            .map(PositionRow::marketValue)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalCostBasis = stream(rows)
+            .map(PositionRow::getCostBasis)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        List<ConsolidatedHoldingDto> holdings = stream(bySymbol.entrySet())
+            .map(entry -> merge(entry, totalMarketValue))
+            .sorted(Comparator.comparing(ConsolidatedHoldingDto::getMarketValue).reversed()
+                .thenComparing(ConsolidatedHoldingDto::getSymbol))
+            .collect(Collectors.toList());
+
+        return ConsolidatedHoldingsResponse.builder()
+            .clientId(clientId)
+            .holdings(holdings)
+            .accountCount((int) rows.stream().map(PositionRow::getAccountId).distinct().count())
+            .totalMarketValue(totalMarketValue)
+            .totalCostBasis(totalCostBasis)
+            .totalUnrealizedGainLoss(totalMarketValue.subtract(totalCostBasis))
+            .resultCode(0)
+            .build();
+    }
+
+    private ConsolidatedHoldingDto merge(Map.Entry<String, List<PositionRow>> entry, BigDecimal totalMarketValue) {
+        List<PositionRow> positions = entry.getValue();
+        PositionRow first = positions.get(0);
+
+        BigDecimal quantity = BigDecimal.ZERO;
+        BigDecimal costBasis = BigDecimal.ZERO;
+        BigDecimal marketValue = BigDecimal.ZERO;
+        List<AccountPositionDto> accounts = new ArrayList<>(positions.size());
+        for (PositionRow position : positions) {
+            BigDecimal positionValue = position.marketValue();
+            quantity = quantity.add(position.getQuantity());
+            costBasis = costBasis.add(position.getCostBasis());
+            marketValue = marketValue.add(positionValue);
+            accounts.add(AccountPositionDto.builder()
+                .accountId(position.getAccountId())
+                .accountNumber(position.getAccountNumber())
+                .accountType(position.getAccountType())
+                .quantity(position.getQuantity())
+                .costBasis(position.getCostBasis())
+                .marketValue(positionValue)
+                .unrealizedGainLoss(positionValue.subtract(position.getCostBasis()))
+                .build());
+        }
+        accounts.sort(Comparator.comparing(AccountPositionDto::getAccountId));
+
+        BigDecimal gainLoss = marketValue.subtract(costBasis);
+        return ConsolidatedHoldingDto.builder()
+            .symbol(entry.getKey())
+            .securityName(first.getSecurityName())
+            .assetClass(first.getAssetClass())
+            .sector(first.getSector())
+            .currentPrice(first.getCurrentPrice())
+            .quantity(quantity)
+            .costBasis(costBasis)
+            .marketValue(marketValue)
+            .unrealizedGainLoss(gainLoss)
+            .unrealizedGainLossPercent(costBasis.signum() > 0
+                ? gainLoss.multiply(HUNDRED).divide(costBasis, 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO)
+            .portfolioPercent(totalMarketValue.signum() > 0
+                ? marketValue.multiply(HUNDRED).divide(totalMarketValue, 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO)
+            .accounts(accounts)
+            .build();
+    }
+
+    private <T> Stream<T> stream(Collection<T> values) {
+        return values.size() >= PARALLEL_THRESHOLD ? values.parallelStream() : values.stream();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class PositionRow {
+        private final String accountId;
+        private final String accountNumber;
+        private final String accountType;
+        private final String symbol;
+        private final String securityName;
+        private final String assetClass;
+        private final String sector;
+        private final BigDecimal quantity;
+        private final BigDecimal costBasis;
+        private final BigDecimal currentPrice;
+
+        BigDecimal marketValue() {
+            return quantity.multiply(currentPrice);
+        }
+    }
+}
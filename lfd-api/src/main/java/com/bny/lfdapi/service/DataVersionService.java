@@ -0,0 +1,120 @@
+package com.bny.lfdapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class DataVersionService {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TableVersionService tableVersionService;
+
+    // Versions come from the table_versions counters alone: the table holds SLOTS rows per tracked table, so
+    // one read of it replaces the joins below. Where the scope's own id is the key a table hashes on, only that
+    // slot is watched; the other tables contribute the sum of all their slots
+    public String getHoldingsVersion(String accountId) {
+        TableVersions versions = tableVersionService.getVersions();
+        if (versions == null) {
+            return probe("""
+                FROM accounts a
+                LEFT JOIN clients c ON c.client_id = a.client_id
+                LEFT JOIN holdings h ON h.account_id = a.account_id
+                LEFT JOIN securities s ON s.symbol = h.symbol
+                WHERE a.account_id = ?
+            """, accountId);
+        }
+        return counters(versions.get("holdings", TableVersions.slotOf(accountId)),
+            versions.sum("accounts"), versions.sum("clients"), versions.sum("securities"));
+    }
+
+    public String getClientHoldingsVersion(String clientId) {
+        TableVersions versions = tableVersionService.getVersions();
+        if (versions == null) {
+            return probe("""
+                FROM clients c
+                LEFT JOIN accounts a ON a.client_id = c.client_id
+                LEFT JOIN holdings h ON h.account_id = a.account_id
+                LEFT JOIN securities s ON s.symbol = h.symbol
+                WHERE c.client_id = ?
+            """, clientId);
+        }
+        return counters(versions.sum("holdings"), versions.get("accounts", TableVersions.slotOf(clientId)),
+            versions.sum("clients"), versions.sum("securities"));
+    }
+
+    public String getAdvisorHoldingsVersion(String advisorId) {
+        TableVersions versions = tableVersionService.getVersions();
+        if (versions == null) {
+            return probe("""
+                FROM clients c
+                LEFT JOIN accounts a ON a.client_id = c.client_id
+                LEFT JOIN holdings h ON h.account_id = a.account_id
+                LEFT JOIN securities s ON s.symbol = h.symbol
+                WHERE c.advisor_id = ?
+            """, advisorId);
+        }
+        return counters(versions.sum("holdings"), versions.sum("accounts"),
+            versions.get("clients", TableVersions.slotOf(advisorId)), versions.sum("securities"));
+    }
+
+    public String getAccountsHoldingsVersion(Collection<String> accountIds) {
+        TableVersions versions = tableVersionService.getVersions();
+        if (versions == null) {
+            String placeholders = String.join(", ", Collections.nCopies(accountIds.size(), "?"));
+            return probe("""
+                FROM accounts a
+                LEFT JOIN clients c ON c.client_id = a.client_id
+                LEFT JOIN holdings h ON h.account_id = a.account_id
+                LEFT JOIN securities s ON s.symbol = h.symbol
+                WHERE a.account_id IN (%s)
+            """.formatted(placeholders), accountIds.toArray());
+        }
+        Set<Integer> slots = accountIds.stream().map(TableVersions::slotOf).collect(Collectors.toSet());
+        return counters(versions.sum("holdings", slots), versions.sum("accounts"),
+            versions.sum("clients"), versions.sum("securities"));
+    }
+
+    private static String counters(long holdings, long accounts, long clients, long securities) {
+        return "v" + holdings + "." + accounts + "." + clients + "." + securities;
+    }
+
+    // Fallback while table_versions cannot be read. Every probe starts from the scope's own rows and
+    // outer-joins down to prices, so accounts without holdings, clients without accounts, rows moving
+    // between parents and updates to client or account columns all change the version
+    private String probe(String fromClause, Object... args) {
+        String sql = """
+            SELECT COUNT(h.holding_id) AS holdings_count,
+                   MAX(h.last_updated) AS holdings_updated,
+                   MAX(s.last_price_update) AS prices_updated,
+                   COUNT(DISTINCT a.account_id) AS accounts_count,
+                   MAX(a.last_updated) AS accounts_updated,
+                   COUNT(DISTINCT c.client_id) AS clients_count,
+                   MAX(c.last_updated) AS clients_updated
+        """ + fromClause;
+
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) ->
+            rs.getLong("holdings_count") + ":"
+                + toMillis(rs.getTimestamp("holdings_updated")) + ":"
+                + toMillis(rs.getTimestamp("prices_updated")) + ":"
+                + rs.getLong("accounts_count") + ":"
+                + toMillis(rs.getTimestamp("accounts_updated")) + ":"
+                + rs.getLong("clients_count") + ":"
+                + toMillis(rs.getTimestamp("clients_updated")), args);
+    }
+
+    private long toMillis(Timestamp timestamp) {
+        return timestamp == null ? 0L : timestamp.getTime();
+    }
+}
@@ -0,0 +1,94 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.dto.response.AdvisorClientsResponse;
+import com.bny.lfdapi.dto.response.ConsolidatedHoldingsResponse;
+import com.bny.lfdapi.dto.response.domain.DomainAccountDto;
+import com.bny.lfdapi.dto.response.domain.DomainClientDto;
+import com.bny.lfdapi.dto.response.domain.DomainConsolidatedHoldings;
+import com.bny.lfdapi.dto.response.domain.DomainPage;
+import com.bny.shared.dto.response.AccountDto;
+import com.bny.shared.dto.response.ClientDto;
+import com.bny.shared.enums.AccountType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+// Renders responses in the domain API's public shape (com.bny.investing.dto) so it can forward them
+// unparsed; enum vocabularies follow the domain API's enums, and unknown values become null as they do there
+@Component
+public class DomainProfileMapper {
+
+    private static final Set<String> RISK_PROFILES = Set.of("CONSERVATIVE", "MODERATE", "AGGRESSIVE");
+    private static final Set<String> ACTIVITY_STATUSES = Set.of("ACTIVE", "INACTIVE", "DORMANT");
+    private static final Set<AccountType> ACCOUNT_TYPES = Set.of(
+        AccountType.INDIVIDUAL, AccountType.JOINT, AccountType.IRA, AccountType.TRUST, AccountType.CORPORATE);
+
+    public DomainPage<DomainClientDto> toClientsPage(AdvisorClientsResponse response) {
+        List<ClientDto> clients = response.getClients() != null ? response.getClients() : List.of();
+        int offset = response.getPageOffset() != null ? response.getPageOffset() : 0;
+        int size = response.getPageSize() != null ? response.getPageSize() : clients.size();
+        long total = response.getTotalCount() != null ? response.getTotalCount() : clients.size();
+
+        return DomainPage.<DomainClientDto>builder()
+            .content(clients.stream().map(this::toClient).toList())
+            .page(size > 0 ? offset / size : 0)
+            .size(size)
+            .totalElements(total)
+            .totalPages(size > 0 ? (int) Math.ceil((double) total / size) : 0)
+            .first(offset == 0)
+            .last(offset + clients.size() >= total)
+            .build();
+    }
+
+    public DomainConsolidatedHoldings toConsolidatedHoldings(ConsolidatedHoldingsResponse response) {
+        return DomainConsolidatedHoldings.builder()
+            .clientId(response.getClientId())
+            .accountCount(response.getAccountCount() != null ? response.getAccountCount() : 0)
+            .totalMarketValue(response.getTotalMarketValue())
+            .totalCostBasis(response.getTotalCostBasis())
+            .totalUnrealizedGainLoss(response.getTotalUnrealizedGainLoss())
+            .holdings(response.getHoldings() != null ? response.getHoldings() : List.of())
+            .build();
+    }
+
+    private DomainClientDto toClient(ClientDto client) {
+        return DomainClientDto.builder()
+            .clientId(client.getClientId())
+            .clientName(client.getClientName())
+            .advisorId(client.getAdvisorId())
+            .advisorName(client.getAdvisorName())
+            .totalMarketValue(client.getTotalMarketValue())
+            .taxId(client.getTaxId())
+            .riskProfile(vocabulary(client.getRiskProfile(), RISK_PROFILES))
+            .activityStatus(vocabulary(client.getActivityStatus(), ACTIVITY_STATUSES))
+            .lastAccessed(client.getLastAccessed())
+            .lastUpdated(client.getLastUpdated())
+            .accounts(client.getAccounts() != null
+                ? client.getAccounts().stream().map(this::toAccount).toList()
+                : List.of())
+            .build();
+    }
+
+    private DomainAccountDto toAccount(AccountDto account) {
+        return DomainAccountDto.builder()
+            .accountId(account.getAccountId())
+            .accountNumber(account.getAccountNumber())
+            .accountType(ACCOUNT_TYPES.contains(account.getAccountType()) ? account.getAccountType().name() : null)
+            .clientId(account.getClientId())
+            .clientName(account.getClientName())
+            .marketValue(account.getMarketValue())
+            .cashBalance(account.getCashBalance())
+            .ytdPerformance(account.getYtdPerformance())
+            .lastActivity(account.getLastUpdated())
+            .build();
+    }
+
+    private static String vocabulary(String value, Set<String> allowed) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.toUpperCase();
+        return allowed.contains(normalized) ? normalized : null;
+    }
+}
@@ -4,22 +4,34 @@ import com.bny.shared.dto.request.HoldingsRequest;
 import com.bny.shared.dto.response.HoldingDto;
 import com.bny.shared.dto.common.StoredProcedureRequest;
 import com.bny.shared.dto.common.StoredProcedureResponse;
+import com.bny.lfdapi.cache.HoldingsGrouper;
+import com.bny.lfdapi.cache.HoldingsSnapshot;
 import com.bny.lfdapi.dto.response.HoldingsResponse;
+import com.bny.lfdapi.model.AssetClasses;
+import com.bny.lfdapi.model.HoldingsGroupField;
+import com.bny.lfdapi.model.HoldingsSortField;
 import com.bny.lfdapi.dto.response.PortfolioSummaryResponse;
 import com.bny.lfdapi.dto.response.AssetAllocationDto;
 import com.bny.shared.exception.DatabaseOperationException;
 import com.bny.shared.service.StoredProcedureExecutor;
+import com.bny.shared.util.json.StreamingArrayWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -31,35 +43,258 @@ public class HoldingsDataService {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private HoldingsSnapshotService holdingsSnapshotService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Value("${lfd.holdings.snapshot.enabled:true}")
+    private boolean snapshotEnabled;
+
     public HoldingsResponse getAccountHoldings(HoldingsRequest request) {
+        return getAccountHoldings(request, null);
+    }
+
+    // version is the account's data version if the caller already read it, otherwise it is read here once;
+    // either way the response carries the version its rows were read at
+    public HoldingsResponse getAccountHoldings(HoldingsRequest request, String version) {
         log.debug("Getting holdings for account: {}", request.getAccountId());
         
+        HoldingsGroupField groupField = HoldingsGroupField.fromValue(request.getGroupBy());
+        
+        if (snapshotEnabled && request.getAsOfDate() == null) {
+            try {
+                return getAccountHoldingsFromSnapshot(request, groupField, version);
+            } catch (Exception e) {
+                log.warn("Holdings snapshot unavailable for account: {}, falling back to stored procedure",
+                    request.getAccountId(), e);
+            }
+        }
+        
+        if (version == null) {
+            version = dataVersionService.getHoldingsVersion(request.getAccountId());
+        }
+        HoldingsResponse response = groupField != null
+            ? getGroupedHoldingsFromStoredProcedure(request, groupField)
+            : getAccountHoldingsFromStoredProcedure(request);
+        response.setVersion(version);
+        return response;
+    }
+
+    // Same body as getAccountHoldings, but each page row is written as soon as it is produced instead of
+    // being collected first; grouped and delta requests are small and still go through the buffered path
+    public void streamAccountHoldings(HoldingsRequest request, OutputStream out) throws IOException {
+        log.debug("Streaming holdings for account: {}", request.getAccountId());
+        
+        if (request.getGroupBy() != null || request.getSince() != null) {
+            objectMapper.writeValue(out, getAccountHoldings(request));
+            return;
+        }
+        
+        StreamingArrayWriter writer = new StreamingArrayWriter(objectMapper, out, "holdings", HoldingDto.class);
+        writer.finish(streamAccountHoldingRows(request, writer::write));
+    }
+
+    // Ungrouped, non-delta requests only: page rows go to the consumer as they are produced and the returned
+    // response carries the paging totals without holdings
+    public HoldingsResponse streamAccountHoldingRows(HoldingsRequest request, Consumer<HoldingDto> rows) {
+        boolean[] started = new boolean[1];
+        Consumer<HoldingDto> tracked = holding -> {
+            started[0] = true;
+            rows.accept(holding);
+        };
+        if (snapshotEnabled && request.getAsOfDate() == null) {
+            try {
+                return streamAccountHoldingsFromSnapshot(request, tracked);
+            } catch (Exception e) {
+                if (started[0]) {
+                    throw e;
+                }
+                log.warn("Holdings snapshot unavailable for account: {}, falling back to stored procedure",
+                    request.getAccountId(), e);
+            }
+        }
+        return streamAccountHoldingsFromStoredProcedure(request, tracked);
+    }
+
+    private HoldingsResponse streamAccountHoldingsFromSnapshot(HoldingsRequest request, Consumer<HoldingDto> rows) {
+        HoldingsSnapshot snapshot = holdingsSnapshotService.getSnapshot(request.getAccountId());
+        
+        BitSet mask = snapshot.filter(request.getAssetClasses(), null);
+        int totalCount = snapshot.forEach(mask, HoldingsSortField.fromValue(request.getSortField()),
+            HoldingsSortField.isDescending(request.getSortField(), request.getSortDirection()),
+            request.getPageOffset(), request.getPageSize(), rows);
+        
+        return HoldingsResponse.builder()
+            .totalCount(totalCount)
+            .pageOffset(request.getPageOffset())
+            .pageSize(request.getPageSize())
+            .resultCode(0)
+            .dataVersion(snapshot.getDataVersion())
+            .version(snapshot.getVersion())
+            .build();
+    }
+
+    private HoldingsResponse streamAccountHoldingsFromStoredProcedure(HoldingsRequest request, Consumer<HoldingDto> rows) {
+        ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+        StoredProcedureResponse spResponse = storedProcedureExecutor.execute(holdingsProcedureRequest(request),
+            rs -> rows.accept(mapRowToHoldingDto(rowMapper.mapRow(rs, rs.getRow()))));
+        
+        return HoldingsResponse.builder()
+            .totalCount(extractTotalCount(spResponse))
+            .pageOffset(request.getPageOffset())
+            .pageSize(request.getPageSize())
+            .resultCode(spResponse.getResultCode())
+            .errorMessage(spResponse.getErrorMessage())
+            .build();
+    }
+
+    private HoldingsResponse getAccountHoldingsFromStoredProcedure(HoldingsRequest request) {
+        StoredProcedureResponse spResponse = storedProcedureExecutor.execute(holdingsProcedureRequest(request));
+        
+        List<HoldingDto> holdings = extractHoldingsFromResponse(spResponse);
+        Integer totalCount = extractTotalCount(spResponse);
+        
+        return HoldingsResponse.builder()
+            .holdings(holdings)
+            .totalCount(totalCount)
+            .pageOffset(request.getPageOffset())
+            .pageSize(request.getPageSize())
+            .resultCode(spResponse.getResultCode())
+            .errorMessage(spResponse.getErrorMessage())
+            .build();
+    }
+
+    private StoredProcedureRequest holdingsProcedureRequest(HoldingsRequest request) {
         Map<String, Object> parameters = new HashMap<>();
         parameters.put("p_account_id", request.getAccountId());
         parameters.put("p_as_of_date", request.getAsOfDate());
-        parameters.put("p_asset_classes", convertToJson(request.getAssetClasses()));
-        parameters.put("p_sort_field", request.getSortField());
-        parameters.put("p_sort_direction", request.getSortDirection());
+        parameters.put("p_asset_classes", convertToJson(new ArrayList<>(AssetClasses.normalize(request.getAssetClasses()))));
+        parameters.put("p_sort_field", HoldingsSortField.fromValue(request.getSortField()).getColumn());
+        parameters.put("p_sort_direction",
+            HoldingsSortField.isDescending(request.getSortField(), request.getSortDirection()) ? "DESC" : "ASC");
         parameters.put("p_page_offset", request.getPageOffset());
         parameters.put("p_page_size", request.getPageSize());
         
-        StoredProcedureRequest spRequest = StoredProcedureRequest.builder()
+        return StoredProcedureRequest.builder()
             .procedureName("sp_get_account_holdings")
             .parameters(parameters)
             .build();
+    }
+
+    // Groups are totalled and windowed by the procedure; only each group's page of rows comes back
+    private HoldingsResponse getGroupedHoldingsFromStoredProcedure(HoldingsRequest request, HoldingsGroupField groupField) {
+        StoredProcedureRequest procedureRequest = holdingsProcedureRequest(request);
+        procedureRequest.setProcedureName("sp_get_account_holdings_grouped");
+        procedureRequest.getParameters().put("p_group_field", groupField == HoldingsGroupField.SECTOR ? "sector" : "asset_class");
         
-        StoredProcedureResponse spResponse = storedProcedureExecutor.execute(spRequest);
+        StoredProcedureResponse spResponse = storedProcedureExecutor.execute(procedureRequest);
+        if (spResponse.getResultCode() != 0) {
+            return HoldingsResponse.builder()
+                .pageOffset(request.getPageOffset())
+                .pageSize(request.getPageSize())
+                .resultCode(spResponse.getResultCode())
+                .errorMessage(spResponse.getErrorMessage())
+                .build();
+        }
         
-        List<HoldingDto> holdings = extractHoldingsFromResponse(spResponse);
-        Integer totalCount = extractTotalCount(spResponse);
+        Map<String, Object> outputParams = spResponse.getOutputParameters() != null
+            ? spResponse.getOutputParameters()
+            : Map.of();
+        HoldingsGrouper grouper = new HoldingsGrouper((BigDecimal) outputParams.get("p_total_market_value"),
+            request.getPageOffset(), request.getPageSize());
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> rows = spResponse.getData() instanceof List
+            ? (List<Map<String, Object>>) spResponse.getData()
+            : List.of();
+        for (Map<String, Object> row : rows) {
+            String groupKey = (String) row.get("group_key");
+            grouper.addTotals(groupKey, convertToInteger(row.get("group_count")),
+                (BigDecimal) row.get("group_market_value"), (BigDecimal) row.get("group_cost_basis"));
+            if (convertToInteger(row.get("group_row")) > request.getPageOffset()) {
+                grouper.addHolding(groupKey, mapRowToHoldingDto(row));
+            }
+        }
         
         return HoldingsResponse.builder()
-            .holdings(holdings)
-            .totalCount(totalCount)
+            .holdings(new ArrayList<>())
+            .groups(grouper.build())
+            .totalCount(extractTotalCount(spResponse))
             .pageOffset(request.getPageOffset())
             .pageSize(request.getPageSize())
-            .resultCode(spResponse.getResultCode())
-            .errorMessage(spResponse.getErrorMessage())
+            .resultCode(0)
+            .build();
+    }
+
+    private HoldingsResponse getAccountHoldingsFromSnapshot(HoldingsRequest request, HoldingsGroupField groupField,
+                                                            String version) {
+        HoldingsSnapshot snapshot = version == null
+            ? holdingsSnapshotService.getSnapshot(request.getAccountId())
+            : holdingsSnapshotService.getSnapshot(request.getAccountId(), version);
+        
+        if (request.getSince() != null) {
+            HoldingsSnapshot.Delta delta = snapshot.deltaSince(request.getSince());
+            if (delta != null) {
+                return getHoldingsDelta(snapshot, delta);
+            }
+            log.debug("Unrecognised holdings version {} for account: {}, returning full holdings",
+                request.getSince(), request.getAccountId());
+        }
+        
+        return pageFromSnapshot(snapshot, request, groupField);
+    }
+
+    // Shared with the reactive read path, so both filter, sort, group and page an account's rows the same way
+    static HoldingsResponse pageFromSnapshot(HoldingsSnapshot snapshot, HoldingsRequest request,
+                                             HoldingsGroupField groupField) {
+        BitSet mask = snapshot.filter(request.getAssetClasses(), null);
+        HoldingsSortField sortField = HoldingsSortField.fromValue(request.getSortField());
+        boolean descending = HoldingsSortField.isDescending(request.getSortField(), request.getSortDirection());
+        
+        if (groupField != null) {
+            return HoldingsResponse.builder()
+                .holdings(new ArrayList<>())
+                .groups(snapshot.group(mask, groupField, sortField, descending,
+                    request.getPageOffset(), request.getPageSize()))
+                .totalCount(mask == null ? snapshot.size() : mask.cardinality())
+                .pageOffset(request.getPageOffset())
+                .pageSize(request.getPageSize())
+                .resultCode(0)
+                .dataVersion(snapshot.getDataVersion())
+            .version(snapshot.getVersion())
+                .build();
+        }
+        
+        HoldingsSnapshot.Page page = snapshot.select(
+            mask, sortField, descending, request.getPageOffset(), request.getPageSize());
+        
+        return HoldingsResponse.builder()
+            .holdings(page.getHoldings())
+            .totalCount(page.getTotalCount())
+            .pageOffset(request.getPageOffset())
+            .pageSize(request.getPageSize())
+            .resultCode(0)
+            .dataVersion(snapshot.getDataVersion())
+            .version(snapshot.getVersion())
+            .build();
+    }
+
+    // Account-wide regardless of filters and paging: upserted rows, the symbol list only when positions
+    // were removed, and fresh totals so the client can rescale portfolio percentages of rows it kept
+    private HoldingsResponse getHoldingsDelta(HoldingsSnapshot snapshot, HoldingsSnapshot.Delta delta) {
+        return HoldingsResponse.builder()
+            .holdings(delta.getUpserts())
+            .holdingIds(delta.getHoldingIds())
+            .totalCount(snapshot.size())
+            .totalMarketValue(snapshot.getTotalMarketValue())
+            .totalCostBasis(snapshot.getTotalCostBasis())
+            .pageOffset(0)
+            .pageSize(delta.getUpserts().size())
+            .resultCode(0)
+            .dataVersion(snapshot.getDataVersion())
+            .version(snapshot.getVersion())
+            .delta(true)
             .build();
     }
 
@@ -105,6 +340,7 @@ public class HoldingsDataService {
 
     private HoldingDto mapRowToHoldingDto(Map<String, Object> row) {
         return HoldingDto.builder()
+            .holdingId((String) row.get("holding_id"))
             .accountId((String) row.get("account_id"))
             .symbol((String) row.get("symbol"))
             .securityName((String) row.get("security_name"))
@@ -0,0 +1,127 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.cache.HoldingsSnapshot;
+import com.bny.lfdapi.cache.HoldingsSnapshotCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class HoldingsSnapshotService {
+
+    static final String SNAPSHOT_COLUMNS = """
+            SELECT h.holding_id, h.symbol, s.security_name, s.sector, s.asset_class,
+                   h.quantity, s.current_price, h.cost_basis,
+                   s.price_change, s.price_change_percent, h.purchase_date,
+                   CAST(s.last_price_update AS DATE) AS price_date, h.last_updated, s.last_price_update
+            FROM holdings h
+            JOIN securities s ON h.symbol = s.symbol
+        """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private HoldingsSnapshotCache snapshotCache;
+
+    public HoldingsSnapshot getSnapshot(String accountId) {
+        return getSnapshot(accountId, dataVersionService.getHoldingsVersion(accountId));
+    }
+
+    // For callers that already read the account's version, e.g. to check an ETag
+    public HoldingsSnapshot getSnapshot(String accountId, String version) {
+        HoldingsSnapshot snapshot = snapshotCache.get(accountId, version);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        HoldingsSnapshot stale = snapshotCache.getStale(accountId);
+        snapshot = stale == null ? null : refreshSnapshot(stale, version);
+        if (snapshot == null) {
+            snapshot = loadSnapshot(accountId, version);
+            log.debug("Loaded holdings snapshot for account: {} ({} positions, version {})",
+                accountId, snapshot.size(), version);
+        }
+        snapshotCache.put(snapshot);
+        return snapshot;
+    }
+
+    private HoldingsSnapshot loadSnapshot(String accountId, String version) {
+        HoldingsSnapshot.Builder builder = HoldingsSnapshot.builder();
+        jdbcTemplate.query(SNAPSHOT_COLUMNS + " WHERE h.account_id = ?",
+            (RowCallbackHandler) rs -> addRow(builder, rs), accountId);
+        return builder.build(accountId, version);
+    }
+
+    // Re-reads only the rows stamped at or after the stale snapshot's watermarks and patches them in;
+    // removals leave no trace in the timestamps, so the account's holding ids are re-read to find them
+    private HoldingsSnapshot refreshSnapshot(HoldingsSnapshot stale, String version) {
+        String accountId = stale.getAccountId();
+        HoldingsSnapshot.Builder changed = HoldingsSnapshot.builder();
+        jdbcTemplate.query(SNAPSHOT_COLUMNS + " WHERE h.account_id = ? AND (h.last_updated >= ? OR s.last_price_update >= ?)",
+            (RowCallbackHandler) rs -> addRow(changed, rs),
+            accountId, new Timestamp(stale.getHoldingsWatermark()), new Timestamp(stale.getPricesWatermark()));
+        HoldingsSnapshot changes = changed.build(accountId, version);
+
+        Set<String> current = new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT holding_id FROM holdings WHERE account_id = ?", String.class, accountId));
+        Set<String> replaced = new HashSet<>(changes.getHoldingIds());
+        int removed = 0;
+        for (String holdingId : stale.getHoldingIds()) {
+            if (!current.contains(holdingId)) {
+                replaced.add(holdingId);
+                removed++;
+            }
+        }
+
+        HoldingsSnapshot.Builder builder = stale.toBuilder(replaced);
+        for (int row = 0; row < changes.size(); row++) {
+            builder.copyRow(changes, row);
+        }
+        HoldingsSnapshot snapshot = builder.build(accountId, version);
+        // A row written between the two reads: start over from a full load
+        if (snapshot.size() != current.size() || !current.containsAll(changes.getHoldingIds())) {
+            return null;
+        }
+        log.debug("Refreshed holdings snapshot for account: {} ({} changed, {} removed, version {})",
+            accountId, changes.size(), removed, version);
+        return snapshot;
+    }
+
+    private static void addRow(HoldingsSnapshot.Builder builder, ResultSet rs) throws SQLException {
+        Timestamp purchaseDate = rs.getTimestamp("purchase_date");
+        Date priceDate = rs.getDate("price_date");
+        builder.add(
+            rs.getString("holding_id"),
+            rs.getString("symbol"),
+            rs.getString("security_name"),
+            rs.getString("sector"),
+            rs.getString("asset_class"),
+            rs.getBigDecimal("quantity"),
+            rs.getBigDecimal("current_price"),
+            rs.getBigDecimal("cost_basis"),
+            rs.getBigDecimal("price_change"),
+            rs.getBigDecimal("price_change_percent"),
+            purchaseDate == null ? null : purchaseDate.toLocalDateTime().toLocalDate(),
+            priceDate == null ? null : priceDate.toLocalDate(),
+            toMillis(rs.getTimestamp("last_updated")),
+            toMillis(rs.getTimestamp("last_price_update")));
+    }
+
+    private static long toMillis(Timestamp timestamp) {
+        return timestamp == null ? 0L : timestamp.getTime();
+    }
+}
@@ -0,0 +1,321 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.cache.HoldingsSnapshot;
+import com.bny.lfdapi.dto.response.AdvisorClientsResponse;
+import com.bny.lfdapi.dto.response.AssetAllocationDto;
+import com.bny.lfdapi.dto.response.HoldingsResponse;
+import com.bny.lfdapi.dto.response.PortfolioSummaryResponse;
+import com.bny.lfdapi.model.HoldingsGroupField;
+import com.bny.lfdapi.model.HoldingsSortField;
+import com.bny.shared.dto.request.HoldingsRequest;
+import com.bny.shared.dto.response.AccountDto;
+import com.bny.shared.dto.response.ClientDto;
+import com.bny.shared.enums.AccountType;
+import com.bny.shared.enums.RiskProfile;
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import com.bny.lfdapi.security.InternalRequestContext;
+import com.bny.lfdapi.security.InternalSecurityContextHolder;
+import com.bny.lfdapi.workload.ConnectionGate;
+import com.bny.lfdapi.workload.WorkloadClass;
+import com.bny.lfdapi.workload.WorkloadContextHolder;
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+// Reads run on their own R2DBC pool but under the same rules as the JDBC path: every query holds a
+// ConnectionGate permit for the caller's workload class (taken without waiting, so an exhausted gate fails
+// fast), the request deadline bounds the whole read, and a cancel for the request id aborts it.
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveReadService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final BigDecimal PORTFOLIO_BETA = new BigDecimal("1.0");
+    private static final BigDecimal ANNUAL_DIVIDEND_YIELD = new BigDecimal("2.5");
+
+    private static final String ADVISOR_CLIENTS_PAGE = """
+        SELECT c.client_id, c.client_name, c.advisor_id, c.tax_id, c.created_date, c.last_updated
+        FROM clients c
+        WHERE c.advisor_id = :advisorId
+        ORDER BY c.client_name
+        LIMIT :pageSize OFFSET :pageOffset
+    """;
+
+    @Autowired
+    private DatabaseClient reactiveDatabaseClient;
+
+    @Autowired
+    private ConnectionGate connectionGate;
+
+    @Autowired
+    private StatementCancellationRegistry cancellationRegistry;
+
+    public Mono<AccountDto> getAccountById(String accountId) {
+        log.debug("Getting account details (reactive) for account: {}", accountId);
+
+        return governed(workloadClass -> gated(workloadClass, reactiveDatabaseClient.sql(AccountDataService.ACCOUNT_SELECT + " WHERE a.account_id = :accountId")
+            .bind("accountId", accountId)
+            .map(this::mapAccount)
+            .one()));
+    }
+
+    // Same filter, sort and grouping as the JDBC snapshot path. No version is read here, so the response
+    // carries none and a since request gets the full page
+    public Mono<HoldingsResponse> getHoldingsPage(HoldingsRequest request) {
+        log.debug("Getting holdings page (reactive) for account: {}", request.getAccountId());
+
+        HoldingsGroupField groupField = HoldingsGroupField.fromValue(request.getGroupBy());
+        return governed(workloadClass -> snapshot(workloadClass, request.getAccountId()).map(snapshot -> {
+            HoldingsResponse response = HoldingsDataService.pageFromSnapshot(snapshot, request, groupField);
+            response.setDataVersion(null);
+            response.setVersion(null);
+            return response;
+        }));
+    }
+
+    public Mono<PortfolioSummaryResponse> getPortfolioSummary(String accountId) {
+        log.debug("Getting portfolio summary (reactive) for account: {}", accountId);
+
+        return governed(workloadClass -> snapshot(workloadClass, accountId).map(snapshot -> portfolioSummary(accountId, snapshot)));
+    }
+
+    // Totals and allocation as sp_get_portfolio_summary computes them, grouped by the snapshot's grouper
+    private PortfolioSummaryResponse portfolioSummary(String accountId, HoldingsSnapshot snapshot) {
+        BigDecimal marketValue = snapshot.getTotalMarketValue();
+        BigDecimal costBasis = snapshot.getTotalCostBasis();
+        BigDecimal gainLoss = marketValue.subtract(costBasis);
+        List<AssetAllocationDto> assetAllocation = snapshot.group(null, HoldingsGroupField.ASSET_CLASS,
+                HoldingsSortField.MARKET_VALUE, true, 0, 0).stream()
+            .map(group -> AssetAllocationDto.builder()
+                .assetClass(group.getGroupKey())
+                .marketValue(group.getMarketValue())
+                .percentage(group.getWeight())
+                .holdingsCount(group.getHoldingsCount())
+                .build())
+            .toList();
+
+        return PortfolioSummaryResponse.builder()
+            .accountId(accountId)
+            .totalMarketValue(marketValue)
+            .totalCostBasis(costBasis)
+            .totalUnrealizedGainLoss(gainLoss)
+            .totalUnrealizedGainLossPercent(costBasis.signum() > 0
+                ? gainLoss.multiply(HUNDRED).divide(costBasis, 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO)
+            .portfolioBeta(PORTFOLIO_BETA)
+            .annualDividendYield(ANNUAL_DIVIDEND_YIELD)
+            .holdingsCount(snapshot.size())
+            .assetAllocation(assetAllocation)
+            .resultCode(0)
+            .build();
+    }
+
+    public Mono<AdvisorClientsResponse> getAdvisorClients(String advisorId, int pageOffset, int pageSize) {
+        log.debug("Getting clients (reactive) for advisor: {} with page offset: {}, page size: {}",
+            advisorId, pageOffset, pageSize);
+
+        return governed(workloadClass -> advisorClients(workloadClass, advisorId, pageOffset, pageSize));
+    }
+
+    private Mono<AdvisorClientsResponse> advisorClients(WorkloadClass workloadClass, String advisorId, int pageOffset, int pageSize) {
+        Mono<Long> totalCount = gated(workloadClass, reactiveDatabaseClient.sql("SELECT COUNT(*) AS total_count FROM clients WHERE advisor_id = :advisorId")
+            .bind("advisorId", advisorId)
+            .map(row -> row.get("total_count", Long.class))
+            .one());
+
+        Mono<List<ClientDto>> clients = gated(workloadClass, reactiveDatabaseClient.sql(ADVISOR_CLIENTS_PAGE)
+            .bind("advisorId", advisorId)
+            .bind("pageSize", pageSize)
+            .bind("pageOffset", pageOffset)
+            .map(row -> ClientDto.builder()
+                .clientId(row.get("client_id", String.class))
+                .clientName(row.get("client_name", String.class))
+                .advisorId(row.get("advisor_id", String.class))
+                .advisorName("Unknown Advisor")
+                .taxId(row.get("tax_id", String.class))
+                .createdDate(row.get("created_date", LocalDateTime.class))
+                .lastUpdated(row.get("last_updated", LocalDateTime.class))
+                .build())
+            .all()
+            .collectList())
+            .flatMap(page -> attachAccounts(workloadClass, page));
+
+        return Mono.zip(totalCount, clients).map(result -> AdvisorClientsResponse.builder()
+            .clients(result.getT2())
+            .totalCount(result.getT1().intValue())
+            .pageOffset(pageOffset)
+            .pageSize(pageSize)
+            .resultCode(0)
+            .build());
+    }
+
+    private Mono<List<ClientDto>> attachAccounts(WorkloadClass workloadClass, List<ClientDto> clients) {
+        if (clients.isEmpty()) {
+            return Mono.just(clients);
+        }
+
+        Map<String, ClientDto> byId = new LinkedHashMap<>();
+        clients.forEach(client -> {
+            client.setAccounts(new ArrayList<>());
+            client.setAccountCount(0);
+            client.setTotalMarketValue(BigDecimal.ZERO);
+            byId.put(client.getClientId(), client);
+        });
+
+        return gated(workloadClass, reactiveDatabaseClient.sql(AccountDataService.ACCOUNT_SELECT
+                + " WHERE a.client_id IN (:clientIds) ORDER BY a.account_number")
+            .bind("clientIds", new ArrayList<>(byId.keySet()))
+            .map(this::mapAccount)
+            .all()
+            .doOnNext(account -> {
+                ClientDto client = byId.get(account.getClientId());
+                client.getAccounts().add(account);
+                client.setAccountCount(client.getAccountCount() + 1);
+                if (account.getMarketValue() != null) {
+                    client.setTotalMarketValue(client.getTotalMarketValue().add(account.getMarketValue()));
+                }
+            })
+            .then(Mono.just(clients)));
+    }
+
+    // The account's rows as HoldingsSnapshotService reads them, built into an uncached snapshot
+    private Mono<HoldingsSnapshot> snapshot(WorkloadClass workloadClass, String accountId) {
+        return Mono.defer(() -> {
+            HoldingsSnapshot.Builder builder = HoldingsSnapshot.builder();
+            return gated(workloadClass, reactiveDatabaseClient.sql(HoldingsSnapshotService.SNAPSHOT_COLUMNS + " WHERE h.account_id = :accountId")
+                .bind("accountId", accountId)
+                .map(row -> addRow(builder, row))
+                .all()
+                .then(Mono.fromSupplier(() -> builder.build(accountId, null))));
+        });
+    }
+
+    // Called on the request thread, where the request context and workload class are still visible
+    private <T> Mono<T> governed(Function<WorkloadClass, Mono<T>> read) {
+        InternalRequestContext context = InternalSecurityContextHolder.getContext();
+        Mono<T> result = read.apply(WorkloadContextHolder.current());
+        if (context == null) {
+            return result;
+        }
+        String requestId = context.getRequestId();
+        Long remainingMillis = context.remainingMillis();
+        if (remainingMillis != null) {
+            if (remainingMillis <= 0) {
+                return Mono.error(new QueryTimeoutException("Deadline for request " + requestId + " expired before the read ran"));
+            }
+            result = result.timeout(Duration.ofMillis(remainingMillis),
+                Mono.error(() -> new QueryTimeoutException("Deadline for request " + requestId + " expired during the read")));
+        }
+        Mono<T> bounded = result;
+        return Mono.defer(() -> {
+            Sinks.One<T> cancelled = Sinks.one();
+            Runnable cancel = () -> cancelled.tryEmitError(
+                new TransientDataAccessResourceException("Request " + requestId + " was cancelled"));
+            if (!cancellationRegistry.onCancel(requestId, cancel)) {
+                return Mono.error(new TransientDataAccessResourceException("Request " + requestId + " was cancelled"));
+            }
+            return Mono.firstWithSignal(bounded, cancelled.asMono())
+                .doFinally(signal -> cancellationRegistry.removeOnCancel(requestId, cancel));
+        });
+    }
+
+    private <T> Mono<T> gated(WorkloadClass workloadClass, Mono<T> query) {
+        return Mono.defer(() -> {
+            if (!connectionGate.tryAcquire(workloadClass)) {
+                return Mono.error(new TransientDataAccessResourceException(
+                    "No " + workloadClass + " connection available for a reactive read"));
+            }
+            // Released before the result is passed on, so the caller's next query can reuse the permit
+            AtomicBoolean held = new AtomicBoolean(true);
+            Runnable release = () -> {
+                if (held.compareAndSet(true, false)) {
+                    connectionGate.release(workloadClass);
+                }
+            };
+            return query.doOnTerminate(release).doOnCancel(release);
+        });
+    }
+
+    private AccountDto mapAccount(Readable row) {
+        return AccountDto.builder()
+            .accountId(row.get("account_id", String.class))
+            .accountNumber(row.get("account_number", String.class))
+            .accountType(parseAccountType(row.get("account_type", String.class)))
+            .clientId(row.get("client_id", String.class))
+            .clientName(row.get("client_name", String.class))
+            .marketValue(row.get("market_value", BigDecimal.class))
+            .cashBalance(row.get("cash_balance", BigDecimal.class))
+            .ytdPerformance(row.get("ytd_performance", BigDecimal.class))
+            .riskProfile(parseRiskProfile(row.get("risk_profile", String.class)))
+            .lastUpdated(row.get("last_updated", LocalDateTime.class))
+            .build();
+    }
+
+    private static HoldingsSnapshot.Builder addRow(HoldingsSnapshot.Builder builder, Readable row) {
+        LocalDateTime purchaseDate = row.get("purchase_date", LocalDateTime.class);
+        return builder.add(
+            row.get("holding_id", String.class),
+            row.get("symbol", String.class),
+            row.get("security_name", String.class),
+            row.get("sector", String.class),
+            row.get("asset_class", String.class),
+            row.get("quantity", BigDecimal.class),
+            row.get("current_price", BigDecimal.class),
+            row.get("cost_basis", BigDecimal.class),
+            row.get("price_change", BigDecimal.class),
+            row.get("price_change_percent", BigDecimal.class),
+            purchaseDate == null ? null : purchaseDate.toLocalDate(),
+            row.get("price_date", LocalDate.class),
+            toMillis(row.get("last_updated", LocalDateTime.class)),
+            toMillis(row.get("last_price_update", LocalDateTime.class)));
+    }
+
+    private static long toMillis(LocalDateTime timestamp) {
+        return timestamp == null ? 0L : Timestamp.valueOf(timestamp).getTime();
+    }
+
+    private AccountType parseAccountType(String accountTypeStr) {
+        if (accountTypeStr == null) {
+            return null;
+        }
+        try {
+            return AccountType.valueOf(accountTypeStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid account type value: {}", accountTypeStr);
+            return null;
+        }
+    }
+
+    private RiskProfile parseRiskProfile(String riskProfileStr) {
+        if (riskProfileStr == null) {
+            return null;
+        }
+        try {
+            return RiskProfile.valueOf(riskProfileStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid risk profile value: {}", riskProfileStr);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bny.lfdapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class TableVersionService {
+
+    private static final String VERSIONS_SQL =
+        "SELECT table_name, slot, version FROM table_versions";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final long retryAfterMillis;
+    private volatile long unavailableUntil;
+
+    public TableVersionService(@Value("${lfd.procedure-cache.versions-retry-ms:60000}") long retryAfterMillis) {
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    // Null while the counters cannot be read (e.g. 06-table-versions.sql not applied): the procedure cache
+    // bypasses itself and data versions fall back to timestamps only.
+    // The table holds at most SLOTS rows per tracked table, so reading it whole is cheaper than a probe per key
+    public TableVersions getVersions() {
+        if (System.currentTimeMillis() < unavailableUntil) {
+            return null;
+        }
+        try {
+            TableVersions versions = new TableVersions();
+            jdbcTemplate.query(VERSIONS_SQL, rs -> {
+                versions.set(rs.getString("table_name"), rs.getInt("slot"), rs.getLong("version"));
+            });
+            return versions;
+        } catch (DataAccessException e) {
+            log.warn("Table version counters unavailable, procedure cache and data versions skip them for {} ms: {}",
+                retryAfterMillis, e.getMessage());
+            unavailableUntil = System.currentTimeMillis() + retryAfterMillis;
+            return null;
+        }
+    }
+}
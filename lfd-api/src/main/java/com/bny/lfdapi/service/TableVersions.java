@@ -0,0 +1,46 @@
+package com.bny.lfdapi.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+// Snapshot of the table_versions counters. Slots are computed the same way as sp_bump_table_versions
+// (CRC32 of the key modulo SLOTS), so callers can address the counters of the keys they depend on.
+public class TableVersions {
+
+    public static final int SLOTS = 16;
+
+    private final Map<String, long[]> counters = new HashMap<>();
+
+    void set(String table, int slot, long version) {
+        counters.computeIfAbsent(table, name -> new long[SLOTS])[slot] = version;
+    }
+
+    public static int slotOf(String key) {
+        CRC32 crc = new CRC32();
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % SLOTS);
+    }
+
+    public long get(String table, int slot) {
+        long[] slots = counters.get(table);
+        return slots == null ? 0 : slots[slot];
+    }
+
+    public long sum(String table) {
+        long[] slots = counters.get(table);
+        return slots == null ? 0 : Arrays.stream(slots).sum();
+    }
+
+    // Each counter only grows, so the sum changes whenever any of the addressed slots is bumped
+    public long sum(String table, Collection<Integer> slots) {
+        long total = 0;
+        for (int slot : slots) {
+            total += get(table, slot);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,134 @@
+package com.bny.lfdapi.workload;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class ConnectionGate {
+
+    private final int totalPermits;
+    private final long acquireTimeoutNanos;
+    private final int[] quotas = new int[WorkloadClass.values().length];
+    private final int[] inUse = new int[WorkloadClass.values().length];
+    private final int[] waiting = new int[WorkloadClass.values().length];
+    private final Map<WorkloadClass, Timer> waitTimers = new EnumMap<>(WorkloadClass.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private int totalInUse;
+
+    @Autowired
+    public ConnectionGate(
+            @Value("${lfd.workload.max-connections:${spring.datasource.hikari.maximum-pool-size:50}}") int totalPermits,
+            @Value("${lfd.workload.bulk.max-connections:10}") int bulkQuota,
+            @Value("${lfd.workload.background.max-connections:5}") int backgroundQuota,
+            @Value("${lfd.workload.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+            MeterRegistry meterRegistry) {
+        this.totalPermits = totalPermits;
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+        quotas[WorkloadClass.INTERACTIVE.ordinal()] = totalPermits;
+        quotas[WorkloadClass.BULK.ordinal()] = Math.min(bulkQuota, totalPermits);
+        quotas[WorkloadClass.BACKGROUND.ordinal()] = Math.min(backgroundQuota, totalPermits);
+
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            String tag = workloadClass.name().toLowerCase();
+            waitTimers.put(workloadClass, Timer.builder("lfd.workload.connection.wait")
+                .tag("class", tag)
+                .register(meterRegistry));
+            Gauge.builder("lfd.workload.connections.active", this, gate -> gate.getInUse(workloadClass))
+                .tag("class", tag)
+                .register(meterRegistry);
+            Gauge.builder("lfd.workload.connections.utilization", this, gate -> gate.getUtilization(workloadClass))
+                .tag("class", tag)
+                .register(meterRegistry);
+        }
+    }
+
+    public void acquire(WorkloadClass workloadClass) throws SQLTransientConnectionException {
+        int slot = workloadClass.ordinal();
+        long start = System.nanoTime();
+        long remaining = acquireTimeoutNanos;
+        lock.lock();
+        waiting[slot]++;
+        try {
+            while (!canGrant(slot)) {
+                if (remaining <= 0) {
+                    throw new SQLTransientConnectionException("Timed out waiting for a " + workloadClass
+                        + " connection after " + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + " ms");
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            inUse[slot]++;
+            totalInUse++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for a " + workloadClass + " connection", e);
+        } finally {
+            waiting[slot]--;
+            lock.unlock();
+            waitTimers.get(workloadClass).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // For callers that must not block a thread waiting (reactive reads): grants only what is free right now
+    public boolean tryAcquire(WorkloadClass workloadClass) {
+        int slot = workloadClass.ordinal();
+        lock.lock();
+        try {
+            if (!canGrant(slot)) {
+                return false;
+            }
+            inUse[slot]++;
+            totalInUse++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(WorkloadClass workloadClass) {
+        lock.lock();
+        try {
+            inUse[workloadClass.ordinal()]--;
+            totalInUse--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInUse(WorkloadClass workloadClass) {
+        lock.lock();
+        try {
+            return inUse[workloadClass.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getUtilization(WorkloadClass workloadClass) {
+        return (double) getInUse(workloadClass) / quotas[workloadClass.ordinal()];
+    }
+
+    private boolean canGrant(int slot) {
+        if (totalInUse >= totalPermits || inUse[slot] >= quotas[slot]) {
+            return false;
+        }
+        for (int higher = 0; higher < slot; higher++) {
+            if (waiting[higher] > 0 && inUse[higher] < quotas[higher]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+package com.bny.lfdapi.workload;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class WorkloadAwareDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final ConnectionGate connectionGate;
+
+    public WorkloadAwareDataSource(DataSource targetDataSource, ConnectionGate connectionGate) {
+        super(targetDataSource);
+        this.connectionGate = connectionGate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        WorkloadClass workloadClass = WorkloadContextHolder.current();
+        connectionGate.acquire(workloadClass);
+        try {
+            return gated(obtainTargetDataSource().getConnection(), workloadClass);
+        } catch (SQLException | RuntimeException e) {
+            connectionGate.release(workloadClass);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        WorkloadClass workloadClass = WorkloadContextHolder.current();
+        connectionGate.acquire(workloadClass);
+        try {
+            return gated(obtainTargetDataSource().getConnection(username, password), workloadClass);
+        } catch (SQLException | RuntimeException e) {
+            connectionGate.release(workloadClass);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection gated(Connection connection, WorkloadClass workloadClass) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                    connectionGate.release(workloadClass);
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+}
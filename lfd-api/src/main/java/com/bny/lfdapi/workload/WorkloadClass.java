@@ -0,0 +1,19 @@
+package com.bny.lfdapi.workload;
+
+public enum WorkloadClass {
+    INTERACTIVE,
+    BULK,
+    BACKGROUND;
+
+    public static WorkloadClass fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return INTERACTIVE;
+        }
+        for (WorkloadClass workloadClass : values()) {
+            if (workloadClass.name().equalsIgnoreCase(value.trim())) {
+                return workloadClass;
+            }
+        }
+        return INTERACTIVE;
+    }
+}
@@ -0,0 +1,29 @@
+package com.bny.lfdapi.workload;
+
+import com.bny.lfdapi.security.InternalRequestContext;
+import com.bny.lfdapi.security.InternalSecurityContextHolder;
+
+public class WorkloadContextHolder {
+
+    private static final ThreadLocal<WorkloadClass> workloadHolder = new ThreadLocal<>();
+
+    public static void set(WorkloadClass workloadClass) {
+        workloadHolder.set(workloadClass);
+    }
+
+    public static WorkloadClass current() {
+        WorkloadClass workloadClass = workloadHolder.get();
+        if (workloadClass != null) {
+            return workloadClass;
+        }
+        InternalRequestContext context = InternalSecurityContextHolder.getContext();
+        if (context != null && context.getWorkloadClass() != null) {
+            return context.getWorkloadClass();
+        }
+        return WorkloadClass.INTERACTIVE;
+    }
+
+    public static void clear() {
+        workloadHolder.remove();
+    }
+}
@@ -0,0 +1,190 @@
+package com.bny.lfdapi.cache;
+
+import com.bny.lfdapi.service.TableVersionService;
+import com.bny.lfdapi.service.TableVersions;
+import com.bny.shared.dto.common.StoredProcedureRequest;
+import com.bny.shared.dto.common.StoredProcedureResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SuppressWarnings("unchecked")
+class CachingStoredProcedureExecutorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingStoredProcedureExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:procedure_cache;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("""
+            CREATE TABLE table_versions (table_name VARCHAR(64) NOT NULL, slot TINYINT NOT NULL,
+                version BIGINT NOT NULL, PRIMARY KEY (table_name, slot))
+        """);
+        jdbcTemplate.execute("CREATE TABLE holdings (account_id VARCHAR(50), symbol VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE clients (client_id VARCHAR(50), advisor_id VARCHAR(50))");
+        jdbcTemplate.update("INSERT INTO holdings VALUES ('ACC001', 'AAPL'), ('ACC002', 'MSFT')");
+        jdbcTemplate.update("INSERT INTO clients VALUES ('CLI001', 'ADV001')");
+        bump("holdings", "ACC001");
+        bump("clients", "ADV001");
+
+        TableVersionService tableVersionService = new TableVersionService(60_000);
+        ReflectionTestUtils.setField(tableVersionService, "jdbcTemplate", jdbcTemplate);
+        meterRegistry = new SimpleMeterRegistry();
+        // Stub the database leg; the one-argument execute under test delegates to it
+        executor = spy(new CachingStoredProcedureExecutor(tableVersionService, true, 100, meterRegistry));
+        doReturn(rows(2)).when(executor).execute(any(StoredProcedureRequest.class), isNull());
+        ReflectionTestUtils.setField(executor, "jdbcTemplate", jdbcTemplate);
+    }
+
+    @Test
+    void equivalentParametersShareOneEntry() {
+        StoredProcedureResponse first = executor.execute(holdings(Map.of("p_account_id", "ACC001", "p_min_value", new BigDecimal("10.50"))));
+        StoredProcedureResponse second = executor.execute(holdings(Map.of("P_MIN_VALUE", new BigDecimal("10.5"), "p_account_id", "ACC001")));
+
+        assertThat(second.getData()).isEqualTo(first.getData());
+        verify(executor, times(1)).execute(any(StoredProcedureRequest.class), isNull());
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("lfd.procedure.cache.rows").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void hitsHandOutCopiesTheCallerCanChange() {
+        Map<String, Object> row = new HashMap<>(Map.of("symbol", "AAPL", "last_price_update", new Timestamp(1_000L)));
+        doReturn(StoredProcedureResponse.success(new ArrayList<>(List.of(row))))
+            .when(executor).execute(any(StoredProcedureRequest.class), isNull());
+
+        StoredProcedureResponse first = executor.execute(holdings(Map.of("p_account_id", "ACC001")));
+        row.put("symbol", "MSFT");
+        StoredProcedureResponse second = executor.execute(holdings(Map.of("p_account_id", "ACC001")));
+        List<Map<String, Object>> secondRows = (List<Map<String, Object>>) second.getData();
+        ((Timestamp) secondRows.get(0).get("last_price_update")).setTime(2_000L);
+        secondRows.clear();
+        StoredProcedureResponse third = executor.execute(holdings(Map.of("p_account_id", "ACC001")));
+
+        assertThat(requests("hit")).isEqualTo(2);
+        assertThat((List<Map<String, Object>>) third.getData()).singleElement().satisfies(cached -> {
+            assertThat(cached.get("symbol")).isEqualTo("AAPL");
+            assertThat(cached.get("last_price_update")).isEqualTo(new Timestamp(1_000L));
+        });
+        assertThat(first.getData()).isNotSameAs(third.getData());
+    }
+
+    @Test
+    void holdingsWriteOnlyRetiresThatAccountsEntries() {
+        executor.execute(holdings(Map.of("p_account_id", "ACC001")));
+        executor.execute(holdings(Map.of("p_account_id", "ACC002")));
+        executor.execute(advisorClients());
+
+        bump("holdings", "ACC001");
+        executor.execute(holdings(Map.of("p_account_id", "ACC001")));
+        executor.execute(holdings(Map.of("p_account_id", "ACC002")));
+        executor.execute(advisorClients());
+
+        verify(executor, times(4)).execute(any(StoredProcedureRequest.class), isNull());
+        assertThat(requests("hit")).isEqualTo(2);
+    }
+
+    @Test
+    void priceTickOnlyRetiresAccountsHoldingTheSymbol() {
+        executor.execute(holdings(Map.of("p_account_id", "ACC001")));
+        executor.execute(holdings(Map.of("p_account_id", "ACC002")));
+        executor.execute(advisorClients());
+
+        bump("securities", "AAPL");
+        executor.execute(holdings(Map.of("p_account_id", "ACC001")));
+        executor.execute(holdings(Map.of("p_account_id", "ACC002")));
+        executor.execute(advisorClients());
+
+        verify(executor, times(4)).execute(any(StoredProcedureRequest.class), isNull());
+        assertThat(requests("miss")).isEqualTo(4);
+    }
+
+    @Test
+    void accountWriteForAnAdvisorsClientRetiresTheClientList() {
+        executor.execute(advisorClients());
+
+        bump("accounts", "CLI001");
+        executor.execute(advisorClients());
+        bump("accounts", "CLI002");
+        executor.execute(advisorClients());
+
+        verify(executor, times(2)).execute(any(StoredProcedureRequest.class), isNull());
+        assertThat(requests("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void failedCallsAreNotCached() {
+        doReturn(StoredProcedureResponse.error(-1, "deadlock")).when(executor).execute(any(StoredProcedureRequest.class), isNull());
+
+        executor.execute(advisorClients());
+        executor.execute(advisorClients());
+
+        verify(executor, times(2)).execute(any(StoredProcedureRequest.class), isNull());
+        assertThat(meterRegistry.get("lfd.procedure.cache.entries").gauge().value()).isZero();
+    }
+
+    @Test
+    void bypassesWhenVersionCountersAreMissing() {
+        jdbcTemplate.execute("DROP TABLE table_versions");
+
+        executor.execute(advisorClients());
+        executor.execute(advisorClients());
+
+        verify(executor, times(2)).execute(any(StoredProcedureRequest.class), isNull());
+        assertThat(requests("bypass")).isEqualTo(2);
+    }
+
+    private void bump(String table, String key) {
+        int slot = TableVersions.slotOf(key);
+        if (jdbcTemplate.update("UPDATE table_versions SET version = version + 1 WHERE table_name = ? AND slot = ?", table, slot) == 0) {
+            jdbcTemplate.update("INSERT INTO table_versions VALUES (?, ?, 1)", table, slot);
+        }
+    }
+
+    private double requests(String result) {
+        return meterRegistry.find("lfd.procedure.cache.requests").tag("result", result).counters().stream()
+            .mapToDouble(counter -> counter.count())
+            .sum();
+    }
+
+    private static StoredProcedureRequest holdings(Map<String, Object> parameters) {
+        return StoredProcedureRequest.builder().procedureName("sp_get_account_holdings").parameters(parameters).build();
+    }
+
+    private static StoredProcedureRequest advisorClients() {
+        return StoredProcedureRequest.builder()
+            .procedureName("sp_get_advisor_clients")
+            .parameters(Map.of("p_advisor_id", "ADV001", "p_page_offset", 0, "p_page_size", 50))
+            .build();
+    }
+
+    private static StoredProcedureResponse rows(int count) {
+        return StoredProcedureResponse.builder()
+            .resultCode(0)
+            .data(Collections.nCopies(count, Map.of("symbol", "AAPL")))
+            .build();
+    }
+}
@@ -0,0 +1,251 @@
+package com.bny.lfdapi.cache;
+
+import com.bny.lfdapi.model.HoldingsGroupField;
+import com.bny.lfdapi.model.HoldingsSortField;
+import com.bny.shared.dto.response.HoldingDto;
+import com.bny.shared.dto.response.HoldingGroupDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HoldingsSnapshotTest {
+
+    private HoldingsSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = HoldingsSnapshot.builder()
+            .add("AAPL", "Apple Inc.", "Technology", "EQUITY",
+                new BigDecimal("100"), new BigDecimal("150.00"), new BigDecimal("12000"),
+                new BigDecimal("1.50"), new BigDecimal("1.01"), LocalDate.of(2023, 1, 15))
+            .add("BND", "Vanguard Total Bond Market ETF", null, "FIXED_INCOME",
+                new BigDecimal("180"), new BigDecimal("75.00"), new BigDecimal("16000"),
+                null, null, null)
+            .add("MSFT", "Microsoft Corporation", "Technology", "EQUITY",
+                new BigDecimal("10"), new BigDecimal("300.00"), new BigDecimal("2500"),
+                new BigDecimal("-2.00"), new BigDecimal("-0.66"), LocalDate.of(2022, 6, 1))
+            .build("account123", "3:0:0");
+    }
+
+    @Test
+    void select_DefaultSort_OrdersByMarketValueDescending() {
+        HoldingsSnapshot.Page page = snapshot.select(null, HoldingsSortField.MARKET_VALUE, true, 0, 50);
+
+        assertThat(page.getTotalCount()).isEqualTo(3);
+        assertThat(page.getHoldings()).extracting(HoldingDto::getSymbol)
+            .containsExactly("AAPL", "BND", "MSFT");
+    }
+
+    @Test
+    void select_SortBySymbolAscending_WithPaging() {
+        HoldingsSnapshot.Page page = snapshot.select(null, HoldingsSortField.SYMBOL, false, 1, 1);
+
+        assertThat(page.getTotalCount()).isEqualTo(3);
+        assertThat(page.getHoldings()).extracting(HoldingDto::getSymbol).containsExactly("BND");
+    }
+
+    @Test
+    void select_FilterByAssetClass_CountsFilteredRows() {
+        BitSet mask = snapshot.filter(List.of("Equity"), null);
+
+        HoldingsSnapshot.Page page = snapshot.select(mask, HoldingsSortField.UNREALIZED_GAIN_LOSS, true, 0, 50);
+
+        assertThat(page.getTotalCount()).isEqualTo(2);
+        assertThat(page.getHoldings()).extracting(HoldingDto::getSymbol)
+            .containsExactly("AAPL", "MSFT");
+    }
+
+    @Test
+    void select_FilterBySymbol_IgnoresCase() {
+        BitSet mask = snapshot.filter(null, "msft");
+
+        HoldingsSnapshot.Page page = snapshot.select(mask, HoldingsSortField.MARKET_VALUE, true, 0, 50);
+
+        assertThat(page.getHoldings()).extracting(HoldingDto::getSymbol).containsExactly("MSFT");
+    }
+
+    @Test
+    void select_NullColumnsSortLast() {
+        HoldingsSnapshot.Page page = snapshot.select(null, HoldingsSortField.PRICE_CHANGE_PERCENT, false, 0, 50);
+
+        assertThat(page.getHoldings()).extracting(HoldingDto::getSymbol)
+            .containsExactly("MSFT", "AAPL", "BND");
+    }
+
+    @Test
+    void select_DescendingKeepsNullsLastAndSymbolTieBreak() {
+        HoldingsSnapshot tied = HoldingsSnapshot.builder()
+            .add("MSFT", "Microsoft Corporation", "Technology", "EQUITY",
+                new BigDecimal("10"), new BigDecimal("300.00"), new BigDecimal("2500"),
+                null, null, null)
+            .add("BND", "Vanguard Total Bond Market ETF", null, "FIXED_INCOME",
+                new BigDecimal("180"), new BigDecimal("75.00"), new BigDecimal("16000"),
+                null, null, null)
+            .add("AAPL", "Apple Inc.", "Technology", "EQUITY",
+                new BigDecimal("20"), new BigDecimal("150.00"), new BigDecimal("2500"),
+                null, null, null)
+            .build("account123", "3:0:0");
+
+        assertThat(snapshot.select(null, HoldingsSortField.PRICE_CHANGE_PERCENT, true, 0, 50).getHoldings())
+            .extracting(HoldingDto::getSymbol).containsExactly("AAPL", "MSFT", "BND");
+        assertThat(snapshot.select(null, HoldingsSortField.SECTOR, true, 0, 50).getHoldings())
+            .extracting(HoldingDto::getSymbol).containsExactly("AAPL", "MSFT", "BND");
+        assertThat(tied.select(null, HoldingsSortField.COST_BASIS, true, 0, 50).getHoldings())
+            .extracting(HoldingDto::getSymbol).containsExactly("BND", "AAPL", "MSFT");
+    }
+
+    @Test
+    void toHoldingDto_MatchesStoredProcedureCalculations() {
+        HoldingDto holding = snapshot.select(null, HoldingsSortField.SYMBOL, false, 0, 1).getHoldings().get(0);
+
+        assertThat(holding.getAccountId()).isEqualTo("account123");
+        assertThat(holding.getMarketValue()).isEqualByComparingTo("15000");
+        assertThat(holding.getTotalCost()).isEqualByComparingTo("12000");
+        assertThat(holding.getUnrealizedGainLoss()).isEqualByComparingTo("3000");
+        assertThat(holding.getUnrealizedGainLossPercent()).isEqualByComparingTo("25.00");
+        assertThat(holding.getPortfolioPercent()).isEqualByComparingTo("47.62");
+        assertThat(holding.getPurchaseDate()).isEqualTo(LocalDate.of(2023, 1, 15));
+        assertThat(holding.getTaxLotCount()).isEqualTo(1);
+        assertThat(holding.getPriceDate()).isNull();
+    }
+
+    @Test
+    void toHoldingDto_CarriesStoredPriceDateAndLotCount() {
+        HoldingsSnapshot lots = HoldingsSnapshot.builder()
+            .add("AAPL", "Apple Inc.", "Technology", "EQUITY",
+                new BigDecimal("100"), new BigDecimal("150.00"), new BigDecimal("12000"),
+                null, null, LocalDate.of(2023, 1, 15), LocalDate.of(2024, 1, 12), 0L, 0L)
+            .add("AAPL", "Apple Inc.", "Technology", "EQUITY",
+                new BigDecimal("50"), new BigDecimal("150.00"), new BigDecimal("7000"),
+                null, null, LocalDate.of(2023, 9, 1), LocalDate.of(2024, 1, 12), 0L, 0L)
+            .add("MSFT", "Microsoft Corporation", "Technology", "EQUITY",
+                new BigDecimal("10"), new BigDecimal("300.00"), new BigDecimal("2500"),
+                null, null, null, LocalDate.of(2024, 1, 11), 0L, 0L)
+            .build("account123", "3:0:0");
+
+        List<HoldingDto> holdings = lots.select(null, HoldingsSortField.SYMBOL, false, 0, 50).getHoldings();
+
+        assertThat(holdings).extracting(HoldingDto::getTaxLotCount).containsExactly(2, 2, 1);
+        assertThat(holdings).extracting(HoldingDto::getPriceDate).containsExactly(
+            LocalDate.of(2024, 1, 12), LocalDate.of(2024, 1, 12), LocalDate.of(2024, 1, 11));
+    }
+
+    @Test
+    void group_ByAssetClass_AggregatesAndPagesWithinGroups() {
+        List<HoldingGroupDto> groups = snapshot.group(
+            null, HoldingsGroupField.ASSET_CLASS, HoldingsSortField.MARKET_VALUE, true, 0, 1);
+
+        assertThat(groups).extracting(HoldingGroupDto::getGroupKey).containsExactly("EQUITY", "FIXED_INCOME");
+
+        HoldingGroupDto equity = groups.get(0);
+        assertThat(equity.getHoldingsCount()).isEqualTo(2);
+        assertThat(equity.getMarketValue()).isEqualByComparingTo("18000");
+        assertThat(equity.getCostBasis()).isEqualByComparingTo("14500");
+        assertThat(equity.getUnrealizedGainLoss()).isEqualByComparingTo("3500");
+        assertThat(equity.getUnrealizedGainLossPercent()).isEqualByComparingTo("24.14");
+        assertThat(equity.getWeight()).isEqualByComparingTo("57.14");
+        assertThat(equity.getHoldings()).extracting(HoldingDto::getSymbol).containsExactly("AAPL");
+    }
+
+    @Test
+    void group_BySector_RespectsFilterAndOffset() {
+        BitSet mask = snapshot.filter(List.of("EQUITY"), null);
+
+        List<HoldingGroupDto> groups = snapshot.group(
+            mask, HoldingsGroupField.SECTOR, HoldingsSortField.SYMBOL, false, 1, 10);
+
+        assertThat(groups).hasSize(1);
+        assertThat(groups.get(0).getGroupKey()).isEqualTo("Technology");
+        assertThat(groups.get(0).getHoldingsCount()).isEqualTo(2);
+        assertThat(groups.get(0).getHoldings()).extracting(HoldingDto::getSymbol).containsExactly("MSFT");
+    }
+
+    @Test
+    void permutation_IsBuiltOncePerSortField() {
+        int[] first = snapshot.permutation(HoldingsSortField.QUANTITY, false);
+        int[] second = snapshot.permutation(HoldingsSortField.QUANTITY, false);
+
+        assertThat(second).isSameAs(first);
+        assertThat(snapshot.permutation(HoldingsSortField.QUANTITY, true)).isNotSameAs(first);
+    }
+
+    @Test
+    void deltaSince_ReturnsRowsStampedSinceTokenAndHoldingIdsOnRemoval() {
+        HoldingsSnapshot before = versioned()
+            .add("MSFT", "Microsoft Corporation", "Technology", "EQUITY",
+                new BigDecimal("10"), new BigDecimal("300.00"), new BigDecimal("2500"),
+                null, null, null, 1_000L, 1_000L)
+            .build("account123", "3:2000:2000");
+        HoldingsSnapshot after = before.toBuilder(Set.of("MSFT", "BND"))
+            .add("AAPL2", "Apple Inc. (new lot)", "Technology", "EQUITY",
+                new BigDecimal("5"), new BigDecimal("150.00"), new BigDecimal("700"),
+                null, null, null, 3_000L, 2_000L)
+            .build("account123", "2:3000:2000");
+
+        HoldingsSnapshot.Delta delta = after.deltaSince(before.getDataVersion());
+
+        assertThat(delta.getUpserts()).extracting(HoldingDto::getSymbol).containsExactly("AAPL", "AAPL2");
+        assertThat(delta.getHoldingIds()).containsExactly("AAPL", "AAPL2");
+        assertThat(after.getTotalCostBasis()).isEqualByComparingTo("12700");
+        assertThat(after.deltaSince(after.getDataVersion()).getUpserts()).isEmpty();
+        assertThat(after.deltaSince("not-a-version")).isNull();
+    }
+
+    @Test
+    void deltaSince_OmitsHoldingIdsWhenMembershipIsUnchanged() {
+        HoldingsSnapshot before = versioned().build("account123", "2:2000:2000");
+        HoldingsSnapshot after = before.toBuilder(Set.of("BND"))
+            .add("BND", "Vanguard Total Bond Market ETF", null, "FIXED_INCOME",
+                new BigDecimal("200"), new BigDecimal("75.00"), new BigDecimal("17500"),
+                null, null, null, 1_000L, 2_500L)
+            .build("account123", "2:2000:2500");
+
+        HoldingsSnapshot.Delta delta = after.deltaSince(before.getDataVersion());
+
+        assertThat(delta.getUpserts()).extracting(HoldingDto::getSymbol).containsExactly("AAPL", "BND");
+        assertThat(delta.getUpserts().get(1).getQuantity()).isEqualByComparingTo("200");
+        assertThat(delta.getHoldingIds()).isNull();
+    }
+
+    @Test
+    void deltaSince_KeysLotsOfOneSymbolByHoldingId() {
+        HoldingsSnapshot before = HoldingsSnapshot.builder()
+            .add("H1", "AAPL", "Apple Inc.", "Technology", "EQUITY",
+                new BigDecimal("100"), new BigDecimal("150.00"), new BigDecimal("12000"),
+                null, null, null, null, 1_000L, 1_000L)
+            .add("H2", "AAPL", "Apple Inc.", "Technology", "EQUITY",
+                new BigDecimal("40"), new BigDecimal("150.00"), new BigDecimal("5000"),
+                null, null, null, null, 2_000L, 2_000L)
+            .build("account123", "2:2000:2000");
+        HoldingsSnapshot after = before.toBuilder(Set.of("H2"))
+            .add("H2", "AAPL", "Apple Inc.", "Technology", "EQUITY",
+                new BigDecimal("60"), new BigDecimal("150.00"), new BigDecimal("7500"),
+                null, null, null, null, 3_000L, 2_000L)
+            .build("account123", "2:3000:2000");
+
+        HoldingsSnapshot.Delta delta = after.deltaSince(before.getDataVersion());
+
+        assertThat(after.size()).isEqualTo(2);
+        assertThat(after.getTotalCostBasis()).isEqualByComparingTo("19500");
+        assertThat(delta.getUpserts()).extracting(HoldingDto::getHoldingId).containsExactly("H2");
+        assertThat(delta.getUpserts().get(0).getQuantity()).isEqualByComparingTo("60");
+        assertThat(delta.getHoldingIds()).isNull();
+    }
+
+    private static HoldingsSnapshot.Builder versioned() {
+        return HoldingsSnapshot.builder()
+            .add("AAPL", "Apple Inc.", "Technology", "EQUITY",
+                new BigDecimal("100"), new BigDecimal("150.00"), new BigDecimal("12000"),
+                null, null, null, 2_000L, 2_000L)
+            .add("BND", "Vanguard Total Bond Market ETF", null, "FIXED_INCOME",
+                new BigDecimal("180"), new BigDecimal("75.00"), new BigDecimal("16000"),
+                null, null, null, 1_000L, 1_000L);
+    }
+}
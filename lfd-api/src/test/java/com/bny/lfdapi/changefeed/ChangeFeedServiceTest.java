@@ -0,0 +1,105 @@
+package com.bny.lfdapi.changefeed;
+
+import com.bny.lfdapi.dto.response.ChangeBatch;
+import com.bny.lfdapi.dto.response.ChangeEvent;
+import com.bny.shared.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ChangeFeedServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:change_feed;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE clients (client_id VARCHAR(50) PRIMARY KEY, advisor_id VARCHAR(50), last_updated TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE accounts (account_id VARCHAR(50) PRIMARY KEY, client_id VARCHAR(50), last_updated TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE holdings (holding_id VARCHAR(50) PRIMARY KEY, account_id VARCHAR(50), last_updated TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE securities (symbol VARCHAR(20) PRIMARY KEY, last_price_update TIMESTAMP)");
+    }
+
+    @Test
+    void headCursorOnlySeesLaterChanges() throws InterruptedException {
+        ChangeFeedService service = service(0);
+        jdbcTemplate.update("INSERT INTO clients VALUES ('C1', 'ADV001', ?)", secondsAgo(60));
+        jdbcTemplate.update("INSERT INTO clients VALUES ('C2', 'ADV001', ?)", secondsAgo(60));
+        ChangeBatch head = service.read(null, 10);
+
+        Thread.sleep(20);
+        jdbcTemplate.update("UPDATE clients SET last_updated = ? WHERE client_id = 'C1'", secondsAgo(0));
+        jdbcTemplate.update("INSERT INTO accounts VALUES ('ACC1', 'C1', ?)", secondsAgo(0));
+        Thread.sleep(20);
+        ChangeBatch next = service.read(head.getCursor(), 10);
+
+        assertThat(head.getEvents()).isEmpty();
+        assertThat(next.getEvents()).extracting(ChangeEvent::getEntity, ChangeEvent::getKey, ChangeEvent::getParentKey)
+            .containsExactly(tuple("client", "C1", "ADV001"), tuple("account", "ACC1", "C1"));
+    }
+
+    @Test
+    void resumesFromCursorInPagesWithoutRepeats() {
+        ChangeFeedService service = service(2_000);
+        Timestamp sameSecond = secondsAgo(30);
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO holdings VALUES (?, 'ACC1', ?)", "H" + i, sameSecond);
+        }
+        jdbcTemplate.update("INSERT INTO securities VALUES ('AAPL', ?)", secondsAgo(20));
+        String cursor = ChangeFeedCursor.at(secondsAgo(120).getTime()).encode();
+
+        List<ChangeEvent> seen = new ArrayList<>();
+        ChangeBatch batch;
+        int reads = 0;
+        do {
+            batch = service.read(cursor, 2);
+            seen.addAll(batch.getEvents());
+            cursor = batch.getCursor();
+            reads++;
+        } while (batch.getHasMore());
+
+        assertThat(reads).isEqualTo(3);
+        assertThat(seen).extracting(ChangeEvent::getKey).containsExactly("H0", "H1", "AAPL", "H2", "H3", "H4");
+        assertThat(service.read(cursor, 2).getEvents()).isEmpty();
+    }
+
+    @Test
+    void holdsBackRowsYoungerThanTheSettleWindow() {
+        ChangeFeedService service = service(2_000);
+        String cursor = service.read(null, 10).getCursor();
+        jdbcTemplate.update("INSERT INTO clients VALUES ('C1', 'ADV001', ?)", secondsAgo(0));
+
+        ChangeBatch batch = service.read(cursor, 10);
+
+        assertThat(batch.getEvents()).isEmpty();
+        assertThat(batch.getCursor()).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> service(2_000).read("not-a-cursor", 10))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    private ChangeFeedService service(long settleMillis) {
+        ChangeFeedService service = new ChangeFeedService(settleMillis, 100);
+        ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+        return service;
+    }
+
+    private static Timestamp secondsAgo(long seconds) {
+        return new Timestamp(System.currentTimeMillis() - seconds * 1_000);
+    }
+}
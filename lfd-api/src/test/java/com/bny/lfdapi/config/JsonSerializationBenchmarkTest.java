@@ -0,0 +1,134 @@
+package com.bny.lfdapi.config;
+
+import com.bny.lfdapi.dto.response.AdvisorClientsResponse;
+import com.bny.lfdapi.dto.response.HoldingsResponse;
+import com.bny.shared.dto.response.AccountDto;
+import com.bny.shared.dto.response.ClientDto;
+import com.bny.shared.dto.response.HoldingDto;
+import com.bny.shared.enums.AccountType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// mvn test -Dtest=JsonSerializationBenchmarkTest -Dlfd.benchmark=true [-Dlfd.benchmark.rows=1000 -Dlfd.benchmark.iterations=2000]
+@Slf4j
+@EnabledIfSystemProperty(named = "lfd.benchmark", matches = "true")
+class JsonSerializationBenchmarkTest {
+
+    private final int rows = Integer.getInteger("lfd.benchmark.rows", 1_000);
+    private final int iterations = Integer.getInteger("lfd.benchmark.iterations", 2_000);
+
+    @Test
+    void compareReflectiveAndTunedCodecs() throws Exception {
+        ObjectMapper reflective = new ObjectMapper();
+        reflective.registerModule(new JavaTimeModule());
+        reflective.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper tuned = new WebConfig().objectMapper();
+
+        HoldingsResponse holdings = holdingsPage();
+        AdvisorClientsResponse clients = clientsPage();
+        String accountsJson = reflective.writeValueAsString(clients.getClients().get(0).getAccounts());
+
+        ObjectWriter holdingsWriter = tuned.writerFor(HoldingsResponse.class);
+        ObjectWriter clientsWriter = tuned.writerFor(AdvisorClientsResponse.class);
+        ObjectReader accountsReader = tuned.readerFor(
+            tuned.getTypeFactory().constructCollectionType(List.class, AccountDto.class));
+
+        assertThat(holdingsWriter.writeValueAsBytes(holdings)).isEqualTo(reflective.writeValueAsBytes(holdings));
+        assertThat(clientsWriter.writeValueAsBytes(clients)).isEqualTo(reflective.writeValueAsBytes(clients));
+
+        log.info("JSON codec benchmark: {} rows, {} iterations (us per payload)", rows, iterations);
+        log.info("  holdings page  reflective {}  tuned {}",
+            measure(() -> reflective.writeValueAsBytes(holdings)), measure(() -> holdingsWriter.writeValueAsBytes(holdings)));
+        log.info("  clients page   reflective {}  tuned {}",
+            measure(() -> reflective.writeValueAsBytes(clients)), measure(() -> clientsWriter.writeValueAsBytes(clients)));
+        log.info("  accounts blob  per-row type {}  cached reader {}",
+            measure(() -> {
+                for (int i = 0; i < rows; i++) {
+                    reflective.readValue(accountsJson,
+                        reflective.getTypeFactory().constructCollectionType(List.class, AccountDto.class));
+                }
+                return null;
+            }),
+            measure(() -> {
+                for (int i = 0; i < rows; i++) {
+                    accountsReader.readValue(accountsJson);
+                }
+                return null;
+            }));
+    }
+
+    private String measure(Codec codec) throws Exception {
+        for (int i = 0; i < iterations / 4; i++) {
+            codec.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            codec.run();
+        }
+        return String.format("%9.1f", (System.nanoTime() - start) / 1_000.0 / iterations);
+    }
+
+    private HoldingsResponse holdingsPage() {
+        List<HoldingDto> holdings = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            holdings.add(HoldingDto.builder()
+                .accountId("ACC001").symbol("SYM" + i).securityName("Security " + i)
+                .quantity(new BigDecimal("125.5000")).currentPrice(new BigDecimal("187.4400"))
+                .priceChange(new BigDecimal("1.2300")).priceChangePercent(new BigDecimal("0.6600"))
+                .costBasis(new BigDecimal("150.0000")).totalCost(new BigDecimal("18825.00"))
+                .marketValue(new BigDecimal("23523.72")).unrealizedGainLoss(new BigDecimal("4698.72"))
+                .unrealizedGainLossPercent(new BigDecimal("24.96")).portfolioPercent(new BigDecimal("0.10"))
+                .sector("Technology").assetClass("EQUITY")
+                .purchaseDate(LocalDate.of(2021, 3, 15)).priceDate(LocalDate.of(2024, 6, 28))
+                .hasAlerts(false).taxLotCount(2)
+                .build());
+        }
+        return HoldingsResponse.builder()
+            .holdings(holdings).totalCount(rows).pageOffset(0).pageSize(rows).resultCode(0)
+            .build();
+    }
+
+    private AdvisorClientsResponse clientsPage() {
+        List<ClientDto> clients = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            List<AccountDto> accounts = List.of(account("C" + i + "-1", AccountType.INDIVIDUAL),
+                account("C" + i + "-2", AccountType.IRA));
+            clients.add(ClientDto.builder()
+                .clientId("C" + i).clientName("Client " + i).advisorId("ADV001").advisorName("Advisor One")
+                .accountCount(accounts.size()).accounts(accounts).totalMarketValue(new BigDecimal("250000.00"))
+                .taxId("***-**-1234").activityStatus("ACTIVE").riskProfile("MODERATE")
+                .lastActivityDate(LocalDate.of(2024, 6, 28)).lastUpdated(LocalDateTime.of(2024, 6, 28, 16, 0))
+                .build());
+        }
+        return AdvisorClientsResponse.builder()
+            .clients(clients).totalCount(rows).pageOffset(0).pageSize(rows).resultCode(0)
+            .build();
+    }
+
+    private static AccountDto account(String accountId, AccountType type) {
+        return AccountDto.builder()
+            .accountId(accountId).accountNumber("1001-" + accountId).accountType(type)
+            .marketValue(new BigDecimal("125000.00")).cashBalance(new BigDecimal("5000.00"))
+            .ytdPerformance(new BigDecimal("7.25")).lastUpdated(LocalDateTime.of(2024, 6, 28, 16, 0))
+            .build();
+    }
+
+    @FunctionalInterface
+    private interface Codec {
+        Object run() throws Exception;
+    }
+}
@@ -4,12 +4,17 @@ import com.bny.shared.dto.request.ClientSearchRequest;
 import com.bny.lfdapi.dto.response.AdvisorClientsResponse;
 import com.bny.shared.dto.response.ClientDto;
 import com.bny.lfdapi.dto.response.ClientSearchResponse;
+import com.bny.lfdapi.dto.response.domain.DomainClientDto;
+import com.bny.lfdapi.dto.response.domain.DomainPage;
 import com.bny.lfdapi.service.ClientDataService;
+import com.bny.lfdapi.service.DomainProfileMapper;
+import com.bny.shared.dto.common.ResponseProfile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +35,9 @@ class InternalClientControllerTest {
     @Mock
     private ClientDataService clientDataService;
 
+    @Spy
+    private DomainProfileMapper domainProfileMapper;
+
     @InjectMocks
     private InternalClientController controller;
 
@@ -99,13 +107,15 @@ class InternalClientControllerTest {
         when(clientDataService.getAdvisorClients(eq("advisor123"), eq(0), eq(50)))
             .thenReturn(advisorClientsResponse);
 
-        ResponseEntity<AdvisorClientsResponse> response = 
-            controller.getAdvisorClients("advisor123", 0, 50);
+        ResponseEntity<?> response = 
+            controller.getAdvisorClients("advisor123", 0, 50, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().getClients()).hasSize(2);
-        assertThat(response.getBody().getTotalCount()).isEqualTo(2);
+        assertThat(response.getBody()).isInstanceOf(AdvisorClientsResponse.class);
+        AdvisorClientsResponse body = (AdvisorClientsResponse) response.getBody();
+        assertThat(body.getClients()).hasSize(2);
+        assertThat(body.getTotalCount()).isEqualTo(2);
+        assertThat(response.getHeaders().containsKey(ResponseProfile.HEADER)).isFalse();
         
         verify(clientDataService).getAdvisorClients("advisor123", 0, 50);
     }
@@ -115,13 +125,51 @@ class InternalClientControllerTest {
         when(clientDataService.getAdvisorClients(eq("advisor123"), eq(0), eq(50)))
             .thenReturn(advisorClientsResponse);
 
-        ResponseEntity<AdvisorClientsResponse> response = 
-            controller.getAdvisorClients("advisor123", 0, 50);
+        ResponseEntity<?> response = 
+            controller.getAdvisorClients("advisor123", 0, 50, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         verify(clientDataService).getAdvisorClients("advisor123", 0, 50);
     }
 
+    @Test
+    void getAdvisorClients_DomainProfile() {
+        advisorClientsResponse.setTotalCount(120);
+        advisorClientsResponse.setPageOffset(50);
+        advisorClientsResponse.getClients().get(0).setRiskProfile("moderate");
+        advisorClientsResponse.getClients().get(1).setRiskProfile("speculative");
+        when(clientDataService.getAdvisorClients(eq("advisor123"), eq(50), eq(50)))
+            .thenReturn(advisorClientsResponse);
+
+        ResponseEntity<?> response = 
+            controller.getAdvisorClients("advisor123", 50, 50, ResponseProfile.DOMAIN);
+
+        assertThat(response.getHeaders().getFirst(ResponseProfile.HEADER)).isEqualTo(ResponseProfile.DOMAIN);
+        assertThat(response.getBody()).isInstanceOf(DomainPage.class);
+        @SuppressWarnings("unchecked")
+        DomainPage<DomainClientDto> page = (DomainPage<DomainClientDto>) response.getBody();
+        assertThat(page.getPage()).isEqualTo(1);
+        assertThat(page.getTotalElements()).isEqualTo(120);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.isFirst()).isFalse();
+        assertThat(page.isLast()).isFalse();
+        assertThat(page.getContent()).extracting(DomainClientDto::getRiskProfile)
+            .containsExactly("MODERATE", null);
+    }
+
+    @Test
+    void getAdvisorClients_DomainProfileNotEchoedOnFailure() {
+        advisorClientsResponse.setResultCode(1);
+        when(clientDataService.getAdvisorClients(eq("advisor123"), eq(0), eq(50)))
+            .thenReturn(advisorClientsResponse);
+
+        ResponseEntity<?> response = 
+            controller.getAdvisorClients("advisor123", 0, 50, ResponseProfile.DOMAIN);
+
+        assertThat(response.getBody()).isInstanceOf(AdvisorClientsResponse.class);
+        assertThat(response.getHeaders().containsKey(ResponseProfile.HEADER)).isFalse();
+    }
+
     @Test
     void searchClients_NonZeroResultCode() {
         ClientSearchResponse errorResponse = ClientSearchResponse.builder()
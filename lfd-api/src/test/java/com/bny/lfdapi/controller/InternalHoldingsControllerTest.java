@@ -4,6 +4,7 @@ import com.bny.shared.dto.request.HoldingsRequest;
 import com.bny.shared.dto.response.HoldingDto;
 import com.bny.lfdapi.dto.response.HoldingsResponse;
 import com.bny.lfdapi.dto.response.PortfolioSummaryResponse;
+import com.bny.lfdapi.service.DataVersionService;
 import com.bny.lfdapi.service.HoldingsDataService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,9 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +34,9 @@ class InternalHoldingsControllerTest {
     @Mock
     private HoldingsDataService holdingsDataService;
 
+    @Mock
+    private DataVersionService dataVersionService;
+
     @InjectMocks
     private InternalHoldingsController controller;
 
@@ -86,30 +93,78 @@ class InternalHoldingsControllerTest {
 
     @Test
     void getAccountHoldings_Success() {
-        when(holdingsDataService.getAccountHoldings(any(HoldingsRequest.class)))
-            .thenReturn(holdingsResponse);
+        readsVersion("2:100:200");
 
         ResponseEntity<HoldingsResponse> response = 
-            controller.getAccountHoldings("account123", holdingsRequest);
+            controller.getAccountHoldings("account123", holdingsRequest, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).startsWith("\"2:100:200-");
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getHoldings()).hasSize(2);
         assertThat(response.getBody().getTotalCount()).isEqualTo(2);
         assertThat(response.getBody().getResultCode()).isEqualTo(0);
         
-        verify(holdingsDataService).getAccountHoldings(any(HoldingsRequest.class));
+        verify(holdingsDataService).getAccountHoldings(any(HoldingsRequest.class), isNull());
+        verify(dataVersionService, never()).getHoldingsVersion(any());
+    }
+
+    @Test
+    void getAccountHoldings_MatchingETagSkipsQuery() {
+        readsVersion("2:100:200");
+        when(dataVersionService.getHoldingsVersion("account123")).thenReturn("2:100:200");
+        String etag = controller.getAccountHoldings("account123", holdingsRequest, null).getHeaders().getETag();
+
+        ResponseEntity<HoldingsResponse> response =
+            controller.getAccountHoldings("account123", holdingsRequest, "W/" + etag);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getBody()).isNull();
+        verify(holdingsDataService).getAccountHoldings(any(HoldingsRequest.class), any());
+        verify(dataVersionService).getHoldingsVersion("account123");
+    }
+
+    @Test
+    void getAccountHoldings_ChangedVersionOrRequestRunsQuery() {
+        readsVersion("2:100:200");
+        when(dataVersionService.getHoldingsVersion("account123")).thenReturn("2:100:300");
+        String etag = controller.getAccountHoldings("account123", holdingsRequest, null).getHeaders().getETag();
+
+        ResponseEntity<HoldingsResponse> repriced = controller.getAccountHoldings("account123", holdingsRequest, etag);
+        holdingsRequest.setPageOffset(50);
+        ResponseEntity<HoldingsResponse> nextPage = controller.getAccountHoldings("account123", holdingsRequest,
+            repriced.getHeaders().getETag());
+
+        assertThat(repriced.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(repriced.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(nextPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(nextPage.getHeaders().getETag()).isNotEqualTo(repriced.getHeaders().getETag());
+        verify(holdingsDataService, times(2)).getAccountHoldings(any(HoldingsRequest.class), eq("2:100:300"));
+    }
+
+    @Test
+    void getPortfolioSummary_MatchingETagSkipsProcedure() {
+        when(dataVersionService.getHoldingsVersion("account123")).thenReturn("2:100:200");
+
+        ResponseEntity<PortfolioSummaryResponse> response =
+            controller.getPortfolioSummary("account123", "\"2:100:200\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verify(holdingsDataService, never()).getPortfolioSummary(any());
     }
 
     @Test
     void getPortfolioSummary_Success() {
+        when(dataVersionService.getHoldingsVersion("account123")).thenReturn("2:100:200");
         when(holdingsDataService.getPortfolioSummary(eq("account123")))
             .thenReturn(summaryResponse);
 
         ResponseEntity<PortfolioSummaryResponse> response = 
-            controller.getPortfolioSummary("account123");
+            controller.getPortfolioSummary("account123", null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"2:100:200\"");
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getAccountId()).isEqualTo("account123");
         assertThat(response.getBody().getTotalMarketValue())
@@ -130,15 +185,25 @@ class InternalHoldingsControllerTest {
             .errorMessage("Database error")
             .build();
 
-        when(holdingsDataService.getAccountHoldings(any(HoldingsRequest.class)))
+        when(holdingsDataService.getAccountHoldings(any(HoldingsRequest.class), any()))
             .thenReturn(errorResponse);
 
         ResponseEntity<HoldingsResponse> response = 
-            controller.getAccountHoldings("account123", holdingsRequest);
+            controller.getAccountHoldings("account123", holdingsRequest, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNull();
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getResultCode()).isEqualTo(1);
         assertThat(response.getBody().getErrorMessage()).isEqualTo("Database error");
     }
+
+    // The data service reports the version it read, or the one the controller passed down
+    private void readsVersion(String version) {
+        when(holdingsDataService.getAccountHoldings(any(HoldingsRequest.class), any())).thenAnswer(invocation -> {
+            String passed = invocation.getArgument(1);
+            holdingsResponse.setVersion(passed != null ? passed : version);
+            return holdingsResponse;
+        });
+    }
 }
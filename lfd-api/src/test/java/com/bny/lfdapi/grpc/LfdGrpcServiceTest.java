@@ -0,0 +1,246 @@
+package com.bny.lfdapi.grpc;
+
+import com.bny.lfdapi.dto.response.HoldingsResponse;
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import com.bny.lfdapi.limit.AdaptiveConcurrencyLimiter;
+import com.bny.lfdapi.security.InternalRequestContext;
+import com.bny.lfdapi.security.InternalSecurityContextHolder;
+import com.bny.lfdapi.service.AccountDataService;
+import com.bny.lfdapi.service.ClientDataService;
+import com.bny.lfdapi.service.HoldingsDataService;
+import com.bny.shared.dto.response.AccountDto;
+import com.bny.shared.dto.response.HoldingDto;
+import com.bny.shared.grpc.AccountRequest;
+import com.bny.shared.grpc.ClientRequest;
+import com.bny.shared.grpc.HoldingsChunk;
+import com.bny.shared.grpc.HoldingsQuery;
+import com.bny.shared.grpc.LfdGrpcHeaders;
+import com.bny.shared.grpc.LfdInternalGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LfdGrpcServiceTest {
+
+    private final HoldingsDataService holdingsDataService = mock(HoldingsDataService.class);
+    private final AccountDataService accountDataService = mock(AccountDataService.class);
+    private final ClientDataService clientDataService = mock(ClientDataService.class);
+    private final StatementCancellationRegistry cancellationRegistry = mock(StatementCancellationRegistry.class);
+    private final AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(4, 1, 10, 0.9, 2.0, 0.3, new SimpleMeterRegistry());
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LfdGrpcService service = new LfdGrpcService();
+        ReflectionTestUtils.setField(service, "holdingsDataService", holdingsDataService);
+        ReflectionTestUtils.setField(service, "accountDataService", accountDataService);
+        ReflectionTestUtils.setField(service, "clientDataService", clientDataService);
+        ReflectionTestUtils.setField(service, "cancellationRegistry", cancellationRegistry);
+
+        InternalCallInterceptor interceptor = new InternalCallInterceptor();
+        ReflectionTestUtils.setField(interceptor, "limiter", limiter);
+        ReflectionTestUtils.setField(interceptor, "cancellationRegistry", cancellationRegistry);
+
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .addService(ServerInterceptors.intercept(service, interceptor))
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void streamHoldings_SendsRowsAsProducedThenHeaderWithRequestContext() {
+        AtomicReference<InternalRequestContext> seen = new AtomicReference<>();
+        when(holdingsDataService.streamAccountHoldingRows(any(), any())).thenAnswer(invocation -> {
+            seen.set(InternalSecurityContextHolder.getContext());
+            Consumer<HoldingDto> rows = invocation.getArgument(1);
+            rows.accept(holding("AAPL", "15000.0000"));
+            rows.accept(holding("MSFT", "0.10"));
+            return HoldingsResponse.builder()
+                .totalCount(7)
+                .pageOffset(0)
+                .pageSize(2)
+                .build();
+        });
+
+        List<HoldingsChunk> chunks = new ArrayList<>();
+        stub("req-1").withDeadlineAfter(5, TimeUnit.SECONDS)
+            .streamHoldings(HoldingsQuery.newBuilder().setAccountId("ACC1").setPageSize(2).build())
+            .forEachRemaining(chunks::add);
+
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks.get(0).getHolding().getSymbol()).isEqualTo("AAPL");
+        assertThat(chunks.get(0).getHolding().getMarketValue()).isEqualTo("15000.0000");
+        assertThat(chunks.get(1).getHolding().getPurchaseDate()).isEmpty();
+        assertThat(chunks.get(2).getHeader().getTotalCount()).isEqualTo(7);
+        assertThat(chunks.get(2).getHeader().getGrouped()).isFalse();
+        verify(holdingsDataService, never()).getAccountHoldings(any());
+
+        assertThat(seen.get().getRequestId()).isEqualTo("req-1");
+        assertThat(seen.get().getAdvisorId()).isEqualTo("ADV1");
+        assertThat(seen.get().remainingMillis()).isBetween(1L, 5_000L);
+        assertThat(limiter.getInFlight()).isZero();
+        verify(cancellationRegistry).open("req-1");
+        verify(cancellationRegistry).release("req-1");
+    }
+
+    @Test
+    void streamHoldings_SendsGroupedPagesWhole() {
+        when(holdingsDataService.getAccountHoldings(any())).thenReturn(HoldingsResponse.builder()
+            .groups(List.of())
+            .totalCount(0)
+            .build());
+
+        List<HoldingsChunk> chunks = new ArrayList<>();
+        stub("req-4").streamHoldings(HoldingsQuery.newBuilder().setAccountId("ACC1").setGroupBy("sector").build())
+            .forEachRemaining(chunks::add);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).getHeader().getGrouped()).isTrue();
+        verify(holdingsDataService, never()).streamAccountHoldingRows(any(), any());
+    }
+
+    @Test
+    void getAccount_RejectsCallsWithoutRequestHeaders() {
+        LfdInternalGrpc.LfdInternalBlockingStub anonymous = LfdInternalGrpc.newBlockingStub(channel);
+
+        assertThatThrownBy(() -> anonymous.getAccount(AccountRequest.newBuilder().setAccountId("ACC1").build()))
+            .isInstanceOfSatisfying(StatusRuntimeException.class, e -> {
+                assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED);
+                assertThat(e.getStatus().getDescription()).isEqualTo("X-User-ID header is required");
+            });
+    }
+
+    @Test
+    void getAccount_MapsMissingAccountToNotFound() {
+        when(accountDataService.getAccountById("MISSING")).thenThrow(
+            new RuntimeException("Account not found: MISSING", new EmptyResultDataAccessException(1)));
+
+        assertThatThrownBy(() -> stub("req-2").getAccount(AccountRequest.newBuilder().setAccountId("MISSING").build()))
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    void getClient_MapsMissingClientToNotFound() {
+        when(clientDataService.getClientById("MISSING")).thenReturn(null);
+
+        assertThatThrownBy(() -> stub("req-5").getClient(ClientRequest.newBuilder().setClientId("MISSING").build()))
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    void streamClientAccounts_SendsOneMessagePerAccount() {
+        when(accountDataService.getAccountsByClientId("C1")).thenReturn(List.of(
+            AccountDto.builder().accountId("ACC1").clientId("C1").build(),
+            AccountDto.builder().accountId("ACC2").clientId("C1").build()));
+
+        List<String> accounts = new ArrayList<>();
+        stub("req-6").streamClientAccounts(ClientRequest.newBuilder().setClientId("C1").build())
+            .forEachRemaining(account -> accounts.add(account.getAccountId()));
+
+        assertThat(accounts).containsExactly("ACC1", "ACC2");
+    }
+
+    @Test
+    void cancelledCall_CancelsRunningStatementsAndReleasesPermit() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(holdingsDataService.streamAccountHoldingRows(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            finish.await(5, TimeUnit.SECONDS);
+            return HoldingsResponse.builder().totalCount(0).build();
+        });
+
+        io.grpc.Context.CancellableContext context = io.grpc.Context.current().withCancellation();
+        context.run(() -> LfdInternalGrpc.newStub(channel)
+            .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers("req-3")))
+            .streamHoldings(HoldingsQuery.newBuilder().setAccountId("ACC1").build(), new DiscardingObserver()));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        context.cancel(null);
+
+        verify(cancellationRegistry, timeout(5_000)).cancel("req-3");
+        finish.countDown();
+        verify(cancellationRegistry, timeout(5_000)).release("req-3");
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private LfdInternalGrpc.LfdInternalBlockingStub stub(String requestId) {
+        return LfdInternalGrpc.newBlockingStub(channel)
+            .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers(requestId)));
+    }
+
+    private static Metadata headers(String requestId) {
+        Metadata headers = new Metadata();
+        headers.put(LfdGrpcHeaders.USER_ID, "user-1");
+        headers.put(LfdGrpcHeaders.ADVISOR_ID, "ADV1");
+        headers.put(LfdGrpcHeaders.REQUEST_ID, requestId);
+        headers.put(LfdGrpcHeaders.TIMESTAMP, "2024-01-01T00:00:00");
+        return headers;
+    }
+
+    private static class DiscardingObserver implements StreamObserver<HoldingsChunk> {
+
+        @Override
+        public void onNext(HoldingsChunk value) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+
+    private static HoldingDto holding(String symbol, String marketValue) {
+        return HoldingDto.builder()
+            .accountId("ACC1")
+            .symbol(symbol)
+            .marketValue(new BigDecimal(marketValue))
+            .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.bny.lfdapi.jdbc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestAwareJdbcTemplateTest {
+
+    @Mock
+    private Statement statement;
+
+    @Test
+    void applyDeadline_ShortensQueryTimeoutToRemainingBudget() throws SQLException {
+        when(statement.getQueryTimeout()).thenReturn(30);
+
+        RequestAwareJdbcTemplate.applyDeadline(statement, "req-1", 2_500L);
+
+        verify(statement).setQueryTimeout(3);
+    }
+
+    @Test
+    void applyDeadline_KeepsShorterExistingTimeout() throws SQLException {
+        when(statement.getQueryTimeout()).thenReturn(5);
+
+        RequestAwareJdbcTemplate.applyDeadline(statement, "req-1", 20_000L);
+
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    void applyDeadline_RejectsExpiredRequest() {
+        assertThatThrownBy(() -> RequestAwareJdbcTemplate.applyDeadline(statement, "req-1", 0L))
+            .isInstanceOf(SQLTimeoutException.class);
+    }
+
+    @Test
+    void applyDeadline_IgnoresRequestsWithoutDeadline() throws SQLException {
+        RequestAwareJdbcTemplate.applyDeadline(statement, "req-1", null);
+
+        verifyNoInteractions(statement);
+    }
+}
@@ -0,0 +1,135 @@
+package com.bny.lfdapi.jdbc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatementCancellationRegistryTest {
+
+    @Mock
+    private Statement statement;
+
+    private final StatementCancellationRegistry registry = new StatementCancellationRegistry();
+
+    @Test
+    void cancel_CancelsRunningStatementsForRequest() throws SQLException {
+        registry.register("req-1", statement);
+
+        int cancelled = registry.cancel("req-1");
+
+        assertThat(cancelled).isEqualTo(1);
+        verify(statement).cancel();
+    }
+
+    @Test
+    void cancel_IgnoresOtherRequestsAndClosedStatements() throws SQLException {
+        registry.register("req-1", statement);
+        when(statement.isClosed()).thenReturn(true);
+
+        assertThat(registry.cancel("req-2")).isZero();
+        assertThat(registry.cancel("req-1")).isZero();
+        verify(statement, never()).cancel();
+    }
+
+    @Test
+    void register_RejectsStatementsForCancelledRequest() {
+        registry.cancel("req-1");
+
+        assertThatThrownBy(() -> registry.register("req-1", statement))
+            .isInstanceOf(SQLException.class)
+            .extracting(e -> ((SQLException) e).getSQLState())
+            .isEqualTo(StatementCancellationRegistry.QUERY_CANCELED_SQL_STATE);
+    }
+
+    @Test
+    void cancelAfter_CancelsStatementAtSubSecondDeadline() throws SQLException {
+        registry.open("req-1");
+        registry.register("req-1", statement);
+
+        registry.cancelAfter("req-1", statement, 50);
+
+        verify(statement, timeout(2_000)).cancel();
+    }
+
+    @Test
+    void cancelAfter_IsDroppedWhenRequestIsReleased() throws Exception {
+        registry.open("req-1");
+        registry.register("req-1", statement);
+        registry.cancelAfter("req-1", statement, 100);
+
+        registry.release("req-1");
+        Thread.sleep(300);
+
+        verify(statement, never()).cancel();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void release_PurgesCancellationsPastTheirRetention() {
+        registry.cancel("req-old");
+        registry.cancel("req-recent");
+        Map<String, Long> cancelled = (Map<String, Long>) ReflectionTestUtils.getField(registry, "cancelled");
+        cancelled.put("req-old", System.nanoTime() - TimeUnit.MINUTES.toNanos(2));
+        ((AtomicLong) ReflectionTestUtils.getField(registry, "lastPurge")).set(System.nanoTime() - TimeUnit.MINUTES.toNanos(1));
+
+        registry.release("req-other");
+
+        assertThat(cancelled).containsOnlyKeys("req-recent");
+    }
+
+    @Test
+    void release_DropsStatementsWhenRequestCompletes() throws SQLException {
+        registry.register("req-1", statement);
+
+        registry.release("req-1");
+
+        assertThat(registry.runningCount("req-1")).isZero();
+        assertThat(registry.cancel("req-1")).isZero();
+    }
+
+    @Test
+    void onCancel_RunsActionsUntilTheyAreRemoved() {
+        Runnable first = mock(Runnable.class);
+        Runnable second = mock(Runnable.class);
+        assertThat(registry.onCancel("req-1", first)).isTrue();
+        assertThat(registry.onCancel("req-1", second)).isTrue();
+        registry.removeOnCancel("req-1", second);
+        registry.release("req-1");
+
+        assertThat(registry.cancel("req-1")).isEqualTo(1);
+        verify(first).run();
+        verify(second, never()).run();
+        assertThat(registry.onCancel("req-1", second)).isFalse();
+    }
+
+    @Test
+    void release_KeepsStatementsWhileAnotherCallForTheRequestIsOpen() throws SQLException {
+        Statement otherLeg = mock(Statement.class);
+        registry.open("req-1");
+        registry.open("req-1");
+        registry.register("req-1", statement);
+        registry.register("req-1", otherLeg);
+
+        registry.release("req-1");
+
+        assertThat(registry.runningCount("req-1")).isEqualTo(2);
+        assertThat(registry.cancel("req-1")).isEqualTo(2);
+        verify(otherLeg).cancel();
+
+        registry.release("req-1");
+        assertThat(registry.runningCount("req-1")).isZero();
+    }
+}
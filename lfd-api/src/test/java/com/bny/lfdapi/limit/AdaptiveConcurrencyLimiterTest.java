@@ -0,0 +1,207 @@
+package com.bny.lfdapi.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.bny.lfdapi.workload.WorkloadClass.BACKGROUND;
+import static com.bny.lfdapi.workload.WorkloadClass.BULK;
+import static com.bny.lfdapi.workload.WorkloadClass.INTERACTIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final String ROUTE = "POST /internal/accounts/{accountId}/holdings";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void tryAcquire_RejectsOnceLimitIsReached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.9, 2.0, 0.3, meterRegistry);
+
+        assertThat(limiter.tryAcquire(INTERACTIVE)).isTrue();
+        assertThat(limiter.tryAcquire(INTERACTIVE)).isTrue();
+        assertThat(limiter.tryAcquire(INTERACTIVE)).isFalse();
+        assertThat(meterRegistry.get("lfd.limiter.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("lfd.limiter.inflight").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void release_BacksOffMultiplicativelyOnDropsAndLatencySpikes() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 40, 0.5, 2.0, 0.3, meterRegistry);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire(INTERACTIVE);
+            limiter.release(INTERACTIVE, ROUTE, TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+        limiter.tryAcquire(INTERACTIVE);
+        limiter.release(INTERACTIVE, ROUTE, TimeUnit.MILLISECONDS.toNanos(200), false);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        limiter.tryAcquire(INTERACTIVE);
+        limiter.release(INTERACTIVE, ROUTE, TimeUnit.MILLISECONDS.toNanos(10), true);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(INTERACTIVE);
+            limiter.release(INTERACTIVE, ROUTE, TimeUnit.MILLISECONDS.toNanos(10), true);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void release_GrowsAdditivelyWhileLatencyStaysNearBaseline() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 8, 0.9, 2.0, 0.3, meterRegistry);
+
+        for (int round = 0; round < 50; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire(INTERACTIVE)) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(INTERACTIVE, ROUTE, TimeUnit.MILLISECONDS.toNanos(10), false);
+            }
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        assertThat(meterRegistry.get("lfd.limiter.limit").gauge().value()).isEqualTo(8.0);
+    }
+
+    @Test
+    void release_HoldsLimitSteadyUnderMixedLatencyRoutes() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 40, 0.9, 2.0, 0.3, meterRegistry);
+        long[] summaries = {1, 2, 1, 3};
+        long[] holdings = {40, 120, 60, 200};
+
+        for (int round = 0; round < 200; round++) {
+            for (int i = 0; i < 8; i++) {
+                limiter.tryAcquire(INTERACTIVE);
+            }
+            for (int i = 0; i < 4; i++) {
+                limiter.release(INTERACTIVE, "GET /internal/accounts/{accountId}/summary",
+                    TimeUnit.MILLISECONDS.toNanos(summaries[(round + i) % summaries.length]), false);
+                limiter.release(INTERACTIVE, ROUTE, TimeUnit.MILLISECONDS.toNanos(holdings[(round + i) % holdings.length]), false);
+            }
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    void release_StillBacksOffWhenOneRouteSlowsDown() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 40, 0.9, 2.0, 0.3, meterRegistry);
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire(INTERACTIVE);
+            limiter.release(INTERACTIVE, "GET /internal/accounts/{accountId}/summary", TimeUnit.MILLISECONDS.toNanos(2), false);
+            limiter.tryAcquire(INTERACTIVE);
+            limiter.release(INTERACTIVE, ROUTE, TimeUnit.MILLISECONDS.toNanos(50), false);
+        }
+        int steady = limiter.getLimit();
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(INTERACTIVE);
+            limiter.release(INTERACTIVE, ROUTE, TimeUnit.MILLISECONDS.toNanos(400), false);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(steady);
+    }
+
+    @Test
+    void tryAcquire_KeepsInteractiveReserveWhenBulkSaturates() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 4, 40, 0.9, 2.0, 0.3, meterRegistry);
+
+        int bulkAdmitted = 0;
+        while (limiter.tryAcquire(bulkAdmitted % 2 == 0 ? BULK : BACKGROUND)) {
+            bulkAdmitted++;
+        }
+        int interactiveAdmitted = 0;
+        while (limiter.tryAcquire(INTERACTIVE)) {
+            interactiveAdmitted++;
+        }
+
+        assertThat(bulkAdmitted).isEqualTo(7);
+        assertThat(interactiveAdmitted).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+
+        limiter.release(BULK, ROUTE, TimeUnit.MILLISECONDS.toNanos(10), false);
+        assertThat(limiter.tryAcquire(BULK)).isTrue();
+        assertThat(limiter.tryAcquire(INTERACTIVE)).isFalse();
+    }
+
+    @Test
+    void tryAcquire_InteractiveMayUseTheWholeLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 4, 40, 0.9, 2.0, 0.3, meterRegistry);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(INTERACTIVE)).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(INTERACTIVE)).isFalse();
+        assertThat(limiter.tryAcquire(BULK)).isFalse();
+        limiter.releaseWithoutSample(INTERACTIVE);
+        assertThat(limiter.tryAcquire(BULK)).isTrue();
+    }
+
+    @Test
+    void releaseWithoutSample_FreesPermitWithoutMovingTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, 2.0, 0.3, meterRegistry);
+
+        limiter.tryAcquire(INTERACTIVE);
+        limiter.tryAcquire(INTERACTIVE);
+        limiter.releaseWithoutSample(INTERACTIVE);
+        limiter.releaseWithoutSample(INTERACTIVE);
+
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void slowProcedure_ShedsExcessWorkInsteadOfQueueing() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS SLOW_PROC AS 'void slowProc(int millis) throws Exception { Thread.sleep(millis); }'");
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 10, 0.9, 2.0, 0.3, meterRegistry);
+
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                if (!limiter.tryAcquire(INTERACTIVE)) {
+                    return false;
+                }
+                long began = System.nanoTime();
+                try {
+                    jdbcTemplate.execute("CALL SLOW_PROC(200)");
+                } finally {
+                    limiter.release(INTERACTIVE, ROUTE, System.nanoTime() - began, false);
+                }
+                return true;
+            }));
+        }
+        start.countDown();
+
+        int admitted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(10, TimeUnit.SECONDS)) {
+                admitted++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(admitted).isLessThanOrEqualTo(4);
+        assertThat(limiter.getRejectedCount()).isEqualTo(callers - admitted);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,110 @@
+package com.bny.lfdapi.security;
+
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class InternalSecurityFilterTest {
+
+    private final StatementCancellationRegistry cancellationRegistry = mock(StatementCancellationRegistry.class);
+    private final InternalSecurityFilter filter = new InternalSecurityFilter();
+
+    @BeforeEach
+    void wireRegistry() {
+        ReflectionTestUtils.setField(filter, "cancellationRegistry", cancellationRegistry);
+    }
+
+    @Test
+    void relativeTimeoutStartsTheBudget() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(InternalSecurityFilter.TIMEOUT_HEADER, "2000");
+
+        assertThat(budgetSeenBy(request)).isBetween(1_500L, 2_000L);
+    }
+
+    @Test
+    void absoluteDeadlineCountsTimeSpentBeforeArrival() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(InternalSecurityFilter.TIMEOUT_HEADER, "2000");
+        request.addHeader(InternalSecurityFilter.DEADLINE_HEADER, String.valueOf(System.currentTimeMillis() + 700));
+
+        assertThat(budgetSeenBy(request)).isBetween(200L, 700L);
+    }
+
+    @Test
+    void relativeTimeoutCapsAnAbsoluteDeadlineFromAClockBehind() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(InternalSecurityFilter.TIMEOUT_HEADER, "2000");
+        request.addHeader(InternalSecurityFilter.DEADLINE_HEADER, String.valueOf(System.currentTimeMillis() + 60_000));
+
+        assertThat(budgetSeenBy(request)).isBetween(1_500L, 2_000L);
+    }
+
+    @Test
+    void requestWhoseDeadlinePassedInTransitIsRejected() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(InternalSecurityFilter.TIMEOUT_HEADER, "2000");
+        request.addHeader(InternalSecurityFilter.DEADLINE_HEADER, String.valueOf(System.currentTimeMillis() - 50));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Boolean> reached = new AtomicReference<>(false);
+
+        filter.doFilter(request, response, (req, res) -> reached.set(true));
+
+        assertThat(response.getStatus()).isEqualTo(504);
+        assertThat(reached.get()).isFalse();
+    }
+
+    @Test
+    void callerThatStopsReadingHasItsStatementsCancelled() {
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+            throw new IOException("Broken pipe");
+        })).isInstanceOf(IOException.class);
+
+        verify(cancellationRegistry).cancel("req-1");
+    }
+
+    @Test
+    void asyncRequestThatErrorsHasItsStatementsCancelled() throws Exception {
+        MockHttpServletRequest request = request();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(new AsyncEvent(asyncContext, new IOException("Connection reset")));
+        }
+
+        verify(cancellationRegistry).cancel("req-1");
+    }
+
+    private Long budgetSeenBy(MockHttpServletRequest request) throws Exception {
+        AtomicReference<Long> seen = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> seen.set(InternalSecurityContextHolder.getContext().remainingMillis()));
+        return seen.get();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/internal/accounts/ACC1");
+        request.addHeader("X-User-ID", "user-1");
+        request.addHeader("X-Advisor-ID", "ADV001");
+        request.addHeader("X-Request-ID", "req-1");
+        request.addHeader("X-Timestamp", "2024-01-01T00:00:00");
+        return request;
+    }
+}
@@ -0,0 +1,215 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import com.bny.lfdapi.security.InternalRequestContext;
+import com.bny.lfdapi.security.InternalSecurityContextHolder;
+import com.bny.shared.dto.response.AccountDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AccountDataServiceTest {
+
+    private final StatementCancellationRegistry cancellationRegistry = spy(new StatementCancellationRegistry());
+    private final ExecutorService batchExecutor = Executors.newCachedThreadPool();
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        ReadPathFixture fixture = new ReadPathFixture("account_batch");
+        fixture.seed(1, 6, 1);
+        jdbcTemplate = spy(fixture.jdbcTemplate);
+    }
+
+    @AfterEach
+    void stopBatchExecutor() {
+        batchExecutor.shutdownNow();
+    }
+
+    @Test
+    void getAccountsByIdsKeepsRequestOrderAndSkipsUnknownIds() {
+        AccountDataService service = service(0);
+
+        Map<String, AccountDto> accounts = service.getAccountsByIds(List.of("ACC0-3", "MISSING", "ACC0-1", "ACC0-3"));
+
+        assertThat(accounts.keySet()).containsExactly("ACC0-3", "ACC0-1");
+        assertThat(accounts.get("ACC0-1").getClientName()).isEqualTo("Client 0001");
+    }
+
+    @Test
+    void getAccountsByClientIdUsesTheClientKey() {
+        AccountDataService service = service(0);
+
+        assertThat(service.getAccountsByClientId("C0-2")).extracting(AccountDto::getAccountId).containsExactly("ACC0-2");
+        assertThat(service.getAccountsByClientId("MISSING")).isEmpty();
+    }
+
+    @Test
+    void concurrentLookupsWithinTheWindowShareOneQuery() throws Exception {
+        AccountDataService service = service(300);
+        List<String> requested = List.of("ACC0-0", "ACC0-2", "ACC0-4", "ACC0-2");
+
+        ExecutorService callers = Executors.newFixedThreadPool(requested.size());
+        try {
+            List<Future<AccountDto>> results = callers.invokeAll(requested.stream()
+                .map(id -> (Callable<AccountDto>) () -> service.getAccountById(id))
+                .toList(), 5, TimeUnit.SECONDS);
+
+            for (int i = 0; i < requested.size(); i++) {
+                assertThat(results.get(i).get().getAccountId()).isEqualTo(requested.get(i));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void batchedLookupOfUnknownAccountFails() {
+        AccountDataService service = service(1);
+
+        assertThatThrownBy(() -> service.getAccountById("MISSING"))
+            .hasMessage("Account not found: MISSING");
+    }
+
+    @Test
+    void batchRunsUnderItsOwnRequestIdWithinTheCallersDeadline() {
+        AccountDataService service = service(1);
+        List<InternalRequestContext> seen = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            seen.add(InternalSecurityContextHolder.getContext());
+            return invocation.callRealMethod();
+        }).when(jdbcTemplate).queryForList(anyString(), any(Object[].class));
+
+        InternalSecurityContextHolder.setContext(InternalRequestContext.builder()
+            .requestId("req-leader")
+            .deadlineNanos(System.nanoTime() + TimeUnit.SECONDS.toNanos(5))
+            .build());
+        try {
+            assertThat(service.getAccountById("ACC0-1").getAccountId()).isEqualTo("ACC0-1");
+            assertThat(InternalSecurityContextHolder.getContext().getRequestId()).isEqualTo("req-leader");
+        } finally {
+            InternalSecurityContextHolder.clearContext();
+        }
+
+        assertThat(seen).hasSize(1);
+        assertThat(seen.get(0).getRequestId()).isNotEqualTo("req-leader");
+        assertThat(seen.get(0).remainingMillis()).isBetween(1L, 5_000L);
+    }
+
+    @Test
+    void cancellingTheCallerThatOpenedTheBatchLeavesTheOthersTheirResult() throws Exception {
+        AccountDataService service = service(300);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<AccountDto> leader = callers.submit(() -> {
+                InternalSecurityContextHolder.setContext(InternalRequestContext.builder().requestId("req-leader").build());
+                try {
+                    return service.getAccountById("ACC0-0");
+                } finally {
+                    InternalSecurityContextHolder.clearContext();
+                }
+            });
+            Thread.sleep(50);
+            Future<AccountDto> follower = callers.submit(() -> service.getAccountById("ACC0-3"));
+            Thread.sleep(50);
+            cancellationRegistry.cancel("req-leader");
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(CancellationException.class);
+            assertThat(follower.get(5, TimeUnit.SECONDS).getAccountId()).isEqualTo("ACC0-3");
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void cancellingEveryCallerCancelsTheBatchQuery() throws Exception {
+        AccountDataService service = service(1);
+        List<String> batchIds = new CopyOnWriteArrayList<>();
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            batchIds.add(InternalSecurityContextHolder.getContext().getRequestId());
+            querying.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(jdbcTemplate).queryForList(anyString(), any(Object[].class));
+
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<AccountDto> caller = callers.submit(() -> {
+                InternalSecurityContextHolder.setContext(InternalRequestContext.builder().requestId("req-solo").build());
+                try {
+                    return service.getAccountById("ACC0-0");
+                } finally {
+                    InternalSecurityContextHolder.clearContext();
+                }
+            });
+            assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+            cancellationRegistry.cancel("req-solo");
+
+            assertThatThrownBy(() -> caller.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(CancellationException.class);
+            verify(cancellationRegistry).cancel(batchIds.get(0));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void callerGivesUpAtItsOwnDeadlineWhileOthersGetTheBatch() throws Exception {
+        AccountDataService service = service(300);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<AccountDto> patient = callers.submit(() -> service.getAccountById("ACC0-0"));
+            Thread.sleep(50);
+            Future<AccountDto> hurried = callers.submit(() -> {
+                InternalSecurityContextHolder.setContext(InternalRequestContext.builder()
+                    .requestId("req-hurried")
+                    .deadlineNanos(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100))
+                    .build());
+                try {
+                    return service.getAccountById("ACC0-1");
+                } finally {
+                    InternalSecurityContextHolder.clearContext();
+                }
+            });
+
+            assertThatThrownBy(() -> hurried.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(QueryTimeoutException.class);
+            assertThat(patient.get(5, TimeUnit.SECONDS).getAccountId()).isEqualTo("ACC0-0");
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private AccountDataService service(long windowMillis) {
+        AccountDataService service = new AccountDataService(windowMillis, 100, batchExecutor);
+        ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(service, "cancellationRegistry", cancellationRegistry);
+        return service;
+    }
+}
@@ -0,0 +1,90 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.dto.response.AccountSummariesResponse;
+import com.bny.shared.dto.response.AccountSummaryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountSummaryServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DataVersionService dataVersionService;
+
+    private AccountSummaryService accountSummaryService;
+
+    private List<AccountSummaryDto> accounts;
+
+    @BeforeEach
+    void setUp() {
+        accountSummaryService = new AccountSummaryService(10);
+        ReflectionTestUtils.setField(accountSummaryService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(accountSummaryService, "dataVersionService", dataVersionService);
+
+        accounts = List.of(
+            summary("ACC001", "client1", 3, "30000", "27000"),
+            summary("ACC002", "client1", 1, "10000", "12000"),
+            summary("ACC003", "client2", 0, "0", "0"));
+    }
+
+    @Test
+    void rollUp_AggregatesAdvisorTotals() {
+        AccountSummariesResponse response = accountSummaryService.rollUp("advisor123", accounts);
+
+        assertThat(response.getAdvisorId()).isEqualTo("advisor123");
+        assertThat(response.getClientCount()).isEqualTo(2);
+        assertThat(response.getAccountCount()).isEqualTo(3);
+        assertThat(response.getHoldingsCount()).isEqualTo(4);
+        assertThat(response.getTotalMarketValue()).isEqualByComparingTo("40000");
+        assertThat(response.getTotalCostBasis()).isEqualByComparingTo("39000");
+        assertThat(response.getTotalUnrealizedGainLoss()).isEqualByComparingTo("1000");
+        assertThat(response.getTotalUnrealizedGainLossPercent()).isEqualByComparingTo("2.56");
+        assertThat(response.getResultCode()).isEqualTo(0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAdvisorSummary_RefreshesOnlyWhenPricesOrHoldingsChange() {
+        when(dataVersionService.getAdvisorHoldingsVersion("advisor123")).thenReturn("4:1:1", "4:1:1", "4:1:9");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("advisor123"))).thenReturn(accounts);
+
+        accountSummaryService.getAdvisorSummary("advisor123");
+        AccountSummariesResponse cached = accountSummaryService.getAdvisorSummary("advisor123");
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq("advisor123"));
+        assertThat(cached.getAccountCount()).isEqualTo(3);
+
+        accountSummaryService.getAdvisorSummary("advisor123");
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), eq("advisor123"));
+    }
+
+    private AccountSummaryDto summary(String accountId, String clientId, int holdings,
+                                      String marketValue, String costBasis) {
+        return AccountSummaryDto.builder()
+            .accountId(accountId)
+            .clientId(clientId)
+            .holdingsCount(holdings)
+            .totalMarketValue(new BigDecimal(marketValue))
+            .totalCostBasis(new BigDecimal(costBasis))
+            .build();
+    }
+}
@@ -5,6 +5,8 @@ import com.bny.lfdapi.dto.response.AdvisorClientsResponse;
 import com.bny.lfdapi.dto.response.ClientSearchResponse;
 import com.bny.shared.dto.common.StoredProcedureRequest;
 import com.bny.shared.dto.common.StoredProcedureResponse;
+import com.bny.shared.dto.response.AccountDto;
+import com.bny.shared.dto.response.ClientDto;
 import com.bny.shared.service.StoredProcedureExecutor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -31,6 +34,12 @@ class ClientDataServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private AccountDataService accountDataService;
+
     @InjectMocks
     private ClientDataService clientDataService;
 
@@ -147,4 +156,30 @@ class ClientDataServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getClients()).isEmpty();
     }
+
+    @Test
+    void getClientById_RollsUpAccountsFromKeyedLookups() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("client_id", "client1");
+        row.put("client_name", "John Smith");
+        row.put("advisor_id", "advisor123");
+        when(jdbcTemplate.queryForList(anyString(), eq("client1"))).thenReturn(List.of(row));
+        when(accountDataService.getAccountsByClientId("client1")).thenReturn(List.of(
+            AccountDto.builder().accountId("ACC1").marketValue(new BigDecimal("1000.00")).build(),
+            AccountDto.builder().accountId("ACC2").marketValue(new BigDecimal("250.50")).build()));
+
+        ClientDto client = clientDataService.getClientById("client1");
+
+        assertThat(client.getClientName()).isEqualTo("John Smith");
+        assertThat(client.getAccounts()).extracting(AccountDto::getAccountId).containsExactly("ACC1", "ACC2");
+        assertThat(client.getAccountCount()).isEqualTo(2);
+        assertThat(client.getTotalMarketValue()).isEqualByComparingTo("1250.50");
+    }
+
+    @Test
+    void getClientById_UnknownClient() {
+        when(jdbcTemplate.queryForList(anyString(), eq("missing"))).thenReturn(List.of());
+
+        assertThat(clientDataService.getClientById("missing")).isNull();
+    }
 }
@@ -0,0 +1,91 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.dto.response.ConsolidatedHoldingsResponse;
+import com.bny.shared.dto.response.AccountPositionDto;
+import com.bny.shared.dto.response.ConsolidatedHoldingDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConsolidatedHoldingsServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DataVersionService dataVersionService;
+
+    private ConsolidatedHoldingsService consolidatedHoldingsService;
+
+    private List<ConsolidatedHoldingsService.PositionRow> rows;
+
+    @BeforeEach
+    void setUp() {
+        consolidatedHoldingsService = new ConsolidatedHoldingsService(10);
+        ReflectionTestUtils.setField(consolidatedHoldingsService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(consolidatedHoldingsService, "dataVersionService", dataVersionService);
+
+        rows = List.of(
+            row("ACC002", "AAPL", "50", "7000", "150.00"),
+            row("ACC001", "AAPL", "100", "12000", "150.00"),
+            row("ACC001", "BND", "100", "8000", "75.00"));
+    }
+
+    @Test
+    void consolidate_MergesPositionsBySymbol() {
+        ConsolidatedHoldingsResponse response = consolidatedHoldingsService.consolidate("client1", rows);
+
+        assertThat(response.getAccountCount()).isEqualTo(2);
+        assertThat(response.getTotalMarketValue()).isEqualByComparingTo("30000");
+        assertThat(response.getTotalCostBasis()).isEqualByComparingTo("27000");
+        assertThat(response.getHoldings()).extracting(ConsolidatedHoldingDto::getSymbol)
+            .containsExactly("AAPL", "BND");
+
+        ConsolidatedHoldingDto apple = response.getHoldings().get(0);
+        assertThat(apple.getQuantity()).isEqualByComparingTo("150");
+        assertThat(apple.getCostBasis()).isEqualByComparingTo("19000");
+        assertThat(apple.getMarketValue()).isEqualByComparingTo("22500");
+        assertThat(apple.getUnrealizedGainLossPercent()).isEqualByComparingTo("18.42");
+        assertThat(apple.getPortfolioPercent()).isEqualByComparingTo("75.00");
+        assertThat(apple.getAccounts()).extracting(AccountPositionDto::getAccountId)
+            .containsExactly("ACC001", "ACC002");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getConsolidatedHoldings_ReusesCachedResultWhileVersionUnchanged() {
+        when(dataVersionService.getClientHoldingsVersion("client1")).thenReturn("3:1:1", "3:1:1", "3:1:2");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("client1"))).thenReturn(rows);
+
+        consolidatedHoldingsService.getConsolidatedHoldings("client1");
+        consolidatedHoldingsService.getConsolidatedHoldings("client1");
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq("client1"));
+
+        consolidatedHoldingsService.getConsolidatedHoldings("client1");
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), eq("client1"));
+    }
+
+    private ConsolidatedHoldingsService.PositionRow row(
+            String accountId, String symbol, String quantity, String costBasis, String price) {
+        return new ConsolidatedHoldingsService.PositionRow(accountId, accountId + "-NUM", "INDIVIDUAL",
+            symbol, symbol + " Security", "EQUITY", "Technology",
+            new BigDecimal(quantity), new BigDecimal(costBasis), new BigDecimal(price));
+    }
+}
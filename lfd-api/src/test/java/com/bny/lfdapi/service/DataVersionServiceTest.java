@@ -0,0 +1,141 @@
+package com.bny.lfdapi.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataVersionServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DataVersionService dataVersionService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:data_version;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE clients (client_id VARCHAR(50) PRIMARY KEY, client_name VARCHAR(200), advisor_id VARCHAR(50), last_updated TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE accounts (account_id VARCHAR(50) PRIMARY KEY, client_id VARCHAR(50), last_updated TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE holdings (holding_id VARCHAR(50) PRIMARY KEY, account_id VARCHAR(50), symbol VARCHAR(20), last_updated TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE securities (symbol VARCHAR(20) PRIMARY KEY, last_price_update TIMESTAMP)");
+        jdbcTemplate.execute("""
+            CREATE TABLE table_versions (table_name VARCHAR(64) NOT NULL, slot TINYINT NOT NULL,
+                version BIGINT NOT NULL, PRIMARY KEY (table_name, slot))
+        """);
+        jdbcTemplate.update("INSERT INTO clients VALUES ('CLI001', 'Ann', 'ADV001', TIMESTAMP '2024-01-01 10:00:00')");
+        jdbcTemplate.update("INSERT INTO clients VALUES ('CLI002', 'Bob', 'ADV001', TIMESTAMP '2024-01-01 10:00:00')");
+        jdbcTemplate.update("INSERT INTO accounts VALUES ('ACC001', 'CLI001', TIMESTAMP '2024-01-01 10:00:00')");
+        jdbcTemplate.update("INSERT INTO securities VALUES ('AAPL', TIMESTAMP '2024-01-01 10:00:00')");
+        jdbcTemplate.update("INSERT INTO holdings VALUES ('H1', 'ACC001', 'AAPL', TIMESTAMP '2024-01-01 10:00:00')");
+
+        TableVersionService tableVersionService = new TableVersionService(60_000);
+        ReflectionTestUtils.setField(tableVersionService, "jdbcTemplate", jdbcTemplate);
+        dataVersionService = new DataVersionService();
+        ReflectionTestUtils.setField(dataVersionService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(dataVersionService, "tableVersionService", tableVersionService);
+    }
+
+    @Test
+    void writesWithinTheSameSecondChangeTheVersionThroughTheCounters() {
+        String before = dataVersionService.getHoldingsVersion("ACC001");
+        bump("holdings", "ACC001");
+        String afterHoldings = dataVersionService.getHoldingsVersion("ACC001");
+        bump("securities", "AAPL");
+        String afterPrice = dataVersionService.getHoldingsVersion("ACC001");
+        bump("accounts", "CLI001");
+        String afterAccount = dataVersionService.getHoldingsVersion("ACC001");
+
+        assertThat(List.of(before, afterHoldings, afterPrice, afterAccount)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void countersAreTheOnlyQueryOnceTheTableIsReadable() {
+        jdbcTemplate.execute("DROP TABLE holdings");
+
+        assertThat(dataVersionService.getHoldingsVersion("ACC001")).isEqualTo("v0.0.0.0");
+        assertThat(dataVersionService.getClientHoldingsVersion("CLI001")).isEqualTo("v0.0.0.0");
+    }
+
+    @Test
+    void holdingsCountersOfOtherAccountsLeaveTheAccountVersionAlone() {
+        String before = dataVersionService.getHoldingsVersion("ACC001");
+
+        bump("holdings", otherSlotThan("ACC001"));
+
+        assertThat(dataVersionService.getHoldingsVersion("ACC001")).isEqualTo(before);
+        assertThat(dataVersionService.getAdvisorHoldingsVersion("ADV001")).isNotEqualTo("v0.0.0.0");
+    }
+
+    @Test
+    void accountWithoutHoldingsChangesTheClientVersion() {
+        dropCounters();
+        String before = dataVersionService.getClientHoldingsVersion("CLI002");
+
+        jdbcTemplate.update("INSERT INTO accounts VALUES ('ACC002', 'CLI002', TIMESTAMP '2024-01-01 10:00:00')");
+
+        assertThat(dataVersionService.getClientHoldingsVersion("CLI002")).isNotEqualTo(before).startsWith("0:");
+    }
+
+    @Test
+    void accountMovingBetweenClientsChangesBothVersions() {
+        dropCounters();
+        String from = dataVersionService.getClientHoldingsVersion("CLI001");
+        String to = dataVersionService.getClientHoldingsVersion("CLI002");
+
+        jdbcTemplate.update("UPDATE accounts SET client_id = 'CLI002' WHERE account_id = 'ACC001'");
+
+        assertThat(dataVersionService.getClientHoldingsVersion("CLI001")).isNotEqualTo(from);
+        assertThat(dataVersionService.getClientHoldingsVersion("CLI002")).isNotEqualTo(to);
+    }
+
+    @Test
+    void clientAndAccountColumnUpdatesChangeTheAdvisorVersion() {
+        dropCounters();
+        String before = dataVersionService.getAdvisorHoldingsVersion("ADV001");
+        jdbcTemplate.update("UPDATE clients SET client_name = 'Bobby', last_updated = TIMESTAMP '2024-01-02 10:00:00' WHERE client_id = 'CLI002'");
+        String afterClient = dataVersionService.getAdvisorHoldingsVersion("ADV001");
+        jdbcTemplate.update("UPDATE accounts SET last_updated = TIMESTAMP '2024-01-03 10:00:00' WHERE account_id = 'ACC001'");
+        String afterAccount = dataVersionService.getAdvisorHoldingsVersion("ADV001");
+
+        assertThat(List.of(before, afterClient, afterAccount)).doesNotHaveDuplicates();
+        assertThat(afterAccount).startsWith("1:");
+    }
+
+    @Test
+    void accountVersionCoversTheAccountRow() {
+        dropCounters();
+        String before = dataVersionService.getHoldingsVersion("ACC001");
+
+        jdbcTemplate.update("UPDATE accounts SET last_updated = TIMESTAMP '2024-01-02 10:00:00' WHERE account_id = 'ACC001'");
+
+        assertThat(dataVersionService.getHoldingsVersion("ACC001")).isNotEqualTo(before);
+        assertThat(dataVersionService.getAccountsHoldingsVersion(List.of("ACC001", "ACC404")))
+            .startsWith("1:");
+    }
+
+    // Without table_versions the service falls back to the timestamp probe
+    private void dropCounters() {
+        jdbcTemplate.execute("DROP TABLE table_versions");
+    }
+
+    private static String otherSlotThan(String key) {
+        for (int i = 0; ; i++) {
+            if (TableVersions.slotOf("ACC" + i) != TableVersions.slotOf(key)) {
+                return "ACC" + i;
+            }
+        }
+    }
+
+    private void bump(String table, String key) {
+        int slot = TableVersions.slotOf(key);
+        if (jdbcTemplate.update("UPDATE table_versions SET version = version + 1 WHERE table_name = ? AND slot = ?", table, slot) == 0) {
+            jdbcTemplate.update("INSERT INTO table_versions VALUES (?, ?, 1)", table, slot);
+        }
+    }
+}
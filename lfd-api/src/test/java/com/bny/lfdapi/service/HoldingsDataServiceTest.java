@@ -1,24 +1,34 @@
 package com.bny.lfdapi.service;
 
+import com.bny.lfdapi.cache.HoldingsSnapshot;
 import com.bny.shared.dto.request.HoldingsRequest;
+import com.bny.shared.dto.response.HoldingDto;
 import com.bny.lfdapi.dto.response.HoldingsResponse;
 import com.bny.lfdapi.dto.response.PortfolioSummaryResponse;
 import com.bny.shared.dto.common.StoredProcedureRequest;
 import com.bny.shared.dto.common.StoredProcedureResponse;
 import com.bny.shared.service.StoredProcedureExecutor;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.h2.tools.SimpleResultSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.sql.Types;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +41,12 @@ class HoldingsDataServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private HoldingsSnapshotService holdingsSnapshotService;
+
+    @Mock
+    private DataVersionService dataVersionService;
+
     @InjectMocks
     private HoldingsDataService holdingsDataService;
 
@@ -167,4 +183,218 @@ class HoldingsDataServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getHoldings()).isEmpty();
     }
+
+    @Test
+    void getAccountHoldings_FromSnapshot() {
+        ReflectionTestUtils.setField(holdingsDataService, "snapshotEnabled", true);
+        HoldingsSnapshot snapshot = HoldingsSnapshot.builder()
+            .add("AAPL", "Apple Inc.", "Technology", "EQUITY",
+                new BigDecimal("100"), new BigDecimal("150.00"), new BigDecimal("12000"),
+                null, null, null)
+            .add("BND", "Vanguard Total Bond Market ETF", null, "FIXED_INCOME",
+                new BigDecimal("50"), new BigDecimal("75.00"), new BigDecimal("4000"),
+                null, null, null)
+            .build("account123", "2:0:0");
+        holdingsRequest.setAssetClasses(List.of("Fixed Income"));
+
+        when(holdingsSnapshotService.getSnapshot("account123")).thenReturn(snapshot);
+
+        HoldingsResponse response = holdingsDataService.getAccountHoldings(holdingsRequest);
+
+        assertThat(response.getResultCode()).isEqualTo(0);
+        assertThat(response.getTotalCount()).isEqualTo(1);
+        assertThat(response.getHoldings()).hasSize(1);
+        assertThat(response.getHoldings().get(0).getSymbol()).isEqualTo("BND");
+        verify(storedProcedureExecutor, never()).execute(any(StoredProcedureRequest.class));
+    }
+
+    @Test
+    void getAccountHoldings_SinceVersion_ReturnsAccountWideDelta() {
+        ReflectionTestUtils.setField(holdingsDataService, "snapshotEnabled", true);
+        HoldingsSnapshot snapshot = HoldingsSnapshot.builder()
+            .add("AAPL", "Apple Inc.", "Technology", "EQUITY",
+                new BigDecimal("100"), new BigDecimal("150.00"), new BigDecimal("12000"),
+                null, null, null, 5_000L, 1_000L)
+            .add("BND", "Vanguard Total Bond Market ETF", null, "FIXED_INCOME",
+                new BigDecimal("50"), new BigDecimal("75.00"), new BigDecimal("4000"),
+                null, null, null, 1_000L, 1_000L)
+            .build("account123", "2:5000:1000");
+        String since = "2:4000:2000:" + snapshot.getDataVersion().substring(snapshot.getDataVersion().lastIndexOf(':') + 1);
+        holdingsRequest.setAssetClasses(List.of("Fixed Income"));
+        holdingsRequest.setSince(since);
+
+        when(holdingsSnapshotService.getSnapshot("account123")).thenReturn(snapshot);
+
+        HoldingsResponse response = holdingsDataService.getAccountHoldings(holdingsRequest);
+
+        assertThat(response.getDelta()).isTrue();
+        assertThat(response.getHoldings()).extracting(HoldingDto::getSymbol).containsExactly("AAPL");
+        assertThat(response.getHoldingIds()).isNull();
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(response.getTotalMarketValue()).isEqualByComparingTo("18750");
+        assertThat(response.getDataVersion()).isEqualTo(snapshot.getDataVersion());
+    }
+
+    @Test
+    void streamAccountHoldings_FromSnapshot_WritesPageRowsThenTrailer() throws Exception {
+        ReflectionTestUtils.setField(holdingsDataService, "snapshotEnabled", true);
+        ObjectMapper realMapper = new ObjectMapper().findAndRegisterModules();
+        ReflectionTestUtils.setField(holdingsDataService, "objectMapper", realMapper);
+        HoldingsSnapshot snapshot = HoldingsSnapshot.builder()
+            .add("AAPL", "Apple Inc.", "Technology", "EQUITY",
+                new BigDecimal("100"), new BigDecimal("150.00"), new BigDecimal("12000"),
+                null, null, null)
+            .add("BND", "Vanguard Total Bond Market ETF", null, "FIXED_INCOME",
+                new BigDecimal("50"), new BigDecimal("75.00"), new BigDecimal("4000"),
+                null, null, null)
+            .add("MSFT", "Microsoft Corporation", "Technology", "EQUITY",
+                new BigDecimal("10"), new BigDecimal("300.00"), new BigDecimal("2500"),
+                null, null, null)
+            .build("account123", "3:0:0");
+        holdingsRequest.setPageOffset(1);
+        holdingsRequest.setPageSize(1);
+
+        when(holdingsSnapshotService.getSnapshot("account123")).thenReturn(snapshot);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        holdingsDataService.streamAccountHoldings(holdingsRequest, out);
+
+        JsonNode body = realMapper.readTree(out.toByteArray());
+        assertThat(body.fieldNames().next()).isEqualTo("holdings");
+        assertThat(body.get("holdings")).hasSize(1);
+        assertThat(body.get("holdings").get(0).get("symbol").asText()).isEqualTo("BND");
+        assertThat(body.get("totalCount").asInt()).isEqualTo(3);
+        assertThat(body.get("resultCode").asInt()).isEqualTo(0);
+        assertThat(body.has("errorMessage")).isFalse();
+    }
+
+    @Test
+    void streamAccountHoldings_FromStoredProcedure_WritesRowsAsTheyAreRead() throws Exception {
+        ObjectMapper realMapper = new ObjectMapper().findAndRegisterModules();
+        ReflectionTestUtils.setField(holdingsDataService, "objectMapper", realMapper);
+        SimpleResultSet rows = new SimpleResultSet();
+        rows.addColumn("symbol", Types.VARCHAR, 20, 0);
+        rows.addColumn("market_value", Types.DECIMAL, 19, 4);
+        rows.addRow("AAPL", new BigDecimal("15000.0000"));
+        rows.addRow("MSFT", new BigDecimal("3000.0000"));
+
+        when(storedProcedureExecutor.execute(any(StoredProcedureRequest.class), any(RowCallbackHandler.class)))
+            .thenAnswer(invocation -> {
+                RowCallbackHandler handler = invocation.getArgument(1);
+                while (rows.next()) {
+                    handler.processRow(rows);
+                }
+                return StoredProcedureResponse.builder()
+                    .resultCode(0)
+                    .outputParameters(Map.of("p_total_count", 2))
+                    .build();
+            });
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        holdingsDataService.streamAccountHoldings(holdingsRequest, out);
+
+        JsonNode body = realMapper.readTree(out.toByteArray());
+        assertThat(body.get("holdings")).hasSize(2);
+        assertThat(body.get("holdings").get(1).get("symbol").asText()).isEqualTo("MSFT");
+        assertThat(body.get("holdings").get(1).get("marketValue").decimalValue()).isEqualByComparingTo("3000");
+        assertThat(body.get("totalCount").asInt()).isEqualTo(2);
+        verify(storedProcedureExecutor, never()).execute(any(StoredProcedureRequest.class));
+    }
+
+    @Test
+    void getAccountHoldings_SnapshotFailureFallsBackToStoredProcedure() {
+        ReflectionTestUtils.setField(holdingsDataService, "snapshotEnabled", true);
+        StoredProcedureResponse spResponse = StoredProcedureResponse.builder()
+            .resultCode(0)
+            .data(mockHoldingsData)
+            .build();
+
+        when(holdingsSnapshotService.getSnapshot("account123"))
+            .thenThrow(new RuntimeException("Connection refused"));
+        when(storedProcedureExecutor.execute(any(StoredProcedureRequest.class)))
+            .thenReturn(spResponse);
+
+        HoldingsResponse response = holdingsDataService.getAccountHoldings(holdingsRequest);
+
+        assertThat(response.getHoldings()).hasSize(1);
+        verify(storedProcedureExecutor).execute(any(StoredProcedureRequest.class));
+    }
+
+    @Test
+    void getAccountHoldings_PassesNormalizedFilterAndSortToStoredProcedure() throws Exception {
+        holdingsRequest.setAssetClasses(List.of("Fixed Income", "equity"));
+        holdingsRequest.setSortField("securityName");
+        holdingsRequest.setSortDirection("asc");
+        StoredProcedureResponse spResponse = StoredProcedureResponse.builder()
+            .resultCode(0)
+            .data(new ArrayList<>())
+            .build();
+
+        when(objectMapper.writeValueAsString(List.of("FIXED_INCOME", "EQUITY")))
+            .thenReturn("[\"FIXED_INCOME\",\"EQUITY\"]");
+        when(storedProcedureExecutor.execute(any(StoredProcedureRequest.class)))
+            .thenReturn(spResponse);
+
+        holdingsDataService.getAccountHoldings(holdingsRequest);
+
+        ArgumentCaptor<StoredProcedureRequest> captor = ArgumentCaptor.forClass(StoredProcedureRequest.class);
+        verify(storedProcedureExecutor).execute(captor.capture());
+        Map<String, Object> parameters = captor.getValue().getParameters();
+        assertThat(parameters.get("p_asset_classes")).isEqualTo("[\"FIXED_INCOME\",\"EQUITY\"]");
+        assertThat(parameters.get("p_sort_field")).isEqualTo("security_name");
+        assertThat(parameters.get("p_sort_direction")).isEqualTo("ASC");
+    }
+
+    @Test
+    void getAccountHoldings_GroupedFallbackIsGroupedByTheStoredProcedure() {
+        holdingsRequest.setGroupBy("sector");
+        holdingsRequest.setPageOffset(1);
+        holdingsRequest.setPageSize(1);
+        StoredProcedureResponse spResponse = StoredProcedureResponse.builder()
+            .resultCode(0)
+            .data(List.of(
+                groupRow("Technology", 1, 3, "MSFT", "600.00", "400.00"),
+                groupRow("Technology", 2, 3, "AAPL", "600.00", "400.00"),
+                groupRow(null, 1, 1, "T-BILL", "400.00", "400.00")))
+            .outputParameters(Map.of("p_total_count", 4, "p_total_market_value", new BigDecimal("1000.00")))
+            .build();
+
+        when(storedProcedureExecutor.execute(any(StoredProcedureRequest.class)))
+            .thenReturn(spResponse);
+
+        HoldingsResponse response = holdingsDataService.getAccountHoldings(holdingsRequest);
+
+        ArgumentCaptor<StoredProcedureRequest> captor = ArgumentCaptor.forClass(StoredProcedureRequest.class);
+        verify(storedProcedureExecutor).execute(captor.capture());
+        assertThat(captor.getValue().getProcedureName()).isEqualTo("sp_get_account_holdings_grouped");
+        assertThat(captor.getValue().getParameters())
+            .containsEntry("p_group_field", "sector")
+            .containsEntry("p_page_offset", 1)
+            .containsEntry("p_page_size", 1);
+
+        assertThat(response.getTotalCount()).isEqualTo(4);
+        assertThat(response.getGroups()).hasSize(2);
+        assertThat(response.getGroups().get(0).getGroupKey()).isEqualTo("Technology");
+        assertThat(response.getGroups().get(0).getHoldingsCount()).isEqualTo(3);
+        assertThat(response.getGroups().get(0).getWeight()).isEqualByComparingTo("60.00");
+        assertThat(response.getGroups().get(0).getHoldings())
+            .extracting(HoldingDto::getSymbol).containsExactly("AAPL");
+        assertThat(response.getGroups().get(1).getGroupKey()).isEqualTo("Unclassified");
+        assertThat(response.getGroups().get(1).getHoldings()).isEmpty();
+    }
+
+    private static Map<String, Object> groupRow(String groupKey, int groupRow, int groupCount, String symbol,
+                                                String groupMarketValue, String groupCostBasis) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("account_id", "account123");
+        row.put("symbol", symbol);
+        row.put("sector", groupKey);
+        row.put("market_value", new BigDecimal("100.00"));
+        row.put("group_key", groupKey);
+        row.put("group_row", groupRow);
+        row.put("group_count", groupCount);
+        row.put("group_market_value", new BigDecimal(groupMarketValue));
+        row.put("group_cost_basis", new BigDecimal(groupCostBasis));
+        return row;
+    }
 }
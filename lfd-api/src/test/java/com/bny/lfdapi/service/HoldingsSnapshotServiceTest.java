@@ -0,0 +1,115 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.cache.HoldingsSnapshot;
+import com.bny.lfdapi.cache.HoldingsSnapshotCache;
+import com.bny.lfdapi.model.HoldingsSortField;
+import com.bny.shared.dto.response.HoldingDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class HoldingsSnapshotServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private HoldingsSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:snapshot-refresh;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("""
+            CREATE TABLE securities (symbol VARCHAR(20) PRIMARY KEY, security_name VARCHAR(200) NOT NULL,
+                sector VARCHAR(100), asset_class VARCHAR(20) NOT NULL, current_price DECIMAL(19,4) NOT NULL,
+                price_change DECIMAL(19,4), price_change_percent DECIMAL(19,4), last_price_update TIMESTAMP)
+        """);
+        jdbcTemplate.execute("""
+            CREATE TABLE holdings (holding_id VARCHAR(50) PRIMARY KEY, account_id VARCHAR(50) NOT NULL,
+                symbol VARCHAR(20) NOT NULL, quantity DECIMAL(19,4) NOT NULL, cost_basis DECIMAL(19,4) NOT NULL,
+                purchase_date TIMESTAMP, last_updated TIMESTAMP)
+        """);
+        jdbcTemplate.execute("CREATE TABLE clients (client_id VARCHAR(50) PRIMARY KEY, advisor_id VARCHAR(50), last_updated TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE accounts (account_id VARCHAR(50) PRIMARY KEY, client_id VARCHAR(50), last_updated TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO clients VALUES ('CLI001', 'ADV001', TIMESTAMP '2024-01-01 10:00:00')");
+        jdbcTemplate.update("INSERT INTO accounts VALUES ('ACC001', 'CLI001', TIMESTAMP '2024-01-01 10:00:00')");
+        for (String symbol : List.of("AAPL", "BND", "MSFT", "VTI")) {
+            jdbcTemplate.update("INSERT INTO securities VALUES (?, ?, 'Technology', 'EQUITY', 100, 1, 1, TIMESTAMP '2024-01-01 10:00:00')",
+                symbol, symbol + " Inc.");
+        }
+        for (String symbol : List.of("AAPL", "BND", "MSFT")) {
+            jdbcTemplate.update("INSERT INTO holdings VALUES (?, 'ACC001', ?, 10, 500, NULL, TIMESTAMP '2024-01-01 10:00:00')",
+                "ACC001-" + symbol, symbol);
+        }
+
+        // No table_versions table: versions fall back to the timestamp probe alone
+        TableVersionService tableVersionService = new TableVersionService(60_000);
+        ReflectionTestUtils.setField(tableVersionService, "jdbcTemplate", jdbcTemplate);
+        DataVersionService dataVersionService = new DataVersionService();
+        ReflectionTestUtils.setField(dataVersionService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(dataVersionService, "tableVersionService", tableVersionService);
+        snapshotService = new HoldingsSnapshotService();
+        ReflectionTestUtils.setField(snapshotService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(snapshotService, "dataVersionService", dataVersionService);
+        ReflectionTestUtils.setField(snapshotService, "snapshotCache", new HoldingsSnapshotCache(10));
+    }
+
+    @Test
+    void getSnapshot_PatchesStaleSnapshotWithChangedInsertedAndRemovedRows() {
+        HoldingsSnapshot before = snapshotService.getSnapshot("ACC001");
+
+        jdbcTemplate.update("UPDATE holdings SET quantity = 20, last_updated = TIMESTAMP '2024-01-02 09:00:00' WHERE symbol = 'AAPL'");
+        jdbcTemplate.update("UPDATE securities SET current_price = 110, last_price_update = TIMESTAMP '2024-01-02 09:00:00' WHERE symbol = 'MSFT'");
+        jdbcTemplate.update("DELETE FROM holdings WHERE symbol = 'BND'");
+        jdbcTemplate.update("INSERT INTO holdings VALUES ('ACC001-VTI', 'ACC001', 'VTI', 5, 400, NULL, TIMESTAMP '2024-01-02 09:00:00')");
+
+        HoldingsSnapshot after = snapshotService.getSnapshot("ACC001");
+
+        assertThat(after.getVersion()).isNotEqualTo(before.getVersion());
+        List<HoldingDto> rows = after.select(null, HoldingsSortField.SYMBOL, false, 0, 10).getHoldings();
+        assertThat(rows).extracting(HoldingDto::getSymbol).containsExactly("AAPL", "MSFT", "VTI");
+        assertThat(rows.get(0).getQuantity()).isEqualByComparingTo("20");
+        assertThat(rows.get(1).getCurrentPrice()).isEqualByComparingTo("110");
+        assertThat(after.getTotalMarketValue()).isEqualByComparingTo("3600");
+
+        HoldingsSnapshot.Delta delta = after.deltaSince(before.getDataVersion());
+        assertThat(delta.getUpserts()).extracting(HoldingDto::getSymbol).containsExactlyInAnyOrder("AAPL", "MSFT", "VTI");
+        assertThat(delta.getHoldingIds()).containsExactlyInAnyOrder("ACC001-AAPL", "ACC001-MSFT", "ACC001-VTI");
+    }
+
+    @Test
+    void getSnapshot_PatchesOnlyTheChangedLotOfASymbol() {
+        jdbcTemplate.update("INSERT INTO holdings VALUES ('ACC001-AAPL-2', 'ACC001', 'AAPL', 4, 300, NULL, TIMESTAMP '2024-01-01 10:00:00')");
+        HoldingsSnapshot before = snapshotService.getSnapshot("ACC001");
+
+        jdbcTemplate.update("UPDATE holdings SET quantity = 6, last_updated = TIMESTAMP '2024-01-02 09:00:00' WHERE holding_id = 'ACC001-AAPL-2'");
+
+        HoldingsSnapshot after = snapshotService.getSnapshot("ACC001");
+
+        List<HoldingDto> rows = after.select(null, HoldingsSortField.SYMBOL, false, 0, 10).getHoldings();
+        assertThat(rows).extracting(HoldingDto::getHoldingId)
+            .containsExactly("ACC001-AAPL", "ACC001-AAPL-2", "ACC001-BND", "ACC001-MSFT");
+        assertThat(rows).extracting(HoldingDto::getQuantity).extracting(BigDecimal::intValue).containsExactly(10, 6, 10, 10);
+        assertThat(rows.get(0).getTaxLotCount()).isEqualTo(2);
+
+        HoldingsSnapshot.Delta delta = after.deltaSince(before.getDataVersion());
+        assertThat(delta.getUpserts()).filteredOn(holding -> holding.getSymbol().equals("AAPL"))
+            .extracting(HoldingDto::getHoldingId, holding -> holding.getQuantity().intValue())
+            .containsExactlyInAnyOrder(tuple("ACC001-AAPL", 10), tuple("ACC001-AAPL-2", 6));
+        assertThat(delta.getHoldingIds()).isNull();
+    }
+
+    @Test
+    void getSnapshot_ReusesSnapshotWhileVersionIsUnchanged() {
+        HoldingsSnapshot first = snapshotService.getSnapshot("ACC001");
+
+        assertThat(snapshotService.getSnapshot("ACC001")).isSameAs(first);
+    }
+}
@@ -0,0 +1,234 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.cache.HoldingsSnapshotCache;
+import com.bny.lfdapi.dto.response.AdvisorClientsResponse;
+import com.bny.lfdapi.dto.response.HoldingsResponse;
+import com.bny.lfdapi.dto.response.PortfolioSummaryResponse;
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import com.bny.lfdapi.security.InternalRequestContext;
+import com.bny.lfdapi.security.InternalSecurityContextHolder;
+import com.bny.lfdapi.workload.ConnectionGate;
+import com.bny.lfdapi.workload.WorkloadClass;
+import com.bny.shared.dto.request.HoldingsRequest;
+import com.bny.shared.dto.response.AccountDto;
+import com.bny.shared.dto.response.ClientDto;
+import com.bny.shared.dto.response.HoldingDto;
+import com.bny.shared.enums.AccountType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactiveReadServiceTest {
+
+    private final ReadPathFixture fixture = new ReadPathFixture("reactive_read_service");
+    private final ConnectionGate connectionGate = new ConnectionGate(4, 2, 1, 5_000, new SimpleMeterRegistry());
+    private final StatementCancellationRegistry cancellationRegistry = new StatementCancellationRegistry();
+    private ConnectionPool pool;
+    private ReactiveReadService service;
+
+    @BeforeEach
+    void setUp() {
+        fixture.seed(2, 3, 4);
+        pool = fixture.connectionPool(4);
+        service = new ReactiveReadService();
+        ReflectionTestUtils.setField(service, "reactiveDatabaseClient", ReadPathFixture.databaseClient(pool));
+        ReflectionTestUtils.setField(service, "connectionGate", connectionGate);
+        ReflectionTestUtils.setField(service, "cancellationRegistry", cancellationRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        InternalSecurityContextHolder.clearContext();
+        pool.dispose();
+    }
+
+    @Test
+    void getAccountById_MapsAccountAndClientColumns() {
+        AccountDto account = service.getAccountById("ACC0-1").block();
+
+        assertThat(account).isNotNull();
+        assertThat(account.getClientName()).isEqualTo("Client 0001");
+        assertThat(account.getAccountType()).isEqualTo(AccountType.INDIVIDUAL);
+        assertThat(account.getMarketValue()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    void getAccountById_CompletesEmptyForUnknownAccount() {
+        assertThat(service.getAccountById("MISSING").blockOptional()).isEmpty();
+    }
+
+    @Test
+    void getHoldingsPage_SortsByMarketValueAndComputesPortfolioPercent() {
+        HoldingsResponse response = service.getHoldingsPage(holdingsRequest("ACC0-0", 1, 2)).block();
+
+        assertThat(response.getTotalCount()).isEqualTo(4);
+        assertThat(response.getHoldings()).extracting("symbol").containsExactly("SYM2", "SYM1");
+        assertThat(response.getHoldings().get(0).getMarketValue()).isEqualByComparingTo("36");
+        assertThat(response.getHoldings().get(0).getPortfolioPercent()).isEqualByComparingTo("30.00");
+        assertThat(response.getHoldings().get(0).getUnrealizedGainLoss()).isEqualByComparingTo("21");
+    }
+
+    @Test
+    void getPortfolioSummary_AggregatesTotalsAndAllocation() {
+        PortfolioSummaryResponse summary = service.getPortfolioSummary("ACC0-0").block();
+
+        assertThat(summary.getHoldingsCount()).isEqualTo(4);
+        assertThat(summary.getTotalMarketValue()).isEqualByComparingTo("120");
+        assertThat(summary.getTotalCostBasis()).isEqualByComparingTo("50");
+        assertThat(summary.getTotalUnrealizedGainLossPercent()).isEqualByComparingTo("140.00");
+        assertThat(summary.getAssetAllocation()).extracting("assetClass")
+            .containsExactly("EQUITY", "CASH", "FIXED_INCOME");
+        assertThat(summary.getAssetAllocation().stream().map(a -> a.getPercentage()).reduce(BigDecimal.ZERO, BigDecimal::add))
+            .isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void getAdvisorClients_PagesClientsAndAttachesAccounts() {
+        AdvisorClientsResponse response = service.getAdvisorClients("ADV1", 1, 5).block();
+
+        assertThat(response.getTotalCount()).isEqualTo(3);
+        assertThat(response.getClients()).extracting("clientId").containsExactly("C1-1", "C1-2");
+        assertThat(response.getClients().get(0).getAccountCount()).isEqualTo(1);
+        assertThat(response.getClients().get(0).getAccounts().get(0).getAccountId()).isEqualTo("ACC1-1");
+        assertThat(response.getClients().get(1).getTotalMarketValue()).isEqualByComparingTo("3000");
+    }
+
+    @Test
+    void getHoldingsPage_MatchesTheJdbcPathForFiltersSortsAndGroups() {
+        HoldingsDataService jdbcPath = jdbcHoldingsDataService();
+        List<HoldingsRequest> requests = List.of(
+            holdingsRequest("ACC0-0", 0, 10),
+            holdingsRequest("ACC0-1", 1, 2, List.of("Fixed Income", "equity"), "symbol", "desc", null),
+            holdingsRequest("ACC1-2", 0, 3, null, "securityName", "asc", null),
+            holdingsRequest("ACC0-0", 0, 1, null, null, null, "sector"),
+            holdingsRequest("ACC1-0", 1, 5, List.of("EQUITY", "CASH"), "quantity", null, "assetClass"));
+
+        for (HoldingsRequest request : requests) {
+            HoldingsResponse reactive = service.getHoldingsPage(request).block();
+            HoldingsResponse jdbc = jdbcPath.getAccountHoldings(request);
+
+            assertThat(reactive.getTotalCount()).isEqualTo(jdbc.getTotalCount());
+            assertThat(reactive.getHoldings()).isEqualTo(jdbc.getHoldings());
+            assertThat(reactive.getGroups()).isEqualTo(jdbc.getGroups());
+        }
+        HoldingDto first = service.getHoldingsPage(holdingsRequest("ACC0-0", 0, 1)).block().getHoldings().get(0);
+        assertThat(first.getPriceDate()).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(first.getTaxLotCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getPortfolioSummary_MatchesTheJdbcPathGroupedByAssetClass() {
+        PortfolioSummaryResponse summary = service.getPortfolioSummary("ACC1-1").block();
+        HoldingsResponse grouped = jdbcHoldingsDataService().getAccountHoldings(
+            holdingsRequest("ACC1-1", 0, 0, null, null, null, "assetClass"));
+
+        assertThat(summary.getHoldingsCount()).isEqualTo(grouped.getTotalCount());
+        assertThat(summary.getAssetAllocation()).extracting("assetClass", "marketValue", "percentage", "holdingsCount")
+            .containsExactlyElementsOf(grouped.getGroups().stream()
+                .map(group -> tuple(group.getGroupKey(), group.getMarketValue(), group.getWeight(), group.getHoldingsCount()))
+                .toList());
+    }
+
+    @Test
+    void getAdvisorClients_MatchesTheJdbcClientLookup() {
+        AccountDataService accountDataService = new AccountDataService(0, 1, Runnable::run);
+        ReflectionTestUtils.setField(accountDataService, "jdbcTemplate", fixture.jdbcTemplate);
+        ClientDataService clientDataService = new ClientDataService();
+        ReflectionTestUtils.setField(clientDataService, "jdbcTemplate", fixture.jdbcTemplate);
+        ReflectionTestUtils.setField(clientDataService, "accountDataService", accountDataService);
+
+        for (ClientDto client : service.getAdvisorClients("ADV0", 0, 5).block().getClients()) {
+            assertThat(client).isEqualTo(clientDataService.getClientById(client.getClientId()));
+        }
+    }
+
+    @Test
+    void reads_FailFastWhenTheWorkloadQuotaIsExhaustedAndReturnTheirPermits() throws Exception {
+        connectionGate.acquire(WorkloadClass.BULK);
+        connectionGate.acquire(WorkloadClass.BULK);
+        inRequest("req-1", WorkloadClass.BULK, null);
+
+        assertThatThrownBy(() -> service.getHoldingsPage(holdingsRequest("ACC0-0", 0, 2)).block())
+            .isInstanceOf(TransientDataAccessResourceException.class);
+
+        connectionGate.release(WorkloadClass.BULK);
+        connectionGate.release(WorkloadClass.BULK);
+        assertThat(service.getHoldingsPage(holdingsRequest("ACC0-0", 0, 2)).block().getTotalCount()).isEqualTo(4);
+        assertThat(connectionGate.getInUse(WorkloadClass.BULK)).isZero();
+    }
+
+    @Test
+    void reads_FailOnceTheRequestDeadlineHasPassed() {
+        inRequest("req-2", WorkloadClass.INTERACTIVE, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertThatThrownBy(() -> service.getAccountById("ACC0-1").block())
+            .isInstanceOf(QueryTimeoutException.class);
+    }
+
+    @Test
+    void reads_AreAbortedByACancelForTheRequest() {
+        inRequest("req-3", WorkloadClass.INTERACTIVE, null);
+        cancellationRegistry.cancel("req-3");
+
+        assertThatThrownBy(() -> service.getPortfolioSummary("ACC0-0").block())
+            .isInstanceOf(TransientDataAccessResourceException.class)
+            .hasMessageContaining("cancelled");
+        assertThat(connectionGate.getInUse(WorkloadClass.INTERACTIVE)).isZero();
+    }
+
+    private HoldingsDataService jdbcHoldingsDataService() {
+        DataVersionService dataVersionService = mock(DataVersionService.class);
+        when(dataVersionService.getHoldingsVersion(anyString())).thenReturn("v1");
+        HoldingsSnapshotService snapshotService = new HoldingsSnapshotService();
+        ReflectionTestUtils.setField(snapshotService, "jdbcTemplate", fixture.jdbcTemplate);
+        ReflectionTestUtils.setField(snapshotService, "dataVersionService", dataVersionService);
+        ReflectionTestUtils.setField(snapshotService, "snapshotCache", new HoldingsSnapshotCache(10));
+        HoldingsDataService holdingsDataService = new HoldingsDataService();
+        ReflectionTestUtils.setField(holdingsDataService, "holdingsSnapshotService", snapshotService);
+        ReflectionTestUtils.setField(holdingsDataService, "dataVersionService", dataVersionService);
+        ReflectionTestUtils.setField(holdingsDataService, "snapshotEnabled", true);
+        return holdingsDataService;
+    }
+
+    private static HoldingsRequest holdingsRequest(String accountId, int pageOffset, int pageSize) {
+        return holdingsRequest(accountId, pageOffset, pageSize, null, null, null, null);
+    }
+
+    private static HoldingsRequest holdingsRequest(String accountId, int pageOffset, int pageSize, List<String> assetClasses,
+                                                   String sortField, String sortDirection, String groupBy) {
+        return HoldingsRequest.builder()
+            .accountId(accountId)
+            .pageOffset(pageOffset)
+            .pageSize(pageSize)
+            .assetClasses(assetClasses)
+            .sortField(sortField)
+            .sortDirection(sortDirection)
+            .groupBy(groupBy)
+            .build();
+    }
+
+    private static void inRequest(String requestId, WorkloadClass workloadClass, Long deadlineNanos) {
+        InternalSecurityContextHolder.setContext(InternalRequestContext.builder()
+            .requestId(requestId)
+            .workloadClass(workloadClass)
+            .deadlineNanos(deadlineNanos)
+            .build());
+    }
+}
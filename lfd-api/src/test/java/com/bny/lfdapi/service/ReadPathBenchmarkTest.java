@@ -0,0 +1,159 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.jdbc.StatementCancellationRegistry;
+import com.bny.lfdapi.workload.ConnectionGate;
+import com.bny.shared.dto.request.HoldingsRequest;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// mvn test -Dtest=ReadPathBenchmarkTest -Dlfd.benchmark=true [-Dlfd.benchmark.concurrency=512 -Dlfd.benchmark.pool-size=20]
+@Slf4j
+@EnabledIfSystemProperty(named = "lfd.benchmark", matches = "true")
+class ReadPathBenchmarkTest {
+
+    private static final int ADVISORS = 20;
+    private static final int CLIENTS_PER_ADVISOR = 50;
+    private static final int HOLDINGS_PER_ACCOUNT = 40;
+
+    private final int concurrency = Integer.getInteger("lfd.benchmark.concurrency", 512);
+    private final int requests = Integer.getInteger("lfd.benchmark.requests", 20_000);
+    private final int poolSize = Integer.getInteger("lfd.benchmark.pool-size", 20);
+
+    @Test
+    void compareJdbcAndR2dbcReadPaths() throws Exception {
+        ReadPathFixture fixture = new ReadPathFixture("read_path_benchmark");
+        fixture.seed(ADVISORS, CLIENTS_PER_ADVISOR, HOLDINGS_PER_ACCOUNT);
+
+        HikariDataSource dataSource = pooledDataSource(fixture);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        AccountDataService accountDataService = new AccountDataService(0, 1, Runnable::run);
+        ReflectionTestUtils.setField(accountDataService, "jdbcTemplate", jdbcTemplate);
+
+        ConnectionPool pool = fixture.connectionPool(poolSize);
+        ReactiveReadService reactiveReadService = new ReactiveReadService();
+        ReflectionTestUtils.setField(reactiveReadService, "reactiveDatabaseClient", ReadPathFixture.databaseClient(pool));
+        // The gate is sized to the offered load so it measures the pools, not shedding
+        ReflectionTestUtils.setField(reactiveReadService, "connectionGate",
+            new ConnectionGate(concurrency * 2, 0, 0, 5_000, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(reactiveReadService, "cancellationRegistry", new StatementCancellationRegistry());
+
+        try {
+            IntFunction<String> accountId = i -> "ACC" + (i % ADVISORS) + "-" + (i % CLIENTS_PER_ADVISOR);
+
+            Result jdbcAccount = runBlocking(i -> accountDataService.getAccountById(accountId.apply(i)));
+            Result r2dbcAccount = runReactive(i -> reactiveReadService.getAccountById(accountId.apply(i)));
+            Result jdbcHoldings = runBlocking(i -> jdbcTemplate.queryForList(
+                HoldingsSnapshotService.SNAPSHOT_COLUMNS + " WHERE h.account_id = ?", accountId.apply(i)));
+            Result r2dbcHoldings = runReactive(i -> reactiveReadService.getHoldingsPage(HoldingsRequest.builder()
+                .accountId(accountId.apply(i))
+                .pageOffset(0)
+                .pageSize(25)
+                .build()));
+
+            log.info("Read path benchmark: {} requests at concurrency {} (pool size {})", requests, concurrency, poolSize);
+            log.info("  account info   JDBC  {}", jdbcAccount);
+            log.info("  account info   R2DBC {}", r2dbcAccount);
+            log.info("  holdings page  JDBC  {}", jdbcHoldings);
+            log.info("  holdings page  R2DBC {}", r2dbcHoldings);
+
+            assertThat(jdbcAccount.completed).isEqualTo(requests);
+            assertThat(r2dbcAccount.completed).isEqualTo(requests);
+            assertThat(jdbcHoldings.completed).isEqualTo(requests);
+            assertThat(r2dbcHoldings.completed).isEqualTo(requests);
+        } finally {
+            pool.dispose();
+            dataSource.close();
+        }
+    }
+
+    private HikariDataSource pooledDataSource(ReadPathFixture fixture) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + fixture.database + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(poolSize);
+        config.setConnectionTimeout(60_000);
+        return new HikariDataSource(config);
+    }
+
+    private Result runBlocking(IntFunction<Object> call) throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(concurrency);
+        try {
+            long[] latencies = new long[requests];
+            List<Callable<Void>> tasks = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                tasks.add(() -> {
+                    long start = System.nanoTime();
+                    call.apply(index);
+                    latencies[index] = System.nanoTime() - start;
+                    return null;
+                });
+            }
+            long start = System.nanoTime();
+            for (Future<Void> future : threads.invokeAll(tasks)) {
+                future.get();
+            }
+            return new Result(requests, System.nanoTime() - start, latencies);
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private Result runReactive(IntFunction<Mono<?>> call) {
+        long[] latencies = new long[requests];
+        long start = System.nanoTime();
+        Long completed = Flux.range(0, requests)
+            .flatMap(i -> Mono.defer(() -> {
+                long requestStart = System.nanoTime();
+                return call.apply(i).doOnSuccess(ignored -> latencies[i] = System.nanoTime() - requestStart);
+            }), concurrency)
+            .count()
+            .block();
+        return new Result(completed.intValue(), System.nanoTime() - start, latencies);
+    }
+
+    private static class Result {
+        private final int completed;
+        private final long elapsedNanos;
+        private final long[] latencies;
+
+        private Result(int completed, long elapsedNanos, long[] latencies) {
+            this.completed = completed;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies.clone();
+            Arrays.sort(this.latencies);
+        }
+
+        private double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("throughput %8.0f req/s  p50 %7.2f ms  p99 %7.2f ms  max %7.2f ms",
+                completed * 1_000_000_000.0 / elapsedNanos, percentileMillis(0.50), percentileMillis(0.99),
+                percentileMillis(1.0));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.bny.lfdapi.service;
+
+import com.bny.lfdapi.config.ReactiveDataSourceConfig;
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+class ReadPathFixture {
+
+    static final String[] ASSET_CLASSES = {"EQUITY", "FIXED_INCOME", "CASH"};
+    static final Timestamp PRICE_UPDATE = Timestamp.valueOf("2024-01-02 16:00:00");
+
+    final String database;
+    final JdbcTemplate jdbcTemplate;
+
+    ReadPathFixture(String database) {
+        this.database = database;
+        this.jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", ""));
+    }
+
+    ConnectionPool connectionPool(int maxSize) {
+        return ReactiveDataSourceConfig.connectionPool("r2dbc:h2:mem:///" + database + "?DB_CLOSE_DELAY=-1",
+            "sa", "", Math.min(maxSize, 10), maxSize, Duration.ofSeconds(10), Duration.ofMinutes(5));
+    }
+
+    static DatabaseClient databaseClient(ConnectionPool pool) {
+        return DatabaseClient.create(pool);
+    }
+
+    void seed(int advisors, int clientsPerAdvisor, int holdingsPerAccount) {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("""
+            CREATE TABLE clients (client_id VARCHAR(50) PRIMARY KEY, client_name VARCHAR(200) NOT NULL,
+                advisor_id VARCHAR(50) NOT NULL, tax_id VARCHAR(20), created_date TIMESTAMP, last_updated TIMESTAMP)
+        """);
+        jdbcTemplate.execute("""
+            CREATE TABLE securities (symbol VARCHAR(20) PRIMARY KEY, security_name VARCHAR(200) NOT NULL,
+                sector VARCHAR(100), asset_class VARCHAR(20) NOT NULL, current_price DECIMAL(19,4) NOT NULL,
+                price_change DECIMAL(19,4), price_change_percent DECIMAL(19,4), last_price_update TIMESTAMP)
+        """);
+        jdbcTemplate.execute("""
+            CREATE TABLE accounts (account_id VARCHAR(50) PRIMARY KEY, client_id VARCHAR(50) NOT NULL,
+                account_number VARCHAR(50) NOT NULL, account_type VARCHAR(20) NOT NULL,
+                market_value DECIMAL(19,4) NOT NULL, cash_balance DECIMAL(19,4) NOT NULL,
+                ytd_performance DECIMAL(19,4), risk_profile VARCHAR(20), last_updated TIMESTAMP)
+        """);
+        jdbcTemplate.execute("""
+            CREATE TABLE holdings (holding_id VARCHAR(50) PRIMARY KEY, account_id VARCHAR(50) NOT NULL,
+                symbol VARCHAR(20) NOT NULL, quantity DECIMAL(19,4) NOT NULL, cost_basis DECIMAL(19,4) NOT NULL,
+                purchase_date TIMESTAMP, last_updated TIMESTAMP)
+        """);
+        jdbcTemplate.execute("CREATE INDEX idx_clients_advisor ON clients(advisor_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_accounts_client ON accounts(client_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_holdings_account ON holdings(account_id)");
+
+        List<Object[]> securities = new ArrayList<>();
+        for (int s = 0; s < holdingsPerAccount; s++) {
+            securities.add(new Object[] {"SYM" + s, "Security " + s, "Sector " + (s % 5),
+                ASSET_CLASSES[s % ASSET_CLASSES.length], BigDecimal.valueOf(10 + s), BigDecimal.ONE, BigDecimal.ONE,
+                PRICE_UPDATE});
+        }
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO securities (symbol, security_name, sector, asset_class, current_price, price_change,
+                price_change_percent, last_price_update) VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """, securities);
+
+        List<Object[]> clients = new ArrayList<>();
+        List<Object[]> accounts = new ArrayList<>();
+        List<Object[]> holdings = new ArrayList<>();
+        for (int a = 0; a < advisors; a++) {
+            for (int c = 0; c < clientsPerAdvisor; c++) {
+                String clientId = "C" + a + "-" + c;
+                String accountId = "ACC" + a + "-" + c;
+                clients.add(new Object[] {clientId, "Client " + String.format("%04d", c), "ADV" + a, "TAX" + c});
+                accounts.add(new Object[] {accountId, clientId, "N" + a + c, "INDIVIDUAL",
+                    BigDecimal.valueOf(1000 * (c + 1)), BigDecimal.TEN, BigDecimal.ONE, "MODERATE"});
+                for (int h = 0; h < holdingsPerAccount; h++) {
+                    holdings.add(new Object[] {accountId + "-" + h, accountId, "SYM" + h,
+                        BigDecimal.valueOf(h + 1), BigDecimal.valueOf(5 * (h + 1))});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO clients (client_id, client_name, advisor_id, tax_id) VALUES (?, ?, ?, ?)", clients);
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO accounts (account_id, client_id, account_number, account_type, market_value,
+                cash_balance, ytd_performance, risk_profile) VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """, accounts);
+        jdbcTemplate.batchUpdate("INSERT INTO holdings (holding_id, account_id, symbol, quantity, cost_basis) VALUES (?, ?, ?, ?, ?)", holdings);
+    }
+}
@@ -0,0 +1,82 @@
+package com.bny.lfdapi.workload;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectionGateTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void acquire_EnforcesPerClassQuota() throws Exception {
+        ConnectionGate gate = new ConnectionGate(4, 1, 1, 50, meterRegistry);
+
+        gate.acquire(WorkloadClass.BULK);
+
+        assertThatThrownBy(() -> gate.acquire(WorkloadClass.BULK))
+            .isInstanceOf(SQLTransientConnectionException.class);
+        gate.acquire(WorkloadClass.INTERACTIVE);
+        gate.acquire(WorkloadClass.BACKGROUND);
+        assertThat(gate.getInUse(WorkloadClass.BULK)).isEqualTo(1);
+        assertThat(meterRegistry.get("lfd.workload.connections.utilization").tag("class", "bulk").gauge().value())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void release_HandsFreedConnectionToInteractiveBeforeBulk() throws Exception {
+        ConnectionGate gate = new ConnectionGate(1, 1, 1, 5_000, meterRegistry);
+        gate.acquire(WorkloadClass.INTERACTIVE);
+
+        CompletableFuture<Void> bulk = CompletableFuture.runAsync(() -> acquireQuietly(gate, WorkloadClass.BULK));
+        Thread.sleep(100);
+        CompletableFuture<Void> interactive = CompletableFuture.runAsync(() -> acquireQuietly(gate, WorkloadClass.INTERACTIVE));
+        Thread.sleep(100);
+
+        gate.release(WorkloadClass.INTERACTIVE);
+
+        interactive.get(2, TimeUnit.SECONDS);
+        assertThat(bulk).isNotDone();
+
+        gate.release(WorkloadClass.INTERACTIVE);
+        bulk.get(2, TimeUnit.SECONDS);
+        assertThat(gate.getInUse(WorkloadClass.BULK)).isEqualTo(1);
+        assertThat(meterRegistry.get("lfd.workload.connection.wait").tag("class", "bulk").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void workloadAwareDataSource_ReleasesPermitWhenConnectionCloses() throws Exception {
+        ConnectionGate gate = new ConnectionGate(2, 1, 1, 50, meterRegistry);
+        WorkloadAwareDataSource dataSource = new WorkloadAwareDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:workload;DB_CLOSE_DELAY=-1", "sa", ""), gate);
+
+        WorkloadContextHolder.set(WorkloadClass.BULK);
+        try {
+            Integer one = new JdbcTemplate(dataSource).queryForObject("SELECT 1", Integer.class);
+
+            assertThat(one).isEqualTo(1);
+            assertThat(gate.getInUse(WorkloadClass.BULK)).isZero();
+            assertThat(meterRegistry.get("lfd.workload.connection.wait").tag("class", "bulk").timer().count())
+                .isEqualTo(1);
+        } finally {
+            WorkloadContextHolder.clear();
+        }
+    }
+
+    private static void acquireQuietly(ConnectionGate gate, WorkloadClass workloadClass) {
+        try {
+            gate.acquire(workloadClass);
+        } catch (SQLTransientConnectionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.bny.shared.dto.common;
+
+// Asks lfd-api to answer in the domain API's public shape; lfd-api echoes the header when it did
+public final class ResponseProfile {
+
+    public static final String HEADER = "X-Response-Profile";
+    public static final String DOMAIN = "domain";
+
+    private ResponseProfile() {
+    }
+
+    public static boolean isDomain(String profile) {
+        return DOMAIN.equalsIgnoreCase(profile);
+    }
+}
@@ -0,0 +1,21 @@
+package com.bny.shared.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSummariesRequest {
+    
+    @NotEmpty(message = "At least one account ID is required")
+    @Size(max = 1000, message = "No more than 1000 accounts may be summarized per request")
+    private List<String> accountIds;
+}
@@ -29,9 +29,13 @@ public class HoldingsRequest {
     
     private String sortDirection;
     
+    private String groupBy;
+    
     private int pageOffset = 0;
     
     private int pageSize = 50;
     
     private boolean includeTaxLots = false;
+    
+    private String since;
 }
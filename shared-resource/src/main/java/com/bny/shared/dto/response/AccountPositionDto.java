@@ -0,0 +1,29 @@
+package com.bny.shared.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountPositionDto {
+    
+    private String accountId;
+    
+    private String accountNumber;
+    
+    private String accountType;
+    
+    private BigDecimal quantity;
+    
+    private BigDecimal costBasis;
+    
+    private BigDecimal marketValue;
+    
+    private BigDecimal unrealizedGainLoss;
+}
@@ -0,0 +1,35 @@
+package com.bny.shared.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSummaryDto {
+    
+    private String accountId;
+    
+    private String accountNumber;
+    
+    private String accountType;
+    
+    private String clientId;
+    
+    private String clientName;
+    
+    private Integer holdingsCount;
+    
+    private BigDecimal totalMarketValue;
+    
+    private BigDecimal totalCostBasis;
+    
+    private BigDecimal totalUnrealizedGainLoss;
+    
+    private BigDecimal totalUnrealizedGainLossPercent;
+}
@@ -51,4 +51,6 @@ public class ClientDto {
     private LocalDateTime createdDate;
     
     private LocalDateTime lastAccessed;
+    
+    private LocalDateTime lastUpdated;
 }
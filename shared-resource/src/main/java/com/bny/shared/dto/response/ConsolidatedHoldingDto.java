@@ -0,0 +1,40 @@
+package com.bny.shared.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsolidatedHoldingDto {
+    
+    private String symbol;
+    
+    private String securityName;
+    
+    private String assetClass;
+    
+    private String sector;
+    
+    private BigDecimal currentPrice;
+    
+    private BigDecimal quantity;
+    
+    private BigDecimal costBasis;
+    
+    private BigDecimal marketValue;
+    
+    private BigDecimal unrealizedGainLoss;
+    
+    private BigDecimal unrealizedGainLossPercent;
+    
+    private BigDecimal portfolioPercent;
+    
+    private List<AccountPositionDto> accounts;
+}
@@ -17,6 +17,9 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class HoldingDto {
     
+    @Size(max = 50, message = "Holding ID must not exceed 50 characters")
+    private String holdingId;
+    
     @Size(max = 50, message = "Account ID must not exceed 50 characters")
     private String accountId;
     
@@ -0,0 +1,32 @@
+package com.bny.shared.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldingGroupDto {
+    
+    private String groupKey;
+    
+    private Integer holdingsCount;
+    
+    private BigDecimal marketValue;
+    
+    private BigDecimal costBasis;
+    
+    private BigDecimal unrealizedGainLoss;
+    
+    private BigDecimal unrealizedGainLossPercent;
+    
+    private BigDecimal weight;
+    
+    private List<HoldingDto> holdings;
+}
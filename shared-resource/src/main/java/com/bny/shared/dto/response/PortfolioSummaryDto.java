@@ -1,5 +1,6 @@
 package com.bny.shared.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,4 +23,7 @@ public class PortfolioSummaryDto {
     private BigDecimal portfolioBeta;
     private BigDecimal dividendYield;
     private LocalDateTime asOfDate;
+    
+    @JsonIgnore
+    private String version;
 }
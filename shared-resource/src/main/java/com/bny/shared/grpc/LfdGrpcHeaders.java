@@ -0,0 +1,20 @@
+package com.bny.shared.grpc;
+
+import io.grpc.Metadata;
+
+public class LfdGrpcHeaders {
+
+    public static final Metadata.Key<String> USER_ID = key("x-user-id");
+    public static final Metadata.Key<String> ADVISOR_ID = key("x-advisor-id");
+    public static final Metadata.Key<String> REQUEST_ID = key("x-request-id");
+    public static final Metadata.Key<String> TIMESTAMP = key("x-timestamp");
+    public static final Metadata.Key<String> WORKLOAD_CLASS = key("x-workload-class");
+    public static final Metadata.Key<String> RETRY_AFTER = key("retry-after");
+
+    private LfdGrpcHeaders() {
+    }
+
+    private static Metadata.Key<String> key(String name) {
+        return Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER);
+    }
+}
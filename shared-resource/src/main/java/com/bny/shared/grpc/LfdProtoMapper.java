@@ -0,0 +1,293 @@
+package com.bny.shared.grpc;
+
+import com.bny.shared.dto.response.AccountDto;
+import com.bny.shared.dto.response.AccountPositionDto;
+import com.bny.shared.dto.response.AccountSummaryDto;
+import com.bny.shared.dto.response.ClientDto;
+import com.bny.shared.dto.response.ConsolidatedHoldingDto;
+import com.bny.shared.dto.response.HoldingDto;
+import com.bny.shared.dto.response.HoldingGroupDto;
+import com.bny.shared.enums.AccountType;
+import com.bny.shared.enums.RiskProfile;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class LfdProtoMapper {
+
+    private LfdProtoMapper() {
+    }
+
+    public static Client toProto(ClientDto client) {
+        Client.Builder builder = Client.newBuilder()
+            .setClientId(text(client.getClientId()))
+            .setClientName(text(client.getClientName()))
+            .setAdvisorId(text(client.getAdvisorId()))
+            .setAdvisorName(text(client.getAdvisorName()))
+            .setAccountCount(number(client.getAccountCount()))
+            .setTotalMarketValue(text(client.getTotalMarketValue()))
+            .setTaxId(text(client.getTaxId()))
+            .setActivityStatus(text(client.getActivityStatus()))
+            .setRiskProfile(text(client.getRiskProfile()))
+            .setLastActivityDate(text(client.getLastActivityDate()))
+            .setCreatedDate(text(client.getCreatedDate()))
+            .setLastAccessed(text(client.getLastAccessed()))
+            .setLastUpdated(text(client.getLastUpdated()));
+        if (client.getAccounts() != null) {
+            client.getAccounts().forEach(account -> builder.addAccounts(toProto(account)));
+        }
+        return builder.build();
+    }
+
+    public static ClientDto fromProto(Client client) {
+        return ClientDto.builder()
+            .clientId(nullIfEmpty(client.getClientId()))
+            .clientName(nullIfEmpty(client.getClientName()))
+            .advisorId(nullIfEmpty(client.getAdvisorId()))
+            .advisorName(nullIfEmpty(client.getAdvisorName()))
+            .accountCount(client.getAccountCount())
+            .accounts(client.getAccountsList().stream().map(LfdProtoMapper::fromProto).collect(Collectors.toList()))
+            .totalMarketValue(decimal(client.getTotalMarketValue()))
+            .taxId(nullIfEmpty(client.getTaxId()))
+            .activityStatus(nullIfEmpty(client.getActivityStatus()))
+            .riskProfile(nullIfEmpty(client.getRiskProfile()))
+            .lastActivityDate(date(client.getLastActivityDate()))
+            .createdDate(dateTime(client.getCreatedDate()))
+            .lastAccessed(dateTime(client.getLastAccessed()))
+            .lastUpdated(dateTime(client.getLastUpdated()))
+            .build();
+    }
+
+    public static Account toProto(AccountDto account) {
+        return Account.newBuilder()
+            .setAccountId(text(account.getAccountId()))
+            .setAccountNumber(text(account.getAccountNumber()))
+            .setAccountType(account.getAccountType() != null ? account.getAccountType().name() : "")
+            .setClientId(text(account.getClientId()))
+            .setClientName(text(account.getClientName()))
+            .setMarketValue(text(account.getMarketValue()))
+            .setCashBalance(text(account.getCashBalance()))
+            .setYtdPerformance(text(account.getYtdPerformance()))
+            .setRiskProfile(account.getRiskProfile() != null ? account.getRiskProfile().name() : "")
+            .setLastUpdated(text(account.getLastUpdated()))
+            .build();
+    }
+
+    public static AccountDto fromProto(Account account) {
+        return AccountDto.builder()
+            .accountId(nullIfEmpty(account.getAccountId()))
+            .accountNumber(nullIfEmpty(account.getAccountNumber()))
+            .accountType(enumValue(AccountType.class, account.getAccountType()))
+            .clientId(nullIfEmpty(account.getClientId()))
+            .clientName(nullIfEmpty(account.getClientName()))
+            .marketValue(decimal(account.getMarketValue()))
+            .cashBalance(decimal(account.getCashBalance()))
+            .ytdPerformance(decimal(account.getYtdPerformance()))
+            .riskProfile(enumValue(RiskProfile.class, account.getRiskProfile()))
+            .lastUpdated(dateTime(account.getLastUpdated()))
+            .build();
+    }
+
+    public static Holding toProto(HoldingDto holding) {
+        return Holding.newBuilder()
+            .setAccountId(text(holding.getAccountId()))
+            .setSymbol(text(holding.getSymbol()))
+            .setSecurityName(text(holding.getSecurityName()))
+            .setQuantity(text(holding.getQuantity()))
+            .setCurrentPrice(text(holding.getCurrentPrice()))
+            .setPriceChange(text(holding.getPriceChange()))
+            .setPriceChangePercent(text(holding.getPriceChangePercent()))
+            .setCostBasis(text(holding.getCostBasis()))
+            .setTotalCost(text(holding.getTotalCost()))
+            .setMarketValue(text(holding.getMarketValue()))
+            .setUnrealizedGainLoss(text(holding.getUnrealizedGainLoss()))
+            .setUnrealizedGainLossPercent(text(holding.getUnrealizedGainLossPercent()))
+            .setPortfolioPercent(text(holding.getPortfolioPercent()))
+            .setSector(text(holding.getSector()))
+            .setAssetClass(text(holding.getAssetClass()))
+            .setPurchaseDate(text(holding.getPurchaseDate()))
+            .setPriceDate(text(holding.getPriceDate()))
+            .setHasAlerts(Boolean.TRUE.equals(holding.getHasAlerts()))
+            .setTaxLotCount(number(holding.getTaxLotCount()))
+            .setHoldingId(text(holding.getHoldingId()))
+            .build();
+    }
+
+    public static HoldingDto fromProto(Holding holding) {
+        return HoldingDto.builder()
+            .holdingId(nullIfEmpty(holding.getHoldingId()))
+            .accountId(nullIfEmpty(holding.getAccountId()))
+            .symbol(nullIfEmpty(holding.getSymbol()))
+            .securityName(nullIfEmpty(holding.getSecurityName()))
+            .quantity(decimal(holding.getQuantity()))
+            .currentPrice(decimal(holding.getCurrentPrice()))
+            .priceChange(decimal(holding.getPriceChange()))
+            .priceChangePercent(decimal(holding.getPriceChangePercent()))
+            .costBasis(decimal(holding.getCostBasis()))
+            .totalCost(decimal(holding.getTotalCost()))
+            .marketValue(decimal(holding.getMarketValue()))
+            .unrealizedGainLoss(decimal(holding.getUnrealizedGainLoss()))
+            .unrealizedGainLossPercent(decimal(holding.getUnrealizedGainLossPercent()))
+            .portfolioPercent(decimal(holding.getPortfolioPercent()))
+            .sector(nullIfEmpty(holding.getSector()))
+            .assetClass(nullIfEmpty(holding.getAssetClass()))
+            .purchaseDate(date(holding.getPurchaseDate()))
+            .priceDate(date(holding.getPriceDate()))
+            .hasAlerts(holding.getHasAlerts())
+            .taxLotCount(holding.getTaxLotCount())
+            .build();
+    }
+
+    public static HoldingGroup toProto(HoldingGroupDto group) {
+        HoldingGroup.Builder builder = HoldingGroup.newBuilder()
+            .setGroupKey(text(group.getGroupKey()))
+            .setGroupSize(number(group.getHoldingsCount()))
+            .setMarketValue(text(group.getMarketValue()))
+            .setCostBasis(text(group.getCostBasis()))
+            .setUnrealizedGainLoss(text(group.getUnrealizedGainLoss()))
+            .setUnrealizedGainLossPercent(text(group.getUnrealizedGainLossPercent()))
+            .setWeight(text(group.getWeight()));
+        if (group.getHoldings() != null) {
+            group.getHoldings().forEach(holding -> builder.addHoldings(toProto(holding)));
+        }
+        return builder.build();
+    }
+
+    public static HoldingGroupDto fromProto(HoldingGroup group) {
+        return HoldingGroupDto.builder()
+            .groupKey(nullIfEmpty(group.getGroupKey()))
+            .holdingsCount(group.getGroupSize())
+            .marketValue(decimal(group.getMarketValue()))
+            .costBasis(decimal(group.getCostBasis()))
+            .unrealizedGainLoss(decimal(group.getUnrealizedGainLoss()))
+            .unrealizedGainLossPercent(decimal(group.getUnrealizedGainLossPercent()))
+            .weight(decimal(group.getWeight()))
+            .holdings(group.getHoldingsList().stream().map(LfdProtoMapper::fromProto).collect(Collectors.toList()))
+            .build();
+    }
+
+    public static ConsolidatedHolding toProto(ConsolidatedHoldingDto holding) {
+        ConsolidatedHolding.Builder builder = ConsolidatedHolding.newBuilder()
+            .setSymbol(text(holding.getSymbol()))
+            .setSecurityName(text(holding.getSecurityName()))
+            .setAssetClass(text(holding.getAssetClass()))
+            .setSector(text(holding.getSector()))
+            .setCurrentPrice(text(holding.getCurrentPrice()))
+            .setQuantity(text(holding.getQuantity()))
+            .setCostBasis(text(holding.getCostBasis()))
+            .setMarketValue(text(holding.getMarketValue()))
+            .setUnrealizedGainLoss(text(holding.getUnrealizedGainLoss()))
+            .setUnrealizedGainLossPercent(text(holding.getUnrealizedGainLossPercent()))
+            .setPortfolioPercent(text(holding.getPortfolioPercent()));
+        if (holding.getAccounts() != null) {
+            holding.getAccounts().forEach(position -> builder.addAccounts(AccountPosition.newBuilder()
+                .setAccountId(text(position.getAccountId()))
+                .setAccountNumber(text(position.getAccountNumber()))
+                .setAccountType(text(position.getAccountType()))
+                .setQuantity(text(position.getQuantity()))
+                .setCostBasis(text(position.getCostBasis()))
+                .setMarketValue(text(position.getMarketValue()))
+                .setUnrealizedGainLoss(text(position.getUnrealizedGainLoss()))));
+        }
+        return builder.build();
+    }
+
+    public static ConsolidatedHoldingDto fromProto(ConsolidatedHolding holding) {
+        return ConsolidatedHoldingDto.builder()
+            .symbol(nullIfEmpty(holding.getSymbol()))
+            .securityName(nullIfEmpty(holding.getSecurityName()))
+            .assetClass(nullIfEmpty(holding.getAssetClass()))
+            .sector(nullIfEmpty(holding.getSector()))
+            .currentPrice(decimal(holding.getCurrentPrice()))
+            .quantity(decimal(holding.getQuantity()))
+            .costBasis(decimal(holding.getCostBasis()))
+            .marketValue(decimal(holding.getMarketValue()))
+            .unrealizedGainLoss(decimal(holding.getUnrealizedGainLoss()))
+            .unrealizedGainLossPercent(decimal(holding.getUnrealizedGainLossPercent()))
+            .portfolioPercent(decimal(holding.getPortfolioPercent()))
+            .accounts(holding.getAccountsList().stream()
+                .map(position -> AccountPositionDto.builder()
+                    .accountId(nullIfEmpty(position.getAccountId()))
+                    .accountNumber(nullIfEmpty(position.getAccountNumber()))
+                    .accountType(nullIfEmpty(position.getAccountType()))
+                    .quantity(decimal(position.getQuantity()))
+                    .costBasis(decimal(position.getCostBasis()))
+                    .marketValue(decimal(position.getMarketValue()))
+                    .unrealizedGainLoss(decimal(position.getUnrealizedGainLoss()))
+                    .build())
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    public static AccountSummary toProto(AccountSummaryDto summary) {
+        return AccountSummary.newBuilder()
+            .setAccountId(text(summary.getAccountId()))
+            .setAccountNumber(text(summary.getAccountNumber()))
+            .setAccountType(text(summary.getAccountType()))
+            .setClientId(text(summary.getClientId()))
+            .setClientName(text(summary.getClientName()))
+            .setHoldingsCount(number(summary.getHoldingsCount()))
+            .setTotalMarketValue(text(summary.getTotalMarketValue()))
+            .setTotalCostBasis(text(summary.getTotalCostBasis()))
+            .setTotalUnrealizedGainLoss(text(summary.getTotalUnrealizedGainLoss()))
+            .setTotalUnrealizedGainLossPercent(text(summary.getTotalUnrealizedGainLossPercent()))
+            .build();
+    }
+
+    public static AccountSummaryDto fromProto(AccountSummary summary) {
+        return AccountSummaryDto.builder()
+            .accountId(nullIfEmpty(summary.getAccountId()))
+            .accountNumber(nullIfEmpty(summary.getAccountNumber()))
+            .accountType(nullIfEmpty(summary.getAccountType()))
+            .clientId(nullIfEmpty(summary.getClientId()))
+            .clientName(nullIfEmpty(summary.getClientName()))
+            .holdingsCount(summary.getHoldingsCount())
+            .totalMarketValue(decimal(summary.getTotalMarketValue()))
+            .totalCostBasis(decimal(summary.getTotalCostBasis()))
+            .totalUnrealizedGainLoss(decimal(summary.getTotalUnrealizedGainLoss()))
+            .totalUnrealizedGainLossPercent(decimal(summary.getTotalUnrealizedGainLossPercent()))
+            .build();
+    }
+
+    public static <T> List<T> list(List<T> values) {
+        return values != null ? values : List.of();
+    }
+
+    public static String text(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    public static int number(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    public static String nullIfEmpty(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    public static BigDecimal decimal(String value) {
+        return value == null || value.isEmpty() ? null : new BigDecimal(value);
+    }
+
+    public static LocalDate date(String value) {
+        return value == null || value.isEmpty() ? null : LocalDate.parse(value);
+    }
+
+    public static LocalDateTime dateTime(String value) {
+        return value == null || value.isEmpty() ? null : LocalDateTime.parse(value);
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
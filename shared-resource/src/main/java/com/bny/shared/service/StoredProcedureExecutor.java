@@ -7,6 +7,8 @@ import com.bny.shared.exception.DatabaseOperationException;
 import com.bny.shared.util.validation.DatabaseInputValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.SqlReturnResultSet;
 import org.springframework.jdbc.core.simple.SimpleJdbcCall;
 import org.springframework.stereotype.Service;
 
@@ -28,11 +30,19 @@ public class StoredProcedureExecutor {
     private DatabaseExceptionMapper exceptionMapper;
     
     public StoredProcedureResponse execute(StoredProcedureRequest request) {
+        return execute(request, null);
+    }
+    
+    // With a row handler the first result set is handed over row by row instead of being collected into data
+    public StoredProcedureResponse execute(StoredProcedureRequest request, RowCallbackHandler rowHandler) {
         try {
             inputValidator.validateProcedureParameters(request.getProcedureName(), request.getParameters());
             
             SimpleJdbcCall jdbcCall = new SimpleJdbcCall(jdbcTemplate)
                 .withProcedureName(request.getProcedureName());
+            if (rowHandler != null) {
+                jdbcCall.declareParameters(new SqlReturnResultSet("#result-set-1", rowHandler));
+            }
             
             Map<String, Object> parameters = parameterMapper.buildParameters(request.getParameters());
             
@@ -41,7 +51,7 @@ public class StoredProcedureExecutor {
             int resultCode = result.containsKey("p_result_code") ? 
                 (Integer) result.get("p_result_code") : 0;
             String errorMessage = (String) result.get("p_error_message");
-            Object data = result.get("#result-set-1");
+            Object data = rowHandler == null ? result.get("#result-set-1") : null;
             
             if (resultCode != 0) {
                 return StoredProcedureResponse.error(resultCode, errorMessage);
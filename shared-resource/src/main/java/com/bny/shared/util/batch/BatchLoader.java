@@ -0,0 +1,187 @@
+package com.bny.shared.util.batch;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// Collects single-key lookups arriving within a short window into one call of the batch function.
+// The first caller of a batch waits out the window and hands the batch to the dispatcher; everyone,
+// including the first caller and callers asking for a key already in the batch, then waits for their own
+// entry of the result. The batch belongs to no caller: a dispatcher running it on another thread keeps it
+// clear of the first caller's interrupts, and a caller giving up on its own timeout leaves the others waiting.
+// Keys the batch function leaves out of its result load as null. A batch function taking a Scope can bound
+// its work by the latest deadline among the callers and stop once every caller has given up.
+public class BatchLoader<K, V> {
+
+    private final BiFunction<Set<K>, Scope, Map<K, V>> batchFunction;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Executor dispatcher;
+    private final Object lock = new Object();
+    private Batch<K, V> open;
+
+    public BatchLoader(Function<Set<K>, Map<K, V>> batchFunction, long windowMillis, int maxBatchSize) {
+        this(batchFunction, windowMillis, maxBatchSize, Runnable::run);
+    }
+
+    public BatchLoader(Function<Set<K>, Map<K, V>> batchFunction, long windowMillis, int maxBatchSize,
+                       Executor dispatcher) {
+        this((keys, scope) -> batchFunction.apply(keys), windowMillis, maxBatchSize, dispatcher);
+    }
+
+    public BatchLoader(BiFunction<Set<K>, Scope, Map<K, V>> batchFunction, long windowMillis, int maxBatchSize,
+                       Executor dispatcher) {
+        this.batchFunction = batchFunction;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.dispatcher = dispatcher;
+    }
+
+    public V load(K key) {
+        try {
+            return load(key, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Waits at most the given time for this key's entry; the batch itself carries on for the other callers
+    public V load(K key, long timeout, TimeUnit unit) throws TimeoutException {
+        long timeoutNanos = unit.toNanos(timeout);
+        long start = System.nanoTime();
+        Batch<K, V> batch;
+        CompletableFuture<V> future;
+        boolean leader = false;
+        synchronized (lock) {
+            if (open == null) {
+                open = new Batch<>();
+                leader = true;
+            }
+            batch = open;
+            batch.scope.join(timeoutNanos == Long.MAX_VALUE ? Long.MAX_VALUE : start + timeoutNanos);
+            future = batch.futures.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (batch.futures.size() >= maxBatchSize) {
+                open = null;
+                lock.notifyAll();
+            }
+        }
+        if (leader) {
+            // A caller with less time than the window sends the batch early rather than time out on it
+            awaitWindow(batch, Math.min(windowNanos, timeoutNanos));
+            try {
+                dispatcher.execute(() -> dispatch(batch));
+            } catch (RejectedExecutionException e) {
+                batch.futures.values().forEach(pending -> pending.completeExceptionally(e));
+            }
+        }
+        try {
+            return future.get(Math.max(timeoutNanos - (System.nanoTime() - start), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            batch.scope.leave();
+            throw e;
+        } catch (InterruptedException e) {
+            batch.scope.leave();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted waiting for batch entry " + key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void awaitWindow(Batch<K, V> batch, long windowNanos) {
+        long deadline = System.nanoTime() + windowNanos;
+        synchronized (lock) {
+            try {
+                long remaining;
+                while (open == batch && (remaining = deadline - System.nanoTime()) > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                }
+            } catch (InterruptedException e) {
+                // Followers are already waiting on this batch, so it still goes out now
+                Thread.currentThread().interrupt();
+            }
+            if (open == batch) {
+                open = null;
+            }
+        }
+    }
+
+    private void dispatch(Batch<K, V> batch) {
+        try {
+            Map<K, V> results = batchFunction.apply(Collections.unmodifiableSet(batch.futures.keySet()), batch.scope);
+            batch.futures.forEach((key, future) -> future.complete(results != null ? results.get(key) : null));
+        } catch (RuntimeException | Error e) {
+            batch.futures.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    // What a batch function knows about the callers waiting on its batch
+    public static final class Scope {
+        private long deadlineNanos = Long.MIN_VALUE;
+        private int waiting;
+        private boolean abandoned;
+        private Runnable onAbandoned;
+
+        private synchronized void join(long callerDeadlineNanos) {
+            waiting++;
+            if (deadlineNanos == Long.MIN_VALUE || callerDeadlineNanos == Long.MAX_VALUE) {
+                deadlineNanos = callerDeadlineNanos;
+            } else if (deadlineNanos != Long.MAX_VALUE && callerDeadlineNanos - deadlineNanos > 0) {
+                deadlineNanos = callerDeadlineNanos;
+            }
+        }
+
+        private void leave() {
+            Runnable action;
+            synchronized (this) {
+                if (--waiting > 0 || abandoned) {
+                    return;
+                }
+                abandoned = true;
+                action = onAbandoned;
+            }
+            if (action != null) {
+                action.run();
+            }
+        }
+
+        // Time left until the latest caller deadline; null when a caller waits without one
+        public synchronized Long remainingMillis() {
+            return deadlineNanos == Long.MAX_VALUE
+                ? null
+                : TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        }
+
+        // Runs the action once every caller has timed out or been interrupted, at once if they already have
+        public void onAbandoned(Runnable action) {
+            synchronized (this) {
+                if (!abandoned) {
+                    onAbandoned = action;
+                    return;
+                }
+            }
+            action.run();
+        }
+    }
+
+    private static final class Batch<K, V> {
+        private final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        private final Scope scope = new Scope();
+    }
+}
@@ -0,0 +1,85 @@
+package com.bny.shared.util.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+
+// Writes {"<arrayField>": [...], <trailer fields>} one element at a time. Nothing reaches the output
+// until the first element or the trailer, so a failure before then can still become a normal error response.
+public class StreamingArrayWriter {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter elementWriter;
+    private final JsonGenerator generator;
+    private final String arrayField;
+    private boolean started;
+    private int count;
+
+    public StreamingArrayWriter(ObjectMapper objectMapper, OutputStream out, String arrayField) throws IOException {
+        this(objectMapper, out, arrayField, Object.class);
+    }
+
+    // A concrete element type lets the writer resolve the element serializer once instead of per element
+    public StreamingArrayWriter(ObjectMapper objectMapper, OutputStream out, String arrayField, Class<?> elementType)
+            throws IOException {
+        this.objectMapper = objectMapper;
+        this.elementWriter = elementType == Object.class ? null : objectMapper.writerFor(elementType);
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.arrayField = arrayField;
+    }
+
+    public void write(Object element) {
+        try {
+            start();
+            if (elementWriter != null) {
+                elementWriter.writeValue(generator, element);
+            } else {
+                generator.writeObject(element);
+            }
+            count++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finish(Object trailer) throws IOException {
+        start();
+        generator.writeEndArray();
+        ObjectNode fields = objectMapper.valueToTree(trailer);
+        fields.remove(arrayField);
+        Iterator<Map.Entry<String, JsonNode>> iterator = fields.fields();
+        while (iterator.hasNext()) {
+            Map.Entry<String, JsonNode> field = iterator.next();
+            if (!field.getValue().isNull()) {
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+        }
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    private void start() throws IOException {
+        if (!started) {
+            started = true;
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayField);
+        }
+    }
+}
@@ -1,11 +1,22 @@
 import { HttpInterceptorFn } from '@angular/common/http';
 
+const SESSION_ID_KEY = 'session_id';
+
+function sessionId(): string {
+  let id = sessionStorage.getItem(SESSION_ID_KEY);
+  if (!id) {
+    id = crypto.randomUUID();
+    sessionStorage.setItem(SESSION_ID_KEY, id);
+  }
+  return id;
+}
+
 export const authInterceptor: HttpInterceptorFn = (req, next) => {
   const token = localStorage.getItem('auth_token');
+  const headers: Record<string, string> = { 'X-Session-ID': sessionId() };
   if (token) {
-    req = req.clone({
-      setHeaders: { Authorization: `Bearer ${token}` }
-    });
+    headers['Authorization'] = `Bearer ${token}`;
   }
+  req = req.clone({ setHeaders: headers });
   return next(req);
 };